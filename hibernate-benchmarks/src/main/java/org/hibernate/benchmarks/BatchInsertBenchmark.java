@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures inserting {@link #entities} entities in a single flush, exercising {@code BatchingBatch}
+ * for the configured {@value AvailableSettings#STATEMENT_BATCH_SIZE}, or {@code MultiRowInsertBatch}
+ * when {@link #multiRowInsert} is enabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class BatchInsertBenchmark {
+	@Param({ "1", "50" })
+	public int batchSize;
+
+	@Param({ "false", "true" })
+	public boolean multiRowInsert;
+
+	@Param({ "1000" })
+	public int entities;
+
+	private SessionFactory sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		final Map<String, Object> settings = new HashMap<>();
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf( batchSize ) );
+		settings.put( AvailableSettings.MULTI_ROW_INSERT, String.valueOf( multiRowInsert ) );
+		sessionFactory = BenchmarkSessionFactory.build( settings );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void insert() {
+		try ( Session session = sessionFactory.openSession() ) {
+			session.getTransaction().begin();
+			for ( int i = 0; i < entities; i++ ) {
+				session.persist( new Customer( "batch-" + i, "batch" + i + "@example.org", i % 5 ) );
+			}
+			session.getTransaction().commit();
+		}
+	}
+}
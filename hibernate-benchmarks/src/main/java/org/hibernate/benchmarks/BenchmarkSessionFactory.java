@@ -0,0 +1,96 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+
+/**
+ * Builds the {@link SessionFactory} shared by the benchmarks, backed by a private in-memory H2 database.
+ */
+public final class BenchmarkSessionFactory {
+	private static final AtomicInteger DATABASE_COUNTER = new AtomicInteger();
+
+	private BenchmarkSessionFactory() {
+	}
+
+	/**
+	 * Build a SessionFactory for the benchmark entities, applying the given settings on top of the defaults.
+	 *
+	 * @param settings Additional settings; may be {@code null}
+	 *
+	 * @return The SessionFactory, backed by a fresh in-memory database with the schema created
+	 */
+	public static SessionFactory build(Map<String, Object> settings) {
+		final StandardServiceRegistryBuilder registryBuilder = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.DIALECT, H2Dialect.class.getName() )
+				.applySetting( AvailableSettings.DRIVER, "org.h2.Driver" )
+				.applySetting(
+						AvailableSettings.URL,
+						"jdbc:h2:mem:bench" + DATABASE_COUNTER.incrementAndGet() + ";DB_CLOSE_DELAY=-1"
+				)
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.POOL_SIZE, "5" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.SHOW_SQL, "false" )
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, "false" )
+				.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, "false" );
+		if ( settings != null ) {
+			registryBuilder.applySettings( settings );
+		}
+		final StandardServiceRegistry registry = registryBuilder.build();
+		try {
+			return new MetadataSources( registry )
+					.addAnnotatedClass( Customer.class )
+					.addAnnotatedClass( PurchaseOrder.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	/**
+	 * Insert the given number of customers, each having {@code ordersPerCustomer} orders.
+	 */
+	public static void populate(SessionFactory sessionFactory, int customers, int ordersPerCustomer) {
+		try ( Session session = sessionFactory.openSession() ) {
+			session.getTransaction().begin();
+			for ( int i = 0; i < customers; i++ ) {
+				final Customer customer = new Customer( "customer-" + i, "customer" + i + "@example.org", i % 5 );
+				session.persist( customer );
+				for ( int j = 0; j < ordersPerCustomer; j++ ) {
+					session.persist(
+							new PurchaseOrder(
+									customer,
+									LocalDate.of( 2020, 1 + ( j % 12 ), 1 + ( j % 28 ) ),
+									BigDecimal.valueOf( i * 100L + j, 2 ),
+									j % 2 == 0 ? "OPEN" : "SHIPPED"
+							)
+					);
+				}
+				if ( i % 50 == 0 ) {
+					session.flush();
+					session.clear();
+				}
+			}
+			session.getTransaction().commit();
+		}
+	}
+}
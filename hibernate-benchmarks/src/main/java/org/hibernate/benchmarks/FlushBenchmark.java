@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures flush-time dirty checking ({@code DefaultFlushEntityEventListener}) for a session holding
+ * {@link #managed} entities of which only {@link #dirty} are modified between flushes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class FlushBenchmark {
+	@Param({ "1000", "10000" })
+	public int managed;
+
+	@Param({ "0", "10" })
+	public int dirty;
+
+	private SessionFactory sessionFactory;
+	private Session session;
+	private List<Customer> customers;
+	private int round;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( null );
+		BenchmarkSessionFactory.populate( sessionFactory, managed, 0 );
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+		customers = session.createQuery( "from Customer", Customer.class ).getResultList();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.getTransaction().rollback();
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void flush() {
+		round++;
+		for ( int i = 0; i < dirty; i++ ) {
+			customers.get( ( round * dirty + i ) % customers.size() ).setRating( round );
+		}
+		session.flush();
+	}
+}
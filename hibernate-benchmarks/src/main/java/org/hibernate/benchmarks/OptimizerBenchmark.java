@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.OptimizerFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the contention of the pooled identifier generation optimizers when many threads generate values.
+ * The database sequence is simulated in memory, so only the optimizer itself is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class OptimizerBenchmark {
+	@Param({ "pooled", "pooled-lo", "pooled-lotl", "pooled-lockfree", "pooled-striped" })
+	public String optimizerName;
+
+	@Param({ "50" })
+	public int incrementSize;
+
+	private Optimizer optimizer;
+	private AccessCallback sequence;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		optimizer = OptimizerFactory.buildOptimizer( optimizerName, Long.class, incrementSize, 1 );
+		sequence = new InMemorySequence( incrementSize );
+	}
+
+	@Benchmark
+	public Serializable generate() {
+		return optimizer.generate( sequence );
+	}
+
+	private static class InMemorySequence implements AccessCallback {
+		private final int incrementSize;
+		private long value;
+
+		InMemorySequence(int incrementSize) {
+			this.incrementSize = incrementSize;
+			this.value = 1 - incrementSize;
+		}
+
+		@Override
+		public synchronized IntegralDataTypeHolder getNextValue() {
+			value += incrementSize;
+			return IdentifierGeneratorHelper.getIntegralDataTypeHolder( Long.class ).initialize( value );
+		}
+
+		@Override
+		public String getTenantIdentifier() {
+			return null;
+		}
+	}
+}
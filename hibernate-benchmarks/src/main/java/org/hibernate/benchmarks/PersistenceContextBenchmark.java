@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the default persistence context lookup tables with the compact ones enabled through
+ * {@value AvailableSettings#COMPACT_PERSISTENCE_CONTEXT}, loading {@link #entities} entities into a single session.
+ * Use the {@code gc} profiler to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class PersistenceContextBenchmark {
+	@Param({ "false", "true" })
+	public boolean compact;
+
+	@Param({ "50000" })
+	public int entities;
+
+	private SessionFactory sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build(
+				Collections.singletonMap( AvailableSettings.COMPACT_PERSISTENCE_CONTEXT, String.valueOf( compact ) )
+		);
+		BenchmarkSessionFactory.populate( sessionFactory, entities, 0 );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public int loadAll() {
+		try ( Session session = sessionFactory.openSession() ) {
+			final List<Customer> customers = session.createQuery( "from Customer", Customer.class ).getResultList();
+			int found = 0;
+			for ( Customer customer : customers ) {
+				if ( session.get( Customer.class, customer.getId() ) == customer ) {
+					found++;
+				}
+			}
+			return found;
+		}
+	}
+
+	@Benchmark
+	public int scrollAndFlush() {
+		try ( Session session = sessionFactory.openSession() ) {
+			session.getTransaction().begin();
+			int count = 0;
+			try ( ScrollableResults results = session.createQuery( "from Customer" ).scroll( ScrollMode.FORWARD_ONLY ) ) {
+				while ( results.next() ) {
+					count++;
+				}
+			}
+			session.flush();
+			session.getTransaction().rollback();
+			return count;
+		}
+	}
+}
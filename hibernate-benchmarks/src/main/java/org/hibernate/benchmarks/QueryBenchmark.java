@@ -0,0 +1,87 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures result set hydration ({@code Loader.doQuery}) for entity and scalar HQL queries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class QueryBenchmark {
+	@Param({ "10", "500" })
+	public int rows;
+
+	private SessionFactory sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( null );
+		BenchmarkSessionFactory.populate( sessionFactory, 100, 10 );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<PurchaseOrder> entities() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createQuery( "from PurchaseOrder o order by o.id", PurchaseOrder.class )
+					.setMaxResults( rows )
+					.getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<PurchaseOrder> entitiesWithJoinFetch() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createQuery(
+					"from PurchaseOrder o join fetch o.customer order by o.id",
+					PurchaseOrder.class
+			)
+					.setMaxResults( rows )
+					.getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Object[]> scalars() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createQuery(
+					"select o.id, o.orderDate, o.total, o.status from PurchaseOrder o order by o.id",
+					Object[].class
+			)
+					.setMaxResults( rows )
+					.getResultList();
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of the basic {@link Session} operations: {@code persist}, {@code find} and {@code merge},
+ * each performed within its own session and transaction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SessionBenchmark {
+	private static final int CUSTOMERS = 1000;
+
+	private SessionFactory sessionFactory;
+	private long[] ids;
+	private int cursor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( null );
+		BenchmarkSessionFactory.populate( sessionFactory, CUSTOMERS, 0 );
+		try ( Session session = sessionFactory.openSession() ) {
+			ids = session.createQuery( "select c.id from Customer c order by c.id", Long.class )
+					.getResultList()
+					.stream()
+					.mapToLong( Long::longValue )
+					.toArray();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	private long nextId() {
+		final long id = ids[cursor];
+		cursor = ( cursor + 1 ) % ids.length;
+		return id;
+	}
+
+	@Benchmark
+	public Object persist() {
+		try ( Session session = sessionFactory.openSession() ) {
+			session.getTransaction().begin();
+			final Customer customer = new Customer( "new", "new@example.org", 1 );
+			session.persist( customer );
+			session.getTransaction().commit();
+			return customer;
+		}
+	}
+
+	@Benchmark
+	public Object find() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.find( Customer.class, nextId() );
+		}
+	}
+
+	@Benchmark
+	public Object merge() {
+		final Customer detached = new Customer( "merged", "merged@example.org", cursor % 5 );
+		detached.setId( nextId() );
+		try ( Session session = sessionFactory.openSession() ) {
+			session.getTransaction().begin();
+			final Object merged = session.merge( detached );
+			session.getTransaction().commit();
+			return merged;
+		}
+	}
+}
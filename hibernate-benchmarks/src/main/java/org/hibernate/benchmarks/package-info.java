@@ -0,0 +1,14 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+
+/**
+ * JMH benchmarks exercising the Hibernate ORM hot paths (session operations, flush-time dirty checking,
+ * result set hydration, query plan caching and JDBC batching) against an in-memory H2 database.
+ * <p/>
+ * Run them through the {@code jmh} task of this module; see {@code hibernate-benchmarks.gradle}.
+ */
+package org.hibernate.benchmarks;
@@ -241,6 +241,52 @@ public interface Session extends SharedSessionContract, EntityManager, Hibernate
 	 */
 	void setDefaultReadOnly(boolean readOnly);
 
+	/**
+	 * Are the snapshots of the modifiable entities loaded into this session only taken
+	 * when they are first modified?
+	 *
+	 * @return true, the snapshots are taken when the entities are first modified, where possible;
+	 *         false, the snapshots are taken when the entities are loaded.
+	 *
+	 * @implNote the method default returns {@code false}, for sessions which do not support the
+	 * read-mostly mode
+	 */
+	default boolean isDefaultReadMostly() {
+		return false;
+	}
+
+	/**
+	 * Change whether the snapshots of the modifiable entities loaded into this session are
+	 * taken when they are loaded, or only when they are first modified.
+	 *
+	 * Hibernate keeps a snapshot of the persistent state of every modifiable entity, for the
+	 * purpose of dirty checking, which doubles the memory held by sessions loading many
+	 * entities they do not modify.  In read-mostly mode, no snapshot is kept for the entities
+	 * which are enhanced for dirty tracking (which notify their first change to the session),
+	 * as long as they are not modified.  The entities mapping collections, embeddables,
+	 * lazy attributes or a natural id, or using {@code all} or {@code dirty} optimistic
+	 * locking, always keep a snapshot.
+	 *
+	 * Unlike read-only entities, the entities loaded in read-mostly mode are dirty-checked and
+	 * their changes are persisted.
+	 *
+	 * @param readMostly true, the snapshots are taken when the entities are first modified, where
+	 *                   possible; false, the snapshots are taken when the entities are loaded
+	 *
+	 * @throws UnsupportedOperationException if the read-mostly mode is requested from a session
+	 * which does not support it
+	 *
+	 * @implNote the method default only accepts {@code false}, for sessions which do not support
+	 * the read-mostly mode
+	 *
+	 * @see #setDefaultReadOnly(boolean)
+	 */
+	default void setDefaultReadMostly(boolean readMostly) {
+		if ( readMostly ) {
+			throw new UnsupportedOperationException( "This session does not support the read-mostly mode" );
+		}
+	}
+
 	/**
 	 * Return the identifier value of the given entity as associated with this
 	 * session.  An exception is thrown if the given entity instance is transient
@@ -46,5 +46,87 @@ public interface SessionEventListener extends Serializable {
 	public void dirtyCalculationStart();
 	public void dirtyCalculationEnd(boolean dirty);
 
+	/**
+	 * Notification of the start of the dirty calculation of an entity.  By default, this delegates
+	 * to {@link #dirtyCalculationStart()}.
+	 *
+	 * @param entityName The name of the entity
+	 *
+	 * @since 5.5
+	 */
+	default void dirtyCalculationStart(String entityName) {
+		dirtyCalculationStart();
+	}
+
+	/**
+	 * Notification of the end of the dirty calculation of an entity.  By default, this delegates
+	 * to {@link #dirtyCalculationEnd(boolean)}.
+	 *
+	 * @param entityName The name of the entity
+	 * @param dirty Whether the entity was found to be dirty
+	 *
+	 * @since 5.5
+	 */
+	default void dirtyCalculationEnd(String entityName, boolean dirty) {
+		dirtyCalculationEnd( dirty );
+	}
+
+	/**
+	 * Notification of the start of a phase of a flush (or partial flush).  A phase may start more than once
+	 * during a flush.
+	 *
+	 * @param phase The flush phase
+	 *
+	 * @since 5.5
+	 */
+	default void flushPhaseStart(FlushPhase phase) {
+	}
+
+	/**
+	 * Notification of the end of a phase of a flush (or partial flush).
+	 *
+	 * @param phase The flush phase
+	 *
+	 * @since 5.5
+	 */
+	default void flushPhaseEnd(FlushPhase phase) {
+	}
+
 	public void end();
+
+	/**
+	 * The phases of a flush, as reported to {@link #flushPhaseStart} and {@link #flushPhaseEnd},
+	 * and tracked by {@link org.hibernate.stat.Statistics}.
+	 *
+	 * @see org.hibernate.stat.Statistics#getFlushPhaseTime(FlushPhase)
+	 */
+	enum FlushPhase {
+		/**
+		 * Cascading of the save/update (or persist) operation to the entities reachable from the managed entities,
+		 * applying orphan removal.
+		 */
+		CASCADE,
+
+		/**
+		 * Dirty checking of the managed entities, scheduling their updates, and discovery of the collections
+		 * they reference.
+		 */
+		ENTITY_DIRTY_CHECK,
+
+		/**
+		 * Dirty checking of the collections, and scheduling of their (re)creations, updates and removals.
+		 */
+		COLLECTION_PROCESSING,
+
+		/**
+		 * Ordering of the scheduled actions (see {@link org.hibernate.cfg.AvailableSettings#ORDER_INSERTS} and
+		 * {@link org.hibernate.cfg.AvailableSettings#ORDER_UPDATES}).
+		 */
+		ACTION_SORTING,
+
+		/**
+		 * Execution of the scheduled actions, that is of the SQL statements.
+		 */
+		EXECUTION
+	}
 }
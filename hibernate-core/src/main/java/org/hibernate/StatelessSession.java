@@ -9,6 +9,7 @@ package org.hibernate;
 import java.io.Closeable;
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.stream.Stream;
 
 import org.hibernate.query.NativeQuery;
 
@@ -53,6 +54,58 @@ public interface StatelessSession extends SharedSessionContract, AutoCloseable,
 	 */
 	Serializable insert(String entityName, Object entity);
 
+	/**
+	 * Insert a row for each of the given entities, loading them in bulk.
+	 * <p/>
+	 * Consecutive entities of the same type, mapped to a single table and whose identifier is not generated
+	 * by the insert, are loaded in chunks through the {@link org.hibernate.dialect.Dialect#getBulkLoader()
+	 * bulk load mechanism} of the database, such as PostgreSQL's {@code COPY}.  When there is none, or it
+	 * cannot handle the values of a chunk, the chunk is inserted using batched, multi-row if possible,
+	 * inserts (see {@link org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_SIZE}).  Other entities are
+	 * inserted as by {@link #insert(Object)}.
+	 *
+	 * @param entities The new transient instances
+	 *
+	 * @return The number of inserted entities
+	 *
+	 * @implNote the method default inserts each entity by {@link #insert(Object)}, for sessions which do not
+	 * support bulk loading
+	 */
+	default long insertAll(Stream<?> entities) {
+		try ( Stream<?> stream = entities ) {
+			return stream.mapToLong(
+					entity -> {
+						insert( entity );
+						return 1;
+					}
+			).sum();
+		}
+	}
+
+	/**
+	 * Insert a row for each of the given entities, loading them in bulk.
+	 *
+	 * @param entityName The entityName for the entities to be inserted
+	 * @param entities The new transient instances
+	 *
+	 * @return The number of inserted entities
+	 *
+	 * @implNote the method default inserts each entity by {@link #insert(String, Object)}, for sessions which
+	 * do not support bulk loading
+	 *
+	 * @see #insertAll(Stream)
+	 */
+	default long insertAll(String entityName, Stream<?> entities) {
+		try ( Stream<?> stream = entities ) {
+			return stream.mapToLong(
+					entity -> {
+						insert( entityName, entity );
+						return 1;
+					}
+			).sum();
+		}
+	}
+
 	/**
 	 * Update a row.
 	 *
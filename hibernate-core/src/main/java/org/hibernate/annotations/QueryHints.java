@@ -144,4 +144,32 @@ public class QueryHints {
 	 */
 	public static final String PASS_DISTINCT_THROUGH = "hibernate.query.passDistinctThrough";
 
+	/**
+	 * Hint to detach the entities read by {@link org.hibernate.query.Query#stream()} as the stream advances, so that
+	 * streaming a large result does not fill the persistence context.  The value is the number of rows after which
+	 * the entities loaded from the rows since the previous detachment are {@link org.hibernate.Session#evict(Object)
+	 * evicted}: {@code 1} evicts them each time the stream moves to the next row.  The entities of the current row,
+	 * and of the rows since the last detachment, stay managed.  The changes made to the detached entities which were
+	 * not flushed are lost.  The entities managed before the stream was opened, the ones loaded by separate selects,
+	 * such as the lazy associations initialized while streaming, and the ones persisted while streaming stay managed,
+	 * unless the eviction cascades to them.
+	 * <p/>
+	 * By default, the entities are not detached.
+	 *
+	 * @since 5.5
+	 */
+	public static final String STREAM_DETACH_WINDOW = "hibernate.query.streamDetachWindow";
+
+	/**
+	 * Hint to read the rows of {@link org.hibernate.query.Query#stream()} on a dedicated thread, by chunks of the given
+	 * number of rows, while the previous chunks are processed.  The stream can then be made
+	 * {@link java.util.stream.Stream#parallel() parallel}, its chunks being processed by several threads.
+	 * <p/>
+	 * Only applies to the queries of a {@link org.hibernate.StatelessSession}, which must not be used until the
+	 * stream is closed.  By default, the rows are read as the stream advances.
+	 *
+	 * @since 5.5
+	 */
+	public static final String STREAM_PREFETCH_CHUNK_SIZE = "hibernate.query.streamPrefetchChunkSize";
+
 }
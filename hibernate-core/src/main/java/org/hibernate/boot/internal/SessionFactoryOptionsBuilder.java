@@ -74,12 +74,16 @@ import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
 import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
+import static org.hibernate.cfg.AvailableSettings.CACHE_LOAD_COALESCING;
+import static org.hibernate.cfg.AvailableSettings.CACHE_LOAD_COALESCING_TIMEOUT;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
 import static org.hibernate.cfg.AvailableSettings.COLLECTION_JOIN_SUBQUERY;
+import static org.hibernate.cfg.AvailableSettings.COMPACT_PERSISTENCE_CONTEXT;
 import static org.hibernate.cfg.AvailableSettings.CONNECTION_HANDLING;
 import static org.hibernate.cfg.AvailableSettings.CONVENTIONAL_JAVA_CONSTANTS;
 import static org.hibernate.cfg.AvailableSettings.CRITERIA_LITERAL_HANDLING_MODE;
+import static org.hibernate.cfg.AvailableSettings.CRITERIA_QUERY_PLAN_SHARING;
 import static org.hibernate.cfg.AvailableSettings.CUSTOM_ENTITY_DIRTINESS_STRATEGY;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_BATCH_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_ENTITY_MODE;
@@ -87,6 +91,7 @@ import static org.hibernate.cfg.AvailableSettings.DELAY_ENTITY_LOADER_CREATIONS;
 import static org.hibernate.cfg.AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS;
 import static org.hibernate.cfg.AvailableSettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
 import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
+import static org.hibernate.cfg.AvailableSettings.FLUSH_INCREMENTAL_DIRTY_CHECKING;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.HQL_BULK_ID_STRATEGY;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
@@ -97,15 +102,19 @@ import static org.hibernate.cfg.AvailableSettings.JDBC_TYLE_PARAMS_ZERO_BASE;
 import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
+import static org.hibernate.cfg.AvailableSettings.MULTI_ROW_INSERT;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.NATIVE_EXCEPTION_HANDLING_51_COMPLIANCE;
 import static org.hibernate.cfg.AvailableSettings.OMIT_JOIN_OF_SUPERCLASS_TABLES;
+import static org.hibernate.cfg.AvailableSettings.ORDER_DELETES;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.JPA_CALLBACKS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.PROCEDURE_NULL_PARAM_PASSING;
+import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_ENTITY_INVALIDATION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_INLINE_ENTITIES;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_SUBSTITUTIONS;
 import static org.hibernate.cfg.AvailableSettings.RELEASE_CONNECTIONS;
@@ -116,6 +125,8 @@ import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.USE_BINARY_CACHE_ENTRIES;
+import static org.hibernate.cfg.AvailableSettings.USE_COMPILED_ROW_READERS;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
@@ -214,6 +225,17 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private final boolean collectionJoinSubqueryRewriteEnabled;
 	private boolean jdbcStyleParamsZeroBased;
 	private final boolean omitJoinOfSuperclassTablesEnabled;
+	private final boolean compactPersistenceContextEnabled;
+	private final boolean multiRowInsertEnabled;
+	private final boolean orderDeletesEnabled;
+	private final boolean incrementalDirtyCheckingEnabled;
+	private final boolean binaryCacheEntriesEnabled;
+	private final boolean queryCacheEntityInvalidationEnabled;
+	private final boolean queryCacheInlineEntitiesEnabled;
+	private final boolean loadCoalescingEnabled;
+	private final int loadCoalescingTimeout;
+	private final boolean compiledRowReadersEnabled;
+	private final boolean criteriaQueryPlanSharingEnabled;
 
 	// Caching
 	private boolean secondLevelCacheEnabled;
@@ -363,6 +385,17 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.procedureParameterNullPassingEnabled = cfgService.getSetting( PROCEDURE_NULL_PARAM_PASSING, BOOLEAN, false );
 		this.collectionJoinSubqueryRewriteEnabled = cfgService.getSetting( COLLECTION_JOIN_SUBQUERY, BOOLEAN, true );
 		this.omitJoinOfSuperclassTablesEnabled = cfgService.getSetting( OMIT_JOIN_OF_SUPERCLASS_TABLES, BOOLEAN, true );
+		this.compactPersistenceContextEnabled = cfgService.getSetting( COMPACT_PERSISTENCE_CONTEXT, BOOLEAN, false );
+		this.multiRowInsertEnabled = cfgService.getSetting( MULTI_ROW_INSERT, BOOLEAN, false );
+		this.orderDeletesEnabled = ConfigurationHelper.getBoolean( ORDER_DELETES, configurationSettings, false );
+		this.incrementalDirtyCheckingEnabled = cfgService.getSetting( FLUSH_INCREMENTAL_DIRTY_CHECKING, BOOLEAN, false );
+		this.binaryCacheEntriesEnabled = cfgService.getSetting( USE_BINARY_CACHE_ENTRIES, BOOLEAN, false );
+		this.queryCacheEntityInvalidationEnabled = cfgService.getSetting( QUERY_CACHE_ENTITY_INVALIDATION, BOOLEAN, false );
+		this.queryCacheInlineEntitiesEnabled = cfgService.getSetting( QUERY_CACHE_INLINE_ENTITIES, BOOLEAN, false );
+		this.loadCoalescingEnabled = cfgService.getSetting( CACHE_LOAD_COALESCING, BOOLEAN, false );
+		this.loadCoalescingTimeout = ConfigurationHelper.getInt( CACHE_LOAD_COALESCING_TIMEOUT, configurationSettings, 1000 );
+		this.compiledRowReadersEnabled = ConfigurationHelper.getBoolean( USE_COMPILED_ROW_READERS, configurationSettings, false );
+		this.criteriaQueryPlanSharingEnabled = ConfigurationHelper.getBoolean( CRITERIA_QUERY_PLAN_SHARING, configurationSettings, false );
 
 		final RegionFactory regionFactory = serviceRegistry.getService( RegionFactory.class );
 		if ( !NoCachingRegionFactory.class.isInstance( regionFactory ) ) {
@@ -1072,6 +1105,61 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return omitJoinOfSuperclassTablesEnabled;
 	}
 
+	@Override
+	public boolean isCompactPersistenceContextEnabled() {
+		return compactPersistenceContextEnabled;
+	}
+
+	@Override
+	public boolean isMultiRowInsertEnabled() {
+		return multiRowInsertEnabled;
+	}
+
+	@Override
+	public boolean isOrderDeletesEnabled() {
+		return orderDeletesEnabled;
+	}
+
+	@Override
+	public boolean isIncrementalDirtyCheckingEnabled() {
+		return incrementalDirtyCheckingEnabled;
+	}
+
+	@Override
+	public boolean isBinaryCacheEntriesEnabled() {
+		return binaryCacheEntriesEnabled;
+	}
+
+	@Override
+	public boolean isQueryCacheEntityInvalidationEnabled() {
+		return queryCacheEntityInvalidationEnabled;
+	}
+
+	@Override
+	public boolean isQueryCacheInlineEntitiesEnabled() {
+		return queryCacheInlineEntitiesEnabled;
+	}
+
+	@Override
+	public boolean isLoadCoalescingEnabled() {
+		return loadCoalescingEnabled;
+	}
+
+	@Override
+	public int getLoadCoalescingTimeout() {
+		return loadCoalescingTimeout;
+	}
+
+	@Override
+	public boolean isCompiledRowReadersEnabled() {
+		return compiledRowReadersEnabled;
+	}
+
+	@Override
+	public boolean isCriteriaQueryPlanSharingEnabled() {
+		return criteriaQueryPlanSharingEnabled;
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// In-flight mutation access
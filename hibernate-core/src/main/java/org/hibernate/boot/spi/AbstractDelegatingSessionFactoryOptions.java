@@ -452,4 +452,59 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 	public boolean isOmitJoinOfSuperclassTablesEnabled() {
 		return delegate.isOmitJoinOfSuperclassTablesEnabled();
 	}
+
+	@Override
+	public boolean isCompactPersistenceContextEnabled() {
+		return delegate.isCompactPersistenceContextEnabled();
+	}
+
+	@Override
+	public boolean isMultiRowInsertEnabled() {
+		return delegate.isMultiRowInsertEnabled();
+	}
+
+	@Override
+	public boolean isOrderDeletesEnabled() {
+		return delegate.isOrderDeletesEnabled();
+	}
+
+	@Override
+	public boolean isIncrementalDirtyCheckingEnabled() {
+		return delegate.isIncrementalDirtyCheckingEnabled();
+	}
+
+	@Override
+	public boolean isBinaryCacheEntriesEnabled() {
+		return delegate.isBinaryCacheEntriesEnabled();
+	}
+
+	@Override
+	public boolean isQueryCacheEntityInvalidationEnabled() {
+		return delegate.isQueryCacheEntityInvalidationEnabled();
+	}
+
+	@Override
+	public boolean isQueryCacheInlineEntitiesEnabled() {
+		return delegate.isQueryCacheInlineEntitiesEnabled();
+	}
+
+	@Override
+	public boolean isLoadCoalescingEnabled() {
+		return delegate.isLoadCoalescingEnabled();
+	}
+
+	@Override
+	public int getLoadCoalescingTimeout() {
+		return delegate.getLoadCoalescingTimeout();
+	}
+
+	@Override
+	public boolean isCompiledRowReadersEnabled() {
+		return delegate.isCompiledRowReadersEnabled();
+	}
+
+	@Override
+	public boolean isCriteriaQueryPlanSharingEnabled() {
+		return delegate.isCriteriaQueryPlanSharingEnabled();
+	}
 }
@@ -316,4 +316,114 @@ public interface SessionFactoryOptions {
 	}
 
 	boolean isOmitJoinOfSuperclassTablesEnabled();
+
+	/**
+	 * Should persistence contexts use compact, open-addressing lookup tables?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#COMPACT_PERSISTENCE_CONTEXT
+	 */
+	default boolean isCompactPersistenceContextEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should batched entity inserts be coalesced into multi-row INSERT statements?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MULTI_ROW_INSERT
+	 */
+	default boolean isMultiRowInsertEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should entity deletions be ordered by entity type, respecting foreign key dependencies, for the purpose
+	 * of more efficient JDBC batching?
+	 *
+	 * @return {@code true} if entity deletions should be ordered
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ORDER_DELETES
+	 */
+	default boolean isOrderDeletesEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should flushes only visit the entities which registered themselves as modified, through their bytecode
+	 * enhanced dirty tracking?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_INCREMENTAL_DIRTY_CHECKING
+	 */
+	default boolean isIncrementalDirtyCheckingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should the second-level cache entries be stored in binary form?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_BINARY_CACHE_ENTRIES
+	 */
+	default boolean isBinaryCacheEntriesEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should updates and deletions of entities only invalidate the cached query results containing them?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_ENTITY_INVALIDATION
+	 */
+	default boolean isQueryCacheEntityInvalidationEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should the cached query results store the state of the returned entities along their identifiers?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_INLINE_ENTITIES
+	 */
+	default boolean isQueryCacheInlineEntitiesEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should concurrent loads of the same entity missing from the second-level cache be coalesced into a single
+	 * database load?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_LOAD_COALESCING
+	 */
+	default boolean isLoadCoalescingEnabled() {
+		return false;
+	}
+
+	/**
+	 * The maximum time, in milliseconds, to wait for the load of an entity by another session when coalescing the
+	 * loads.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_LOAD_COALESCING_TIMEOUT
+	 */
+	default int getLoadCoalescingTimeout() {
+		return 1000;
+	}
+
+	/**
+	 * Should the basic properties of the entities be read by readers generated by the
+	 * {@link org.hibernate.bytecode.spi.BytecodeProvider}?
+	 *
+	 * @return {@code true} if generated readers should be used.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_COMPILED_ROW_READERS
+	 */
+	default boolean isCompiledRowReadersEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should the criteria queries of the same structure share their query plan, whatever their literal values?
+	 *
+	 * @return {@code true} if the literals of the criteria queries are bound as parameters to share their query plan.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CRITERIA_QUERY_PLAN_SHARING
+	 */
+	default boolean isCriteriaQueryPlanSharingEnabled() {
+		return false;
+	}
 }
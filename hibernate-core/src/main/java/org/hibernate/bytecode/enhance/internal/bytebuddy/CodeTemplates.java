@@ -23,6 +23,7 @@ import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterc
 import org.hibernate.engine.spi.CompositeOwner;
 import org.hibernate.engine.spi.CompositeTracker;
 import org.hibernate.engine.spi.ExtendedSelfDirtinessTracker;
+import org.hibernate.engine.spi.ManagedEntity;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
 
 import net.bytebuddy.asm.Advice;
@@ -64,12 +65,22 @@ class CodeTemplates {
 	static class TrackChange {
 		@Advice.OnMethodEnter
 		static void $$_hibernate_trackChange(
+				@Advice.This ManagedEntity self,
 				@Advice.Argument(0) String name,
 				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker) {
 			if ( $$_hibernate_tracker == null ) {
 				$$_hibernate_tracker = new SimpleFieldTracker();
 			}
-			$$_hibernate_tracker.add( name );
+			if ( $$_hibernate_tracker.isEmpty() ) {
+				$$_hibernate_tracker.add( name );
+				// notify the first change
+				if ( !$$_hibernate_tracker.isEmpty() && self.$$_hibernate_getEntityEntry() != null ) {
+					self.$$_hibernate_getEntityEntry().markDirty( self );
+				}
+			}
+			else {
+				$$_hibernate_tracker.add( name );
+			}
 		}
 	}
 
@@ -6,21 +6,42 @@
  */
 package org.hibernate.bytecode.internal.bytebuddy;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.sql.ResultSet;
+import java.util.Locale;
 import java.util.concurrent.Callable;
 
 import org.hibernate.HibernateException;
+import org.hibernate.PropertyAccessException;
+import org.hibernate.PropertySetterAccessException;
 import org.hibernate.bytecode.enhance.internal.bytebuddy.EnhancerImpl;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.bytecode.spi.RowReader;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.GetterFieldImpl;
+import org.hibernate.property.access.spi.GetterMethodImpl;
+import org.hibernate.property.access.spi.Setter;
+import org.hibernate.property.access.spi.SetterFieldImpl;
+import org.hibernate.property.access.spi.SetterMethodImpl;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
 import net.bytebuddy.NamingStrategy;
+import net.bytebuddy.description.modifier.Ownership;
+import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.implementation.Implementation;
@@ -30,6 +51,7 @@ import net.bytebuddy.implementation.bytecode.assign.Assigner;
 import net.bytebuddy.implementation.bytecode.assign.primitive.PrimitiveBoxingDelegate;
 import net.bytebuddy.implementation.bytecode.assign.primitive.PrimitiveUnboxingDelegate;
 import net.bytebuddy.implementation.bytecode.assign.reference.ReferenceTypeAwareAssigner;
+import net.bytebuddy.jar.asm.Handle;
 import net.bytebuddy.jar.asm.MethodVisitor;
 import net.bytebuddy.jar.asm.Opcodes;
 import net.bytebuddy.jar.asm.Type;
@@ -37,13 +59,17 @@ import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.ElementMatchers;
 
 public class BytecodeProviderImpl implements BytecodeProvider {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( BytecodeProviderImpl.class );
 
 	private static final String INSTANTIATOR_PROXY_NAMING_SUFFIX = "HibernateInstantiator";
 	private static final String OPTIMIZER_PROXY_NAMING_SUFFIX = "HibernateAccessOptimizer";
+	private static final String ROW_READER_NAMING_SUFFIX = "HibernateRowReader";
+	private static final String ACCESSOR_NAMING_SUFFIX = "HibernateAccessor";
 	private static final ElementMatcher.Junction newInstanceMethodName = ElementMatchers.named( "newInstance" );
 	private static final ElementMatcher.Junction getPropertyValuesMethodName = ElementMatchers.named( "getPropertyValues" );
 	private static final ElementMatcher.Junction setPropertyValuesMethodName = ElementMatchers.named( "setPropertyValues" );
 	private static final ElementMatcher.Junction getPropertyNamesMethodName = ElementMatchers.named( "getPropertyNames" );
+	private static final ElementMatcher.Junction readMethodName = ElementMatchers.named( "read" );
 
 	private final ByteBuddyState byteBuddyState;
 
@@ -109,6 +135,251 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	@Override
+	public ReflectionOptimizer getReflectionOptimizer(
+			final Class clazz,
+			final String[] propertyNames,
+			final Getter[] getters,
+			final Setter[] setters) {
+		final MethodHandle[] handles = new MethodHandle[getters.length + setters.length];
+		try {
+			for ( int i = 0; i < getters.length; i++ ) {
+				handles[i] = getterHandle( clazz, propertyNames[i], getters[i] );
+				handles[getters.length + i] = setterHandle( clazz, propertyNames[i], setters[i] );
+				if ( handles[i] == null || handles[getters.length + i] == null ) {
+					// the property is accessed by a custom getter or setter
+					return null;
+				}
+			}
+		}
+		catch (ReflectiveOperationException | RuntimeException e) {
+			LOG.debugf( e, "Unable to generate the property accessor of %s, using reflection", clazz.getName() );
+			return null;
+		}
+
+		try {
+			final Class accessor = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+					.with( new NamingStrategy.SuffixingRandom( ACCESSOR_NAMING_SUFFIX,
+							new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) )
+					.subclass( ReflectionOptimizer.AccessOptimizer.class )
+					.defineField( PropertyAccessCallSites.HANDLES_FIELD_NAME, MethodHandle[].class, Visibility.PRIVATE, Ownership.STATIC )
+					.method( getPropertyValuesMethodName )
+							.intercept( new Implementation.Simple( new InvokeGetterHandles( getters.length ) ) )
+					.method( setPropertyValuesMethodName )
+							.intercept( new Implementation.Simple( new InvokeSetterHandles( setters.length, getters.length ) ) )
+					.method( getPropertyNamesMethodName )
+							.intercept( MethodCall.call( new CloningPropertyCall( propertyNames ) ) )
+			);
+			// the handles give access to the private state of the entities, so only the accessor itself may read them
+			final Field handlesField = accessor.getDeclaredField( PropertyAccessCallSites.HANDLES_FIELD_NAME );
+			handlesField.setAccessible( true );
+			handlesField.set( null, handles );
+			return new ReflectionOptimizerImpl( null, (ReflectionOptimizer.AccessOptimizer) accessor.newInstance() );
+		}
+		catch (Exception e) {
+			// e.g. the class cannot be defined in the package of the accessed class
+			LOG.debugf( e, "Unable to generate the property accessor of %s, using reflection", clazz.getName() );
+			return null;
+		}
+	}
+
+	private static MethodHandle getterHandle(Class containerClass, String propertyName, Getter getter)
+			throws ReflectiveOperationException {
+		final MethodHandle handle;
+		final Class<? extends Throwable> reportedFailures;
+		if ( getter.getClass() == GetterFieldImpl.class ) {
+			final Field field = (Field) getter.getMember();
+			field.setAccessible( true );
+			handle = MethodHandles.lookup().unreflectGetter( field );
+			reportedFailures = Exception.class;
+		}
+		else if ( getter.getClass() == GetterMethodImpl.class ) {
+			final Method method = getter.getMethod();
+			method.setAccessible( true );
+			handle = MethodHandles.lookup().unreflect( method );
+			reportedFailures = Throwable.class;
+		}
+		else {
+			return null;
+		}
+		final MethodHandle failure = MethodHandles.lookup().findStatic(
+				BytecodeProviderImpl.class,
+				"getterFailure",
+				MethodType.methodType( Object.class, Getter.class, Class.class, String.class, Throwable.class, Object.class )
+		);
+		return MethodHandles.catchException(
+				handle.asType( MethodType.methodType( Object.class, Object.class ) ),
+				reportedFailures,
+				MethodHandles.insertArguments( failure, 0, getter, containerClass, propertyName )
+		);
+	}
+
+	private static MethodHandle setterHandle(Class containerClass, String propertyName, Setter setter)
+			throws ReflectiveOperationException {
+		final MethodHandle handle;
+		final Class<? extends Throwable> reportedFailures;
+		if ( setter.getClass() == SetterFieldImpl.class ) {
+			final Field field = setterField( (SetterFieldImpl) setter );
+			field.setAccessible( true );
+			handle = MethodHandles.lookup().unreflectSetter( field );
+			reportedFailures = Exception.class;
+		}
+		else if ( setter.getClass() == SetterMethodImpl.class ) {
+			final Method method = setter.getMethod();
+			method.setAccessible( true );
+			handle = MethodHandles.lookup().unreflect( method );
+			reportedFailures = Throwable.class;
+		}
+		else {
+			return null;
+		}
+		final MethodHandle failure = MethodHandles.lookup().findStatic(
+				BytecodeProviderImpl.class,
+				"setterFailure",
+				MethodType.methodType( void.class, Setter.class, Class.class, String.class, Throwable.class, Object.class, Object.class )
+		);
+		return MethodHandles.catchException(
+				handle.asType( MethodType.methodType( void.class, Object.class, Object.class ) ),
+				reportedFailures,
+				MethodHandles.insertArguments( failure, 0, setter, containerClass, propertyName )
+		);
+	}
+
+	/**
+	 * The field set by the given setter, located as the field based property access strategies do.
+	 */
+	private static Field setterField(SetterFieldImpl setter) {
+		return ReflectHelper.findField( setter.getContainerClass(), setter.getPropertyName() );
+	}
+
+	/**
+	 * Reports the failure of a generated getter as the reflective {@link Getter} would.
+	 */
+	private static Object getterFailure(
+			Getter getter,
+			Class containerClass,
+			String propertyName,
+			Throwable failure,
+			Object owner) {
+		if ( getter.getClass() == GetterFieldImpl.class ) {
+			throw new org.hibernate.property.access.spi.PropertyAccessException(
+					String.format(
+							Locale.ROOT,
+							"Error accessing field [%s] by reflection for persistent property [%s#%s] : %s",
+							( (Field) getter.getMember() ).toGenericString(),
+							containerClass.getName(),
+							propertyName,
+							owner
+					),
+					failure
+			);
+		}
+		else {
+			throw new PropertyAccessException(
+					failure,
+					"Exception occurred inside",
+					false,
+					containerClass,
+					propertyName
+			);
+		}
+	}
+
+	/**
+	 * Reports the failure of a generated setter as the reflective {@link Setter} would.
+	 */
+	private static void setterFailure(
+			Setter setter,
+			Class containerClass,
+			String propertyName,
+			Throwable failure,
+			Object target,
+			Object value) {
+		if ( setter.getClass() == SetterFieldImpl.class ) {
+			if ( value == null && setterField( (SetterFieldImpl) setter ).getType().isPrimitive() ) {
+				throw new PropertyAccessException(
+						failure,
+						String.format(
+								Locale.ROOT,
+								"Null value was assigned to a property [%s.%s] of primitive type",
+								containerClass,
+								propertyName
+						),
+						true,
+						containerClass,
+						propertyName
+				);
+			}
+			else {
+				throw new PropertyAccessException(
+						failure,
+						String.format(
+								Locale.ROOT,
+								"Could not set field value [%s] value by reflection : [%s.%s]",
+								value,
+								containerClass,
+								propertyName
+						),
+						true,
+						containerClass,
+						propertyName
+				);
+			}
+		}
+		else {
+			final Class expectedType = setter.getMethod().getParameterTypes()[0];
+			if ( value == null && expectedType.isPrimitive() ) {
+				throw new PropertyAccessException(
+						failure,
+						"Null value was assigned to a property of primitive type",
+						true,
+						containerClass,
+						propertyName
+				);
+			}
+			else if ( failure instanceof ClassCastException
+					&& !MethodType.methodType( expectedType ).wrap().returnType().isInstance( value ) ) {
+				LOG.illegalPropertySetterArgument( containerClass.getName(), propertyName );
+				LOG.expectedType( expectedType.getName(), value == null ? null : value.getClass().getName() );
+				throw new PropertySetterAccessException(
+						failure,
+						containerClass,
+						propertyName,
+						expectedType,
+						target,
+						value
+				);
+			}
+			else {
+				throw new PropertyAccessException(
+						failure,
+						"Exception occurred inside",
+						true,
+						containerClass,
+						propertyName
+				);
+			}
+		}
+	}
+
+	@Override
+	public RowReader getRowReader(RowReader.ColumnType[] columnTypes, int[] valueIndexes) {
+		final Class rowReader = byteBuddyState.load( RowReader.class, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom( ROW_READER_NAMING_SUFFIX,
+						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( RowReader.class.getName() ) ) )
+				.subclass( RowReader.class )
+				.method( readMethodName )
+						.intercept( new Implementation.Simple( new ReadColumns( columnTypes, valueIndexes ) ) )
+		);
+
+		try {
+			return (RowReader) rowReader.newInstance();
+		}
+		catch (Exception exception) {
+			throw new HibernateException( exception );
+		}
+	}
+
 	public ByteBuddyProxyHelper getByteBuddyProxyHelper() {
 		return byteBuddyProxyHelper;
 	}
@@ -208,6 +479,139 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	private static final Handle PROPERTY_ACCESS_BOOTSTRAP = new Handle(
+			Opcodes.H_INVOKESTATIC,
+			Type.getInternalName( PropertyAccessCallSites.class ),
+			"bootstrap",
+			Type.getMethodDescriptor(
+					Type.getType( CallSite.class ),
+					Type.getType( MethodHandles.Lookup.class ),
+					Type.getType( String.class ),
+					Type.getType( MethodType.class ),
+					Type.INT_TYPE
+			),
+			false
+	);
+
+	private static class InvokeGetterHandles implements ByteCodeAppender {
+
+		private final int propertyCount;
+
+		public InvokeGetterHandles(int propertyCount) {
+			this.propertyCount = propertyCount;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			methodVisitor.visitLdcInsn( propertyCount );
+			methodVisitor.visitTypeInsn( Opcodes.ANEWARRAY, Type.getInternalName( Object.class ) );
+			for ( int i = 0; i < propertyCount; i++ ) {
+				methodVisitor.visitInsn( Opcodes.DUP );
+				methodVisitor.visitLdcInsn( i );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				methodVisitor.visitInvokeDynamicInsn(
+						"get",
+						"(Ljava/lang/Object;)Ljava/lang/Object;",
+						PROPERTY_ACCESS_BOOTSTRAP,
+						i
+				);
+				methodVisitor.visitInsn( Opcodes.AASTORE );
+			}
+			methodVisitor.visitInsn( Opcodes.ARETURN );
+			return new Size( 4, instrumentedMethod.getStackSize() );
+		}
+	}
+
+	private static class InvokeSetterHandles implements ByteCodeAppender {
+
+		private final int propertyCount;
+
+		private final int firstHandleIndex;
+
+		public InvokeSetterHandles(int propertyCount, int firstHandleIndex) {
+			this.propertyCount = propertyCount;
+			this.firstHandleIndex = firstHandleIndex;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			for ( int i = 0; i < propertyCount; i++ ) {
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
+				methodVisitor.visitLdcInsn( i );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				methodVisitor.visitInvokeDynamicInsn(
+						"set",
+						"(Ljava/lang/Object;Ljava/lang/Object;)V",
+						PROPERTY_ACCESS_BOOTSTRAP,
+						firstHandleIndex + i
+				);
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 3, instrumentedMethod.getStackSize() );
+		}
+	}
+
+	private static class ReadColumns implements ByteCodeAppender {
+
+		private final RowReader.ColumnType[] columnTypes;
+
+		private final int[] valueIndexes;
+
+		public ReadColumns(RowReader.ColumnType[] columnTypes, int[] valueIndexes) {
+			this.columnTypes = columnTypes;
+			this.valueIndexes = valueIndexes;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			for ( int i = 0; i < columnTypes.length; i++ ) {
+				final Class<?> returnType = columnTypes[i].getReturnType();
+				// values[valueIndexes[i]] = resultSet.getXxx( columnIndexes[i] )
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 3 );
+				methodVisitor.visitLdcInsn( valueIndexes[i] );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
+				methodVisitor.visitLdcInsn( i );
+				methodVisitor.visitInsn( Opcodes.IALOAD );
+				methodVisitor.visitMethodInsn(
+						Opcodes.INVOKEINTERFACE,
+						Type.getInternalName( ResultSet.class ),
+						columnTypes[i].getGetterName(),
+						Type.getMethodDescriptor( Type.getType( returnType ), Type.INT_TYPE ),
+						true
+				);
+				if ( returnType.isPrimitive() ) {
+					// boxed, unless the value read was null
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKESTATIC,
+							Type.getInternalName( RowReaderHelper.class ),
+							"wrap",
+							Type.getMethodDescriptor(
+									Type.getType( Object.class ),
+									Type.getType( returnType ),
+									Type.getType( ResultSet.class )
+							),
+							false
+					);
+				}
+				methodVisitor.visitInsn( Opcodes.AASTORE );
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 6, instrumentedMethod.getStackSize() );
+		}
+	}
+
 	private static void findAccessors(
 			Class clazz,
 			String[] getterNames,
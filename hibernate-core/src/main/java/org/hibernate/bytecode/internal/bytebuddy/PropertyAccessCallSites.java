@@ -0,0 +1,42 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Bootstraps the {@code invokedynamic} instructions of the generated property accessors: each instruction is bound,
+ * once and for all, to one of the {@link MethodHandle}s stored in the private {@value #HANDLES_FIELD_NAME} static field
+ * of the accessor, so that the JIT compiler inlines the access to the property as it would a direct field access or
+ * method call, whatever the visibility of the field or method.
+ * <p/>
+ * Only meant to be called by the generated accessors: the field is read through the lookup of the accessor, which
+ * alone has access to it.
+ *
+ * @see BytecodeProviderImpl#getReflectionOptimizer(Class, String[], org.hibernate.property.access.spi.Getter[], org.hibernate.property.access.spi.Setter[])
+ */
+public final class PropertyAccessCallSites {
+	/**
+	 * The name of the private static field of the generated accessors holding their method handles.
+	 */
+	public static final String HANDLES_FIELD_NAME = "handles";
+
+	private PropertyAccessCallSites() {
+	}
+
+	public static CallSite bootstrap(MethodHandles.Lookup lookup, String name, MethodType type, int index)
+			throws Throwable {
+		final MethodHandle[] handles = (MethodHandle[]) lookup
+				.findStaticGetter( lookup.lookupClass(), HANDLES_FIELD_NAME, MethodHandle[].class )
+				.invokeExact();
+		return new ConstantCallSite( handles[index].asType( type ) );
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Boxes the primitive values read by the generated {@link org.hibernate.bytecode.spi.RowReader}s, checking
+ * {@link ResultSet#wasNull()} so that SQL {@code NULL} values are read as {@code null}.
+ * <p/>
+ * Only meant to be called by the generated readers.
+ */
+public final class RowReaderHelper {
+
+	private RowReaderHelper() {
+	}
+
+	public static Object wrap(boolean value, ResultSet resultSet) throws SQLException {
+		return resultSet.wasNull() ? null : Boolean.valueOf( value );
+	}
+
+	public static Object wrap(byte value, ResultSet resultSet) throws SQLException {
+		return resultSet.wasNull() ? null : Byte.valueOf( value );
+	}
+
+	public static Object wrap(short value, ResultSet resultSet) throws SQLException {
+		return resultSet.wasNull() ? null : Short.valueOf( value );
+	}
+
+	public static Object wrap(int value, ResultSet resultSet) throws SQLException {
+		return resultSet.wasNull() ? null : Integer.valueOf( value );
+	}
+
+	public static Object wrap(long value, ResultSet resultSet) throws SQLException {
+		return resultSet.wasNull() ? null : Long.valueOf( value );
+	}
+
+	public static Object wrap(float value, ResultSet resultSet) throws SQLException {
+		return resultSet.wasNull() ? null : Float.valueOf( value );
+	}
+
+	public static Object wrap(double value, ResultSet resultSet) throws SQLException {
+		return resultSet.wasNull() ? null : Double.valueOf( value );
+	}
+}
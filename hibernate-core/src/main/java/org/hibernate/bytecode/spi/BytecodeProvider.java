@@ -8,6 +8,8 @@ package org.hibernate.bytecode.spi;
 
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.Setter;
 import org.hibernate.service.Service;
 
 /**
@@ -41,6 +43,31 @@ public interface BytecodeProvider extends Service {
 	 */
 	ReflectionOptimizer getReflectionOptimizer(Class clazz, String[] getterNames, String[] setterNames, Class[] types);
 
+	/**
+	 * Retrieve the ReflectionOptimizer delegate for this provider, accessing the properties through generated
+	 * accessors rather than reflection, whatever the visibility of the fields and methods behind them.
+	 * <p/>
+	 * The returned optimizer only provides an {@link ReflectionOptimizer.AccessOptimizer}, which reports a failing
+	 * access to a property as the given getter or setter would.
+	 *
+	 * @param clazz The class to be reflected upon.
+	 * @param propertyNames The names of the properties.
+	 * @param getters The getters of the properties.
+	 * @param setters The setters of the properties.
+	 *
+	 * @return The reflection optimization delegate, or {@code null} if this provider does not generate accessors,
+	 * or some of the getters or setters are not supported.
+	 *
+	 * @since 5.5
+	 */
+	default ReflectionOptimizer getReflectionOptimizer(
+			Class clazz,
+			String[] propertyNames,
+			Getter[] getters,
+			Setter[] setters) {
+		return null;
+	}
+
 	/**
 	 * Returns a byte code enhancer that implements the enhancements described in the supplied enhancement context.
 	 *
@@ -50,6 +77,20 @@ public interface BytecodeProvider extends Service {
 	 */
 	Enhancer getEnhancer(EnhancementContext enhancementContext);
 
+	/**
+	 * Generate a reader of the given column types, calling directly their {@link java.sql.ResultSet} getters.
+	 *
+	 * @param columnTypes The types of the columns to read, in order.
+	 * @param valueIndexes The indexes, in the array of values, receiving each column value.
+	 *
+	 * @return The reader, or {@code null} if this provider does not generate readers.
+	 *
+	 * @since 5.5
+	 */
+	default RowReader getRowReader(RowReader.ColumnType[] columnTypes, int[] valueIndexes) {
+		return null;
+	}
+
 	/**
 	 * Some BytecodeProvider implementations will have classloader specific caching.
 	 * These caches are useful at runtime but need to be reset at least on SessionFactory shutdown
@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.spi;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.hibernate.Incubating;
+
+/**
+ * Reads a fixed sequence of columns of the current row of a {@link ResultSet}, calling directly the
+ * {@link ResultSet} getter of each column instead of dispatching through the
+ * {@link org.hibernate.type.Type} of the column.
+ *
+ * @see BytecodeProvider#getRowReader
+ *
+ * @since 5.5
+ */
+@Incubating
+public interface RowReader {
+	/**
+	 * Read the columns of the current row.
+	 *
+	 * @param resultSet The result set, positioned on the row to read.
+	 * @param columnIndexes The result set indexes of the columns, in the order of the column types the reader was
+	 * generated for.
+	 * @param values The array receiving the column values, at the value indexes the reader was generated for;
+	 * {@code null} is assigned for the SQL {@code NULL} values.
+	 *
+	 * @throws SQLException Indicates a problem reading the result set.
+	 */
+	void read(ResultSet resultSet, int[] columnIndexes, Object[] values) throws SQLException;
+
+	/**
+	 * The column types a {@link RowReader} can read, along with the {@link ResultSet} getter reading them.
+	 */
+	enum ColumnType {
+		STRING( "getString", String.class ),
+		BIG_DECIMAL( "getBigDecimal", BigDecimal.class ),
+		BOOLEAN( "getBoolean", boolean.class ),
+		BYTE( "getByte", byte.class ),
+		SHORT( "getShort", short.class ),
+		INTEGER( "getInt", int.class ),
+		LONG( "getLong", long.class ),
+		FLOAT( "getFloat", float.class ),
+		DOUBLE( "getDouble", double.class );
+
+		private final String getterName;
+		private final Class<?> returnType;
+
+		ColumnType(String getterName, Class<?> returnType) {
+			this.getterName = getterName;
+			this.returnType = returnType;
+		}
+
+		/**
+		 * @return The name of the {@link ResultSet} getter reading the column, by index.
+		 */
+		public String getGetterName() {
+			return getterName;
+		}
+
+		/**
+		 * @return The return type of the {@link ResultSet} getter.
+		 */
+		public Class<?> getReturnType() {
+			return returnType;
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.java.CharacterTypeDescriptor;
+import org.hibernate.type.descriptor.java.IntegerTypeDescriptor;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+import org.hibernate.type.descriptor.java.LongTypeDescriptor;
+import org.hibernate.type.descriptor.java.ShortTypeDescriptor;
+import org.hibernate.type.descriptor.java.StringTypeDescriptor;
+import org.hibernate.type.descriptor.java.UUIDTypeDescriptor;
+
+/**
+ * A specialization of {@link CacheKeyImplementation} for the entities and collections identified by a single
+ * {@code Long}, {@code Integer}, {@code Short}, {@code String}, {@code UUID} or {@code Character} value.  The
+ * equality and hash code of such identifiers are the ones of the Java objects, so the key does not need to keep a
+ * reference to the identifier type and to dispatch to it, making it smaller and cheaper to compare.
+ *
+ * @see DefaultCacheKeysFactory
+ */
+final class BasicCacheKeyImplementation implements Serializable {
+	private final Object id;
+	private final String entityOrRoleName;
+	private final String tenantId;
+	private final int hashCode;
+
+	/**
+	 * Construct a new key for a collection or entity instance.
+	 * Note that an entity name should always be the root entity
+	 * name, not a subclass entity name.
+	 *
+	 * @param id The identifier associated with the cached data
+	 * @param entityOrRoleName The entity or collection-role name.
+	 * @param tenantId The tenant identifier associated with this data.
+	 */
+	BasicCacheKeyImplementation(final Object id, final String entityOrRoleName, final String tenantId) {
+		this.id = id;
+		this.entityOrRoleName = entityOrRoleName;
+		this.tenantId = tenantId;
+		this.hashCode = 31 * id.hashCode() + ( tenantId != null ? tenantId.hashCode() : 0 );
+	}
+
+	/**
+	 * Can the keys for identifiers of the given type be {@link BasicCacheKeyImplementation}s?
+	 */
+	static boolean isApplicable(Type type) {
+		if ( !( type instanceof AbstractStandardBasicType ) ) {
+			return false;
+		}
+		final JavaTypeDescriptor descriptor = ( (AbstractStandardBasicType) type ).getJavaTypeDescriptor();
+		return descriptor == LongTypeDescriptor.INSTANCE
+				|| descriptor == IntegerTypeDescriptor.INSTANCE
+				|| descriptor == StringTypeDescriptor.INSTANCE
+				|| descriptor == UUIDTypeDescriptor.INSTANCE
+				|| descriptor == ShortTypeDescriptor.INSTANCE
+				|| descriptor == CharacterTypeDescriptor.INSTANCE;
+	}
+
+	public Object getId() {
+		return id;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if ( other == null ) {
+			return false;
+		}
+		if ( this == other ) {
+			return true;
+		}
+		if ( hashCode != other.hashCode() || !( other instanceof BasicCacheKeyImplementation ) ) {
+			//hashCode is part of this check since it is pre-calculated and hash must match for equals to be true
+			return false;
+		}
+		final BasicCacheKeyImplementation that = (BasicCacheKeyImplementation) other;
+		return id.equals( that.id )
+				&& Objects.equals( entityOrRoleName, that.entityOrRoleName )
+				&& Objects.equals( tenantId, that.tenantId );
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return entityOrRoleName + '#' + id.toString();
+	}
+}
@@ -11,6 +11,7 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
 
 /**
  * Second level cache providers now have the option to use custom key implementations.
@@ -24,6 +25,10 @@ import org.hibernate.persister.entity.EntityPersister;
  * avoid the tenant identifier, or when a cache instance is entirely dedicated to a single type
  * to use the primary id only, skipping the role or entity name.
  * <p/>
+ * The keys for the identifiers of the most common basic types (such as {@code Long} or {@code String})
+ * do not reference their {@link org.hibernate.type.Type}, as the equality and hash code of the identifiers
+ * themselves can be used.
+ * <p/>
  * Even with multiple types sharing the same cache, their identifiers could be of the same
  * {@link org.hibernate.type.Type}; in this case the cache container could
  * use a single type reference to implement a custom equality function without having
@@ -43,11 +48,18 @@ public class DefaultCacheKeysFactory implements CacheKeysFactory {
 	public static final DefaultCacheKeysFactory INSTANCE = new DefaultCacheKeysFactory();
 
 	public static Object staticCreateCollectionKey(Object id, CollectionPersister persister, SessionFactoryImplementor factory, String tenantIdentifier) {
-		return new CacheKeyImplementation( id, persister.getKeyType(), persister.getRole(), tenantIdentifier, factory );
+		return createKey( id, persister.getKeyType(), persister.getRole(), tenantIdentifier, factory );
 	}
 
 	public static Object staticCreateEntityKey(Object id, EntityPersister persister, SessionFactoryImplementor factory, String tenantIdentifier) {
-		return new CacheKeyImplementation( id, persister.getIdentifierType(), persister.getRootEntityName(), tenantIdentifier, factory );
+		return createKey( id, persister.getIdentifierType(), persister.getRootEntityName(), tenantIdentifier, factory );
+	}
+
+	private static Object createKey(Object id, Type type, String entityOrRoleName, String tenantIdentifier, SessionFactoryImplementor factory) {
+		if ( BasicCacheKeyImplementation.isApplicable( type ) ) {
+			return new BasicCacheKeyImplementation( id, entityOrRoleName, tenantIdentifier );
+		}
+		return new CacheKeyImplementation( id, type, entityOrRoleName, tenantIdentifier, factory );
 	}
 
 	public static Object staticCreateNaturalIdKey(Object[] naturalIdValues, EntityPersister persister, SharedSessionContractImplementor session) {
@@ -55,11 +67,18 @@ public class DefaultCacheKeysFactory implements CacheKeysFactory {
 	}
 
 	public static Object staticGetEntityId(Object cacheKey) {
-		return ((CacheKeyImplementation) cacheKey).getId();
+		return getId( cacheKey );
 	}
 
 	public static Object staticGetCollectionId(Object cacheKey) {
-		return ((CacheKeyImplementation) cacheKey).getId();
+		return getId( cacheKey );
+	}
+
+	private static Object getId(Object cacheKey) {
+		if ( cacheKey instanceof BasicCacheKeyImplementation ) {
+			return ( (BasicCacheKeyImplementation) cacheKey ).getId();
+		}
+		return ( (CacheKeyImplementation) cacheKey ).getId();
 	}
 
 	public static Object[] staticGetNaturalIdValues(Object cacheKey) {
@@ -24,6 +24,7 @@ import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
 import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
 import org.hibernate.cache.cfg.spi.NaturalIdDataCachingConfig;
 import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.CacheLoadCoalescer;
 import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.QueryResultsCache;
@@ -71,6 +72,8 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 	private final QueryResultsCache defaultQueryResultsCache;
 	private final Map<String, QueryResultsCache> namedQueryResultsCacheMap = new ConcurrentHashMap<>();
 
+	private final CacheLoadCoalescer loadCoalescer;
+
 
 	private final Set<String> legacySecondLevelCacheNames = new LinkedHashSet<>();
 	private final Map<String,Set<NaturalIdDataAccess>> legacyNaturalIdAccessesForRegion = new ConcurrentHashMap<>();
@@ -82,6 +85,15 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 		this.regionFactory.start( sessionFactory.getSessionFactoryOptions(), sessionFactory.getProperties() );
 
 		if ( getSessionFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
+			if ( getSessionFactory().getSessionFactoryOptions().isQueryCacheEntityInvalidationEnabled() ) {
+				// the entity invalidation timestamps expire like the query results
+				final QueryResultsRegion entityInvalidationRegion = regionFactory.buildQueryResultsRegion(
+						RegionFactory.DEFAULT_QUERY_RESULTS_INVALIDATION_REGION_UNQUALIFIED_NAME,
+						sessionFactory
+				);
+				regionsByName.put( entityInvalidationRegion.getName(), entityInvalidationRegion );
+			}
+
 			final TimestampsRegion timestampsRegion = regionFactory.buildTimestampsRegion(
 					RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
 					sessionFactory
@@ -98,13 +110,28 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 			regionsByName.put( queryResultsRegion.getName(), queryResultsRegion );
 			defaultQueryResultsCache = new QueryResultsCacheImpl(
 					queryResultsRegion,
-					timestampsCache
+					timestampsCache,
+					getSessionFactory().getSessionFactoryOptions().isBinaryCacheEntriesEnabled(),
+					getSessionFactory().getSessionFactoryOptions().isQueryCacheEntityInvalidationEnabled(),
+					getSessionFactory().getSessionFactoryOptions().isQueryCacheInlineEntitiesEnabled()
 			);
 		}
 		else {
 			timestampsCache = new TimestampsCacheDisabledImpl();
 			defaultQueryResultsCache = null;
 		}
+
+		if ( getSessionFactory().getSessionFactoryOptions().isLoadCoalescingEnabled() ) {
+			loadCoalescer = new CacheLoadCoalescer( getSessionFactory().getSessionFactoryOptions().getLoadCoalescingTimeout() );
+		}
+		else {
+			loadCoalescer = null;
+		}
+	}
+
+	@Override
+	public CacheLoadCoalescer getLoadCoalescer() {
+		return loadCoalescer;
 	}
 
 	@Override
@@ -512,7 +539,10 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 		}
 		final QueryResultsCacheImpl regionAccess = new QueryResultsCacheImpl(
 				queryResultsRegion,
-				timestampsCache
+				timestampsCache,
+				getSessionFactory().getSessionFactoryOptions().isBinaryCacheEntriesEnabled(),
+				getSessionFactory().getSessionFactoryOptions().isQueryCacheEntityInvalidationEnabled(),
+				getSessionFactory().getSessionFactoryOptions().isQueryCacheInlineEntitiesEnabled()
 		);
 		namedQueryResultsCacheMap.put( regionName, regionAccess );
 		legacySecondLevelCacheNames.add( regionName );
@@ -6,15 +6,12 @@
  */
 package org.hibernate.cache.internal;
 
-import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Objects;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
-import org.hibernate.internal.util.ValueHolder;
 import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
 
@@ -33,7 +30,7 @@ public class NaturalIdCacheKey implements Serializable {
 	private final String tenantId;
 	private final int hashCode;
 	// "transient" is important here -- NaturalIdCacheKey needs to be Serializable
-	private transient ValueHolder<String> toString;
+	private transient String toString;
 
 	/**
 	 * Construct a new key for a caching natural identifier resolutions into the second level cache.
@@ -77,30 +74,6 @@ public class NaturalIdCacheKey implements Serializable {
 		}
 
 		this.hashCode = result;
-		initTransients();
-	}
-
-	private void initTransients() {
-		this.toString = new ValueHolder<>(
-				new ValueHolder.DeferredInitializer<String>() {
-					@Override
-					public String initialize() {
-						//Complex toString is needed as naturalIds for entities are not simply based on a single value like primary keys
-						//the only same way to differentiate the keys is to included the disassembled values in the string.
-						final StringBuilder toStringBuilder = new StringBuilder().append( entityName ).append(
-								"##NaturalId[" );
-						for ( int i = 0; i < naturalIdValues.length; i++ ) {
-							toStringBuilder.append( naturalIdValues[i] );
-							if ( i + 1 < naturalIdValues.length ) {
-								toStringBuilder.append( ", " );
-							}
-						}
-						toStringBuilder.append( "]" );
-
-						return toStringBuilder.toString();
-					}
-				}
-		);
 	}
 
 	@SuppressWarnings( {"UnusedDeclaration"})
@@ -120,7 +93,21 @@ public class NaturalIdCacheKey implements Serializable {
 
 	@Override
 	public String toString() {
-		return toString.getValue();
+		// lazily built, as it is rarely needed: keys are created on each natural id lookup
+		if ( toString == null ) {
+			//Complex toString is needed as naturalIds for entities are not simply based on a single value like primary keys
+			//the only same way to differentiate the keys is to included the disassembled values in the string.
+			final StringBuilder toStringBuilder = new StringBuilder().append( entityName ).append( "##NaturalId[" );
+			for ( int i = 0; i < naturalIdValues.length; i++ ) {
+				toStringBuilder.append( naturalIdValues[i] );
+				if ( i + 1 < naturalIdValues.length ) {
+					toStringBuilder.append( ", " );
+				}
+			}
+			toStringBuilder.append( "]" );
+			toString = toStringBuilder.toString();
+		}
+		return toString;
 	}
 
 	@Override
@@ -147,10 +134,4 @@ public class NaturalIdCacheKey implements Serializable {
 				&& Objects.equals( tenantId, other.tenantId )
 				&& Arrays.deepEquals( this.naturalIdValues, other.naturalIdValues );
 	}
-
-	private void readObject(ObjectInputStream ois)
-			throws ClassNotFoundException, IOException {
-		ois.defaultReadObject();
-		initTransients();
-	}
 }
@@ -0,0 +1,130 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.OffHeapStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+/**
+ * A local (non clustered) RegionFactory keeping the cached data in off-heap memory, see
+ * {@link OffHeapStorageAccess}.  The size of the regions is bounded by {@link AvailableSettings#CACHE_OFF_HEAP_MAX_SIZE}.
+ * <p/>
+ * The timestamps region is the exception: an evicted timestamp would let stale query results be read as up-to-date,
+ * so its few entries, one per table, are kept on the heap and never evicted.
+ */
+public class OffHeapRegionFactory extends RegionFactoryTemplate {
+	/**
+	 * The default maximum size, in bytes, of a region
+	 */
+	public static final int DEFAULT_MAX_SIZE = 64 * 1024 * 1024;
+
+	/**
+	 * The default size, in bytes, of the blocks of the off-heap memory
+	 */
+	public static final int DEFAULT_BLOCK_SIZE = 256;
+
+	private Map configValues;
+	private int blockSize;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map configValues) {
+		this.configValues = configValues;
+		this.blockSize = ConfigurationHelper.getInt(
+				AvailableSettings.CACHE_OFF_HEAP_BLOCK_SIZE,
+				configValues,
+				DEFAULT_BLOCK_SIZE
+		);
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return createStorageAccess( regionConfig.getRegionName() );
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return createStorageAccess( regionName );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		if ( configValues.containsKey( AvailableSettings.CACHE_OFF_HEAP_MAX_SIZE + '.' + regionName ) ) {
+			throw new CacheException( "The size of the timestamps region [" + regionName + "] cannot be bounded" );
+		}
+		return new TimestampsStorageAccess();
+	}
+
+	private OffHeapStorageAccess createStorageAccess(String regionName) {
+		final long maxSize = ConfigurationHelper.getLong(
+				regionSettingName( AvailableSettings.CACHE_OFF_HEAP_MAX_SIZE, regionName, configValues ),
+				configValues,
+				DEFAULT_MAX_SIZE
+		);
+		return new OffHeapStorageAccess( maxSize, blockSize );
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		configValues = null;
+	}
+
+	/**
+	 * Keeps the timestamps on the heap, without ever evicting them.
+	 */
+	private static class TimestampsStorageAccess implements StorageAccess {
+		private final Map<Object, Object> timestamps = new ConcurrentHashMap<>();
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			return timestamps.get( key );
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			timestamps.put( key, value );
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return timestamps.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			timestamps.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			timestamps.remove( key );
+		}
+
+		@Override
+		public void release() {
+			timestamps.clear();
+		}
+	}
+}
@@ -8,19 +8,37 @@ package org.hibernate.cache.internal;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cache.spi.QueryResultsInvalidationKey;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.QuerySpacesHelper;
 import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.entry.BinaryCacheEntryReader;
+import org.hibernate.cache.spi.entry.BinaryCacheEntryWriter;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.LoadEvent;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.loader.entity.CacheEntityLoaderHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 
@@ -37,12 +55,21 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 
 	private final QueryResultsRegion cacheRegion;
 	private final TimestampsCache timestampsCache;
+	private final boolean binaryEntries;
+	private final boolean entityInvalidation;
+	private final boolean inlineEntities;
 
 	QueryResultsCacheImpl(
 			QueryResultsRegion cacheRegion,
-			TimestampsCache timestampsCache) {
+			TimestampsCache timestampsCache,
+			boolean binaryEntries,
+			boolean entityInvalidation,
+			boolean inlineEntities) {
 		this.cacheRegion = cacheRegion;
 		this.timestampsCache = timestampsCache;
+		this.binaryEntries = binaryEntries;
+		this.entityInvalidation = entityInvalidation;
+		this.inlineEntities = inlineEntities;
 	}
 
 	@Override
@@ -50,18 +77,31 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return cacheRegion;
 	}
 
+	@Override
+	public boolean put(
+			final QueryKey key,
+			final List results,
+			final Type[] returnTypes,
+			final SharedSessionContractImplementor session) throws HibernateException {
+		return put( key, results, returnTypes, null, session );
+	}
+
 	@Override
 	@SuppressWarnings({ "unchecked" })
 	public boolean put(
 			final QueryKey key,
 			final List results,
 			final Type[] returnTypes,
+			final Set<Object> loadedEntities,
 			final SharedSessionContractImplementor session) throws HibernateException {
 		if ( LOG.isDebugEnabled() ) {
 			LOG.debugf( "Caching query results in region: %s; timestamp=%s", cacheRegion.getName(), session.getTransactionStartTimestamp() );
 		}
 
 		final List resultsCopy = CollectionHelper.arrayList( results.size() );
+		final List<Serializable[]> entitiesCopy = inlineEntities && loadedEntities != null
+				? CollectionHelper.arrayList( results.size() )
+				: null;
 
 		final boolean isSingleResult = returnTypes.length == 1;
 		for ( Object aResult : results ) {
@@ -73,6 +113,9 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 				resultRowForCache = TypeHelper.disassemble( (Object[]) aResult, returnTypes, null, session, null );
 			}
 			resultsCopy.add( resultRowForCache );
+			if ( entitiesCopy != null ) {
+				entitiesCopy.add( disassembleEntities( aResult, returnTypes, loadedEntities, session ) );
+			}
 			if ( LOG.isTraceEnabled() ) {
 				logCachedResultRowDetails( returnTypes, aResult );
 			}
@@ -82,10 +125,9 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			logCachedResultDetails( key, null, returnTypes, resultsCopy );
 		}
 
-		final CacheItem cacheItem = new CacheItem(
-				session.getTransactionStartTimestamp(),
-				resultsCopy
-		);
+		final Object cacheItem = binaryEntries
+				? toBinaryCacheItem( session.getTransactionStartTimestamp(), resultsCopy, entitiesCopy, returnTypes )
+				: new CacheItem( session.getTransactionStartTimestamp(), resultsCopy, entitiesCopy );
 
 		try {
 			session.getEventListenerManager().cachePutStart();
@@ -95,9 +137,108 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			session.getEventListenerManager().cachePutEnd();
 		}
 
+		if ( entityInvalidation ) {
+			trackEntities( returnTypes, resultsCopy, session );
+		}
+
 		return true;
 	}
 
+	/**
+	 * Makes sure the invalidations of the entities of the given cached results are tracked, so that checking the
+	 * results later does not mistake an evicted invalidation timestamp for the absence of invalidation.
+	 */
+	private void trackEntities(Type[] returnTypes, List cachedResults, SharedSessionContractImplementor session) {
+		final EntityPersister[] persisters = getTrackablePersisters( returnTypes, session );
+		if ( persisters == null ) {
+			return;
+		}
+		final Set<String> entitySpaces = new LinkedHashSet<>();
+		for ( EntityPersister persister : persisters ) {
+			if ( persister != null ) {
+				for ( Serializable space : persister.getQuerySpaces() ) {
+					entitySpaces.add( (String) space );
+				}
+			}
+		}
+		final Set<QueryResultsInvalidationKey> keys = new LinkedHashSet<>();
+		addEntityKeys( keys, persisters, returnTypes.length == 1, cachedResults );
+		if ( !keys.isEmpty() ) {
+			timestampsCache.trackEntities(
+					keys.toArray( new QueryResultsInvalidationKey[keys.size()] ),
+					entitySpaces.toArray( new String[entitySpaces.size()] ),
+					session.getTransactionStartTimestamp(),
+					session
+			);
+		}
+	}
+
+	/**
+	 * Disassembles the state of the entities of a result row, so that a cache hit does not need to read them from
+	 * their own cache regions (or the database) one by one.
+	 *
+	 * @return The states ({@code subclass, version, disassembled state, schema version}) of the entities of the row,
+	 * per column, or {@code null} if the row has no entity whose state was loaded by the query
+	 */
+	private static Serializable[] disassembleEntities(
+			Object result,
+			Type[] returnTypes,
+			Set<Object> loadedEntities,
+			SharedSessionContractImplementor session) {
+		Serializable[] entities = null;
+		for ( int i = 0; i < returnTypes.length; i++ ) {
+			if ( returnTypes[i].isEntityType() ) {
+				final Object value = returnTypes.length == 1 ? result : ( (Object[]) result )[i];
+				final Serializable[] entity = disassembleEntity( value, loadedEntities, session );
+				if ( entity != null ) {
+					if ( entities == null ) {
+						entities = new Serializable[returnTypes.length];
+					}
+					entities[i] = entity;
+				}
+			}
+		}
+		return entities;
+	}
+
+	private static Serializable[] disassembleEntity(
+			Object value,
+			Set<Object> loadedEntities,
+			SharedSessionContractImplementor session) {
+		if ( value instanceof HibernateProxy ) {
+			final LazyInitializer lazyInitializer = ( (HibernateProxy) value ).getHibernateLazyInitializer();
+			if ( lazyInitializer.isUninitialized() ) {
+				return null;
+			}
+			value = lazyInitializer.getImplementation();
+		}
+		if ( value == null || !loadedEntities.contains( value ) ) {
+			// already in the session before the query, its loaded state may be older than the results
+			return null;
+		}
+		final EntityEntry entry = session.getPersistenceContextInternal().getEntry( value );
+		if ( entry == null
+				|| entry.getLoadedState() == null
+				|| !entry.isExistsInDatabase()
+				|| entry.getStatus() != Status.MANAGED && entry.getStatus() != Status.READ_ONLY ) {
+			return null;
+		}
+		// the state as just read from the database
+		final StandardCacheEntryImpl cacheEntry = new StandardCacheEntryImpl(
+				entry.getLoadedState(),
+				entry.getPersister(),
+				entry.getVersion(),
+				session,
+				value
+		);
+		return new Serializable[] {
+				cacheEntry.getSubclass(),
+				(Serializable) cacheEntry.getVersion(),
+				cacheEntry.getDisassembledState(),
+				schemaVersion( entry.getPersister() )
+		};
+	}
+
 	private static void logCachedResultDetails(QueryKey key, Set querySpaces, Type[] returnTypes, List result) {
 		if ( !LOG.isTraceEnabled() ) {
 			return;
@@ -149,7 +290,7 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			LOG.debugf( "Checking cached query results in region: %s", cacheRegion.getName() );
 		}
 
-		final CacheItem cacheItem = getCachedData( key, session );
+		final CacheItem cacheItem = getCachedData( key, returnTypes, session );
 		if ( cacheItem == null ) {
 			if ( LOG.isDebugEnabled() ) {
 				LOG.debug( "Query results were not found in cache" );
@@ -157,7 +298,13 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			return null;
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+		final QueryResultsInvalidationKey[] invalidationKeys = entityInvalidation
+				? getInvalidationKeys( spaces, returnTypes, cacheItem.results, session )
+				: null;
+		final boolean upToDate = invalidationKeys == null
+				? timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session )
+				: timestampsCache.isUpToDate( invalidationKeys, cacheItem.timestamp, session );
+		if ( !upToDate ) {
 			if ( LOG.isDebugEnabled() ) {
 				LOG.debug( "Cached query results were not up-to-date" );
 			}
@@ -169,6 +316,9 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		}
 
 		final boolean singleResult = returnTypes.length == 1;
+		if ( cacheItem.entities != null && session instanceof EventSource ) {
+			assembleEntities( cacheItem, singleResult, (EventSource) session );
+		}
 		for ( int i = 0; i < cacheItem.results.size(); i++ ) {
 			if ( singleResult ) {
 				returnTypes[0].beforeAssemble( (Serializable) cacheItem.results.get( i ), session );
@@ -181,11 +331,125 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return assembleCachedResult( key, cacheItem.results, singleResult, returnTypes, session );
 	}
 
-	private CacheItem getCachedData(QueryKey key, SharedSessionContractImplementor session) {
+	/**
+	 * Initializes the entities whose state is stored along the cached results, unless already in the persistence
+	 * context, so that assembling the results finds them there.
+	 */
+	private static void assembleEntities(CacheItem cacheItem, boolean singleResult, EventSource session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		for ( int row = 0; row < cacheItem.results.size(); row++ ) {
+			final Serializable[] entities = (Serializable[]) cacheItem.entities.get( row );
+			if ( entities == null ) {
+				continue;
+			}
+			for ( int i = 0; i < entities.length; i++ ) {
+				final Serializable[] entity = (Serializable[]) entities[i];
+				if ( entity == null ) {
+					continue;
+				}
+				final EntityPersister persister = session.getFactory().getMetamodel().entityPersisters().get( entity[0] );
+				if ( persister == null || !entity[3].equals( schemaVersion( persister ) ) ) {
+					// written for a different mapping, the entity is loaded as usual
+					continue;
+				}
+				final Serializable[] state = (Serializable[]) entity[2];
+				final Serializable disassembledId = singleResult
+						? (Serializable) cacheItem.results.get( row )
+						: ( (Serializable[]) cacheItem.results.get( row ) )[i];
+				final Serializable id = (Serializable) persister.getIdentifierType()
+						.assemble( disassembledId, session, null );
+				final EntityKey entityKey = session.generateEntityKey( id, persister );
+				if ( persistenceContext.getEntity( entityKey ) == null ) {
+					CacheEntityLoaderHelper.INSTANCE.loadFromCacheEntry(
+							new LoadEvent( id, persister.getEntityName(), false, session, null ),
+							persister,
+							new StandardCacheEntryImpl( state, (String) entity[0], entity[1] ),
+							entityKey
+					);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Determines the keys of the fine-grained invalidations applying to the given cached results: the entities they
+	 * contain, and the spaces they involve.
+	 *
+	 * @return The keys, or {@code null} if the results involve tables of other entities than the returned ones, and
+	 * must be invalidated per table
+	 */
+	private static QueryResultsInvalidationKey[] getInvalidationKeys(
+			String[] spaces,
+			Type[] returnTypes,
+			List cachedResults,
+			SharedSessionContractImplementor session) {
+		final EntityPersister[] persisters = getTrackablePersisters( returnTypes, session );
+		if ( persisters == null ) {
+			return null;
+		}
+		final Set<Serializable> entitySpaces = new HashSet<>();
+		for ( EntityPersister persister : persisters ) {
+			if ( persister != null ) {
+				Collections.addAll( entitySpaces, persister.getQuerySpaces() );
+			}
+		}
+
+		final Set<QueryResultsInvalidationKey> keys = new LinkedHashSet<>();
+		for ( String space : spaces ) {
+			if ( !entitySpaces.contains( space ) ) {
+				return null;
+			}
+			keys.add( QueryResultsInvalidationKey.forSpace( space ) );
+		}
+		addEntityKeys( keys, persisters, returnTypes.length == 1, cachedResults );
+		return keys.toArray( new QueryResultsInvalidationKey[keys.size()] );
+	}
+
+	/**
+	 * @return The persisters of the returned entities, per column, or {@code null} if some of these entities cannot
+	 * be tracked individually
+	 */
+	private static EntityPersister[] getTrackablePersisters(Type[] returnTypes, SharedSessionContractImplementor session) {
+		final EntityPersister[] persisters = new EntityPersister[returnTypes.length];
+		for ( int i = 0; i < returnTypes.length; i++ ) {
+			if ( returnTypes[i].isEntityType() ) {
+				final EntityPersister persister = session.getFactory().getMetamodel()
+						.entityPersister( ( (EntityType) returnTypes[i] ).getAssociatedEntityName() );
+				if ( !QueryResultsInvalidationKey.isTrackable( persister ) ) {
+					return null;
+				}
+				persisters[i] = persister;
+			}
+		}
+		return persisters;
+	}
+
+	private static void addEntityKeys(
+			Set<QueryResultsInvalidationKey> keys,
+			EntityPersister[] persisters,
+			boolean singleResult,
+			List cachedResults) {
+		for ( Object cachedResult : cachedResults ) {
+			for ( int i = 0; i < persisters.length; i++ ) {
+				final Serializable id = singleResult
+						? (Serializable) cachedResult
+						: ( (Serializable[]) cachedResult )[i];
+				if ( persisters[i] != null && id != null ) {
+					keys.add( QueryResultsInvalidationKey.forEntity( persisters[i], id ) );
+				}
+			}
+		}
+	}
+
+	private CacheItem getCachedData(QueryKey key, Type[] returnTypes, SharedSessionContractImplementor session) {
 		CacheItem cachedItem = null;
 		try {
 			session.getEventListenerManager().cacheGetStart();
-			cachedItem = (CacheItem) cacheRegion.getFromCache( key, session );
+			final Object cachedData = cacheRegion.getFromCache( key, session );
+			// an entry written for other return types is a miss
+			cachedItem = cachedData instanceof byte[]
+					? fromBinaryCacheItem( (byte[]) cachedData, returnTypes )
+					: (CacheItem) cachedData;
 		}
 		finally {
 			session.getEventListenerManager().cacheGetEnd( cachedItem != null );
@@ -193,6 +457,60 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return cachedItem;
 	}
 
+	private static byte[] toBinaryCacheItem(
+			long timestamp,
+			List results,
+			List<Serializable[]> entities,
+			Type[] returnTypes) {
+		final BinaryCacheEntryWriter writer = new BinaryCacheEntryWriter( schemaVersion( returnTypes ) );
+		writer.writeVarLong( timestamp );
+		writer.writeVarInt( results.size() );
+		for ( Object result : results ) {
+			writer.writeValue( result );
+		}
+		writer.writeByte( entities == null ? 0 : 1 );
+		if ( entities != null ) {
+			for ( Serializable[] entity : entities ) {
+				writer.writeValue( entity );
+			}
+		}
+		return writer.toByteArray();
+	}
+
+	private static CacheItem fromBinaryCacheItem(byte[] bytes, Type[] returnTypes) {
+		final BinaryCacheEntryReader reader = new BinaryCacheEntryReader( bytes );
+		if ( !reader.readHeader( schemaVersion( returnTypes ) ) ) {
+			// written for different return types
+			return null;
+		}
+		final long timestamp = reader.readVarLong();
+		final int size = reader.readVarInt();
+		final List<Serializable> results = new ArrayList<>( size );
+		for ( int i = 0; i < size; i++ ) {
+			results.add( reader.readValue() );
+		}
+		List<Serializable> entities = null;
+		if ( reader.readByte() != 0 ) {
+			entities = new ArrayList<>( size );
+			for ( int i = 0; i < size; i++ ) {
+				entities.add( reader.readValue() );
+			}
+		}
+		return new CacheItem( timestamp, results, entities );
+	}
+
+	private static int schemaVersion(Type[] returnTypes) {
+		return BinaryCacheEntryWriter.schemaVersion( "query results", null, returnTypes );
+	}
+
+	private static int schemaVersion(EntityPersister persister) {
+		return BinaryCacheEntryWriter.schemaVersion(
+				persister.getEntityName(),
+				persister.getPropertyNames(),
+				persister.getPropertyTypes()
+		);
+	}
+
 	@SuppressWarnings("unchecked")
 	private List assembleCachedResult(
 			final QueryKey key,
@@ -285,10 +603,12 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 	public static class CacheItem implements Serializable {
 		private final long timestamp;
 		private final List results;
+		private final List entities;
 
-		CacheItem(long timestamp, List results) {
+		CacheItem(long timestamp, List results, List entities) {
 			this.timestamp = timestamp;
 			this.results = results;
+			this.entities = entities;
 		}
 	}
 }
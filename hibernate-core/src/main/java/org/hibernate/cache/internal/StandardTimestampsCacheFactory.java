@@ -7,6 +7,9 @@
 package org.hibernate.cache.internal;
 
 import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.DirectAccessRegion;
+import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
 import org.hibernate.cache.spi.TimestampsRegion;
@@ -25,6 +28,14 @@ public class StandardTimestampsCacheFactory implements TimestampsCacheFactory {
 	public TimestampsCache buildTimestampsCache(
 			CacheImplementor cacheManager,
 			TimestampsRegion timestampsRegion) {
+		if ( cacheManager.getSessionFactory().getSessionFactoryOptions().isQueryCacheEntityInvalidationEnabled() ) {
+			final Region entityInvalidationRegion = cacheManager.getRegion(
+					RegionFactory.DEFAULT_QUERY_RESULTS_INVALIDATION_REGION_UNQUALIFIED_NAME
+			);
+			if ( entityInvalidationRegion instanceof DirectAccessRegion ) {
+				return new TimestampsCacheEnabledImpl( timestampsRegion, (DirectAccessRegion) entityInvalidationRegion );
+			}
+		}
 		return new TimestampsCacheEnabledImpl( timestampsRegion );
 	}
 }
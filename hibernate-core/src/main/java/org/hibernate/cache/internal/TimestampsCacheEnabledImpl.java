@@ -7,7 +7,11 @@
 package org.hibernate.cache.internal;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.hibernate.cache.spi.DirectAccessRegion;
+import org.hibernate.cache.spi.QueryResultsInvalidationKey;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.cache.spi.TimestampsCache;
@@ -26,10 +30,31 @@ import org.jboss.logging.Logger;
 public class TimestampsCacheEnabledImpl implements TimestampsCache {
 	private static final Logger log = Logger.getLogger( TimestampsCacheEnabledImpl.class );
 
+	/**
+	 * The timestamp of the entities whose invalidations are tracked, but which were not invalidated since.
+	 */
+	private static final Long NOT_INVALIDATED = Long.MIN_VALUE;
+
 	private final TimestampsRegion timestampsRegion;
+	private final DirectAccessRegion entityInvalidationRegion;
 
 	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion) {
+		this( timestampsRegion, null );
+	}
+
+	/**
+	 * Constructs a timestamps cache also recording the invalidations of individual entities.
+	 *
+	 * @param timestampsRegion The region of the timestamps of the query spaces
+	 * @param entityInvalidationRegion The region of the timestamps of the entities, whose entries may expire
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_ENTITY_INVALIDATION
+	 */
+	public TimestampsCacheEnabledImpl(
+			TimestampsRegion timestampsRegion,
+			DirectAccessRegion entityInvalidationRegion) {
 		this.timestampsRegion = timestampsRegion;
+		this.entityInvalidationRegion = entityInvalidationRegion;
 	}
 
 	@Override
@@ -41,6 +66,19 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 	public void preInvalidate(
 			String[] spaces,
 			SharedSessionContractImplementor session) {
+		preInvalidateKeys( spaces, session );
+	}
+
+	@Override
+	public void preInvalidate(
+			QueryResultsInvalidationKey[] keys,
+			SharedSessionContractImplementor session) {
+		preInvalidateKeys( keys, session );
+	}
+
+	private void preInvalidateKeys(
+			Serializable[] spaces,
+			SharedSessionContractImplementor session) {
 		final SessionFactoryImplementor factory = session.getFactory();
 		final RegionFactory regionFactory = factory.getCache().getRegionFactory();
 
@@ -62,7 +100,7 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 
 				//put() has nowait semantics, is this really appropriate?
 				//note that it needs to be async replication, never local or sync
-				timestampsRegion.putIntoCache( space, ts, session );
+				putTimestamp( space, ts, session );
 			}
 			finally {
 				eventListenerManager.cachePutEnd();
@@ -78,6 +116,19 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 	public void invalidate(
 			String[] spaces,
 			SharedSessionContractImplementor session) {
+		invalidateKeys( spaces, session );
+	}
+
+	@Override
+	public void invalidate(
+			QueryResultsInvalidationKey[] keys,
+			SharedSessionContractImplementor session) {
+		invalidateKeys( keys, session );
+	}
+
+	private void invalidateKeys(
+			Serializable[] spaces,
+			SharedSessionContractImplementor session) {
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 		final boolean stats = statistics.isStatisticsEnabled();
 
@@ -92,7 +143,7 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 			try {
 				eventListenerManager.cachePutStart();
-				timestampsRegion.putIntoCache( space, ts, session );
+				putTimestamp( space, ts, session );
 			}
 			finally {
 				eventListenerManager.cachePutEnd();
@@ -109,7 +160,21 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 			String[] spaces,
 			Long timestamp,
 			SharedSessionContractImplementor session) {
+		return areKeysUpToDate( spaces, timestamp, session );
+	}
+
+	@Override
+	public boolean isUpToDate(
+			QueryResultsInvalidationKey[] keys,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		return areKeysUpToDate( keys, timestamp, session );
+	}
 
+	private boolean areKeysUpToDate(
+			Serializable[] spaces,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 		final boolean stats = statistics.isStatisticsEnabled();
 		final boolean debugEnabled = log.isDebugEnabled();
@@ -122,6 +187,10 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 				if ( stats ) {
 					statistics.updateTimestampsCacheMiss();
 				}
+				if ( isEntityKey( space ) ) {
+					// the entity timestamps expire: the entity may have been invalidated since
+					return false;
+				}
 			}
 			else {
 				if ( debugEnabled ) {
@@ -142,11 +211,61 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		return true;
 	}
 
+	@Override
+	public void trackEntities(
+			QueryResultsInvalidationKey[] entityKeys,
+			String[] spaces,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		if ( entityInvalidationRegion == null ) {
+			return;
+		}
+
+		final List<QueryResultsInvalidationKey> trackedKeys = new ArrayList<>();
+		for ( QueryResultsInvalidationKey key : entityKeys ) {
+			if ( getLastUpdateTimestampForSpace( key, session ) == null ) {
+				final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+				try {
+					eventListenerManager.cachePutStart();
+					entityInvalidationRegion.putIntoCache( key, NOT_INVALIDATED, session );
+				}
+				finally {
+					eventListenerManager.cachePutEnd();
+				}
+				trackedKeys.add( key );
+			}
+		}
+
+		if ( !trackedKeys.isEmpty() && !areKeysUpToDate( spaces, timestamp, session ) ) {
+			// the tables changed since the results were read: an invalidation of these entities, written between
+			// the check above and the put, may have been overwritten, so invalidate them again
+			invalidateKeys( trackedKeys.toArray( new QueryResultsInvalidationKey[trackedKeys.size()] ), session );
+		}
+	}
+
+	private static boolean isEntityKey(Serializable space) {
+		return space instanceof QueryResultsInvalidationKey && ( (QueryResultsInvalidationKey) space ).isEntityKey();
+	}
+
+	private void putTimestamp(Serializable space, Long ts, SharedSessionContractImplementor session) {
+		if ( !isEntityKey( space ) ) {
+			timestampsRegion.putIntoCache( space, ts, session );
+		}
+		else if ( entityInvalidationRegion != null ) {
+			entityInvalidationRegion.putIntoCache( space, ts, session );
+		}
+	}
+
 	private Long getLastUpdateTimestampForSpace(Serializable space, SharedSessionContractImplementor session) {
 		Long ts = null;
 		try {
 			session.getEventListenerManager().cacheGetStart();
-			ts = (Long) timestampsRegion.getFromCache( space, session );
+			if ( !isEntityKey( space ) ) {
+				ts = (Long) timestampsRegion.getFromCache( space, session );
+			}
+			else if ( entityInvalidationRegion != null ) {
+				ts = (Long) entityInvalidationRegion.getFromCache( space, session );
+			}
 		}
 		finally {
 			session.getEventListenerManager().cacheGetEnd( ts != null );
@@ -105,6 +105,16 @@ public interface CacheImplementor extends Service, Cache, org.hibernate.engine.s
 	 */
 	QueryResultsCache getQueryResultsCacheStrictly(String regionName);
 
+	/**
+	 * The coordinator of the concurrent loads of the entities missing from the cache, or
+	 * {@code null} if such loads are not coalesced
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_LOAD_COALESCING
+	 */
+	default CacheLoadCoalescer getLoadCoalescer() {
+		return null;
+	}
+
 	/**
 	 * Clean up the default query cache
 	 */
@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of the database loads of the entities missing from the second-level cache, for the sessions of a
+ * SessionFactory, so that concurrent loads of the same entity wait for a single load putting it into the cache
+ * rather than all hitting the database, see {@link org.hibernate.cfg.AvailableSettings#CACHE_LOAD_COALESCING}.
+ * <p/>
+ * The session registering a load with {@link #startLoad} is responsible for completing it with {@link #endLoad},
+ * whatever its outcome.
+ */
+public final class CacheLoadCoalescer {
+	private final ConcurrentMap<Object, CountDownLatch> inFlightLoads = new ConcurrentHashMap<>();
+	private final long timeout;
+
+	/**
+	 * @param timeout The maximum time, in milliseconds, to wait for an in-flight load
+	 */
+	public CacheLoadCoalescer(long timeout) {
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Registers the load of the entry with the given key, unless it is already being loaded.
+	 *
+	 * @param cacheKey The cache key of the entity to load
+	 *
+	 * @return {@code null} if the caller is now responsible for the load, and must then call {@link #endLoad}
+	 * once done; otherwise the in-flight load to {@link #awaitLoad await}
+	 */
+	public CountDownLatch startLoad(Object cacheKey) {
+		return inFlightLoads.putIfAbsent( cacheKey, new CountDownLatch( 1 ) );
+	}
+
+	/**
+	 * Completes the load of the entry with the given key registered by {@link #startLoad}, releasing the sessions
+	 * waiting for it.
+	 *
+	 * @param cacheKey The cache key of the loaded entity
+	 */
+	public void endLoad(Object cacheKey) {
+		final CountDownLatch inFlightLoad = inFlightLoads.remove( cacheKey );
+		if ( inFlightLoad != null ) {
+			inFlightLoad.countDown();
+		}
+	}
+
+	/**
+	 * Waits for the given in-flight load to complete, at most for the configured timeout.
+	 *
+	 * @param inFlightLoad The load, as returned by {@link #startLoad}
+	 *
+	 * @return {@code true} if the load completed; {@code false} if the timeout elapsed or the thread was interrupted
+	 */
+	public boolean awaitLoad(CountDownLatch inFlightLoad) {
+		try {
+			return inFlightLoad.await( timeout, TimeUnit.MILLISECONDS );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
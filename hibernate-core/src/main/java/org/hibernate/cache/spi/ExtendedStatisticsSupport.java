@@ -6,6 +6,8 @@
  */
 package org.hibernate.cache.spi;
 
+import org.hibernate.stat.Histogram;
+
 /**
  * Optional Region contract defining support for extra statistic information
  *
@@ -17,4 +19,36 @@ public interface ExtendedStatisticsSupport {
 	long getElementCountOnDisk();
 
 	long getSizeInMemory();
+
+	/**
+	 * The distribution of the latencies, in nanoseconds, of the reads from the region, or {@code null} if they are
+	 * not recorded.
+	 */
+	default Histogram getGetLatencyHistogram() {
+		return null;
+	}
+
+	/**
+	 * The distribution of the latencies, in nanoseconds, of the writes to the region, or {@code null} if they are
+	 * not recorded.
+	 */
+	default Histogram getPutLatencyHistogram() {
+		return null;
+	}
+
+	/**
+	 * The distribution of the latencies, in nanoseconds, of the removals and evictions of single entries from the
+	 * region, or {@code null} if they are not recorded.
+	 */
+	default Histogram getRemoveLatencyHistogram() {
+		return null;
+	}
+
+	/**
+	 * The distribution of the sizes, in bytes, of the entries written to the region, or {@code null} if they are not
+	 * known.
+	 */
+	default Histogram getEntrySizeHistogram() {
+		return null;
+	}
 }
@@ -56,6 +56,31 @@ public interface QueryResultsCache extends QueryCache {
 			Type[] returnTypes,
 			SharedSessionContractImplementor session) throws HibernateException;
 
+	/**
+	 * Put a result into the query cache, along with the state of the returned entities loaded by the execution
+	 * which produced it.
+	 *
+	 * @param key The cache key
+	 * @param result The results to cache
+	 * @param loadedEntities The entities whose state was read from the database by the execution of the query; the
+	 * state of the other entities of the results may be stale
+	 * @param session The originating session
+	 *
+	 * @return Whether the put actually happened.
+	 *
+	 * @throws HibernateException Indicates a problem delegating to the underlying cache.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_INLINE_ENTITIES
+	 */
+	default boolean put(
+			QueryKey key,
+			List result,
+			Type[] returnTypes,
+			Set<Object> loadedEntities,
+			SharedSessionContractImplementor session) throws HibernateException {
+		return put( key, result, returnTypes, session );
+	}
+
 	/**
 	 * Get results from the cache.
 	 *
@@ -0,0 +1,106 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CompositeType;
+
+/**
+ * Key of the timestamps of the fine-grained invalidations of the cached query results, see
+ * {@link org.hibernate.cfg.AvailableSettings#QUERY_CACHE_ENTITY_INVALIDATION}.  Such a key designates either a given
+ * entity, updated or deleted, or a query space (table) whose set of rows may have changed in another way.
+ * <p/>
+ * The timestamps of the query spaces are kept in the timestamps region, which never evicts, so a missing timestamp
+ * means the space was not changed since startup.  The timestamps of the entities are kept in a separate region whose
+ * entries expire: a missing entity timestamp may have been evicted, and thus means the cached results containing the
+ * entity cannot be trusted.
+ *
+ * @see TimestampsCache#invalidate(QueryResultsInvalidationKey[], org.hibernate.engine.spi.SharedSessionContractImplementor)
+ */
+public final class QueryResultsInvalidationKey implements Serializable {
+	private final String name;
+	private final Serializable id;
+	private final int hashCode;
+
+	private QueryResultsInvalidationKey(String name, Serializable id) {
+		this.name = name;
+		this.id = id;
+		this.hashCode = 31 * name.hashCode() + ( id == null ? 0 : id.hashCode() );
+	}
+
+	/**
+	 * The key of the changes to the given query space, other than the updates and deletions of identified entities.
+	 *
+	 * @param space The query space (table name)
+	 *
+	 * @return The key
+	 */
+	public static QueryResultsInvalidationKey forSpace(String space) {
+		return new QueryResultsInvalidationKey( space, null );
+	}
+
+	/**
+	 * The key of the updates and deletions of the given entity.
+	 *
+	 * @param persister The persister of the entity
+	 * @param id The identifier of the entity
+	 *
+	 * @return The key
+	 */
+	public static QueryResultsInvalidationKey forEntity(EntityPersister persister, Serializable id) {
+		return new QueryResultsInvalidationKey( persister.getRootEntityName(), id );
+	}
+
+	/**
+	 * Does this key designate an entity, rather than a query space?  The invalidation timestamps of the entities are
+	 * kept in their own region, see {@link RegionFactory#DEFAULT_QUERY_RESULTS_INVALIDATION_REGION_UNQUALIFIED_NAME}.
+	 *
+	 * @return {@code true} if the key designates an entity
+	 */
+	public boolean isEntityKey() {
+		return id != null;
+	}
+
+	/**
+	 * Can the changes to the entities of the given persister be tracked per entity?  This requires a simple
+	 * identifier, as the keys are compared with the disassembled identifiers found in the cached query results.
+	 *
+	 * @param persister The persister of the entities
+	 *
+	 * @return {@code true} if the entities can be tracked individually
+	 */
+	public static boolean isTrackable(EntityPersister persister) {
+		return !( persister.getIdentifierType() instanceof CompositeType );
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+		final QueryResultsInvalidationKey that = (QueryResultsInvalidationKey) o;
+		return hashCode == that.hashCode
+				&& name.equals( that.name )
+				&& Objects.equals( id, that.id );
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return id == null ? "QueryResultsInvalidationKey(" + name + ')' : "QueryResultsInvalidationKey(" + name + '#' + id + ')';
+	}
+}
@@ -35,6 +35,7 @@ public interface RegionFactory extends Service, Stoppable {
 	// These are names that users have to include in their caching configuration, do not change them
 	String DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME = "default-query-results-region";
 	String DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME = "default-update-timestamps-region";
+	String DEFAULT_QUERY_RESULTS_INVALIDATION_REGION_UNQUALIFIED_NAME = "default-query-results-invalidation-region";
 
 	/**
 	 * Lifecycle callback to perform any necessary initialization of the
@@ -55,6 +55,70 @@ public interface TimestampsCache extends UpdateTimestampsCache {
 			Long timestamp,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Perform pre-invalidation of the passed entities and query spaces
+	 * against the timestamps region data, for the fine-grained invalidation
+	 * of the cached query results
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_ENTITY_INVALIDATION
+	 */
+	default void preInvalidate(
+			QueryResultsInvalidationKey[] keys,
+			SharedSessionContractImplementor session) {
+	}
+
+	/**
+	 * Perform invalidation of the passed entities and query spaces
+	 * against the timestamps region data, for the fine-grained invalidation
+	 * of the cached query results
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_ENTITY_INVALIDATION
+	 */
+	default void invalidate(
+			QueryResultsInvalidationKey[] keys,
+			SharedSessionContractImplementor session) {
+	}
+
+	/**
+	 * Perform an up-to-date check for the given entities and query spaces as
+	 * part of verifying the validity of cached query results which are
+	 * invalidated per entity.
+	 *
+	 * @param keys The entities contained by the results, and the spaces
+	 * they involve
+	 * @param timestamp The timestamp from the transaction when the query results were cached.
+	 * @param session The session whether this check originated.
+	 *
+	 * @return Whether all those entities and spaces are up-to-date; {@code false}
+	 * by default, for implementations not recording such invalidations
+	 */
+	default boolean isUpToDate(
+			QueryResultsInvalidationKey[] keys,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		return false;
+	}
+
+	/**
+	 * Ensure the invalidations of the given entities are tracked from now on, as
+	 * the query results just cached contain them: the check of cached results
+	 * considers an entity without any invalidation timestamp as possibly
+	 * invalidated, since its timestamp may have been evicted.
+	 *
+	 * @param entityKeys The entities contained by the results
+	 * @param spaces The query spaces of these entities
+	 * @param timestamp The timestamp from the transaction when the query results were cached.
+	 * @param session The session caching the results.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_ENTITY_INVALIDATION
+	 */
+	default void trackEntities(
+			QueryResultsInvalidationKey[] entityKeys,
+			String[] spaces,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Deprecations
@@ -7,11 +7,14 @@
 package org.hibernate.cache.spi.access;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
 import javax.persistence.Cache;
 
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
 
 /**
  * Base contract for accessing the underlying cached data for a particular
@@ -58,6 +61,32 @@ public interface CachedDomainDataAccess {
 	 */
 	Object get(SharedSessionContractImplementor session, Object key);
 
+	/**
+	 * Attempt to retrieve several objects from the cache at once, e.g. when
+	 * batch fetching or multi-loading entities.  Implementations backed by a
+	 * remote cache should override this to fetch them in a single round-trip.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return the cached data, by key; the keys of the items which are not
+	 * cached (or not readable) are not contained by the returned Map
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implNote the method default is to call {@link #get} for each key
+	 */
+	default Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		final Map<Object, Object> values = CollectionHelper.mapOfSize( keys.size() );
+		for ( Object key : keys ) {
+			final Object value = get( session, key );
+			if ( value != null ) {
+				values.put( key, value );
+			}
+		}
+		return values;
+	}
+
 	/**
 	 * Attempt to cache an object, afterQuery loading from the database.
 	 *
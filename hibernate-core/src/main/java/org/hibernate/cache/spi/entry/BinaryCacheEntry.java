@@ -0,0 +1,81 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Binary CacheEntry format for entities.  Used to store the entry into the second-level cache as a byte array,
+ * which is much cheaper to copy across the nodes of a distributed cache than the Java serialization of the
+ * entry, see {@link BinaryCacheEntryWriter}.
+ * <p/>
+ * An entry written for a different mapping of the entity is treated as a cache miss: {@link #destructure} then
+ * returns {@code null}.
+ */
+public class BinaryCacheEntry implements CacheEntryStructure {
+	private final EntityPersister persister;
+
+	/**
+	 * Constructs a BinaryCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public BinaryCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		final Serializable[] state = entry.getDisassembledState();
+		final BinaryCacheEntryWriter writer = new BinaryCacheEntryWriter( schemaVersion( persister ) );
+		writer.writeString( entry.getSubclass() );
+		writer.writeValue( entry.getVersion() );
+		writer.writeVarInt( state.length );
+		for ( Serializable value : state ) {
+			writer.writeValue( value );
+		}
+		return writer.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		final byte[] bytes = (byte[]) structured;
+		// the schema version is checked once the subclass is known
+		final BinaryCacheEntryReader reader = new BinaryCacheEntryReader( bytes );
+		final int formatVersion = reader.readByte();
+		final int schemaVersion = reader.readInt();
+		final String subclass = reader.readString();
+		final EntityPersister subclassPersister = factory.getMetamodel().entityPersisters().get( subclass );
+		if ( formatVersion != BinaryCacheEntryReader.FORMAT_VERSION
+				|| subclassPersister == null
+				|| schemaVersion != schemaVersion( subclassPersister ) ) {
+			return null;
+		}
+		final Object version = reader.readValue();
+		final Serializable[] disassembledState = new Serializable[reader.readVarInt()];
+		for ( int i = 0; i < disassembledState.length; i++ ) {
+			disassembledState[i] = reader.readValue();
+		}
+		return new StandardCacheEntryImpl(
+				disassembledState,
+				subclass,
+				version
+		);
+	}
+
+	private static int schemaVersion(EntityPersister persister) {
+		return BinaryCacheEntryWriter.schemaVersion(
+				persister.getEntityName(),
+				persister.getPropertyNames(),
+				persister.getPropertyTypes()
+		);
+	}
+}
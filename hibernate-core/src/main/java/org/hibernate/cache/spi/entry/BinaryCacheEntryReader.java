@@ -0,0 +1,224 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.CacheException;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+
+/**
+ * Reads disassembled state written by a {@link BinaryCacheEntryWriter}.
+ */
+public class BinaryCacheEntryReader {
+	static final int FORMAT_VERSION = 1;
+
+	static final int NULL = 0;
+	static final int TRUE = 1;
+	static final int FALSE = 2;
+	static final int STRING = 3;
+	static final int INTEGER = 4;
+	static final int LONG = 5;
+	static final int SHORT = 6;
+	static final int BYTE = 7;
+	static final int CHARACTER = 8;
+	static final int DOUBLE = 9;
+	static final int FLOAT = 10;
+	static final int BIG_DECIMAL = 11;
+	static final int BIG_INTEGER = 12;
+	static final int DATE = 13;
+	static final int SQL_DATE = 14;
+	static final int SQL_TIME = 15;
+	static final int SQL_TIMESTAMP = 16;
+	static final int INSTANT = 17;
+	static final int LOCAL_DATE = 18;
+	static final int LOCAL_TIME = 19;
+	static final int LOCAL_DATE_TIME = 20;
+	static final int UUID_VALUE = 21;
+	static final int BYTE_ARRAY = 22;
+	static final int SERIALIZABLE_ARRAY = 23;
+	static final int OBJECT_ARRAY = 24;
+	static final int UNFETCHED_PROPERTY = 25;
+	static final int UNKNOWN_BACK_REFERENCE = 26;
+	static final int SERIALIZED = 127;
+
+	private final byte[] buffer;
+	private int position;
+
+	/**
+	 * Constructs a reader, whose first call must be {@link #readHeader}.
+	 *
+	 * @param bytes The written bytes
+	 */
+	public BinaryCacheEntryReader(byte[] bytes) {
+		this.buffer = bytes;
+	}
+
+	/**
+	 * Reads the header of the format, checking that the bytes were written in the current version of the format, for
+	 * the given schema version.
+	 *
+	 * @param schemaVersion The expected schema version, see {@link BinaryCacheEntryWriter#schemaVersion}
+	 *
+	 * @return {@code true} if the entry can be read; {@code false} if it should be treated as a cache miss.
+	 */
+	public boolean readHeader(int schemaVersion) {
+		return readByte() == FORMAT_VERSION && readInt() == schemaVersion;
+	}
+
+	public int readByte() {
+		return buffer[position++];
+	}
+
+	public int readInt() {
+		return ( buffer[position++] & 0xFF ) << 24
+				| ( buffer[position++] & 0xFF ) << 16
+				| ( buffer[position++] & 0xFF ) << 8
+				| ( buffer[position++] & 0xFF );
+	}
+
+	public long readLong() {
+		return ( (long) readInt() << 32 ) | ( readInt() & 0xFFFFFFFFL );
+	}
+
+	public int readVarInt() {
+		int result = 0;
+		int shift = 0;
+		int b;
+		do {
+			b = buffer[position++];
+			result |= ( b & 0x7F ) << shift;
+			shift += 7;
+		} while ( ( b & 0x80 ) != 0 );
+		return result;
+	}
+
+	public long readVarLong() {
+		long zigzag = 0;
+		int shift = 0;
+		long b;
+		do {
+			b = buffer[position++];
+			zigzag |= ( b & 0x7F ) << shift;
+			shift += 7;
+		} while ( ( b & 0x80 ) != 0 );
+		return ( zigzag >>> 1 ) ^ -( zigzag & 1 );
+	}
+
+	public byte[] readBytes() {
+		final int length = readVarInt();
+		final byte[] bytes = new byte[length];
+		System.arraycopy( buffer, position, bytes, 0, length );
+		position += length;
+		return bytes;
+	}
+
+	public String readString() {
+		final int length = readVarInt();
+		final String value = new String( buffer, position, length, StandardCharsets.UTF_8 );
+		position += length;
+		return value;
+	}
+
+	/**
+	 * Reads a value written by {@link BinaryCacheEntryWriter#writeValue}.
+	 *
+	 * @return The value, possibly {@code null}
+	 */
+	public Serializable readValue() {
+		final int tag = readByte();
+		switch ( tag ) {
+			case NULL:
+				return null;
+			case TRUE:
+				return Boolean.TRUE;
+			case FALSE:
+				return Boolean.FALSE;
+			case STRING:
+				return readString();
+			case INTEGER:
+				return (int) readVarLong();
+			case LONG:
+				return readVarLong();
+			case SHORT:
+				return (short) readVarLong();
+			case BYTE:
+				return (byte) readByte();
+			case CHARACTER:
+				return (char) readVarInt();
+			case DOUBLE:
+				return Double.longBitsToDouble( readLong() );
+			case FLOAT:
+				return Float.intBitsToFloat( readInt() );
+			case BIG_DECIMAL: {
+				final int scale = (int) readVarLong();
+				return new BigDecimal( new BigInteger( readBytes() ), scale );
+			}
+			case BIG_INTEGER:
+				return new BigInteger( readBytes() );
+			case DATE:
+				return new Date( readVarLong() );
+			case SQL_DATE:
+				return new java.sql.Date( readVarLong() );
+			case SQL_TIME:
+				return new Time( readVarLong() );
+			case SQL_TIMESTAMP: {
+				final Timestamp timestamp = new Timestamp( readVarLong() );
+				timestamp.setNanos( readVarInt() );
+				return timestamp;
+			}
+			case INSTANT: {
+				final long seconds = readVarLong();
+				return Instant.ofEpochSecond( seconds, readVarInt() );
+			}
+			case LOCAL_DATE:
+				return LocalDate.ofEpochDay( readVarLong() );
+			case LOCAL_TIME:
+				return LocalTime.ofNanoOfDay( readVarLong() );
+			case LOCAL_DATE_TIME: {
+				final LocalDate date = LocalDate.ofEpochDay( readVarLong() );
+				return LocalDateTime.of( date, LocalTime.ofNanoOfDay( readVarLong() ) );
+			}
+			case UUID_VALUE: {
+				final long mostSignificantBits = readLong();
+				return new UUID( mostSignificantBits, readLong() );
+			}
+			case BYTE_ARRAY:
+				return readBytes();
+			case SERIALIZABLE_ARRAY:
+			case OBJECT_ARRAY: {
+				final int length = readVarInt();
+				final Object[] array = tag == SERIALIZABLE_ARRAY ? new Serializable[length] : new Object[length];
+				for ( int i = 0; i < length; i++ ) {
+					array[i] = readValue();
+				}
+				return array;
+			}
+			case UNFETCHED_PROPERTY:
+				return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			case UNKNOWN_BACK_REFERENCE:
+				return PropertyAccessStrategyBackRefImpl.UNKNOWN;
+			case SERIALIZED:
+				return (Serializable) SerializationHelper.deserialize( readBytes() );
+			default:
+				throw new CacheException( "Unexpected value tag in binary cache entry: " + tag );
+		}
+	}
+}
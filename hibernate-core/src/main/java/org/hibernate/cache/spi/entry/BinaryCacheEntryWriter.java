@@ -0,0 +1,262 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+import org.hibernate.type.Type;
+
+import static org.hibernate.cache.spi.entry.BinaryCacheEntryReader.*;
+
+/**
+ * Writes disassembled state in the compact binary format of the second-level cache entries, see
+ * {@link org.hibernate.cfg.AvailableSettings#USE_BINARY_CACHE_ENTRIES}.
+ * <p/>
+ * Each value is written as a one byte tag followed by its content: integral numbers as variable-length integers,
+ * strings as UTF-8, arrays (the disassembled state of embeddables and collections) element by element.  Values of
+ * other types are written with Java serialization.
+ *
+ * @see BinaryCacheEntryReader
+ */
+public class BinaryCacheEntryWriter {
+	private byte[] buffer;
+	private int position;
+
+	/**
+	 * Constructs a writer, starting with the header of the format.
+	 *
+	 * @param schemaVersion The version of the schema of the written state, see {@link #schemaVersion}
+	 */
+	public BinaryCacheEntryWriter(int schemaVersion) {
+		this.buffer = new byte[64];
+		writeByte( FORMAT_VERSION );
+		writeInt( schemaVersion );
+	}
+
+	/**
+	 * Computes the version of a schema, identifying the names and types of the written values, so that entries
+	 * written for a different mapping are ignored.
+	 *
+	 * @param name The name of the schema (entity name, collection role, ...)
+	 * @param propertyNames The names of the written values, if any
+	 * @param types The types of the written values
+	 *
+	 * @return The schema version
+	 */
+	public static int schemaVersion(String name, String[] propertyNames, Type... types) {
+		int result = name.hashCode();
+		if ( propertyNames != null ) {
+			result = 31 * result + Arrays.hashCode( propertyNames );
+		}
+		for ( Type type : types ) {
+			result = 31 * result + ( type == null ? 0 : type.getName().hashCode() );
+		}
+		return result;
+	}
+
+	public void writeByte(int value) {
+		ensureCapacity( 1 );
+		buffer[position++] = (byte) value;
+	}
+
+	public void writeInt(int value) {
+		ensureCapacity( 4 );
+		buffer[position++] = (byte) ( value >>> 24 );
+		buffer[position++] = (byte) ( value >>> 16 );
+		buffer[position++] = (byte) ( value >>> 8 );
+		buffer[position++] = (byte) value;
+	}
+
+	public void writeLong(long value) {
+		writeInt( (int) ( value >>> 32 ) );
+		writeInt( (int) value );
+	}
+
+	/**
+	 * Writes a non-negative integer in 1 to 5 bytes.
+	 */
+	public void writeVarInt(int value) {
+		ensureCapacity( 5 );
+		while ( ( value & ~0x7F ) != 0 ) {
+			buffer[position++] = (byte) ( ( value & 0x7F ) | 0x80 );
+			value >>>= 7;
+		}
+		buffer[position++] = (byte) value;
+	}
+
+	/**
+	 * Writes an integer in 1 to 10 bytes, the fewer the closer it is to zero.
+	 */
+	public void writeVarLong(long value) {
+		// zigzag encoding, for small negative values to be written in few bytes
+		long zigzag = ( value << 1 ) ^ ( value >> 63 );
+		ensureCapacity( 10 );
+		while ( ( zigzag & ~0x7FL ) != 0 ) {
+			buffer[position++] = (byte) ( ( zigzag & 0x7F ) | 0x80 );
+			zigzag >>>= 7;
+		}
+		buffer[position++] = (byte) zigzag;
+	}
+
+	public void writeBytes(byte[] bytes) {
+		writeVarInt( bytes.length );
+		ensureCapacity( bytes.length );
+		System.arraycopy( bytes, 0, buffer, position, bytes.length );
+		position += bytes.length;
+	}
+
+	public void writeString(String value) {
+		writeBytes( value.getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	/**
+	 * Writes a disassembled value.
+	 *
+	 * @param value The value, possibly {@code null}
+	 */
+	public void writeValue(Object value) {
+		if ( value == null ) {
+			writeByte( NULL );
+			return;
+		}
+		final Class<?> valueClass = value.getClass();
+		if ( valueClass == String.class ) {
+			writeByte( STRING );
+			writeString( (String) value );
+		}
+		else if ( valueClass == Integer.class ) {
+			writeByte( INTEGER );
+			writeVarLong( (Integer) value );
+		}
+		else if ( valueClass == Long.class ) {
+			writeByte( LONG );
+			writeVarLong( (Long) value );
+		}
+		else if ( valueClass == Boolean.class ) {
+			writeByte( (Boolean) value ? TRUE : FALSE );
+		}
+		else if ( valueClass == Serializable[].class || valueClass == Object[].class ) {
+			final Object[] array = (Object[]) value;
+			writeByte( valueClass == Serializable[].class ? SERIALIZABLE_ARRAY : OBJECT_ARRAY );
+			writeVarInt( array.length );
+			for ( Object element : array ) {
+				writeValue( element );
+			}
+		}
+		else if ( valueClass == Short.class ) {
+			writeByte( SHORT );
+			writeVarLong( (Short) value );
+		}
+		else if ( valueClass == Byte.class ) {
+			writeByte( BYTE );
+			writeByte( (Byte) value );
+		}
+		else if ( valueClass == Character.class ) {
+			writeByte( CHARACTER );
+			writeVarInt( (Character) value );
+		}
+		else if ( valueClass == Double.class ) {
+			writeByte( DOUBLE );
+			writeLong( Double.doubleToRawLongBits( (Double) value ) );
+		}
+		else if ( valueClass == Float.class ) {
+			writeByte( FLOAT );
+			writeInt( Float.floatToRawIntBits( (Float) value ) );
+		}
+		else if ( valueClass == BigDecimal.class ) {
+			writeByte( BIG_DECIMAL );
+			writeVarLong( ( (BigDecimal) value ).scale() );
+			writeBytes( ( (BigDecimal) value ).unscaledValue().toByteArray() );
+		}
+		else if ( valueClass == BigInteger.class ) {
+			writeByte( BIG_INTEGER );
+			writeBytes( ( (BigInteger) value ).toByteArray() );
+		}
+		else if ( valueClass == Date.class ) {
+			writeByte( DATE );
+			writeVarLong( ( (Date) value ).getTime() );
+		}
+		else if ( valueClass == java.sql.Date.class ) {
+			writeByte( SQL_DATE );
+			writeVarLong( ( (Date) value ).getTime() );
+		}
+		else if ( valueClass == Time.class ) {
+			writeByte( SQL_TIME );
+			writeVarLong( ( (Date) value ).getTime() );
+		}
+		else if ( valueClass == Timestamp.class ) {
+			writeByte( SQL_TIMESTAMP );
+			writeVarLong( ( (Timestamp) value ).getTime() );
+			writeVarInt( ( (Timestamp) value ).getNanos() );
+		}
+		else if ( valueClass == Instant.class ) {
+			writeByte( INSTANT );
+			writeVarLong( ( (Instant) value ).getEpochSecond() );
+			writeVarInt( ( (Instant) value ).getNano() );
+		}
+		else if ( valueClass == LocalDate.class ) {
+			writeByte( LOCAL_DATE );
+			writeVarLong( ( (LocalDate) value ).toEpochDay() );
+		}
+		else if ( valueClass == LocalTime.class ) {
+			writeByte( LOCAL_TIME );
+			writeVarLong( ( (LocalTime) value ).toNanoOfDay() );
+		}
+		else if ( valueClass == LocalDateTime.class ) {
+			writeByte( LOCAL_DATE_TIME );
+			writeVarLong( ( (LocalDateTime) value ).toLocalDate().toEpochDay() );
+			writeVarLong( ( (LocalDateTime) value ).toLocalTime().toNanoOfDay() );
+		}
+		else if ( valueClass == UUID.class ) {
+			writeByte( UUID_VALUE );
+			writeLong( ( (UUID) value ).getMostSignificantBits() );
+			writeLong( ( (UUID) value ).getLeastSignificantBits() );
+		}
+		else if ( valueClass == byte[].class ) {
+			writeByte( BYTE_ARRAY );
+			writeBytes( (byte[]) value );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			writeByte( UNFETCHED_PROPERTY );
+		}
+		else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+			writeByte( UNKNOWN_BACK_REFERENCE );
+		}
+		else {
+			writeByte( SERIALIZED );
+			writeBytes( SerializationHelper.serialize( (Serializable) value ) );
+		}
+	}
+
+	/**
+	 * @return The written bytes
+	 */
+	public byte[] toByteArray() {
+		return Arrays.copyOf( buffer, position );
+	}
+
+	private void ensureCapacity(int length) {
+		if ( position + length > buffer.length ) {
+			buffer = Arrays.copyOf( buffer, Math.max( buffer.length * 2, position + length ) );
+		}
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+
+/**
+ * Binary CacheEntry format for persistent collections, see {@link BinaryCacheEntry}.
+ */
+public class BinaryCollectionCacheEntry implements CacheEntryStructure {
+	private final CollectionPersister persister;
+
+	/**
+	 * Constructs a BinaryCollectionCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public BinaryCollectionCacheEntry(CollectionPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CollectionCacheEntry entry = (CollectionCacheEntry) item;
+		final BinaryCacheEntryWriter writer = new BinaryCacheEntryWriter( schemaVersion() );
+		writer.writeValue( entry.getState() );
+		return writer.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		final BinaryCacheEntryReader reader = new BinaryCacheEntryReader( (byte[]) structured );
+		if ( !reader.readHeader( schemaVersion() ) ) {
+			return null;
+		}
+		return new CollectionCacheEntry( reader.readValue() );
+	}
+
+	private int schemaVersion() {
+		return BinaryCacheEntryWriter.schemaVersion(
+				persister.getRole(),
+				null,
+				persister.getKeyType(),
+				persister.getIndexType(),
+				persister.getElementType()
+		);
+	}
+}
@@ -61,7 +61,14 @@ public class StandardCacheEntryImpl implements CacheEntry {
 		this.version = version;
 	}
 
-	StandardCacheEntryImpl(Serializable[] disassembledState, String subclass, Object version) {
+	/**
+	 * Constructs a cache entry from already disassembled state.
+	 *
+	 * @param disassembledState The disassembled state
+	 * @param subclass The name of the entity
+	 * @param version The version (if versioned)
+	 */
+	public StandardCacheEntryImpl(Serializable[] disassembledState, String subclass, Object version) {
 		this.disassembledState = disassembledState;
 		this.subclass = subclass;
 		this.version = version;
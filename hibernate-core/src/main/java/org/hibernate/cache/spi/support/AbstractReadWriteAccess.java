@@ -7,17 +7,21 @@
 package org.hibernate.cache.spi.support;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import org.hibernate.CacheMode;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.SecondLevelCacheLogger;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
 
 import org.jboss.logging.Logger;
 
@@ -67,27 +71,50 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		try {
 			readLock.lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
+			return getReadableValue( session, key, item );
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
 
-			if ( item == null ) {
-				log.debugf( "Cache miss : region = `%s`, key = `%s`", getRegion().getName(), key );
-				return null;
-			}
-
-			boolean readable = item.isReadable( session.getTransactionStartTimestamp() );
-			if ( readable ) {
-				log.debugf( "Cache hit : region = `%s`, key = `%s`", getRegion().getName(), key );
-				return item.getValue();
-			}
-			else {
-				log.debugf( "Cache hit, but item is unreadable/invalid : region = `%s`, key = `%s`", getRegion().getName(), key );
-				return null;
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		log.debugf( "Getting cached data from region [`%s` (%s)] by keys %s", getRegion().getName(), getAccessType(), keys );
+		try {
+			readLock.lock();
+			final Map<Object, Object> items = getStorageAccess().getAllFromCache( keys, session );
+			final Map<Object, Object> values = CollectionHelper.mapOfSize( items.size() );
+			for ( Object key : keys ) {
+				final Object value = getReadableValue( session, key, (Lockable) items.get( key ) );
+				if ( value != null ) {
+					values.put( key, value );
+				}
 			}
+			return values;
 		}
 		finally {
 			readLock.unlock();
 		}
 	}
 
+	private Object getReadableValue(SharedSessionContractImplementor session, Object key, Lockable item) {
+		if ( item == null ) {
+			log.debugf( "Cache miss : region = `%s`, key = `%s`", getRegion().getName(), key );
+			return null;
+		}
+
+		boolean readable = item.isReadable( session.getTransactionStartTimestamp() );
+		if ( readable ) {
+			log.debugf( "Cache hit : region = `%s`, key = `%s`", getRegion().getName(), key );
+			return item.getValue();
+		}
+		else {
+			log.debugf( "Cache hit, but item is unreadable/invalid : region = `%s`, key = `%s`", getRegion().getName(), key );
+			return null;
+		}
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
@@ -99,7 +126,10 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			writeLock.lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
-			boolean writable = item == null || item.isWriteable( session.getTransactionStartTimestamp(), version, getVersionComparator() );
+			// a refresh replaces the item cached before the transaction started, unless an update locked it since
+			boolean writable = item == null
+					|| item.isWriteable( session.getTransactionStartTimestamp(), version, getVersionComparator() )
+					|| session.getCacheMode() == CacheMode.REFRESH && item.isReadable( session.getTransactionStartTimestamp() );
 			if ( writable ) {
 				getStorageAccess().putIntoCache(
 						key,
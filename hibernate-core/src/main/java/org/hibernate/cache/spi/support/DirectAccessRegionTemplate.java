@@ -7,15 +7,18 @@
 package org.hibernate.cache.spi.support;
 
 import org.hibernate.cache.spi.DirectAccessRegion;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Histogram;
 
 /**
  * Bridge between DirectAccessRegion and StorageAccess
  *
  * @author Steve Ebersole
  */
-public abstract class DirectAccessRegionTemplate extends AbstractRegion implements DirectAccessRegion {
+public abstract class DirectAccessRegionTemplate extends AbstractRegion implements DirectAccessRegion, ExtendedStatisticsSupport {
 	private final StorageAccess storageAccess;
 
 	/**
@@ -54,4 +57,53 @@ public abstract class DirectAccessRegionTemplate extends AbstractRegion implemen
 		getStorageAccess().release();
 	}
 
+	@Override
+	public long getElementCountInMemory() {
+		return storageAccess instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) storageAccess ).getElementCountInMemory()
+				: CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return storageAccess instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) storageAccess ).getElementCountOnDisk()
+				: CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	@Override
+	public long getSizeInMemory() {
+		return storageAccess instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) storageAccess ).getSizeInMemory()
+				: CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	@Override
+	public Histogram getGetLatencyHistogram() {
+		return storageAccess instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) storageAccess ).getGetLatencyHistogram()
+				: null;
+	}
+
+	@Override
+	public Histogram getPutLatencyHistogram() {
+		return storageAccess instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) storageAccess ).getPutLatencyHistogram()
+				: null;
+	}
+
+	@Override
+	public Histogram getRemoveLatencyHistogram() {
+		return storageAccess instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) storageAccess ).getRemoveLatencyHistogram()
+				: null;
+	}
+
+	@Override
+	public Histogram getEntrySizeHistogram() {
+		return storageAccess instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) storageAccess ).getEntrySizeHistogram()
+				: null;
+	}
+
 }
@@ -12,12 +12,15 @@ import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
 import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
 import org.hibernate.cache.cfg.spi.NaturalIdDataCachingConfig;
 import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.metamodel.model.domain.NavigableRole;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Histogram;
 
 import org.jboss.logging.Logger;
 
@@ -38,7 +41,7 @@ import org.jboss.logging.Logger;
  *
  * @author Steve Ebersole
  */
-public class DomainDataRegionTemplate extends AbstractDomainDataRegion {
+public class DomainDataRegionTemplate extends AbstractDomainDataRegion implements ExtendedStatisticsSupport {
 	private static final Logger log = Logger.getLogger( DomainDataRegionTemplate.class );
 
 	private final DomainDataStorageAccess storageAccess;
@@ -63,6 +66,55 @@ public class DomainDataRegionTemplate extends AbstractDomainDataRegion {
 		return storageAccess;
 	}
 
+	@Override
+	public long getElementCountInMemory() {
+		return storageAccess instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) storageAccess ).getElementCountInMemory()
+				: CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return storageAccess instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) storageAccess ).getElementCountOnDisk()
+				: CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	@Override
+	public long getSizeInMemory() {
+		return storageAccess instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) storageAccess ).getSizeInMemory()
+				: CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	@Override
+	public Histogram getGetLatencyHistogram() {
+		return storageAccess instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) storageAccess ).getGetLatencyHistogram()
+				: null;
+	}
+
+	@Override
+	public Histogram getPutLatencyHistogram() {
+		return storageAccess instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) storageAccess ).getPutLatencyHistogram()
+				: null;
+	}
+
+	@Override
+	public Histogram getRemoveLatencyHistogram() {
+		return storageAccess instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) storageAccess ).getRemoveLatencyHistogram()
+				: null;
+	}
+
+	@Override
+	public Histogram getEntrySizeHistogram() {
+		return storageAccess instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) storageAccess ).getEntrySizeHistogram()
+				: null;
+	}
+
 
 	@Override
 	public EntityDataAccess generateEntityAccess(EntityDataCachingConfig entityAccessConfig) {
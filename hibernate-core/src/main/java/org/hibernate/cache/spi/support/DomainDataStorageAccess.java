@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.Map;
+
+import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -24,4 +28,25 @@ public interface DomainDataStorageAccess extends StorageAccess {
 	default void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
 		putIntoCache( key, value, session );
 	}
+
+	/**
+	 * Get several items from the cache at once.  Storages backed by a remote
+	 * cache should override this to fetch the items in a single round-trip.
+	 *
+	 * @return The items found in the cache, by key; the keys of the items
+	 * missing from the cache are not contained by the returned Map
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for
+	 * each key
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> items = CollectionHelper.mapOfSize( keys.size() );
+		for ( Object key : keys ) {
+			final Object item = getFromCache( key, session );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
 }
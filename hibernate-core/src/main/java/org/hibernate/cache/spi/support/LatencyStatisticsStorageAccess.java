@@ -0,0 +1,195 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Histogram;
+import org.hibernate.stat.internal.HistogramImpl;
+
+/**
+ * A {@link DomainDataStorageAccess} recording the latency, in nanoseconds, of the reads, writes and removals of
+ * another storage, as well as the size, in bytes, of the entries written as byte arrays (see
+ * {@link org.hibernate.cfg.AvailableSettings#USE_BINARY_CACHE_ENTRIES}).  The histograms are exposed through the
+ * {@link ExtendedStatisticsSupport} of the region, and in turn through its
+ * {@link org.hibernate.stat.CacheRegionStatistics}.
+ * <p/>
+ * A read of several entries at once is recorded as a single read.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_LATENCY_STATISTICS
+ * @see RegionFactoryTemplate#applyLatencyStatistics
+ */
+public class LatencyStatisticsStorageAccess implements DomainDataStorageAccess, ExtendedStatisticsSupport {
+	private final StorageAccess delegate;
+
+	private final HistogramImpl getLatency = new HistogramImpl();
+	private final HistogramImpl putLatency = new HistogramImpl();
+	private final HistogramImpl removeLatency = new HistogramImpl();
+	private final HistogramImpl entrySize = new HistogramImpl();
+
+	public LatencyStatisticsStorageAccess(StorageAccess delegate) {
+		this.delegate = delegate;
+	}
+
+	public StorageAccess getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final long start = System.nanoTime();
+		try {
+			return delegate.getFromCache( key, session );
+		}
+		finally {
+			getLatency.record( System.nanoTime() - start );
+		}
+	}
+
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		if ( !( delegate instanceof DomainDataStorageAccess ) ) {
+			// record each read
+			return DomainDataStorageAccess.super.getAllFromCache( keys, session );
+		}
+		final long start = System.nanoTime();
+		try {
+			return ( (DomainDataStorageAccess) delegate ).getAllFromCache( keys, session );
+		}
+		finally {
+			getLatency.record( System.nanoTime() - start );
+		}
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		recordSize( value );
+		final long start = System.nanoTime();
+		try {
+			delegate.putIntoCache( key, value, session );
+		}
+		finally {
+			putLatency.record( System.nanoTime() - start );
+		}
+	}
+
+	@Override
+	public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+		recordSize( value );
+		final long start = System.nanoTime();
+		try {
+			if ( delegate instanceof DomainDataStorageAccess ) {
+				( (DomainDataStorageAccess) delegate ).putFromLoad( key, value, session );
+			}
+			else {
+				delegate.putIntoCache( key, value, session );
+			}
+		}
+		finally {
+			putLatency.record( System.nanoTime() - start );
+		}
+	}
+
+	private void recordSize(Object value) {
+		if ( value instanceof RefreshAheadStorageAccess.TimestampedValue ) {
+			value = ( (RefreshAheadStorageAccess.TimestampedValue) value ).getValue();
+		}
+		if ( value instanceof AbstractReadWriteAccess.Item ) {
+			value = ( (AbstractReadWriteAccess.Item) value ).getValue();
+		}
+		if ( value instanceof byte[] ) {
+			entrySize.record( ( (byte[]) value ).length );
+		}
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		final long start = System.nanoTime();
+		try {
+			delegate.removeFromCache( key, session );
+		}
+		finally {
+			removeLatency.record( System.nanoTime() - start );
+		}
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		delegate.clearCache( session );
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return delegate.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		delegate.evictData();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		final long start = System.nanoTime();
+		try {
+			delegate.evictData( key );
+		}
+		finally {
+			removeLatency.record( System.nanoTime() - start );
+		}
+	}
+
+	@Override
+	public void release() {
+		delegate.release();
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		return delegate instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) delegate ).getElementCountInMemory()
+				: CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return delegate instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) delegate ).getElementCountOnDisk()
+				: CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	@Override
+	public long getSizeInMemory() {
+		return delegate instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) delegate ).getSizeInMemory()
+				: CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	@Override
+	public Histogram getGetLatencyHistogram() {
+		return getLatency;
+	}
+
+	@Override
+	public Histogram getPutLatencyHistogram() {
+		return putLatency;
+	}
+
+	@Override
+	public Histogram getRemoveLatencyHistogram() {
+		return removeLatency;
+	}
+
+	@Override
+	public Histogram getEntrySizeHistogram() {
+		return entrySize;
+	}
+}
@@ -0,0 +1,291 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Histogram;
+
+/**
+ * A {@link DomainDataStorageAccess} keeping a bounded, local copy of the entries most recently read from or written
+ * to another (typically remote) storage, so that repeated reads of the same entries do not go through the network.
+ * <p/>
+ * Every write goes through to the delegate and updates or invalidates the local copy, so the near cache is always
+ * consistent with the changes made through it.  It is not aware of the changes made by other nodes to the delegate
+ * storage though: the local entries expire after a configurable time, which bounds how long such changes may go
+ * unnoticed.  The near cache is therefore meant for regions whose entries are read often and changed rarely, and is
+ * not suited to transactional regions.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_NEAR_CACHE_MAX_ENTRIES
+ * @see RegionFactoryTemplate#applyNearCache
+ */
+public class NearCacheStorageAccess implements DomainDataStorageAccess, ExtendedStatisticsSupport {
+	private final StorageAccess delegate;
+	private final long timeToLiveNanos;
+	private final BoundedConcurrentHashMap<Object, Entry> entries;
+
+	/**
+	 * Incremented before and after every write to the delegate, so that a read racing with a write does not populate
+	 * the near cache with the value it read before the write: a read which started before the write completed sees a
+	 * different generation when it populates the near cache, or else populates it before the write invalidates the
+	 * local entry.
+	 */
+	private final AtomicLong generation = new AtomicLong();
+
+	/**
+	 * Constructs a near cache in front of the given storage.
+	 *
+	 * @param delegate The storage the near cache is put in front of
+	 * @param maxEntries The maximum number of entries kept locally
+	 * @param timeToLive The time, in milliseconds, each entry is kept locally
+	 */
+	public NearCacheStorageAccess(StorageAccess delegate, int maxEntries, long timeToLive) {
+		this.delegate = delegate;
+		this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos( timeToLive );
+		this.entries = new BoundedConcurrentHashMap<>(
+				maxEntries,
+				Math.min( 16, maxEntries ),
+				BoundedConcurrentHashMap.Eviction.LRU
+		);
+	}
+
+	public StorageAccess getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Entry entry = getLocalEntry( key );
+		if ( entry != null ) {
+			return entry.value;
+		}
+
+		final long generationBeforeRead = generation.get();
+		final Object value = delegate.getFromCache( key, session );
+		if ( value != null ) {
+			putLocalEntry( key, value, generationBeforeRead );
+		}
+		return value;
+	}
+
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> items = CollectionHelper.mapOfSize( keys.size() );
+		final List<Object> missingKeys = new ArrayList<>( keys.size() );
+		for ( Object key : keys ) {
+			final Entry entry = getLocalEntry( key );
+			if ( entry != null ) {
+				items.put( key, entry.value );
+			}
+			else {
+				missingKeys.add( key );
+			}
+		}
+		if ( missingKeys.isEmpty() ) {
+			return items;
+		}
+
+		final long generationBeforeRead = generation.get();
+		if ( delegate instanceof DomainDataStorageAccess ) {
+			final Map<Object, Object> delegateItems = ( (DomainDataStorageAccess) delegate ).getAllFromCache( missingKeys, session );
+			for ( Map.Entry<Object, Object> item : delegateItems.entrySet() ) {
+				putLocalEntry( item.getKey(), item.getValue(), generationBeforeRead );
+				items.put( item.getKey(), item.getValue() );
+			}
+		}
+		else {
+			for ( Object key : missingKeys ) {
+				final Object value = delegate.getFromCache( key, session );
+				if ( value != null ) {
+					putLocalEntry( key, value, generationBeforeRead );
+					items.put( key, value );
+				}
+			}
+		}
+		return items;
+	}
+
+	private Entry getLocalEntry(Object key) {
+		final Entry entry = entries.get( key );
+		if ( entry != null ) {
+			if ( entry.expiration - System.nanoTime() > 0 ) {
+				return entry;
+			}
+			entries.remove( key, entry );
+		}
+		return null;
+	}
+
+	private void putLocalEntry(Object key, Object value, long generationBeforeRead) {
+		if ( generation.get() == generationBeforeRead ) {
+			final Entry newEntry = new Entry( value, System.nanoTime() + timeToLiveNanos );
+			entries.put( key, newEntry );
+			if ( generation.get() != generationBeforeRead ) {
+				// a write started in the meantime, and may have invalidated the key before the entry was put
+				entries.remove( key, newEntry );
+			}
+		}
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		generation.incrementAndGet();
+		try {
+			delegate.putIntoCache( key, value, session );
+		}
+		finally {
+			generation.incrementAndGet();
+			entries.remove( key );
+		}
+	}
+
+	@Override
+	public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+		generation.incrementAndGet();
+		try {
+			if ( delegate instanceof DomainDataStorageAccess ) {
+				( (DomainDataStorageAccess) delegate ).putFromLoad( key, value, session );
+			}
+			else {
+				delegate.putIntoCache( key, value, session );
+			}
+		}
+		finally {
+			generation.incrementAndGet();
+			entries.remove( key );
+		}
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		generation.incrementAndGet();
+		try {
+			delegate.removeFromCache( key, session );
+		}
+		finally {
+			generation.incrementAndGet();
+			entries.remove( key );
+		}
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		generation.incrementAndGet();
+		try {
+			delegate.clearCache( session );
+		}
+		finally {
+			generation.incrementAndGet();
+			entries.clear();
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		final Entry entry = entries.get( key );
+		return entry != null && entry.expiration - System.nanoTime() > 0 || delegate.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		generation.incrementAndGet();
+		try {
+			delegate.evictData();
+		}
+		finally {
+			generation.incrementAndGet();
+			entries.clear();
+		}
+	}
+
+	@Override
+	public void evictData(Object key) {
+		generation.incrementAndGet();
+		try {
+			delegate.evictData( key );
+		}
+		finally {
+			generation.incrementAndGet();
+			entries.remove( key );
+		}
+	}
+
+	@Override
+	public void release() {
+		entries.clear();
+		delegate.release();
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		return delegate instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) delegate ).getElementCountInMemory()
+				: CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return delegate instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) delegate ).getElementCountOnDisk()
+				: CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	@Override
+	public long getSizeInMemory() {
+		return delegate instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) delegate ).getSizeInMemory()
+				: CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	@Override
+	public Histogram getGetLatencyHistogram() {
+		return delegate instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) delegate ).getGetLatencyHistogram()
+				: null;
+	}
+
+	@Override
+	public Histogram getPutLatencyHistogram() {
+		return delegate instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) delegate ).getPutLatencyHistogram()
+				: null;
+	}
+
+	@Override
+	public Histogram getRemoveLatencyHistogram() {
+		return delegate instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) delegate ).getRemoveLatencyHistogram()
+				: null;
+	}
+
+	@Override
+	public Histogram getEntrySizeHistogram() {
+		return delegate instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) delegate ).getEntrySizeHistogram()
+				: null;
+	}
+
+	private static final class Entry {
+		private final Object value;
+		private final long expiration;
+
+		private Entry(Object value, long expiration) {
+			this.value = value;
+			this.expiration = expiration;
+		}
+	}
+}
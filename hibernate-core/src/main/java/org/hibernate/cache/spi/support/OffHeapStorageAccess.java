@@ -0,0 +1,307 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+
+/**
+ * A {@link DomainDataStorageAccess} keeping the cached values serialized in direct (off-heap) memory, so that large
+ * caches do not grow the heap nor the garbage collection pauses.  Only the keys, and the location of the values, are
+ * kept on the heap.
+ * <p/>
+ * The memory is split into blocks of a fixed size, allocated lazily by slabs of about 1MB, and a value is stored in as
+ * many blocks as its serialized form needs.  Once the maximum size is reached, the least recently used entries are
+ * evicted to make room for new ones; values larger than the whole storage are not cached.  The entries are spread over
+ * several segments, each with its own lock, memory and LRU order, to limit the contention.
+ *
+ * @see org.hibernate.cache.internal.OffHeapRegionFactory
+ */
+public class OffHeapStorageAccess implements DomainDataStorageAccess, ExtendedStatisticsSupport {
+	private static final int SLAB_SIZE = 1 << 20;
+	private static final int MAX_SEGMENTS = 16;
+
+	private static final byte BYTES = 0;
+	private static final byte SERIALIZED = 1;
+
+	private final Segment[] segments;
+
+	/**
+	 * Constructs an off-heap storage.
+	 *
+	 * @param maxSize The maximum size, in bytes, of the memory used to store the values
+	 * @param blockSize The size, in bytes, of the blocks the memory is split into
+	 */
+	public OffHeapStorageAccess(long maxSize, int blockSize) {
+		if ( blockSize <= 0 || blockSize > SLAB_SIZE ) {
+			throw new IllegalArgumentException( "Invalid off-heap block size: " + blockSize );
+		}
+		final int blocksPerSlab = SLAB_SIZE / blockSize;
+		final long maxBlocks = maxSize / blockSize;
+		final int segmentCount = (int) Math.max( 1, Math.min( MAX_SEGMENTS, maxBlocks / blocksPerSlab ) );
+		final long blocksPerSegment = maxBlocks / segmentCount;
+		if ( blocksPerSegment > Integer.MAX_VALUE ) {
+			throw new IllegalArgumentException( "Off-heap size too large for the block size: " + maxSize );
+		}
+		this.segments = new Segment[segmentCount];
+		for ( int i = 0; i < segmentCount; i++ ) {
+			segments[i] = new Segment( (int) blocksPerSegment, blockSize, blocksPerSlab );
+		}
+	}
+
+	private Segment segmentFor(Object key) {
+		int hash = key.hashCode();
+		hash ^= hash >>> 16;
+		return segments[( hash & Integer.MAX_VALUE ) % segments.length];
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final byte[] bytes = segmentFor( key ).get( key );
+		return bytes == null ? null : fromBytes( bytes );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		segmentFor( key ).put( key, toBytes( value ) );
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		evictData( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		evictData();
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return segmentFor( key ).contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		for ( Segment segment : segments ) {
+			segment.clear();
+		}
+	}
+
+	@Override
+	public void evictData(Object key) {
+		segmentFor( key ).remove( key );
+	}
+
+	@Override
+	public void release() {
+		for ( Segment segment : segments ) {
+			segment.release();
+		}
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		long count = 0;
+		for ( Segment segment : segments ) {
+			count += segment.size();
+		}
+		return count;
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return 0;
+	}
+
+	/**
+	 * The size, in bytes, of the off-heap memory currently allocated
+	 */
+	@Override
+	public long getSizeInMemory() {
+		long size = 0;
+		for ( Segment segment : segments ) {
+			size += segment.allocatedSize();
+		}
+		return size;
+	}
+
+	private static byte[] toBytes(Object value) {
+		if ( value instanceof byte[] ) {
+			final byte[] bytes = (byte[]) value;
+			final byte[] result = new byte[bytes.length + 1];
+			result[0] = BYTES;
+			System.arraycopy( bytes, 0, result, 1, bytes.length );
+			return result;
+		}
+		if ( !( value instanceof Serializable ) ) {
+			throw new CacheException( "Value cannot be stored off-heap as it is not Serializable: " + value.getClass().getName() );
+		}
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream( 512 );
+		outputStream.write( SERIALIZED );
+		SerializationHelper.serialize( (Serializable) value, outputStream );
+		return outputStream.toByteArray();
+	}
+
+	private static Object fromBytes(byte[] bytes) {
+		if ( bytes[0] == BYTES ) {
+			final byte[] result = new byte[bytes.length - 1];
+			System.arraycopy( bytes, 1, result, 0, result.length );
+			return result;
+		}
+		return SerializationHelper.deserialize( new ByteArrayInputStream( bytes, 1, bytes.length - 1 ) );
+	}
+
+	/**
+	 * The location of a value in the memory of a segment.
+	 */
+	private static final class Entry {
+		private final int length;
+		private final int[] blocks;
+
+		private Entry(int length, int[] blocks) {
+			this.length = length;
+			this.blocks = blocks;
+		}
+	}
+
+	private static final class Segment {
+		private final int maxBlocks;
+		private final int blockSize;
+		private final int blocksPerSlab;
+
+		private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>( 16, 0.75f, true );
+		private ByteBuffer[] slabs;
+		private final int[] freeBlocks;
+		private int freeBlockCount;
+		/**
+		 * The blocks from this index on have never been used, and their slabs may not be allocated yet
+		 */
+		private int unusedBlock;
+
+		private Segment(int maxBlocks, int blockSize, int blocksPerSlab) {
+			this.maxBlocks = maxBlocks;
+			this.blockSize = blockSize;
+			this.blocksPerSlab = blocksPerSlab;
+			this.slabs = new ByteBuffer[( maxBlocks + blocksPerSlab - 1 ) / blocksPerSlab];
+			this.freeBlocks = new int[maxBlocks];
+		}
+
+		synchronized byte[] get(Object key) {
+			final Entry entry = entries.get( key );
+			if ( entry == null ) {
+				return null;
+			}
+			final byte[] bytes = new byte[entry.length];
+			int offset = 0;
+			for ( int block : entry.blocks ) {
+				final int length = Math.min( blockSize, bytes.length - offset );
+				final ByteBuffer slab = slabs[block / blocksPerSlab];
+				slab.position( ( block % blocksPerSlab ) * blockSize );
+				slab.get( bytes, offset, length );
+				offset += length;
+			}
+			return bytes;
+		}
+
+		synchronized void put(Object key, byte[] bytes) {
+			final Entry previous = entries.remove( key );
+			if ( previous != null ) {
+				free( previous );
+			}
+
+			final int blockCount = ( bytes.length + blockSize - 1 ) / blockSize;
+			if ( blockCount > maxBlocks ) {
+				// larger than the whole segment
+				return;
+			}
+			while ( freeBlockCount + maxBlocks - unusedBlock < blockCount ) {
+				final Iterator<Entry> eldest = entries.values().iterator();
+				free( eldest.next() );
+				eldest.remove();
+			}
+
+			final int[] blocks = new int[blockCount];
+			int offset = 0;
+			for ( int i = 0; i < blockCount; i++ ) {
+				final int block = allocate();
+				final int length = Math.min( blockSize, bytes.length - offset );
+				final ByteBuffer slab = slabs[block / blocksPerSlab];
+				slab.position( ( block % blocksPerSlab ) * blockSize );
+				slab.put( bytes, offset, length );
+				offset += length;
+				blocks[i] = block;
+			}
+			entries.put( key, new Entry( bytes.length, blocks ) );
+		}
+
+		synchronized void remove(Object key) {
+			final Entry entry = entries.remove( key );
+			if ( entry != null ) {
+				free( entry );
+			}
+		}
+
+		synchronized boolean contains(Object key) {
+			return entries.containsKey( key );
+		}
+
+		synchronized int size() {
+			return entries.size();
+		}
+
+		synchronized long allocatedSize() {
+			long size = 0;
+			for ( ByteBuffer slab : slabs ) {
+				if ( slab != null ) {
+					size += slab.capacity();
+				}
+			}
+			return size;
+		}
+
+		synchronized void clear() {
+			entries.clear();
+			freeBlockCount = 0;
+			unusedBlock = 0;
+		}
+
+		synchronized void release() {
+			clear();
+			// the direct memory is freed once the buffers are garbage collected
+			slabs = new ByteBuffer[slabs.length];
+		}
+
+		private int allocate() {
+			if ( freeBlockCount > 0 ) {
+				return freeBlocks[--freeBlockCount];
+			}
+			final int block = unusedBlock++;
+			final int slab = block / blocksPerSlab;
+			if ( slabs[slab] == null ) {
+				final int slabBlocks = Math.min( blocksPerSlab, maxBlocks - slab * blocksPerSlab );
+				slabs[slab] = ByteBuffer.allocateDirect( slabBlocks * blockSize );
+			}
+			return block;
+		}
+
+		private void free(Entry entry) {
+			for ( int block : entry.blocks ) {
+				freeBlocks[freeBlockCount++] = block;
+			}
+		}
+	}
+}
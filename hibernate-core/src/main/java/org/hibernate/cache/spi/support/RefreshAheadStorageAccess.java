@@ -0,0 +1,253 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi.support;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Histogram;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link DomainDataStorageAccess} reloading, in the background, the entries of another storage which are read once
+ * they reached a given age, so that the entries being used are replaced before the underlying cache expires them,
+ * and their reads never fall back to the database.
+ * <p/>
+ * The values are stored along with the time they were written.  The reload itself is delegated to a refresher,
+ * expected to load the entry from the database and put it back into the cache; the reloads are run one at a time by
+ * a thread of the storage, and at most one reload per entry is pending.  Reloads are skipped, rather than queued, when
+ * too many are already pending.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_REFRESH_AHEAD_AGE
+ * @see RegionFactoryTemplate#applyRefreshAhead
+ */
+public class RefreshAheadStorageAccess implements DomainDataStorageAccess, ExtendedStatisticsSupport {
+	private static final Logger log = Logger.getLogger( RefreshAheadStorageAccess.class );
+
+	private static final int MAX_PENDING_REFRESHES = 1000;
+
+	private final DomainDataStorageAccess delegate;
+	private final long refreshAge;
+	private final Consumer<Object> refresher;
+
+	private final Set<Object> pendingRefreshes = ConcurrentHashMap.newKeySet();
+	private final ThreadPoolExecutor executor;
+
+	/**
+	 * Constructs a refresh-ahead storage.
+	 *
+	 * @param delegate The storage of the entries
+	 * @param refreshAge The age, in milliseconds, from which a read entry is reloaded
+	 * @param refresher Reloads the entry of the given key into the cache
+	 */
+	public RefreshAheadStorageAccess(DomainDataStorageAccess delegate, long refreshAge, Consumer<Object> refresher) {
+		this.delegate = delegate;
+		this.refreshAge = refreshAge;
+		this.refresher = refresher;
+		this.executor = new ThreadPoolExecutor(
+				1,
+				1,
+				60,
+				TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>( MAX_PENDING_REFRESHES ),
+				runnable -> {
+					final Thread thread = new Thread( runnable, "hibernate-cache-refresh-ahead" );
+					thread.setDaemon( true );
+					return thread;
+				}
+		);
+		this.executor.allowCoreThreadTimeOut( true );
+	}
+
+	public DomainDataStorageAccess getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		return read( key, delegate.getFromCache( key, session ) );
+	}
+
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> entries = delegate.getAllFromCache( keys, session );
+		final Map<Object, Object> result = new HashMap<>( entries.size() );
+		for ( Map.Entry<Object, Object> entry : entries.entrySet() ) {
+			result.put( entry.getKey(), read( entry.getKey(), entry.getValue() ) );
+		}
+		return result;
+	}
+
+	private Object read(Object key, Object cached) {
+		if ( !( cached instanceof TimestampedValue ) ) {
+			// not cached, or written without refresh-ahead
+			return cached;
+		}
+		final TimestampedValue timestampedValue = (TimestampedValue) cached;
+		if ( System.currentTimeMillis() - timestampedValue.timestamp >= refreshAge
+				&& !( timestampedValue.value instanceof SoftLock ) ) {
+			scheduleRefresh( key );
+		}
+		return timestampedValue.value;
+	}
+
+	private void scheduleRefresh(Object key) {
+		if ( !pendingRefreshes.add( key ) ) {
+			return;
+		}
+		try {
+			executor.execute(
+					() -> {
+						try {
+							refresher.accept( key );
+						}
+						catch (RuntimeException e) {
+							log.debugf( e, "Unable to refresh cache entry [%s]", key );
+						}
+						finally {
+							pendingRefreshes.remove( key );
+						}
+					}
+			);
+		}
+		catch (RejectedExecutionException e) {
+			pendingRefreshes.remove( key );
+		}
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		delegate.putIntoCache( key, new TimestampedValue( value, System.currentTimeMillis() ), session );
+	}
+
+	@Override
+	public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+		delegate.putFromLoad( key, new TimestampedValue( value, System.currentTimeMillis() ), session );
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		delegate.removeFromCache( key, session );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		delegate.clearCache( session );
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return delegate.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		delegate.evictData();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		delegate.evictData( key );
+	}
+
+	@Override
+	public void release() {
+		executor.shutdownNow();
+		delegate.release();
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		return delegate instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) delegate ).getElementCountInMemory()
+				: CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return delegate instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) delegate ).getElementCountOnDisk()
+				: CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	@Override
+	public long getSizeInMemory() {
+		return delegate instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) delegate ).getSizeInMemory()
+				: CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	@Override
+	public Histogram getGetLatencyHistogram() {
+		return delegate instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) delegate ).getGetLatencyHistogram()
+				: null;
+	}
+
+	@Override
+	public Histogram getPutLatencyHistogram() {
+		return delegate instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) delegate ).getPutLatencyHistogram()
+				: null;
+	}
+
+	@Override
+	public Histogram getRemoveLatencyHistogram() {
+		return delegate instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) delegate ).getRemoveLatencyHistogram()
+				: null;
+	}
+
+	@Override
+	public Histogram getEntrySizeHistogram() {
+		return delegate instanceof ExtendedStatisticsSupport
+				? ( (ExtendedStatisticsSupport) delegate ).getEntrySizeHistogram()
+				: null;
+	}
+
+	/**
+	 * A cached value along with the time it was written.
+	 */
+	public static final class TimestampedValue implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final Object value;
+		private final long timestamp;
+
+		TimestampedValue(Object value, long timestamp) {
+			this.value = value;
+			this.timestamp = timestamp;
+		}
+
+		public Object getValue() {
+			return value;
+		}
+
+		public long getTimestamp() {
+			return timestamp;
+		}
+
+		@Override
+		public String toString() {
+			return "TimestampedValue(" + value + ',' + timestamp + ')';
+		}
+	}
+}
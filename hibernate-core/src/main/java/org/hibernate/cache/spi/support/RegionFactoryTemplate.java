@@ -6,6 +6,14 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.io.Serializable;
+import java.util.Map;
+
+import org.hibernate.CacheMode;
+import org.hibernate.MultiTenancyStrategy;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+
 import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
 import org.hibernate.cache.internal.DefaultCacheKeysFactory;
@@ -14,12 +22,19 @@ import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+import org.jboss.logging.Logger;
 
 /**
  * @author Steve Ebersole
  */
 public abstract class RegionFactoryTemplate extends AbstractRegionFactory {
+	private static final Logger log = Logger.getLogger( RegionFactoryTemplate.class );
+
 	@Override
 	public DomainDataRegion buildDomainDataRegion(
 			DomainDataRegionConfig regionConfig,
@@ -28,7 +43,18 @@ public abstract class RegionFactoryTemplate extends AbstractRegionFactory {
 		return new DomainDataRegionTemplate(
 				regionConfig,
 				this,
-				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				applyRefreshAhead(
+						regionConfig,
+						buildingContext,
+						getImplicitCacheKeysFactory(),
+						applyNearCache(
+								regionConfig.getRegionName(),
+								applyLatencyStatistics(
+										regionConfig.getRegionName(),
+										createDomainDataStorageAccess( regionConfig, buildingContext )
+								)
+						)
+				),
 				getImplicitCacheKeysFactory(),
 				buildingContext
 		);
@@ -52,7 +78,10 @@ public abstract class RegionFactoryTemplate extends AbstractRegionFactory {
 		return new QueryResultsRegionTemplate(
 				regionName,
 				this,
-				createQueryResultsRegionStorageAccess( regionName, sessionFactory )
+				applyNearCache(
+						regionName,
+						applyLatencyStatistics( regionName, createQueryResultsRegionStorageAccess( regionName, sessionFactory ) )
+				)
 		);
 	}
 
@@ -67,11 +96,145 @@ public abstract class RegionFactoryTemplate extends AbstractRegionFactory {
 		return new TimestampsRegionTemplate(
 				regionName,
 				this,
-				createTimestampsRegionStorageAccess( regionName, sessionFactory )
+				applyLatencyStatistics( regionName, createTimestampsRegionStorageAccess( regionName, sessionFactory ) )
 		);
 	}
 
 	protected abstract StorageAccess createTimestampsRegionStorageAccess(
 			String regionName,
 			SessionFactoryImplementor sessionFactory);
+
+	/**
+	 * Puts a {@link NearCacheStorageAccess near cache} in front of the storage of the given domain data or query
+	 * results region, if one is configured for it.  Providers overriding {@link #buildDomainDataRegion} should apply
+	 * it to the storage they create.  The timestamps regions are never near cached, as they must reflect the changes
+	 * made by all the nodes.
+	 *
+	 * @see AvailableSettings#CACHE_NEAR_CACHE_MAX_ENTRIES
+	 */
+	protected DomainDataStorageAccess applyNearCache(String regionName, DomainDataStorageAccess storageAccess) {
+		final StorageAccess nearCache = applyNearCache( regionName, (StorageAccess) storageAccess );
+		return nearCache instanceof DomainDataStorageAccess
+				? (DomainDataStorageAccess) nearCache
+				: storageAccess;
+	}
+
+	protected StorageAccess applyNearCache(String regionName, StorageAccess storageAccess) {
+		final Map settings = getOptions().getServiceRegistry().getService( ConfigurationService.class ).getSettings();
+		final int maxEntries = ConfigurationHelper.getInt(
+				regionSettingName( AvailableSettings.CACHE_NEAR_CACHE_MAX_ENTRIES, regionName, settings ),
+				settings,
+				0
+		);
+		if ( maxEntries <= 0 ) {
+			return storageAccess;
+		}
+		final long timeToLive = ConfigurationHelper.getLong(
+				regionSettingName( AvailableSettings.CACHE_NEAR_CACHE_TIME_TO_LIVE, regionName, settings ),
+				settings,
+				10000
+		);
+		return new NearCacheStorageAccess( storageAccess, maxEntries, timeToLive );
+	}
+
+	/**
+	 * Reloads in the background the entries of the given domain data region which are read once they reached the
+	 * configured age, if any.  Only the regions holding the entities of a single hierarchy are supported; the entries
+	 * are reloaded by loading the entity with {@link CacheMode#REFRESH}.  Providers overriding
+	 * {@link #buildDomainDataRegion} should apply it to the storage they create, after
+	 * {@link #applyNearCache(String, DomainDataStorageAccess) the near cache}.
+	 *
+	 * @see AvailableSettings#CACHE_REFRESH_AHEAD_AGE
+	 */
+	protected DomainDataStorageAccess applyRefreshAhead(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext,
+			CacheKeysFactory defaultKeysFactory,
+			DomainDataStorageAccess storageAccess) {
+		final Map settings = getOptions().getServiceRegistry().getService( ConfigurationService.class ).getSettings();
+		final long refreshAge = ConfigurationHelper.getLong(
+				regionSettingName( AvailableSettings.CACHE_REFRESH_AHEAD_AGE, regionConfig.getRegionName(), settings ),
+				settings,
+				0
+		);
+		if ( refreshAge <= 0 ) {
+			return storageAccess;
+		}
+		if ( regionConfig.getEntityCaching().size() != 1
+				|| !regionConfig.getNaturalIdCaching().isEmpty()
+				|| !regionConfig.getCollectionCaching().isEmpty()
+				|| getOptions().getMultiTenancyStrategy() != MultiTenancyStrategy.NONE ) {
+			log.debugf(
+					"Refresh-ahead is only supported for the regions holding a single entity hierarchy, and without multi-tenancy : %s",
+					regionConfig.getRegionName()
+			);
+			return storageAccess;
+		}
+
+		final String entityName = regionConfig.getEntityCaching().get( 0 ).getNavigableRole().getFullPath();
+		final CacheKeysFactory keysFactory = buildingContext.getEnforcedCacheKeysFactory() != null
+				? buildingContext.getEnforcedCacheKeysFactory()
+				: defaultKeysFactory;
+		final SessionFactoryImplementor sessionFactory = buildingContext.getSessionFactory();
+		return new RefreshAheadStorageAccess(
+				storageAccess,
+				refreshAge,
+				key -> refreshEntity( sessionFactory, entityName, (Serializable) keysFactory.getEntityId( key ) )
+		);
+	}
+
+	private static void refreshEntity(SessionFactoryImplementor sessionFactory, String entityName, Serializable id) {
+		try ( Session session = sessionFactory.openSession() ) {
+			session.setCacheMode( CacheMode.REFRESH );
+			session.setDefaultReadOnly( true );
+			final Transaction transaction = session.beginTransaction();
+			try {
+				session.get( entityName, id );
+				transaction.commit();
+			}
+			finally {
+				if ( transaction.isActive() ) {
+					transaction.rollback();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Records the latency of the operations on the given storage, if enabled for the region.  Providers overriding
+	 * {@link #buildDomainDataRegion} should apply it directly to the storage they create, before
+	 * {@link #applyNearCache(String, DomainDataStorageAccess) the near cache}, so that the reads served locally do not
+	 * hide the latency of the storage.
+	 *
+	 * @see AvailableSettings#CACHE_LATENCY_STATISTICS
+	 */
+	protected DomainDataStorageAccess applyLatencyStatistics(String regionName, DomainDataStorageAccess storageAccess) {
+		return isLatencyStatisticsEnabled( regionName )
+				? new LatencyStatisticsStorageAccess( storageAccess )
+				: storageAccess;
+	}
+
+	protected StorageAccess applyLatencyStatistics(String regionName, StorageAccess storageAccess) {
+		return isLatencyStatisticsEnabled( regionName )
+				? new LatencyStatisticsStorageAccess( storageAccess )
+				: storageAccess;
+	}
+
+	private boolean isLatencyStatisticsEnabled(String regionName) {
+		final Map settings = getOptions().getServiceRegistry().getService( ConfigurationService.class ).getSettings();
+		return ConfigurationHelper.getBoolean(
+				regionSettingName( AvailableSettings.CACHE_LATENCY_STATISTICS, regionName, settings ),
+				settings,
+				false
+		);
+	}
+
+	/**
+	 * The name of the setting applying to the given region: the setting suffixed by the region name if defined,
+	 * otherwise the setting itself.
+	 */
+	protected static String regionSettingName(String settingName, String regionName, Map settings) {
+		final String regionSettingName = settingName + '.' + regionName;
+		return settings.containsKey( regionSettingName ) ? regionSettingName : settingName;
+	}
 }
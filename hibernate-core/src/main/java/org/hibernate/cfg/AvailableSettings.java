@@ -2075,4 +2075,290 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String OMIT_JOIN_OF_SUPERCLASS_TABLES = "hibernate.query.omit_join_of_superclass_tables";
 
+	/**
+	 * Should the persistence context store its entity and collection lookup tables in compact, open-addressing
+	 * hash tables instead of {@link java.util.HashMap}s?  This reduces the per-entity memory overhead of the
+	 * persistence context, which matters for sessions loading a very large number of entities.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @see org.hibernate.internal.util.collections.OpenAddressingHashMap
+	 *
+	 * @since 5.5
+	 */
+	String COMPACT_PERSISTENCE_CONTEXT = "hibernate.persistence_context.compact";
+
+	/**
+	 * The default fraction (greater than 0, up to 1) of a block of values which must have been generated by a
+	 * {@link org.hibernate.id.enhanced.SequenceStyleGenerator} before the next sequence value is fetched in the
+	 * background.  Can be overridden per generator using the
+	 * {@value org.hibernate.id.enhanced.SequenceStyleGenerator#PREFETCH_THRESHOLD_PARAM} parameter.
+	 * <p/>
+	 * By default, values are not prefetched.
+	 *
+	 * @since 5.5
+	 */
+	String SEQUENCE_PREFETCH_THRESHOLD = "hibernate.id.sequence.prefetch_threshold";
+
+	/**
+	 * Should batched inserts of entities be coalesced into multi-row {@code INSERT} statements
+	 * ({@code insert into t (a, b) values (?, ?), (?, ?), ...}) instead of using JDBC batching,
+	 * which many drivers execute as one round trip per row?  Only applies when JDBC batching is enabled
+	 * (see {@link #STATEMENT_BATCH_SIZE}) and the {@link org.hibernate.dialect.Dialect} supports multi-row
+	 * inserts.  The number of rows per statement is limited by the batch size, by the number of parameters
+	 * the database allows in a single statement and by the number of rows it allows in a single insert.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @see org.hibernate.dialect.Dialect#supportsMultiRowInsert()
+	 * @see org.hibernate.dialect.Dialect#getParameterCountLimit()
+	 * @see org.hibernate.dialect.Dialect#getMultiRowInsertRowCountLimit()
+	 *
+	 * @since 5.5
+	 */
+	String MULTI_ROW_INSERT = "hibernate.jdbc.multi_row_insert";
+
+	/**
+	 * Enable ordering of delete statements for the purpose of more efficient JDBC batching.  The entity
+	 * deletions of a flush are grouped by entity type, so that deletions of the same type can share a batch,
+	 * while entity types are ordered so that entities referencing others through a foreign key are deleted
+	 * first.  If the foreign key dependencies between the entity types form a cycle, the deletions are left in
+	 * their original order.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String ORDER_DELETES = "hibernate.order_deletes";
+
+	/**
+	 * Should a flush only visit the managed entities which are known to have been modified since the previous
+	 * flush, instead of all the entities of the persistence context?  This applies to entities enhanced for inline
+	 * dirty tracking (see {@link org.hibernate.jpa.AvailableSettings#ENHANCER_ENABLE_DIRTY_TRACKING}), which
+	 * register themselves with the persistence context when first modified.  Entities which are not enhanced, or
+	 * which map collections or cascaded associations, are visited by every flush, as usual.  This makes the cost of
+	 * a flush proportional to the number of modified entities rather than to the size of the persistence context,
+	 * which matters for sessions reading many entities but modifying few of them.
+	 * <p/>
+	 * Note that, when enabled, custom {@link org.hibernate.event.spi.FlushEntityEventListener}s are not notified of
+	 * the unmodified entities.  Sessions using an {@link org.hibernate.Interceptor} (other than the default
+	 * {@link org.hibernate.EmptyInterceptor}) visit every entity as usual, since interceptors may find dirty, through
+	 * {@link org.hibernate.Interceptor#findDirty}, or modify in {@link org.hibernate.Interceptor#onFlushDirty}, the
+	 * entities which were not modified.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String FLUSH_INCREMENTAL_DIRTY_CHECKING = "hibernate.flush.incremental_dirty_checking";
+
+	/**
+	 * Enable use of binary second-level cache entries: the state of the cached entities, collections and query
+	 * results is stored as a byte array, in a compact format driven by the types of the values, rather than as objects
+	 * which distributed caches copy across nodes with Java serialization.  Takes precedence over {@link #USE_STRUCTURED_CACHE}.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @since 5.5
+	 */
+	String USE_BINARY_CACHE_ENTRIES = "hibernate.cache.use_binary_entries";
+
+	/**
+	 * The maximum number of entries of the near cache kept, on each node, in front of a second-level cache region
+	 * built by a {@link org.hibernate.cache.spi.support.RegionFactoryTemplate} based provider.  A near cache serves
+	 * repeated reads of the same entries from local memory instead of from the (possibly remote) cache.  The value
+	 * applies to all the entity, collection, natural-id and query results regions; it can be overridden for a given
+	 * region by suffixing the setting name with {@code .} and the (unqualified) region name.
+	 * <p/>
+	 * The default value is {@code 0}, which disables the near cache.
+	 *
+	 * @see org.hibernate.cache.spi.support.NearCacheStorageAccess
+	 * @since 5.5
+	 */
+	String CACHE_NEAR_CACHE_MAX_ENTRIES = "hibernate.cache.near_cache.max_entries";
+
+	/**
+	 * The time, in milliseconds, an entry is kept in a near cache (see {@link #CACHE_NEAR_CACHE_MAX_ENTRIES}).  The
+	 * near cache is invalidated by the changes made on the local node only, so this bounds how long changes made by
+	 * other nodes may go unnoticed.  Can be overridden for a given region the same way as {@link #CACHE_NEAR_CACHE_MAX_ENTRIES}.
+	 * <p/>
+	 * The default value is {@code 10000}.
+	 *
+	 * @since 5.5
+	 */
+	String CACHE_NEAR_CACHE_TIME_TO_LIVE = "hibernate.cache.near_cache.time_to_live";
+
+	/**
+	 * Should updates and deletions of entities only invalidate the cached query results containing these entities,
+	 * instead of all the cached query results involving their tables?  This applies to the query results which only
+	 * involve the tables of the returned entities (for example {@code select o from Order o where o.status = :status}),
+	 * other query results, and all the query results after insertions, collection changes and bulk operations, are
+	 * invalidated per table as usual.
+	 * <p/>
+	 * Note that, when enabled, the update of an entity which is not in a cached query result is assumed not to change
+	 * it: if it now matches the restrictions of the query, it is only part of its results once they are invalidated for
+	 * another reason or expire.  Also, checking that a cached result is up-to-date then requires a lookup of the
+	 * invalidation timestamp of each contained entity.
+	 * <p/>
+	 * The invalidation timestamps of the entities are kept in the
+	 * {@value org.hibernate.cache.spi.RegionFactory#DEFAULT_QUERY_RESULTS_INVALIDATION_REGION_UNQUALIFIED_NAME} region,
+	 * rather than in the timestamps region, so that they expire: this region should not expire its entries sooner than
+	 * the query results region, as a cached query result containing an entity whose timestamp expired, or was evicted,
+	 * is a miss.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String QUERY_CACHE_ENTITY_INVALIDATION = "hibernate.cache.query_cache_entity_invalidation";
+
+	/**
+	 * Should the cached query results store the state of the returned entities along their identifiers?  A query cache
+	 * hit then initializes the returned entities from this state, instead of reading each of them from its second-level
+	 * cache region, or from the database when the entity is not cached.  The state is as up-to-date as the cached query
+	 * results, which are invalidated by any change to the tables of the returned entities.
+	 * <p/>
+	 * Only the state read from the database by the query execution whose results are cached is stored: an entity
+	 * already in the persistence context may have been loaded by an earlier transaction, and is stored by identifier
+	 * only.
+	 * <p/>
+	 * This makes the query results regions larger, and is meant for queries returning many entities.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String QUERY_CACHE_INLINE_ENTITIES = "hibernate.cache.query_cache_inline_entities";
+
+	/**
+	 * Should concurrent loads of the same entity missing from the second-level cache be coalesced?  When enabled, a single
+	 * session loads the entity from the database and puts it into the cache, while the other sessions loading it at the same
+	 * time wait for this load to complete and then read the entity from the cache, rather than all issuing the same query
+	 * (when a frequently read entity has been evicted, for example).
+	 * <p/>
+	 * A waiting session loads the entity itself if the entry is still not readable once the load is complete, for example
+	 * because its own transaction started before the entry was cached, or after waiting for
+	 * {@value #CACHE_LOAD_COALESCING_TIMEOUT}.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String CACHE_LOAD_COALESCING = "hibernate.cache.load_coalescing";
+
+	/**
+	 * The maximum time, in milliseconds, a session waits for the load of an entity by another session to complete, when
+	 * {@value #CACHE_LOAD_COALESCING} is enabled, before loading the entity itself.
+	 * <p/>
+	 * The default value is {@code 1000}.
+	 *
+	 * @since 5.5
+	 */
+	String CACHE_LOAD_COALESCING_TIMEOUT = "hibernate.cache.load_coalescing_timeout";
+
+	/**
+	 * The maximum size, in bytes, of the off-heap memory used by each region built by the
+	 * {@link org.hibernate.cache.internal.OffHeapRegionFactory}.  Once reached, the least recently used entries of
+	 * the region are evicted.  It can be overridden for a given region by suffixing the setting name with {@code .}
+	 * and the (unqualified) region name.
+	 * <p/>
+	 * The timestamps region is not bounded, and kept on the heap: its entries must never be evicted.
+	 * <p/>
+	 * The default value is {@code 67108864} (64MB).
+	 *
+	 * @since 5.5
+	 */
+	String CACHE_OFF_HEAP_MAX_SIZE = "hibernate.cache.off_heap.max_size";
+
+	/**
+	 * The size, in bytes, of the blocks the off-heap memory of the regions built by the
+	 * {@link org.hibernate.cache.internal.OffHeapRegionFactory} is split into.  Each cached value uses as many
+	 * blocks as its serialized form needs, so smaller blocks waste less memory, at the cost of more blocks per value.
+	 * <p/>
+	 * The default value is {@code 256}.
+	 *
+	 * @since 5.5
+	 */
+	String CACHE_OFF_HEAP_BLOCK_SIZE = "hibernate.cache.off_heap.block_size";
+
+	/**
+	 * Should the latency of the reads, writes and removals of the second-level cache regions built by a
+	 * {@link org.hibernate.cache.spi.support.RegionFactoryTemplate} based provider be recorded?  The latency
+	 * histograms of a region, along with the histogram of the sizes of its binary entries (see
+	 * {@link #USE_BINARY_CACHE_ENTRIES}), are then exposed by its
+	 * {@link org.hibernate.stat.CacheRegionStatistics}.  It can be enabled for a given region only by suffixing the
+	 * setting name with {@code .} and the (unqualified) region name.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @see org.hibernate.cache.spi.support.LatencyStatisticsStorageAccess
+	 * @since 5.5
+	 */
+	String CACHE_LATENCY_STATISTICS = "hibernate.cache.latency_statistics";
+
+	/**
+	 * The age, in milliseconds, from which the entries of the entity regions built by a
+	 * {@link org.hibernate.cache.spi.support.RegionFactoryTemplate} based provider are reloaded in the background when
+	 * read, so that the entries in use are replaced before the expiration configured in the provider, and their reads
+	 * do not hit the database.  It should be set somewhat lower than that expiration, e.g. to 80% of it.  It can be
+	 * defined for a given region only by suffixing the setting name with {@code .} and the (unqualified) region name;
+	 * regions holding several entity hierarchies, collections or natural ids are not supported.
+	 * <p/>
+	 * The default value is {@code 0}, meaning that the entries are never refreshed ahead.
+	 *
+	 * @see org.hibernate.cache.spi.support.RefreshAheadStorageAccess
+	 * @since 5.5
+	 */
+	String CACHE_REFRESH_AHEAD_AGE = "hibernate.cache.refresh_ahead_age";
+
+	/**
+	 * Should the values of the basic properties of the entities be read from the JDBC {@link java.sql.ResultSet} by
+	 * readers generated by the {@link org.hibernate.bytecode.spi.BytecodeProvider}, calling directly the
+	 * {@link java.sql.ResultSet} getter of each column, rather than through the {@link org.hibernate.type.Type} of each
+	 * property?  Only the single-column properties of the standard {@code String}, {@code BigDecimal}, {@code boolean},
+	 * {@code byte}, {@code short}, {@code int}, {@code long}, {@code float} and {@code double} types, the SQL type of
+	 * which is not remapped by the {@link org.hibernate.dialect.Dialect}, are read this way; the other properties, and
+	 * the identifiers, are still read through their type.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @see org.hibernate.bytecode.spi.RowReader
+	 * @since 5.5
+	 */
+	String USE_COMPILED_ROW_READERS = "hibernate.jdbc.use_compiled_row_readers";
+
+	/**
+	 * Should the properties of the entities and embeddables be accessed through accessors generated by the
+	 * {@link org.hibernate.bytecode.spi.BytecodeProvider}, rather than through reflection?  The generated accessors
+	 * support the field and getter/setter based properties, whatever the visibility of the fields and methods and
+	 * the class declaring them; the classes some properties of which use other accessors are still accessed through
+	 * reflection.
+	 * <p/>
+	 * Unlike {@link #USE_REFLECTION_OPTIMIZER}, which takes precedence when enabled, this setting may be defined for
+	 * each {@link org.hibernate.SessionFactory}.
+	 * <p/>
+	 * The default value is {@code true}, so that the accessor classes are generated, in the package of each entity
+	 * and embeddable, unless this setting is {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String USE_GENERATED_PROPERTY_ACCESSORS = "hibernate.bytecode.use_generated_property_accessors";
+
+	/**
+	 * Should the criteria queries of the same structure share their query plan, whatever their literal values?  When
+	 * enabled, the literals rendered outside of the select and group by clauses are bound as parameters, whatever the
+	 * {@link #CRITERIA_LITERAL_HANDLING_MODE}, and the literal values of an {@code in} predicate are bound as a single
+	 * list-valued parameter, so that the JPQL rendered for a criteria query, and thereby its entry in the query plan cache,
+	 * only depends on its structure.  The criteria queries built anew for each request then skip the translation of their
+	 * JPQL once their structure has been seen.
+	 * <p/>
+	 * Combine with {@link #IN_CLAUSE_PARAMETER_PADDING} to also share the plans of {@code in} predicates of varying
+	 * numbers of values.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String CRITERIA_QUERY_PLAN_SHARING = "hibernate.criteria.query_plan_sharing";
+
 }
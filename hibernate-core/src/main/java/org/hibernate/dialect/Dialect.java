@@ -42,6 +42,7 @@ import org.hibernate.boot.model.relational.AuxiliaryDatabaseObject;
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Environment;
+import org.hibernate.dialect.bulk.BulkLoader;
 import org.hibernate.dialect.function.CastFunction;
 import org.hibernate.dialect.function.SQLFunction;
 import org.hibernate.dialect.function.SQLFunctionTemplate;
@@ -2710,6 +2711,52 @@ public abstract class Dialect implements ConversionContext {
 		return 0;
 	}
 
+	/**
+	 * Does this dialect/database support inserting several rows with a single {@code INSERT} statement listing
+	 * multiple row value constructors (e.g. {@code insert into t (a, b) values (?, ?), (?, ?)})?
+	 *
+	 * @return {@code true} if multi-row inserts are supported
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MULTI_ROW_INSERT
+	 */
+	public boolean supportsMultiRowInsert() {
+		return false;
+	}
+
+	/**
+	 * Return the limit that the underlying database (or its driver) places on the number of JDBC parameters
+	 * in a single statement.  If the database defines no such limits, simply return zero or less-than-zero.
+	 *
+	 * @return int The limit, or zero-or-less to indicate no limit.
+	 */
+	public int getParameterCountLimit() {
+		return 0;
+	}
+
+	/**
+	 * Return the limit that the underlying database places on the number of row value constructors listed by a
+	 * single multi-row {@code INSERT} statement.  If the database defines no such limits, simply return zero or
+	 * less-than-zero.
+	 *
+	 * @return int The limit, or zero-or-less to indicate no limit.
+	 *
+	 * @see #supportsMultiRowInsert()
+	 */
+	public int getMultiRowInsertRowCountLimit() {
+		return 0;
+	}
+
+	/**
+	 * Get the mechanism to use for loading rows in bulk, through
+	 * {@link org.hibernate.StatelessSession#insertAll(java.util.stream.Stream)}.
+	 *
+	 * @return The bulk loader, or {@code null} if the database has no bulk load mechanism, in which case
+	 * the rows are loaded using batched, possibly multi-row, inserts.
+	 */
+	public BulkLoader getBulkLoader() {
+		return null;
+	}
+
 	/**
 	 * HHH-4635
 	 * Oracle expects all Lob values to be last in inserts and updates.
@@ -610,4 +610,14 @@ public class MySQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public int getParameterCountLimit() {
+		return 65535;
+	}
+
 }
@@ -19,6 +19,8 @@ import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.PessimisticLockException;
 import org.hibernate.cfg.Environment;
+import org.hibernate.dialect.bulk.BulkLoader;
+import org.hibernate.dialect.bulk.PostgreSQLCopyBulkLoader;
 import org.hibernate.dialect.function.NoArgSQLFunction;
 import org.hibernate.dialect.function.PositionSubstringFunction;
 import org.hibernate.dialect.function.SQLFunctionTemplate;
@@ -629,6 +631,11 @@ public class PostgreSQL81Dialect extends Dialect {
 		return new PostgreSQL81IdentityColumnSupport();
 	}
 
+	@Override
+	public BulkLoader getBulkLoader() {
+		return PostgreSQLCopyBulkLoader.INSTANCE;
+	}
+
 	@Override
 	public boolean supportsNationalizedTypes() {
 		return false;
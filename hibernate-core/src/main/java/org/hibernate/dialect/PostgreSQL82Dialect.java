@@ -65,4 +65,15 @@ public class PostgreSQL82Dialect extends PostgreSQL81Dialect {
 	public boolean supportsRowValueConstructorSyntaxInInList() {
 		return true;
 	}
+
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public int getParameterCountLimit() {
+		// the number of parameters is sent as a 2 byte integer by the wire protocol
+		return Short.MAX_VALUE;
+	}
 }
@@ -61,4 +61,9 @@ public class SQLServer2008Dialect extends SQLServer2005Dialect {
 	public boolean supportsValuesList() {
 		return true;
 	}
+
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
 }
@@ -33,6 +33,7 @@ import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
 @SuppressWarnings("deprecation")
 public class SQLServerDialect extends AbstractTransactSQLDialect {
 	private static final int PARAM_LIST_SIZE_LIMIT = 2100;
+	private static final int INSERT_VALUES_ROW_LIMIT = 1000;
 
 	private final LimitHandler limitHandler;
 
@@ -212,6 +213,16 @@ public class SQLServerDialect extends AbstractTransactSQLDialect {
 		return PARAM_LIST_SIZE_LIMIT;
 	}
 
+	@Override
+	public int getParameterCountLimit() {
+		return PARAM_LIST_SIZE_LIMIT;
+	}
+
+	@Override
+	public int getMultiRowInsertRowCountLimit() {
+		return INSERT_VALUES_ROW_LIMIT;
+	}
+
 	@Override
 	public IdentityColumnSupport getIdentityColumnSupport() {
 		return new SQLServerIdentityColumnSupport();
@@ -0,0 +1,63 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect.bulk;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Contract for loading rows into a table through a database-specific bulk load mechanism (such as
+ * PostgreSQL's {@code COPY ... FROM STDIN}), which is much faster than executing INSERT statements.
+ * <p/>
+ * The values of the rows are the values Hibernate binds to the parameters of the INSERT statement of the entity,
+ * i.e. the values passed to {@link java.sql.PreparedStatement#setString}, {@link java.sql.PreparedStatement#setLong}
+ * and so on.  The values bound as dates, times and timestamps are passed as {@link java.time.LocalDate},
+ * {@link java.time.LocalTime} and {@link java.time.OffsetDateTime}, converted in the time zone the JDBC driver
+ * would bind them in: the {@link org.hibernate.cfg.AvailableSettings#JDBC_TIME_ZONE JDBC time zone} of the
+ * session when one is set, or else the JVM default time zone.
+ *
+ * @see org.hibernate.dialect.Dialect#getBulkLoader()
+ * @see org.hibernate.StatelessSession#insertAll(java.util.stream.Stream)
+ */
+public interface BulkLoader {
+	/**
+	 * Can rows be loaded through the given connection?  Typically checks that the connection is one of the
+	 * JDBC driver providing the bulk load API.
+	 *
+	 * @param connection The connection
+	 *
+	 * @return {@code true} if rows can be loaded through the given connection
+	 *
+	 * @throws SQLException Indicates a problem accessing the connection
+	 */
+	boolean canLoad(Connection connection) throws SQLException;
+
+	/**
+	 * Can the given value, as bound to an INSERT statement parameter, be loaded?
+	 *
+	 * @param value The value, never {@code null}
+	 *
+	 * @return {@code true} if the value can be loaded
+	 */
+	boolean canLoad(Object value);
+
+	/**
+	 * Load the given rows into the given table.
+	 *
+	 * @param connection The connection to use
+	 * @param tableName The (qualified) name of the table
+	 * @param columnNames The names of the columns to load, in the order of the row values
+	 * @param rows The values of the rows, {@code null} elements standing for SQL {@code null}
+	 *
+	 * @return The number of loaded rows
+	 *
+	 * @throws SQLException Indicates a problem loading the rows
+	 */
+	long load(Connection connection, String tableName, String[] columnNames, List<Object[]> rows)
+			throws SQLException;
+}
@@ -0,0 +1,176 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect.bulk;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.HibernateException;
+
+/**
+ * A {@link BulkLoader} using PostgreSQL's {@code COPY ... FROM STDIN} statement, through the
+ * {@code CopyManager} API of the PostgreSQL JDBC driver.  The driver is accessed reflectively, so that
+ * it is not required unless rows are actually loaded.
+ * <p/>
+ * The rows are sent using the text format of {@code COPY}.  Timestamps are sent with their offset, which
+ * is the one of the time zone they would have been bound in by the driver (see {@link BulkLoader}).
+ */
+public class PostgreSQLCopyBulkLoader implements BulkLoader {
+	/**
+	 * Singleton access
+	 */
+	public static final PostgreSQLCopyBulkLoader INSTANCE = new PostgreSQLCopyBulkLoader();
+
+	private static final String PG_CONNECTION = "org.postgresql.PGConnection";
+	private static final String COPY_MANAGER = "org.postgresql.copy.CopyManager";
+
+	private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern(
+			"uuuu-MM-dd HH:mm:ss.SSSSSSSSSxxx"
+	);
+
+	@Override
+	public boolean canLoad(Connection connection) throws SQLException {
+		final Class<?> pgConnectionClass = locateClass( connection, PG_CONNECTION );
+		return pgConnectionClass != null && connection.isWrapperFor( pgConnectionClass );
+	}
+
+	@Override
+	public boolean canLoad(Object value) {
+		return value instanceof String
+				|| value instanceof Character
+				|| value instanceof Boolean
+				|| value instanceof Integer
+				|| value instanceof Long
+				|| value instanceof Short
+				|| value instanceof Byte
+				|| value instanceof Double
+				|| value instanceof Float
+				|| value instanceof BigDecimal
+				|| value instanceof BigInteger
+				|| value instanceof LocalDate
+				|| value instanceof LocalTime
+				|| value instanceof OffsetDateTime
+				|| value instanceof byte[]
+				|| value instanceof UUID;
+	}
+
+	@Override
+	public long load(Connection connection, String tableName, String[] columnNames, List<Object[]> rows)
+			throws SQLException {
+		final StringBuilder sql = new StringBuilder( "copy " ).append( tableName ).append( " (" );
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			if ( i > 0 ) {
+				sql.append( ", " );
+			}
+			sql.append( columnNames[i] );
+		}
+		sql.append( ") from stdin" );
+
+		final StringBuilder data = new StringBuilder( rows.size() * columnNames.length * 16 );
+		for ( Object[] row : rows ) {
+			for ( int i = 0; i < row.length; i++ ) {
+				if ( i > 0 ) {
+					data.append( '\t' );
+				}
+				appendValue( data, row[i] );
+			}
+			data.append( '\n' );
+		}
+
+		final Class<?> pgConnectionClass = locateClass( connection, PG_CONNECTION );
+		if ( pgConnectionClass == null ) {
+			throw new HibernateException( "The PostgreSQL JDBC driver is not available" );
+		}
+		try {
+			final Object copyManager = pgConnectionClass.getMethod( "getCopyAPI" )
+					.invoke( connection.unwrap( pgConnectionClass ) );
+			final Method copyIn = locateClass( connection, COPY_MANAGER )
+					.getMethod( "copyIn", String.class, Reader.class );
+			return (Long) copyIn.invoke( copyManager, sql.toString(), new StringReader( data.toString() ) );
+		}
+		catch (InvocationTargetException e) {
+			if ( e.getCause() instanceof SQLException ) {
+				throw (SQLException) e.getCause();
+			}
+			throw new HibernateException( "Unable to execute COPY statement: " + sql, e.getCause() );
+		}
+		catch (ReflectiveOperationException e) {
+			throw new HibernateException( "Unable to access the PostgreSQL CopyManager API", e );
+		}
+	}
+
+	private void appendValue(StringBuilder data, Object value) {
+		if ( value == null ) {
+			data.append( "\\N" );
+		}
+		else if ( value instanceof Boolean ) {
+			data.append( (Boolean) value ? 't' : 'f' );
+		}
+		else if ( value instanceof BigDecimal ) {
+			data.append( ( (BigDecimal) value ).toPlainString() );
+		}
+		else if ( value instanceof Number ) {
+			data.append( value );
+		}
+		else if ( value instanceof OffsetDateTime ) {
+			data.append( ( (OffsetDateTime) value ).format( TIMESTAMP_FORMAT ) );
+		}
+		else if ( value instanceof byte[] ) {
+			// bytea hex format, with the backslash escaped for COPY
+			data.append( "\\\\x" );
+			for ( byte b : (byte[]) value ) {
+				data.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) ).append( Character.forDigit( b & 0xF, 16 ) );
+			}
+		}
+		else {
+			appendEscaped( data, value.toString() );
+		}
+	}
+
+	private void appendEscaped(StringBuilder data, String value) {
+		for ( int i = 0; i < value.length(); i++ ) {
+			final char c = value.charAt( i );
+			switch ( c ) {
+				case '\\':
+					data.append( "\\\\" );
+					break;
+				case '\t':
+					data.append( "\\t" );
+					break;
+				case '\n':
+					data.append( "\\n" );
+					break;
+				case '\r':
+					data.append( "\\r" );
+					break;
+				default:
+					data.append( c );
+			}
+		}
+	}
+
+	private Class<?> locateClass(Connection connection, String name) {
+		try {
+			return Class.forName( name, false, connection.getClass().getClassLoader() );
+		}
+		catch (ClassNotFoundException e) {
+			return null;
+		}
+	}
+}
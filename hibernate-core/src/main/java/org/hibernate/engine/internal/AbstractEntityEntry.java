@@ -33,6 +33,7 @@ import org.hibernate.engine.spi.Status;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.UniqueKeyLoadable;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.type.TypeHelper;
 
 /**
  * A base implementation of EntityEntry
@@ -301,6 +302,41 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 		setCompressedValue( BooleanState.EXISTS_IN_DATABASE, true );
 	}
 
+	@Override
+	public void markDirty(Object entity) {
+		if ( persistenceContext != null ) {
+			// the entity is notified before the change is applied: take the snapshot now
+			takeDiscardedLoadedState( entity );
+			persistenceContext.registerDirtyEntity( entity, this );
+		}
+	}
+
+	@Override
+	public void takeDiscardedLoadedState(Object entity) {
+		// the snapshot is copied through the session of the persistence context, which the entry may not have
+		if ( loadedState == null
+				&& persistenceContext != null
+				&& getStatus() == Status.MANAGED
+				&& getCompressedValue( BooleanState.LOADED_STATE_DISCARDED ) ) {
+			final Object[] values = persister.getPropertyValues( entity );
+			TypeHelper.deepCopy(
+					values,
+					persister.getPropertyTypes(),
+					persister.getPropertyUpdateability(),
+					values,
+					persistenceContext.getSession()
+			);
+			loadedState = values;
+			setCompressedValue( BooleanState.LOADED_STATE_DISCARDED, false );
+		}
+	}
+
+	@Override
+	public void discardLoadedState() {
+		loadedState = null;
+		setCompressedValue( BooleanState.LOADED_STATE_DISCARDED, true );
+	}
+
 	@Override
 	public boolean isNullifiable(boolean earlyInsert, SharedSessionContractImplementor session) {
 		if ( getStatus() == Status.SAVING ) {
@@ -609,7 +645,8 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 	protected enum BooleanState {
 
 		EXISTS_IN_DATABASE(13),
-		IS_BEING_REPLICATED(14);
+		IS_BEING_REPLICATED(14),
+		LOADED_STATE_DISCARDED(15);
 
 		private final int offset;
 		private final int mask;
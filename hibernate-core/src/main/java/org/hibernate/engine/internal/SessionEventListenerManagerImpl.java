@@ -11,6 +11,7 @@ import java.util.Arrays;
 import java.util.Objects;
 
 import org.hibernate.SessionEventListener;
+import org.hibernate.SessionEventListener.FlushPhase;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 
 /**
@@ -273,6 +274,50 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 		}
 	}
 
+	@Override
+	public void dirtyCalculationStart(String entityName) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.dirtyCalculationStart( entityName );
+		}
+	}
+
+	@Override
+	public void dirtyCalculationEnd(String entityName, boolean dirty) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.dirtyCalculationEnd( entityName, dirty );
+		}
+	}
+
+	@Override
+	public void flushPhaseStart(FlushPhase phase) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.flushPhaseStart( phase );
+		}
+	}
+
+	@Override
+	public void flushPhaseEnd(FlushPhase phase) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.flushPhaseEnd( phase );
+		}
+	}
+
 	@Override
 	public void end() {
 		if ( listeners == null ) {
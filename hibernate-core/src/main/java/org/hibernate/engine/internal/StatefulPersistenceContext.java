@@ -11,6 +11,7 @@ import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -18,6 +19,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentMap;
@@ -26,6 +28,7 @@ import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.hibernate.AssertionFailure;
+import org.hibernate.EmptyInterceptor;
 import org.hibernate.Hibernate;
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
@@ -53,6 +56,8 @@ import org.hibernate.engine.spi.ManagedEntity;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
+import org.hibernate.engine.spi.SelfDirtinessNotifier;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -61,6 +66,7 @@ import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.ConcurrentReferenceHashMap;
 import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.internal.util.collections.OpenAddressingHashMap;
 import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -99,6 +105,13 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private SharedSessionContractImplementor session;
 	private EntityEntryContext entityEntryContext;
 
+	// whether the lookup tables by EntityKey and CollectionKey use open addressing, see #newLookupMap
+	private final boolean compactLookupTables;
+
+	// when incremental dirty checking is enabled, the entries (with their entity) which must be visited by the next
+	// flush: those of the entities which do not notify their own dirtiness, and those of the modified ones
+	private final LinkedHashMap<EntityEntry, Object> flushCandidates;
+
 	/*
 		Everything else below should be carefully initialized only on first need;
 		this optimisation is very effective as null checks are free, while allocation costs
@@ -108,7 +121,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, Object> entitiesByKey;
+	private Map<EntityKey, Object> entitiesByKey;
 
 	// Loaded entity instances, by EntityUniqueKey
 	private HashMap<EntityUniqueKey, Object> entitiesByUniqueKey;
@@ -118,7 +131,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	// Snapshots of current database state for entities
 	// that have *not* been loaded
-	private HashMap<EntityKey, Object> entitySnapshotsByKey;
+	private Map<EntityKey, Object> entitySnapshotsByKey;
 
 	// Identity map of array holder ArrayHolder instances, by the array instance
 	private IdentityHashMap<Object, PersistentCollection> arrayHolders;
@@ -127,7 +140,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private IdentityMap<PersistentCollection, CollectionEntry> collectionEntries;
 
 	// Collection wrappers, by the CollectionKey
-	private HashMap<CollectionKey, PersistentCollection> collectionsByKey;
+	private Map<CollectionKey, PersistentCollection> collectionsByKey;
 
 	// Set of EntityKeys of deleted objects
 	private HashSet<EntityKey> nullifiableEntityKeys;
@@ -153,6 +166,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private boolean flushing;
 
 	private boolean defaultReadOnly;
+	private boolean defaultReadMostly;
 	private boolean hasNonReadOnlyEntities;
 
 	private LoadContexts loadContexts;
@@ -166,6 +180,21 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
 		this.entityEntryContext = new EntityEntryContext( this );
+		this.compactLookupTables = session.getFactory() != null
+				&& session.getFactory().getSessionFactoryOptions().isCompactPersistenceContextEnabled();
+		// an interceptor may find, or make, unmodified entities dirty, so they must all be visited when there is one
+		this.flushCandidates = session.getFactory() != null
+				&& session.getFactory().getSessionFactoryOptions().isIncrementalDirtyCheckingEnabled()
+				&& session.getInterceptor() == EmptyInterceptor.INSTANCE
+				? new LinkedHashMap<>()
+				: null;
+	}
+
+	private <K, V> Map<K, V> newLookupMap(int expectedSize) {
+		if ( compactLookupTables ) {
+			return new OpenAddressingHashMap<>( expectedSize );
+		}
+		return new HashMap<>( expectedSize < INIT_COLL_SIZE ? INIT_COLL_SIZE : expectedSize );
 	}
 
 	private ConcurrentMap<EntityKey, Object> getOrInitializeProxiesByKey() {
@@ -250,6 +279,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		entitiesByKey = null;
 		entitiesByUniqueKey = null;
 		entityEntryContext.clear();
+		if ( flushCandidates != null ) {
+			flushCandidates.clear();
+		}
 		parentsByChild = null;
 		entitySnapshotsByKey = null;
 		collectionsByKey = null;
@@ -261,7 +293,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		if ( batchFetchQueue != null ) {
 			batchFetchQueue.clear();
 		}
-		// defaultReadOnly is unaffected by clear()
+		// defaultReadOnly and defaultReadMostly are unaffected by clear()
 		hasNonReadOnlyEntities = false;
 		if ( loadContexts != null ) {
 			loadContexts.cleanup();
@@ -279,6 +311,16 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		this.defaultReadOnly = defaultReadOnly;
 	}
 
+	@Override
+	public boolean isDefaultReadMostly() {
+		return defaultReadMostly;
+	}
+
+	@Override
+	public void setDefaultReadMostly(boolean defaultReadMostly) {
+		this.defaultReadMostly = defaultReadMostly;
+	}
+
 	@Override
 	public boolean hasNonReadOnlyEntities() {
 		return hasNonReadOnlyEntities;
@@ -286,8 +328,16 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public void setEntryStatus(EntityEntry entry, Status status) {
+		final Status previousStatus = entry.getStatus();
 		entry.setStatus( status );
 		setHasNonReadOnlyEnties( status );
+		if ( flushCandidates != null ) {
+			final Object entity = getEntity( entry.getEntityKey() );
+			if ( entity != null ) {
+				// the changes tracked while loading were made by the hydration
+				updateFlushCandidate( entity, entry, previousStatus == Status.LOADING );
+			}
+		}
 	}
 
 	private void setHasNonReadOnlyEnties(Status status) {
@@ -319,7 +369,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		else {
 			final Object[] snapshot = persister.getDatabaseSnapshot( id, session );
 			if ( entitySnapshotsByKey == null ) {
-				entitySnapshotsByKey = new HashMap<>( INIT_COLL_SIZE );
+				entitySnapshotsByKey = newLookupMap( INIT_COLL_SIZE );
 			}
 			entitySnapshotsByKey.put( key, snapshot == null ? NO_ROW : snapshot );
 			return snapshot;
@@ -392,7 +442,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEntity(EntityKey key, Object entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = new HashMap<>( INIT_COLL_SIZE );
+			entitiesByKey = newLookupMap( INIT_COLL_SIZE );
 		}
 		entitiesByKey.put( key, entity );
 		final BatchFetchQueue fetchQueue = this.batchFetchQueue;
@@ -465,7 +515,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public EntityEntry removeEntry(Object entity) {
-		return entityEntryContext.removeEntityEntry( entity );
+		final EntityEntry entry = entityEntryContext.removeEntityEntry( entity );
+		if ( flushCandidates != null && entry != null ) {
+			flushCandidates.remove( entry );
+		}
+		return entry;
 	}
 
 	@Override
@@ -565,7 +619,16 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			);
 		}
 
+		if ( flushCandidates != null ) {
+			final EntityEntry previousEntry = entityEntryContext.getEntityEntry( entity );
+			if ( previousEntry != null ) {
+				flushCandidates.remove( previousEntry );
+			}
+		}
 		entityEntryContext.addEntityEntry( entity, e );
+		if ( flushCandidates != null ) {
+			updateFlushCandidate( entity, e, false );
+		}
 
 		setHasNonReadOnlyEnties( status );
 		return e;
@@ -577,11 +640,61 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 		((ManagedEntity)entity).$$_hibernate_getEntityEntry().setStatus( status );
 		entityEntryContext.addEntityEntry( entity, ((ManagedEntity)entity).$$_hibernate_getEntityEntry() );
+		if ( flushCandidates != null ) {
+			updateFlushCandidate( entity, ((ManagedEntity)entity).$$_hibernate_getEntityEntry(), false );
+		}
 
 		setHasNonReadOnlyEnties( status );
 		return ((ManagedEntity)entity).$$_hibernate_getEntityEntry();
 	}
 
+	@Override
+	public void registerDirtyEntity(Object entity, EntityEntry entry) {
+		if ( flushCandidates != null ) {
+			flushCandidates.put( entry, entity );
+		}
+	}
+
+	@Override
+	public void afterFlush() {
+		if ( flushCandidates != null ) {
+			flushCandidates.entrySet().removeIf(
+					candidate -> entityEntryContext.getEntityEntry( candidate.getValue() ) != candidate.getKey()
+							|| !requiresFlush( candidate.getValue(), candidate.getKey() )
+			);
+		}
+	}
+
+	private void updateFlushCandidate(Object entity, EntityEntry entry, boolean ignoreTrackedChanges) {
+		if ( ignoreTrackedChanges ? isSelfDirtinessNotifying( entity, entry ) : !requiresFlush( entity, entry ) ) {
+			flushCandidates.remove( entry );
+		}
+		else {
+			flushCandidates.put( entry, entity );
+		}
+	}
+
+	/**
+	 * Must the given entity be visited by the next flush?  This is not the case of the unmodified entities
+	 * notifying their own dirtiness, for which the flush amounts to the dirty check.
+	 */
+	private static boolean requiresFlush(Object entity, EntityEntry entry) {
+		return !isSelfDirtinessNotifying( entity, entry )
+				|| ( (SelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes();
+	}
+
+	private static boolean isSelfDirtinessNotifying(Object entity, EntityEntry entry) {
+		if ( !( entity instanceof SelfDirtinessNotifier ) ) {
+			return false;
+		}
+		final Status status = entry.getStatus();
+		final EntityPersister persister = entry.getPersister();
+		// the flush of the other entities involves cascading, or the discovery of their collections
+		return ( status == Status.MANAGED || status == Status.READ_ONLY )
+				&& !persister.hasCollections()
+				&& !persister.hasCascades();
+	}
+
 	@Override
 	public boolean containsCollection(PersistentCollection collection) {
 		return collectionEntries != null && collectionEntries.containsKey( collection );
@@ -775,7 +888,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEnhancedProxy(EntityKey key, PersistentAttributeInterceptable entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = new HashMap<>( INIT_COLL_SIZE );
+			entitiesByKey = newLookupMap( INIT_COLL_SIZE );
 		}
 		entitiesByKey.put( key, entity );
 	}
@@ -1250,6 +1363,20 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entityEntryContext.reentrantSafeEntityEntries();
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public Entry<Object,EntityEntry>[] reentrantSafeFlushableEntityEntries() {
+		if ( flushCandidates == null ) {
+			return reentrantSafeEntityEntries();
+		}
+		final Entry<Object,EntityEntry>[] entries = new Entry[flushCandidates.size()];
+		int i = 0;
+		for ( Entry<EntityEntry, Object> candidate : flushCandidates.entrySet() ) {
+			entries[i++] = new AbstractMap.SimpleImmutableEntry<>( candidate.getValue(), candidate.getKey() );
+		}
+		return entries;
+	}
+
 	@Override
 	public Serializable getOwnerId(String entityName, String propertyName, Object childEntity, Map mergeMap) {
 		final String collectionRole = entityName + '.' + propertyName;
@@ -1540,7 +1667,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void replaceDelayedEntityIdentityInsertKeys(EntityKey oldKey, Serializable generatedId) {
 		final Object entity = entitiesByKey == null ? null : entitiesByKey.remove( oldKey );
-		final EntityEntry oldEntry = entityEntryContext.removeEntityEntry( entity );
+		final EntityEntry oldEntry = removeEntry( entity );
 		this.parentsByChild = null;
 
 		final EntityKey newKey = session.generateEntityKey( generatedId, oldEntry.getPersister() );
@@ -1570,6 +1697,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		LOG.trace( "Serializing persistence-context" );
 
 		oos.writeBoolean( defaultReadOnly );
+		oos.writeBoolean( defaultReadMostly );
 		oos.writeBoolean( hasNonReadOnlyEntities );
 
 		if ( entitiesByKey == null ) {
@@ -1712,6 +1840,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 		try {
 			rtn.defaultReadOnly = ois.readBoolean();
+			rtn.defaultReadMostly = ois.readBoolean();
 			// todo : we can actually just determine this from the incoming EntityEntry-s
 			rtn.hasNonReadOnlyEntities = ois.readBoolean();
 
@@ -1719,7 +1848,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.entitiesByKey = rtn.newLookupMap( count );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitiesByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1758,18 +1887,23 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitySnapshotsByKey entries" );
 			}
-			rtn.entitySnapshotsByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.entitySnapshotsByKey = rtn.newLookupMap( count );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitySnapshotsByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
 
 			rtn.entityEntryContext = EntityEntryContext.deserialize( ois, rtn );
+			if ( rtn.flushCandidates != null ) {
+				for ( Entry<Object, EntityEntry> entry : rtn.entityEntryContext.reentrantSafeEntityEntries() ) {
+					rtn.flushCandidates.put( entry.getValue(), entry.getKey() );
+				}
+			}
 
 			count = ois.readInt();
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] collectionsByKey entries" );
 			}
-			rtn.collectionsByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.collectionsByKey = rtn.newLookupMap( count );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.collectionsByKey.put( CollectionKey.deserialize( ois, session ), (PersistentCollection) ois.readObject() );
 			}
@@ -1914,7 +2048,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public PersistentCollection addCollectionByKey(CollectionKey collectionKey, PersistentCollection persistentCollection) {
 		if ( collectionsByKey == null ) {
-			collectionsByKey = new HashMap<>( INIT_COLL_SIZE );
+			collectionsByKey = newLookupMap( INIT_COLL_SIZE );
 		}
 		final PersistentCollection old = collectionsByKey.put( collectionKey, persistentCollection );
 		return old;
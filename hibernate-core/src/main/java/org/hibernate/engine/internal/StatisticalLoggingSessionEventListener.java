@@ -7,6 +7,7 @@
 package org.hibernate.engine.internal;
 
 import org.hibernate.BaseSessionEventListener;
+import org.hibernate.SessionEventListener.FlushPhase;
 
 import org.jboss.logging.Logger;
 
@@ -61,6 +62,9 @@ public class StatisticalLoggingSessionEventListener extends BaseSessionEventList
 	private long partialFlushCollectionCount;
 	private long partialFlushTime;
 
+	private final long[] flushPhaseTimes = new long[FlushPhase.values().length];
+	private final long[] flushPhaseStarts = new long[FlushPhase.values().length];
+
 
 	// JDBC Connection acquisition ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -253,6 +257,19 @@ public class StatisticalLoggingSessionEventListener extends BaseSessionEventList
 		partialFlushStart = -1;
 	}
 
+
+	// Flush phases  ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void flushPhaseStart(FlushPhase phase) {
+		flushPhaseStarts[phase.ordinal()] = System.nanoTime();
+	}
+
+	@Override
+	public void flushPhaseEnd(FlushPhase phase) {
+		flushPhaseTimes[phase.ordinal()] += ( System.nanoTime() - flushPhaseStarts[phase.ordinal()] );
+	}
+
 	@Override
 	public void end() {
 		log.infof(
@@ -266,7 +283,8 @@ public class StatisticalLoggingSessionEventListener extends BaseSessionEventList
 						"    %s nanoseconds spent performing %s L2C hits;\n" +
 						"    %s nanoseconds spent performing %s L2C misses;\n" +
 						"    %s nanoseconds spent executing %s flushes (flushing a total of %s entities and %s collections);\n" +
-						"    %s nanoseconds spent executing %s partial-flushes (flushing a total of %s entities and %s collections)\n" +
+						"    %s nanoseconds spent executing %s partial-flushes (flushing a total of %s entities and %s collections);\n" +
+						"    %s nanoseconds spent cascading, %s dirty checking entities, %s processing collections, %s sorting actions and %s executing actions while flushing\n" +
 						"}",
 				jdbcConnectionAcquisitionTime,
 				jdbcConnectionAcquisitionCount,
@@ -291,7 +309,12 @@ public class StatisticalLoggingSessionEventListener extends BaseSessionEventList
 				partialFlushTime,
 				partialFlushCount,
 				partialFlushEntityCount,
-				partialFlushCollectionCount
+				partialFlushCollectionCount,
+				flushPhaseTimes[FlushPhase.CASCADE.ordinal()],
+				flushPhaseTimes[FlushPhase.ENTITY_DIRTY_CHECK.ordinal()],
+				flushPhaseTimes[FlushPhase.COLLECTION_PROCESSING.ordinal()],
+				flushPhaseTimes[FlushPhase.ACTION_SORTING.ordinal()],
+				flushPhaseTimes[FlushPhase.EXECUTION.ordinal()]
 		);
 	}
 }
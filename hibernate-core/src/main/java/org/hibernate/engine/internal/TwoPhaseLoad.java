@@ -15,12 +15,14 @@ import org.hibernate.LockMode;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.profile.Fetch;
 import org.hibernate.engine.profile.FetchProfile;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SelfDirtinessNotifier;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -401,6 +403,12 @@ public final class TwoPhaseLoad {
 			//mutable property values
 			persistenceContext.setEntryStatus( entityEntry, Status.READ_ONLY );
 		}
+		else if ( persistenceContext.isDefaultReadMostly() && isSnapshotDeferrable( entity, persister ) ) {
+			//no need to take a snapshot until the entity
+			//notifies its first change
+			persistenceContext.setEntryStatus( entityEntry, Status.MANAGED );
+			entityEntry.discardLoadedState();
+		}
 		else {
 			//take a snapshot
 			TypeHelper.deepCopy(
@@ -426,6 +434,31 @@ public final class TwoPhaseLoad {
 		}
 	}
 
+	/**
+	 * Can the snapshot of the given entity be taken when it is first modified, rather than when it is loaded?
+	 * This requires the entity to notify its first change before it is applied, and the snapshot not to be needed
+	 * for the entity to be flushed or deleted as long as it is unmodified.
+	 */
+	private static boolean isSnapshotDeferrable(Object entity, EntityPersister persister) {
+		if ( !( entity instanceof SelfDirtinessNotifier )
+				|| persister.hasCollections()
+				|| persister.hasNaturalIdentifier()
+				|| persister.hasLazyProperties() ) {
+			return false;
+		}
+		final OptimisticLockStyle optimisticLockStyle = persister.getEntityMetamodel().getOptimisticLockStyle();
+		if ( optimisticLockStyle == OptimisticLockStyle.ALL || optimisticLockStyle == OptimisticLockStyle.DIRTY ) {
+			return false;
+		}
+		for ( Type type : persister.getPropertyTypes() ) {
+			// the replacement of an embeddable is notified after it is applied
+			if ( type.isComponentType() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Perform the afterInitialize() step. This needs to be done after the collections have been properly initialized
 	 * thus a separate step.
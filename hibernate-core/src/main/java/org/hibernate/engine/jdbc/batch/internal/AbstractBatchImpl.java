@@ -22,6 +22,7 @@ import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.resource.jdbc.ResourceRegistry;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * Convenience base class for implementers of the Batch interface.
@@ -97,6 +98,21 @@ public abstract class AbstractBatchImpl implements Batch {
 		jdbcCoordinator.abortBatch();
 	}
 
+	/**
+	 * Record the execution of a JDBC batch in the statistics, if enabled.
+	 *
+	 * @param batchSize The number of statements executed by the batch
+	 */
+	protected void recordBatchExecution(int batchSize) {
+		final StatisticsImplementor statistics = jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getSessionFactory()
+				.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.jdbcBatchExecuted( batchSize );
+		}
+	}
+
 	/**
 	 * Access to the batch's map of statements (keyed by SQL statement string).
 	 *
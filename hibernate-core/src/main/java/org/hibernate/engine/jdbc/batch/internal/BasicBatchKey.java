@@ -6,6 +6,8 @@
  */
 package org.hibernate.engine.jdbc.batch.internal;
 
+import java.util.function.Function;
+
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.jdbc.Expectation;
 
@@ -18,6 +20,7 @@ public class BasicBatchKey implements BatchKey {
 	private final String comparison;
 	private final int statementCount;
 	private final Expectation expectation;
+	private final Function<String, String> multiRowInsertValues;
 
 	/**
 	 * Constructs a BasicBatchKey
@@ -26,9 +29,22 @@ public class BasicBatchKey implements BatchKey {
 	 * @param expectation The expectation for the batch
 	 */
 	public BasicBatchKey(String comparison, Expectation expectation) {
+		this( comparison, expectation, null );
+	}
+
+	/**
+	 * Constructs a BasicBatchKey
+	 *
+	 * @param comparison A string used to compare batch keys.
+	 * @param expectation The expectation for the batch
+	 * @param multiRowInsertValues Provides the row value constructor of the batched statements, which may then be
+	 * coalesced into multi-row inserts, or {@code null} if they may not
+	 */
+	public BasicBatchKey(String comparison, Expectation expectation, Function<String, String> multiRowInsertValues) {
 		this.comparison = comparison;
 		this.statementCount = 1;
 		this.expectation = expectation;
+		this.multiRowInsertValues = multiRowInsertValues;
 	}
 
 	@Override
@@ -41,6 +57,16 @@ public class BasicBatchKey implements BatchKey {
 		return statementCount;
 	}
 
+	@Override
+	public boolean isMultiRowInsert() {
+		return multiRowInsertValues != null;
+	}
+
+	@Override
+	public String getMultiRowInsertValues(String sql) {
+		return multiRowInsertValues == null ? null : multiRowInsertValues.apply( sql );
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if ( this == o ) {
@@ -124,6 +124,7 @@ public class BatchingBatch extends AbstractBatchImpl {
 						observer.jdbcExecuteBatchEnd();
 					}
 					checkRowCounts( rowCounts, statement, sql );
+					recordBatchExecution( rowCounts.length );
 				}
 				catch ( SQLException e ) {
 					abortBatch();
@@ -0,0 +1,334 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.StaleStateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.internal.ParameterBindingRecorder;
+import org.hibernate.engine.jdbc.internal.ParameterBindingRecorder.Binding;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link org.hibernate.engine.jdbc.batch.spi.Batch} of {@code INSERT ... VALUES} statements which, instead of
+ * relying on JDBC batching, coalesces the rows added to the batch into multi-row inserts:
+ * <pre>
+ *     insert into t (a, b) values (?, ?), (?, ?), (?, ?)
+ * </pre>
+ * The row value constructor repeated for each row is {@link BatchKey#getMultiRowInsertValues(String) provided by
+ * the batch key}.  The statements handed out by {@link #getBatchStatement} only record the parameter bindings of
+ * each row.  On execution these bindings are replayed against the multi-row statement, shifted by the number of
+ * parameters of the preceding rows.  The number of rows per statement is limited by the batch size as well as by the
+ * {@link org.hibernate.dialect.Dialect#getParameterCountLimit() parameter count limit} and the
+ * {@link org.hibernate.dialect.Dialect#getMultiRowInsertRowCountLimit() row count limit} of the database.
+ * <p/>
+ * Statements for which the batch key provides no row value constructor are executed one row at a time.  So is a
+ * row the binding of which needs more than recording the parameter values, such as unwrapping the statement (see
+ * {@link ParameterBindingRecorder}): the rows pending are executed first, then the row on its own.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#MULTI_ROW_INSERT
+ */
+public class MultiRowInsertBatch extends AbstractBatchImpl {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			MultiRowInsertBatch.class.getName()
+	);
+
+	private final int batchSize;
+	private final int parameterCountLimit;
+	private final int rowCountLimit;
+
+	private final LinkedHashMap<String, PendingInserts> pendingInserts = new LinkedHashMap<>();
+	private PendingInserts currentInserts;
+	private boolean batchExecuted;
+
+	/**
+	 * Constructs a MultiRowInsertBatch
+	 *
+	 * @param key The batch key
+	 * @param jdbcCoordinator The JDBC jdbcCoordinator
+	 * @param batchSize The batch size.
+	 */
+	public MultiRowInsertBatch(BatchKey key, JdbcCoordinator jdbcCoordinator, int batchSize) {
+		super( key, jdbcCoordinator );
+		if ( !key.getExpectation().canBeBatched() ) {
+			throw new HibernateException( "attempting to batch an operation which cannot be batched" );
+		}
+		this.batchSize = batchSize;
+		final Dialect dialect = jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getServiceRegistry()
+				.getService( JdbcServices.class )
+				.getDialect();
+		this.parameterCountLimit = dialect.getParameterCountLimit();
+		this.rowCountLimit = dialect.getMultiRowInsertRowCountLimit();
+	}
+
+	@Override
+	public PreparedStatement getBatchStatement(String sql, boolean callable) {
+		if ( sql == null ) {
+			throw new IllegalArgumentException( "sql must be non-null." );
+		}
+		if ( callable ) {
+			throw new HibernateException( "callable statements cannot be coalesced into multi-row inserts" );
+		}
+		PendingInserts inserts = pendingInserts.get( sql );
+		if ( inserts == null ) {
+			// the rows pending for the statements seen so far must not be executed after those of this new
+			// statement, as they may be referenced by them (e.g. joined subclass tables)
+			if ( hasPendingRows() ) {
+				performExecution();
+			}
+			inserts = new PendingInserts( sql );
+			pendingInserts.put( sql, inserts );
+			getStatements().put( sql, inserts.recorder.getStatement() );
+		}
+		inserts.recorder.clear();
+		currentInserts = inserts;
+		return inserts.recorder.getStatement();
+	}
+
+	@Override
+	public void addToBatch() {
+		final PreparedStatement fallbackStatement = currentInserts.recorder.takeFallbackStatement();
+		if ( fallbackStatement != null ) {
+			// the row may reference the rows pending, which are executed first
+			if ( hasPendingRows() ) {
+				notifyObserversImplicitExecution();
+				performExecution();
+			}
+			currentInserts.executeRow( fallbackStatement );
+			batchExecuted = true;
+			return;
+		}
+		currentInserts.addRow();
+		if ( currentInserts.rows.size() >= batchSize ) {
+			notifyObserversImplicitExecution();
+			performExecution();
+			batchExecuted = true;
+		}
+	}
+
+	@Override
+	protected void doExecuteBatch() {
+		if ( !hasPendingRows() ) {
+			if ( !batchExecuted ) {
+				LOG.debug( "No batched statements to execute" );
+			}
+		}
+		else {
+			performExecution();
+		}
+	}
+
+	private boolean hasPendingRows() {
+		for ( PendingInserts inserts : pendingInserts.values() ) {
+			if ( !inserts.rows.isEmpty() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void performExecution() {
+		try {
+			for ( PendingInserts inserts : pendingInserts.values() ) {
+				inserts.execute();
+			}
+		}
+		finally {
+			for ( PendingInserts inserts : pendingInserts.values() ) {
+				inserts.rows.clear();
+			}
+		}
+	}
+
+	@Override
+	protected void releaseStatements() {
+		// the statements executing the rows are released as soon as they are executed
+		pendingInserts.clear();
+		currentInserts = null;
+		getStatements().clear();
+		getJdbcCoordinator().afterStatementExecution();
+	}
+
+	/**
+	 * The rows pending for one INSERT statement.
+	 */
+	private class PendingInserts {
+		private final String sql;
+		private final String valuesGroup;
+		private final ParameterBindingRecorder recorder;
+
+		private final List<List<Binding>> rows = new ArrayList<>();
+		// known once the first row is bound
+		private int parameterCount;
+		private int maxRows;
+		private String fullStatementSql;
+
+		private PendingInserts(String sql) {
+			this.sql = sql;
+			this.valuesGroup = getKey().getMultiRowInsertValues( sql );
+			this.recorder = new ParameterBindingRecorder(
+					"MultiRowInsertBatch statement [" + sql + "]",
+					() -> getJdbcCoordinator().getLogicalConnection().getPhysicalConnection(),
+					() -> getJdbcCoordinator().getStatementPreparer().prepareStatement( sql )
+			);
+		}
+
+		private void addRow() {
+			final List<Binding> row = recorder.extractBindings();
+			if ( rows.isEmpty() && maxRows == 0 ) {
+				initMaxRows( row );
+			}
+			rows.add( row );
+		}
+
+		/**
+		 * Every parameter of a row is bound, so the highest position bound is the number of parameters per row,
+		 * whatever the value expressions of the row value constructor.
+		 */
+		private void initMaxRows(List<Binding> row) {
+			for ( Binding binding : row ) {
+				parameterCount = Math.max( parameterCount, binding.getPosition() );
+			}
+			if ( valuesGroup == null ) {
+				maxRows = 1;
+				return;
+			}
+			int rowCount = batchSize;
+			if ( parameterCountLimit > 0 && parameterCount > 0 ) {
+				rowCount = Math.min( rowCount, parameterCountLimit / parameterCount );
+			}
+			if ( rowCountLimit > 0 ) {
+				rowCount = Math.min( rowCount, rowCountLimit );
+			}
+			maxRows = Math.max( 1, rowCount );
+		}
+
+		private void execute() {
+			int position = 0;
+			while ( position < rows.size() ) {
+				final int rowCount = Math.min( maxRows, rows.size() - position );
+				executeRows( position, rowCount );
+				position += rowCount;
+			}
+		}
+
+		private void executeRows(int position, int rowCount) {
+			final String rowsSql = toMultiRowSql( rowCount );
+			LOG.debugf( "Executing multi-row insert of %s rows", rowCount );
+			final JdbcObserver observer = getJdbcCoordinator().getJdbcSessionOwner()
+					.getJdbcSessionContext()
+					.getObserver();
+			final PreparedStatement statement = getJdbcCoordinator().getStatementPreparer()
+					.prepareStatement( rowsSql );
+			try {
+				for ( int i = 0; i < rowCount; i++ ) {
+					for ( Binding binding : rows.get( position + i ) ) {
+						binding.bind( statement, i * parameterCount );
+					}
+				}
+				final int insertedRowCount;
+				try {
+					observer.jdbcExecuteBatchStart();
+					insertedRowCount = statement.executeUpdate();
+				}
+				finally {
+					observer.jdbcExecuteBatchEnd();
+				}
+				checkRowCount( insertedRowCount, rowCount, statement, rowsSql );
+				recordBatchExecution( rowCount );
+			}
+			catch (SQLException e) {
+				abortBatch();
+				LOG.unableToExecuteBatch( e, rowsSql );
+				throw sqlExceptionHelper().convert( e, "could not execute batch", rowsSql );
+			}
+			catch (RuntimeException re) {
+				abortBatch();
+				LOG.unableToExecuteBatch( re, rowsSql );
+				throw re;
+			}
+			finally {
+				getJdbcCoordinator().getResourceRegistry().release( statement );
+			}
+		}
+
+		/**
+		 * Execute a single row bound to the actual statement.
+		 */
+		private void executeRow(PreparedStatement statement) {
+			try {
+				getKey().getExpectation().verifyOutcome(
+						getJdbcCoordinator().getResultSetReturn().executeUpdate( statement ),
+						statement,
+						-1,
+						sql
+				);
+			}
+			catch (SQLException e) {
+				abortBatch();
+				LOG.unableToExecuteBatch( e, sql );
+				throw sqlExceptionHelper().convert( e, "could not execute batch", sql );
+			}
+			catch (RuntimeException re) {
+				abortBatch();
+				LOG.unableToExecuteBatch( re, sql );
+				throw re;
+			}
+			finally {
+				getJdbcCoordinator().getResourceRegistry().release( statement );
+			}
+		}
+
+		private void checkRowCount(int insertedRowCount, int rowCount, PreparedStatement statement, String rowsSql)
+				throws SQLException {
+			if ( rowCount == 1 ) {
+				getKey().getExpectation().verifyOutcome( insertedRowCount, statement, -1, rowsSql );
+			}
+			else if ( insertedRowCount != rowCount && insertedRowCount != Statement.SUCCESS_NO_INFO ) {
+				throw new StaleStateException(
+						"Multi-row insert returned unexpected row count; actual row count: " + insertedRowCount
+								+ "; expected: " + rowCount + "; statement executed: " + rowsSql
+				);
+			}
+		}
+
+		private String toMultiRowSql(int rowCount) {
+			if ( rowCount == 1 ) {
+				return sql;
+			}
+			if ( rowCount == maxRows && fullStatementSql != null ) {
+				return fullStatementSql;
+			}
+			final StringBuilder buffer = new StringBuilder( sql.length() + ( valuesGroup.length() + 2 ) * ( rowCount - 1 ) )
+					.append( sql );
+			for ( int i = 1; i < rowCount; i++ ) {
+				buffer.append( ", " ).append( valuesGroup );
+			}
+			final String rowsSql = buffer.toString();
+			if ( rowCount == maxRows ) {
+				fullStatementSql = rowsSql;
+			}
+			return rowsSql;
+		}
+	}
+}
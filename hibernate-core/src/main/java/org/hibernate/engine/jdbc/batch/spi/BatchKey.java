@@ -29,4 +29,31 @@ public interface BatchKey {
 	 * @return The expectations
 	 */
 	Expectation getExpectation();
+
+	/**
+	 * Are the statements of this batch plain {@code INSERT ... VALUES} statements which may be coalesced
+	 * into multi-row inserts?
+	 *
+	 * @return {@code true} if the statements may be coalesced into multi-row inserts
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MULTI_ROW_INSERT
+	 */
+	default boolean isMultiRowInsert() {
+		return false;
+	}
+
+	/**
+	 * Get the row value constructor of the given {@code INSERT ... VALUES} statement of this batch, which is
+	 * repeated to coalesce several rows into a multi-row insert.
+	 *
+	 * @param sql The SQL of a statement of this batch
+	 *
+	 * @return The row value constructor, e.g. {@code (?, upper(?))}, or {@code null} if the rows of the statement
+	 * must be inserted one at a time
+	 *
+	 * @see #isMultiRowInsert()
+	 */
+	default String getMultiRowInsertValues(String sql) {
+		return null;
+	}
 }
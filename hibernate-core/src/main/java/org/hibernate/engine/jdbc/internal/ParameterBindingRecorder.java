@@ -0,0 +1,331 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.hibernate.HibernateException;
+import org.hibernate.type.descriptor.sql.BigIntTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BinaryTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BitTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BooleanTypeDescriptor;
+import org.hibernate.type.descriptor.sql.CharTypeDescriptor;
+import org.hibernate.type.descriptor.sql.DateTypeDescriptor;
+import org.hibernate.type.descriptor.sql.DecimalTypeDescriptor;
+import org.hibernate.type.descriptor.sql.DoubleTypeDescriptor;
+import org.hibernate.type.descriptor.sql.FloatTypeDescriptor;
+import org.hibernate.type.descriptor.sql.IntegerTypeDescriptor;
+import org.hibernate.type.descriptor.sql.LongNVarcharTypeDescriptor;
+import org.hibernate.type.descriptor.sql.LongVarbinaryTypeDescriptor;
+import org.hibernate.type.descriptor.sql.LongVarcharTypeDescriptor;
+import org.hibernate.type.descriptor.sql.NCharTypeDescriptor;
+import org.hibernate.type.descriptor.sql.NVarcharTypeDescriptor;
+import org.hibernate.type.descriptor.sql.NumericTypeDescriptor;
+import org.hibernate.type.descriptor.sql.RealTypeDescriptor;
+import org.hibernate.type.descriptor.sql.SmallIntTypeDescriptor;
+import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
+import org.hibernate.type.descriptor.sql.TimeTypeDescriptor;
+import org.hibernate.type.descriptor.sql.TimestampTypeDescriptor;
+import org.hibernate.type.descriptor.sql.TinyIntTypeDescriptor;
+import org.hibernate.type.descriptor.sql.VarbinaryTypeDescriptor;
+import org.hibernate.type.descriptor.sql.VarcharTypeDescriptor;
+
+/**
+ * Exposes a {@link PreparedStatement} which merely records the parameter values bound to it, so that they can
+ * later be replayed against an actual statement (possibly shifted to other parameter positions), or inspected.
+ * <p/>
+ * Only the parameter setters, {@link PreparedStatement#clearParameters()} and
+ * {@link PreparedStatement#getConnection()} are recorded.  Any other use of the statement, such as unwrapping it to
+ * the statement of the JDBC driver, makes the recorder fall back to an actual statement: the bindings recorded so
+ * far are replayed against it, and the rest of the calls are delegated to it until it is
+ * {@link #takeFallbackStatement() taken} to be executed on its own.  The values of the
+ * {@link #isRecordable(SqlTypeDescriptor) SQL type descriptors} of Hibernate merely calling the parameter setters
+ * are always recorded.
+ */
+public class ParameterBindingRecorder implements InvocationHandler {
+	private static final Set<Class<?>> RECORDABLE_SQL_TYPE_DESCRIPTORS = new HashSet<>( Arrays.asList(
+			BigIntTypeDescriptor.class,
+			BinaryTypeDescriptor.class,
+			BitTypeDescriptor.class,
+			BooleanTypeDescriptor.class,
+			CharTypeDescriptor.class,
+			DateTypeDescriptor.class,
+			DecimalTypeDescriptor.class,
+			DoubleTypeDescriptor.class,
+			FloatTypeDescriptor.class,
+			IntegerTypeDescriptor.class,
+			LongNVarcharTypeDescriptor.class,
+			LongVarbinaryTypeDescriptor.class,
+			LongVarcharTypeDescriptor.class,
+			NCharTypeDescriptor.class,
+			NumericTypeDescriptor.class,
+			NVarcharTypeDescriptor.class,
+			RealTypeDescriptor.class,
+			SmallIntTypeDescriptor.class,
+			TimeTypeDescriptor.class,
+			TimestampTypeDescriptor.class,
+			TinyIntTypeDescriptor.class,
+			VarbinaryTypeDescriptor.class,
+			VarcharTypeDescriptor.class
+	) );
+
+	/**
+	 * Is the given SQL type descriptor one of those known to bind values through the plain parameter setters only,
+	 * so that its bindings are always recorded?  Subclasses, and the descriptors of dialects and integrations, may
+	 * use the statement otherwise, so they are not.
+	 *
+	 * @param sqlTypeDescriptor The SQL type descriptor
+	 *
+	 * @return {@code true} if the bindings of the descriptor are always recorded
+	 */
+	public static boolean isRecordable(SqlTypeDescriptor sqlTypeDescriptor) {
+		return RECORDABLE_SQL_TYPE_DESCRIPTORS.contains( sqlTypeDescriptor.getClass() );
+	}
+
+	/**
+	 * A recorded parameter binding.
+	 */
+	public static class Binding {
+		private final Method method;
+		private final Object[] arguments;
+
+		private Binding(Method method, Object[] arguments) {
+			this.method = method;
+			this.arguments = arguments;
+		}
+
+		/**
+		 * The (1-based) position of the bound parameter.
+		 *
+		 * @return The parameter position
+		 */
+		public int getPosition() {
+			return (Integer) arguments[0];
+		}
+
+		/**
+		 * Is this a plain binding of a value, that is {@code setXXX(position, value)} or
+		 * {@code setNull(position, sqlType)}, not qualified by a length, calendar, or the like?
+		 *
+		 * @return {@code true} if this is a plain binding
+		 */
+		public boolean isPlainValue() {
+			return arguments.length == 2;
+		}
+
+		/**
+		 * The calendar qualifying this binding, as in {@code setTimestamp(position, value, calendar)}.
+		 *
+		 * @return The calendar, or {@code null} if this binding is not qualified by a calendar
+		 */
+		public Calendar getCalendar() {
+			return arguments.length == 3 && arguments[2] instanceof Calendar ? (Calendar) arguments[2] : null;
+		}
+
+		/**
+		 * Is this a binding of {@code null}?
+		 *
+		 * @return {@code true} if this is a binding of {@code null}
+		 */
+		public boolean isNull() {
+			return "setNull".equals( method.getName() ) || arguments[1] == null;
+		}
+
+		/**
+		 * The bound value.
+		 *
+		 * @return The bound value, {@code null} for {@link #isNull() null bindings}
+		 */
+		public Object getValue() {
+			return isNull() ? null : arguments[1];
+		}
+
+		/**
+		 * Replay this binding against the given statement.
+		 *
+		 * @param statement The statement to bind the parameter of
+		 * @param positionOffset The offset to apply to the recorded parameter position
+		 *
+		 * @throws SQLException Indicates a problem binding the parameter
+		 */
+		public void bind(PreparedStatement statement, int positionOffset) throws SQLException {
+			final Object[] shiftedArguments = arguments.clone();
+			shiftedArguments[0] = getPosition() + positionOffset;
+			try {
+				method.invoke( statement, shiftedArguments );
+			}
+			catch (InvocationTargetException e) {
+				if ( e.getCause() instanceof SQLException ) {
+					throw (SQLException) e.getCause();
+				}
+				throw new HibernateException( "Unable to bind parameter", e.getCause() );
+			}
+			catch (IllegalAccessException e) {
+				throw new HibernateException( "Unable to bind parameter", e );
+			}
+		}
+	}
+
+	private final String description;
+	private final Supplier<Connection> connectionSupplier;
+	private final Supplier<PreparedStatement> fallbackStatementSupplier;
+	private final PreparedStatement statement;
+	private final List<Binding> bindings = new ArrayList<>();
+	private PreparedStatement fallbackStatement;
+
+	/**
+	 * Constructs a ParameterBindingRecorder
+	 *
+	 * @param description A description of the recording statement, used for its {@code toString()}
+	 * @param connectionSupplier Supplies the connection returned by {@link PreparedStatement#getConnection()}
+	 * @param fallbackStatementSupplier Prepares the actual single-row statement to fall back to
+	 */
+	public ParameterBindingRecorder(
+			String description,
+			Supplier<Connection> connectionSupplier,
+			Supplier<PreparedStatement> fallbackStatementSupplier) {
+		this.description = description;
+		this.connectionSupplier = connectionSupplier;
+		this.fallbackStatementSupplier = fallbackStatementSupplier;
+		this.statement = (PreparedStatement) Proxy.newProxyInstance(
+				ParameterBindingRecorder.class.getClassLoader(),
+				new Class[] { PreparedStatement.class },
+				this
+		);
+	}
+
+	/**
+	 * The recording statement.
+	 *
+	 * @return The recording statement
+	 */
+	public PreparedStatement getStatement() {
+		return statement;
+	}
+
+	/**
+	 * Return the bindings recorded since the last call, and start recording anew.
+	 *
+	 * @return The recorded bindings
+	 */
+	public List<Binding> extractBindings() {
+		final List<Binding> recorded = new ArrayList<>( bindings );
+		bindings.clear();
+		return recorded;
+	}
+
+	/**
+	 * Discard the bindings recorded so far.
+	 */
+	public void clear() {
+		bindings.clear();
+		fallbackStatement = null;
+	}
+
+	/**
+	 * Return the actual statement the recorder fell back to since the last call, if any, and start recording anew.
+	 * The row is then bound to that statement, which the caller is responsible for executing and releasing, instead
+	 * of being recorded.
+	 *
+	 * @return The actual statement, or {@code null} if the recorder did not fall back
+	 */
+	public PreparedStatement takeFallbackStatement() {
+		final PreparedStatement taken = fallbackStatement;
+		fallbackStatement = null;
+		return taken;
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws SQLException {
+		final String methodName = method.getName();
+		if ( fallbackStatement != null && !isObjectMethod( methodName ) ) {
+			return delegate( method, args );
+		}
+		if ( methodName.startsWith( "set" )
+				&& args != null
+				&& args.length >= 2
+				&& method.getParameterTypes()[0] == int.class ) {
+			bindings.add( new Binding( method, args ) );
+			return null;
+		}
+		switch ( methodName ) {
+			case "clearParameters":
+				bindings.clear();
+				return null;
+			case "clearBatch":
+			case "close":
+				return null;
+			case "isClosed":
+				return false;
+			case "getConnection":
+				return connectionSupplier.get();
+			case "isWrapperFor":
+				if ( ( (Class<?>) args[0] ).isInstance( proxy ) ) {
+					return true;
+				}
+				break;
+			case "unwrap":
+				if ( ( (Class<?>) args[0] ).isInstance( proxy ) ) {
+					return proxy;
+				}
+				break;
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode( proxy );
+			case "toString":
+				return description;
+			default:
+				break;
+		}
+		fallBack();
+		return delegate( method, args );
+	}
+
+	private static boolean isObjectMethod(String methodName) {
+		return "equals".equals( methodName ) || "hashCode".equals( methodName ) || "toString".equals( methodName );
+	}
+
+	private void fallBack() throws SQLException {
+		fallbackStatement = fallbackStatementSupplier.get();
+		for ( Binding binding : bindings ) {
+			binding.bind( fallbackStatement, 0 );
+		}
+		bindings.clear();
+	}
+
+	private Object delegate(Method method, Object[] args) throws SQLException {
+		try {
+			return method.invoke( fallbackStatement, args );
+		}
+		catch (InvocationTargetException e) {
+			if ( e.getCause() instanceof SQLException ) {
+				throw (SQLException) e.getCause();
+			}
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new HibernateException( "Unable to invoke [" + method.getName() + "] on " + fallbackStatement, e.getCause() );
+		}
+		catch (IllegalAccessException e) {
+			throw new HibernateException( "Unable to invoke [" + method.getName() + "] on " + fallbackStatement, e );
+		}
+	}
+}
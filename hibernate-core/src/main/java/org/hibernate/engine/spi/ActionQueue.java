@@ -11,6 +11,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -30,6 +31,7 @@ import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
+import org.hibernate.action.internal.EntityAction;
 import org.hibernate.action.internal.EntityActionVetoException;
 import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
@@ -42,10 +44,12 @@ import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.QueryResultsInvalidationKey;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.metadata.ClassMetadata;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.type.CollectionType;
@@ -211,8 +215,15 @@ public class ActionQueue {
 						return instance.deletions;
 					}
 					ExecutableList<EntityDeleteAction> init(ActionQueue instance) {
-						// EntityDeleteAction executables never require sorting.
-						return instance.deletions = new ExecutableList<EntityDeleteAction>( false );
+						if ( instance.isOrderDeletesEnabled() ) {
+							return instance.deletions = new ExecutableList<EntityDeleteAction>(
+									new DeleteActionSorter()
+							);
+						}
+						else {
+							// EntityDeleteAction executables otherwise never require sorting.
+							return instance.deletions = new ExecutableList<EntityDeleteAction>( false );
+						}
 					}
 				}
 		);
@@ -398,6 +409,7 @@ public class ActionQueue {
 		}
 		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
 			invalidateSpaces( convertTimestampSpaces( executable.getPropertySpaces() ) );
+			invalidateQueryResults( Collections.singleton( executable ) );
 		}
 		if ( executable.getAfterTransactionCompletionProcess() != null ) {
 			if ( afterTransactionProcesses == null ) {
@@ -626,6 +638,7 @@ public class ActionQueue {
 				// unexpected.
 				Set propertySpaces = list.getQuerySpaces();
 				invalidateSpaces( convertTimestampSpaces( propertySpaces ) );
+				invalidateQueryResults( list );
 			}
 		}
 
@@ -667,6 +680,42 @@ public class ActionQueue {
 		}
 	}
 
+	/**
+	 * Performs the fine-grained invalidation of the cached query results for the given actions, if enabled: updates
+	 * and deletions of entities invalidate the cached results containing these entities, other actions invalidate the
+	 * cached results involving their spaces.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_ENTITY_INVALIDATION
+	 */
+	private void invalidateQueryResults(Iterable<? extends Executable> executables) {
+		if ( !session.getFactory().getSessionFactoryOptions().isQueryCacheEntityInvalidationEnabled() ) {
+			return;
+		}
+		final Set<QueryResultsInvalidationKey> keys = new HashSet<>();
+		for ( Executable executable : executables ) {
+			if ( executable instanceof EntityUpdateAction || executable instanceof EntityDeleteAction ) {
+				final EntityAction action = (EntityAction) executable;
+				if ( QueryResultsInvalidationKey.isTrackable( action.getPersister() ) ) {
+					keys.add( QueryResultsInvalidationKey.forEntity( action.getPersister(), action.getId() ) );
+					continue;
+				}
+			}
+			for ( Serializable space : executable.getPropertySpaces() ) {
+				keys.add( QueryResultsInvalidationKey.forSpace( (String) space ) );
+			}
+		}
+		if ( !keys.isEmpty() ) {
+			if ( afterTransactionProcesses == null ) {
+				afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+			}
+			afterTransactionProcesses.addQueryResultsToInvalidate( keys );
+			session.getFactory().getCache().getTimestampsCache().preInvalidate(
+					keys.toArray( new QueryResultsInvalidationKey[keys.size()] ),
+					session
+			);
+		}
+	}
+
 	/**
 	 * Returns a string representation of the object.
 	 *
@@ -781,6 +830,9 @@ public class ActionQueue {
 		if ( isOrderInsertsEnabled() && insertions != null ) {
 			insertions.sort();
 		}
+		if ( isOrderDeletesEnabled() && deletions != null ) {
+			deletions.sort();
+		}
 	}
 
 	private boolean isOrderUpdatesEnabled() {
@@ -791,6 +843,10 @@ public class ActionQueue {
 		return session.getFactory().getSessionFactoryOptions().isOrderInsertsEnabled();
 	}
 
+	private boolean isOrderDeletesEnabled() {
+		return session.getFactory().getSessionFactoryOptions().isOrderDeletesEnabled();
+	}
+
 	public void clearFromFlushNeededCheck(int previousCollectionRemovalSize) {
 		if ( collectionCreations != null ) {
 			collectionCreations.clear();
@@ -968,6 +1024,7 @@ public class ActionQueue {
 	 */
 	private static class AfterTransactionCompletionProcessQueue extends AbstractTransactionCompletionProcessQueue<AfterTransactionCompletionProcess> {
 		private Set<String> querySpacesToInvalidate = new HashSet<String>();
+		private Set<QueryResultsInvalidationKey> queryResultsToInvalidate = new HashSet<>();
 
 		private AfterTransactionCompletionProcessQueue(SessionImplementor session) {
 			super( session );
@@ -977,6 +1034,10 @@ public class ActionQueue {
 			querySpacesToInvalidate.add( space );
 		}
 
+		public void addQueryResultsToInvalidate(Set<QueryResultsInvalidationKey> keys) {
+			queryResultsToInvalidate.addAll( keys );
+		}
+
 		public void afterTransactionCompletion(boolean success) {
 			while ( !processes.isEmpty() ) {
 				try {
@@ -996,8 +1057,15 @@ public class ActionQueue {
 						querySpacesToInvalidate.toArray( new String[querySpacesToInvalidate.size()] ),
 						session
 				);
+				if ( !queryResultsToInvalidate.isEmpty() ) {
+					session.getFactory().getCache().getTimestampsCache().invalidate(
+							queryResultsToInvalidate.toArray( new QueryResultsInvalidationKey[queryResultsToInvalidate.size()] ),
+							session
+					);
+				}
 			}
 			querySpacesToInvalidate.clear();
+			queryResultsToInvalidate.clear();
 		}
 	}
 
@@ -1350,6 +1418,128 @@ public class ActionQueue {
 
 	}
 
+	/**
+	 * Sorts the delete actions, grouping them by entity type so that the deletions of each type can share a
+	 * JDBC batch.  The entity types are ordered so that a type holding a foreign key to another type is deleted
+	 * before it, while the relative order of the deletions of each type is preserved.  When the dependencies
+	 * between the entity types form a cycle, the deletions are left in their original order.
+	 * <p/>
+	 * NOTE: this class is not thread-safe.
+	 */
+	private static class DeleteActionSorter implements ExecutableList.Sorter<EntityDeleteAction> {
+
+		private static class DeleteBatch {
+			private final String rootEntityName;
+
+			// the root entity names of the types referenced through a foreign key held by this type
+			private final Set<String> referencedRootEntityNames = new HashSet<>();
+
+			// the root entity names of the types holding a foreign key which references this type
+			private final Set<String> referencingRootEntityNames = new HashSet<>();
+
+			private final List<EntityDeleteAction> actions = new ArrayList<>();
+
+			DeleteBatch(EntityPersister persister) {
+				this.rootEntityName = persister.getRootEntityName();
+				final SessionFactoryImplementor factory = persister.getFactory();
+				for ( Type type : persister.getPropertyTypes() ) {
+					addDependencies( type, factory );
+				}
+				addDependencies( persister.getIdentifierType(), factory );
+			}
+
+			private void addDependencies(Type type, SessionFactoryImplementor factory) {
+				if ( type.isEntityType() ) {
+					final EntityType entityType = (EntityType) type;
+					final String rootEntityName = factory.getMetamodel()
+							.entityPersister( entityType.getAssociatedEntityName() )
+							.getRootEntityName();
+					if ( entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
+						referencingRootEntityNames.add( rootEntityName );
+					}
+					else {
+						referencedRootEntityNames.add( rootEntityName );
+					}
+				}
+				else if ( type.isCollectionType() ) {
+					final CollectionType collectionType = (CollectionType) type;
+					if ( collectionType.getElementType( factory ).isEntityType()
+							&& !factory.getMetamodel().collectionPersister( collectionType.getRole() ).isManyToMany() ) {
+						final String entityName = collectionType.getAssociatedEntityName( factory );
+						referencingRootEntityNames.add(
+								factory.getMetamodel().entityPersister( entityName ).getRootEntityName()
+						);
+					}
+				}
+				else if ( type.isComponentType() ) {
+					for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+						addDependencies( subtype, factory );
+					}
+				}
+			}
+
+			/**
+			 * Must the deletions of this batch be executed before those of the given batch?
+			 */
+			boolean mustPrecede(DeleteBatch batch) {
+				return referencedRootEntityNames.contains( batch.rootEntityName )
+						|| batch.referencingRootEntityNames.contains( rootEntityName );
+			}
+		}
+
+		/**
+		 * Sort the delete actions.
+		 */
+		@Override
+		public void sort(List<EntityDeleteAction> deletions) {
+			final Map<String, DeleteBatch> batches = new LinkedHashMap<>();
+			for ( EntityDeleteAction action : deletions ) {
+				batches.computeIfAbsent( action.getEntityName(), entityName -> new DeleteBatch( action.getPersister() ) )
+						.actions
+						.add( action );
+			}
+			if ( batches.size() < 2 ) {
+				return;
+			}
+
+			// repeatedly pick the first batch (in order of appearance) not having to wait for another one
+			final List<DeleteBatch> pending = new ArrayList<>( batches.values() );
+			final List<DeleteBatch> sorted = new ArrayList<>( pending.size() );
+			while ( !pending.isEmpty() ) {
+				DeleteBatch next = null;
+				for ( DeleteBatch candidate : pending ) {
+					if ( !hasPendingPredecessor( candidate, pending ) ) {
+						next = candidate;
+						break;
+					}
+				}
+				if ( next == null ) {
+					LOG.debugf(
+							"The deletions of %s entity types could not be sorted, as their foreign key dependencies form a cycle",
+							batches.size()
+					);
+					return;
+				}
+				pending.remove( next );
+				sorted.add( next );
+			}
+
+			deletions.clear();
+			for ( DeleteBatch batch : sorted ) {
+				deletions.addAll( batch.actions );
+			}
+		}
+
+		private boolean hasPendingPredecessor(DeleteBatch batch, List<DeleteBatch> pending) {
+			for ( DeleteBatch other : pending ) {
+				if ( other != batch && other.mustPrecede( batch ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
 	private abstract static class ListProvider<T extends Executable & Comparable & Serializable> {
 		abstract ExecutableList<T> get(ActionQueue instance);
 		abstract ExecutableList<T> init(ActionQueue instance);
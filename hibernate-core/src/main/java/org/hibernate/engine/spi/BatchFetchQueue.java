@@ -7,11 +7,15 @@
 package org.hibernate.engine.spi;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.hibernate.EntityMode;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
@@ -206,7 +210,13 @@ public class BatchFetchQueue {
 
 		LinkedHashSet<EntityKey> set =  batchLoadableEntityKeys.get( persister.getEntityName() );
 		if ( set != null ) {
+			// the keys are looked up in the second-level cache batchSize at a time, ahead of the main iteration
+			final Iterator<EntityKey> keysToCheck = isCacheReadable( persister ) ? set.iterator() : null;
+			final Set<EntityKey> cachedKeys = keysToCheck == null ? Collections.emptySet() : new HashSet<>();
+			int position = -1;
+			int checked = 0;
 			for ( EntityKey key : set ) {
+				position++;
 				if ( checkForEnd && i == end ) {
 					//the first id found after the given id
 					return ids;
@@ -215,7 +225,10 @@ public class BatchFetchQueue {
 					end = i;
 				}
 				else {
-					if ( !isCached( key, persister ) ) {
+					while ( keysToCheck != null && checked <= position && keysToCheck.hasNext() ) {
+						checked += addCachedKeys( keysToCheck, batchSize, persister, id, cachedKeys );
+					}
+					if ( !cachedKeys.contains( key ) ) {
 						ids[i++] = key.getIdentifier();
 					}
 				}
@@ -230,19 +243,44 @@ public class BatchFetchQueue {
 		return ids; //we ran out of ids to try
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
+	private boolean isCacheReadable(EntityPersister persister) {
+		return context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache();
+	}
+
+	/**
+	 * Looks up the next keys of the given iterator in the second-level cache, all at once.
+	 *
+	 * @return the number of keys consumed from the iterator
+	 */
+	private int addCachedKeys(
+			Iterator<EntityKey> keys,
+			int count,
+			EntityPersister persister,
+			Serializable excludedId,
+			Set<EntityKey> cachedKeys) {
 		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
-			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
-					entityKey.getIdentifier(),
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, key, cache ) != null;
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final Map<Object, EntityKey> keysByCacheKey = new HashMap<>();
+		int consumed = 0;
+		while ( consumed < count && keys.hasNext() ) {
+			final EntityKey entityKey = keys.next();
+			consumed++;
+			if ( !persister.getIdentifierType().isEqual( excludedId, entityKey.getIdentifier() ) ) {
+				final Object key = cache.generateCacheKey(
+						entityKey.getIdentifier(),
+						persister,
+						session.getFactory(),
+						session.getTenantIdentifier()
+				);
+				keysByCacheKey.put( key, entityKey );
+			}
 		}
-		return false;
+		if ( !keysByCacheKey.isEmpty() ) {
+			for ( Object key : CacheHelper.fromSharedCache( session, keysByCacheKey.keySet(), cache ).keySet() ) {
+				cachedKeys.add( keysByCacheKey.get( key ) );
+			}
+		}
+		return consumed;
 	}
 
 
@@ -308,7 +346,15 @@ public class BatchFetchQueue {
 
 		final LinkedHashMap<CollectionEntry, PersistentCollection> map =  batchLoadableCollections.get( collectionPersister.getRole() );
 		if ( map != null ) {
+			// the keys are looked up in the second-level cache batchSize at a time, ahead of the main iteration
+			final Iterator<Entry<CollectionEntry, PersistentCollection>> entriesToCheck = isCacheReadable( collectionPersister )
+					? map.entrySet().iterator()
+					: null;
+			final Set<CollectionEntry> cachedEntries = entriesToCheck == null ? Collections.emptySet() : new HashSet<>();
+			int position = -1;
+			int checked = 0;
 			for ( Entry<CollectionEntry, PersistentCollection> me : map.entrySet() ) {
+				position++;
 				final CollectionEntry ce = me.getKey();
 				final PersistentCollection collection = me.getValue();
 
@@ -341,9 +387,14 @@ public class BatchFetchQueue {
 					end = i;
 					//checkForEnd = false;
 				}
-				else if ( !isCached( ce.getLoadedKey(), collectionPersister ) ) {
-					keys[i++] = ce.getLoadedKey();
-					//count++;
+				else {
+					while ( entriesToCheck != null && checked <= position && entriesToCheck.hasNext() ) {
+						checked += addCachedEntries( entriesToCheck, batchSize, collectionPersister, id, cachedEntries );
+					}
+					if ( !cachedEntries.contains( ce ) ) {
+						keys[i++] = ce.getLoadedKey();
+						//count++;
+					}
 				}
 
 				if ( i == batchSize ) {
@@ -357,19 +408,47 @@ public class BatchFetchQueue {
 		return keys; //we ran out of keys to try
 	}
 
-	private boolean isCached(Serializable collectionKey, CollectionPersister persister) {
-		SharedSessionContractImplementor session = context.getSession();
-		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			CollectionDataAccess cache = persister.getCacheAccessStrategy();
-			Object cacheKey = cache.generateCacheKey(
-					collectionKey,
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, cacheKey, cache ) != null;
+	private boolean isCacheReadable(CollectionPersister persister) {
+		return context.getSession().getCacheMode().isGetEnabled() && persister.hasCache();
+	}
+
+	/**
+	 * Looks up the keys of the next collections of the given iterator in the second-level cache, all at once.
+	 *
+	 * @return the number of collections consumed from the iterator
+	 */
+	private int addCachedEntries(
+			Iterator<Entry<CollectionEntry, PersistentCollection>> entries,
+			int count,
+			CollectionPersister persister,
+			Serializable excludedKey,
+			Set<CollectionEntry> cachedEntries) {
+		final SharedSessionContractImplementor session = context.getSession();
+		final CollectionDataAccess cache = persister.getCacheAccessStrategy();
+		final Map<Object, CollectionEntry> entriesByCacheKey = new HashMap<>();
+		int consumed = 0;
+		while ( consumed < count && entries.hasNext() ) {
+			final Entry<CollectionEntry, PersistentCollection> me = entries.next();
+			consumed++;
+			final CollectionEntry ce = me.getKey();
+			if ( ce.getLoadedKey() != null
+					&& !me.getValue().wasInitialized()
+					&& !persister.getKeyType().isEqual( excludedKey, ce.getLoadedKey(), persister.getFactory() ) ) {
+				final Object cacheKey = cache.generateCacheKey(
+						ce.getLoadedKey(),
+						persister,
+						session.getFactory(),
+						session.getTenantIdentifier()
+				);
+				entriesByCacheKey.put( cacheKey, ce );
+			}
 		}
-		return false;
+		if ( !entriesByCacheKey.isEmpty() ) {
+			for ( Object cacheKey : CacheHelper.fromSharedCache( session, entriesByCacheKey.keySet(), cache ).keySet() ) {
+				cachedEntries.add( entriesByCacheKey.get( cacheKey ) );
+			}
+		}
+		return consumed;
 	}
 
 }
@@ -89,6 +89,36 @@ public interface EntityEntry {
 	 */
 	void postInsert(Object[] insertedState);
 
+	/**
+	 * Notification from an entity tracking its own dirtiness, a {@link SelfDirtinessNotifier}, that it was just
+	 * modified while it was not dirty, and will thus need to be flushed.
+	 *
+	 * @param entity The entity instance
+	 */
+	default void markDirty(Object entity) {
+	}
+
+	/**
+	 * Discard the loaded state of a managed entity which notifies its own dirtiness, a
+	 * {@link SelfDirtinessNotifier}.  The loaded state is then taken from the entity when it is first modified,
+	 * see {@link #markDirty}.
+	 *
+	 * @see org.hibernate.Session#setDefaultReadMostly(boolean)
+	 */
+	default void discardLoadedState() {
+	}
+
+	/**
+	 * Take the loaded state of a managed entity from the entity itself, if it was discarded, before the entity is
+	 * modified without notifying its change beforehand, as when values are merged into it.
+	 *
+	 * @param entity The entity instance
+	 *
+	 * @see #discardLoadedState()
+	 */
+	default void takeDiscardedLoadedState(Object entity) {
+	}
+
 	boolean isNullifiable(boolean earlyInsert, SharedSessionContractImplementor session);
 
 	/**
@@ -499,6 +499,36 @@ public interface PersistenceContext {
 	 */
 	Map.Entry<Object,EntityEntry>[] reentrantSafeEntityEntries();
 
+	/**
+	 * Provides access to the entity/EntityEntry combos which must be visited by a flush, in a manner that is safe
+	 * from reentrant access.  Unless incremental dirty checking is enabled, these are all the combos, see
+	 * {@link #reentrantSafeEntityEntries}; otherwise the entities tracking their own dirtiness which were not
+	 * modified since the previous flush are left out.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_INCREMENTAL_DIRTY_CHECKING
+	 */
+	default Map.Entry<Object,EntityEntry>[] reentrantSafeFlushableEntityEntries() {
+		return reentrantSafeEntityEntries();
+	}
+
+	/**
+	 * Register an entity tracking its own dirtiness, which was just modified, so that it is visited by the next
+	 * flush.
+	 *
+	 * @param entity The modified entity
+	 * @param entry Its entry
+	 *
+	 * @see EntityEntry#markDirty
+	 */
+	default void registerDirtyEntity(Object entity, EntityEntry entry) {
+	}
+
+	/**
+	 * Called after the execution of a flush, to forget about the entities which were flushed.
+	 */
+	default void afterFlush() {
+	}
+
 	/**
 	 * Get the mapping from entity instance to entity entry
 	 *
@@ -667,6 +697,44 @@ public interface PersistenceContext {
 	 */
 	void setDefaultReadOnly(boolean readOnly);
 
+	/**
+	 * Are the snapshots of the entities loaded into this persistence context only taken when they
+	 * are first modified, for entities which notify their own dirtiness?
+	 *
+	 * @return true, the snapshots of such entities are taken when they are first modified;
+	 *         false, the snapshots are taken when the entities are loaded.
+	 *
+	 * @implNote the method default returns {@code false}, for persistence contexts which do not support
+	 * deferring the snapshots
+	 *
+	 * @see org.hibernate.Session#isDefaultReadMostly()
+	 */
+	default boolean isDefaultReadMostly() {
+		return false;
+	}
+
+	/**
+	 * Change whether the snapshots of the modifiable entities loaded into this persistence context
+	 * are taken when they are loaded, or only when they are first modified.
+	 *
+	 * @param readMostly true, the snapshots of the entities which notify their own dirtiness are taken
+	 *                   when they are first modified; false, the snapshots are taken when the entities
+	 *                   are loaded
+	 *
+	 * @throws UnsupportedOperationException if deferring the snapshots is requested from a persistence
+	 * context which does not support it
+	 *
+	 * @implNote the method default only accepts {@code false}, for persistence contexts which do not
+	 * support deferring the snapshots
+	 *
+	 * @see org.hibernate.Session#setDefaultReadMostly(boolean)
+	 */
+	default void setDefaultReadMostly(boolean readMostly) {
+		if ( readMostly ) {
+			throw new UnsupportedOperationException( "This persistence context does not support deferring the snapshots" );
+		}
+	}
+
 	/**
 	 * Is the entity or proxy read-only?
 	 * <p/>
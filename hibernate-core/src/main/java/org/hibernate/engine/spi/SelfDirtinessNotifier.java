@@ -0,0 +1,19 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.spi;
+
+/**
+ * Marks a {@link SelfDirtinessTracker} which notifies its {@link EntityEntry} (see {@link EntityEntry#markDirty})
+ * when its first change is tracked, that is when it becomes dirty.  Such entities need not be visited by a flush
+ * as long as they are not dirty.
+ * <p/>
+ * This contract is introduced into the entity by the bytecode enhancer, along with the dirty tracking.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#FLUSH_INCREMENTAL_DIRTY_CHECKING
+ */
+public interface SelfDirtinessNotifier extends SelfDirtinessTracker {
+}
@@ -750,6 +750,16 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		delegate.setDefaultReadOnly( readOnly );
 	}
 
+	@Override
+	public boolean isDefaultReadMostly() {
+		return delegate.isDefaultReadMostly();
+	}
+
+	@Override
+	public void setDefaultReadMostly(boolean readMostly) {
+		delegate.setDefaultReadMostly( readMostly );
+	}
+
 	@Override
 	public Serializable getIdentifier(Object object) {
 		return delegate.getIdentifier( object );
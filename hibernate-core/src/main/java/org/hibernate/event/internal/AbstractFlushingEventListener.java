@@ -12,6 +12,7 @@ import java.util.Map;
 
 import org.hibernate.HibernateException;
 import org.hibernate.Interceptor;
+import org.hibernate.SessionEventListener.FlushPhase;
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
@@ -38,6 +39,7 @@ import org.hibernate.event.spi.FlushEvent;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.EntityPrinter;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
@@ -78,19 +80,62 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		session.getInterceptor().preFlush( persistenceContext.managedEntitiesIterator() );
 
-		prepareEntityFlushes( session, persistenceContext );
+		long phaseStart = flushPhaseStart( session, FlushPhase.CASCADE );
+		try {
+			prepareEntityFlushes( session, persistenceContext );
+		}
+		finally {
+			flushPhaseEnd( session, FlushPhase.CASCADE, phaseStart );
+		}
 		// we could move this inside if we wanted to
 		// tolerate collection initializations during
 		// collection dirty checking:
-		prepareCollectionFlushes( persistenceContext );
+		phaseStart = flushPhaseStart( session, FlushPhase.COLLECTION_PROCESSING );
+		try {
+			prepareCollectionFlushes( persistenceContext );
+		}
+		finally {
+			flushPhaseEnd( session, FlushPhase.COLLECTION_PROCESSING, phaseStart );
+		}
 		// now, any collections that are initialized
 		// inside this block do not get updated - they
 		// are ignored until the next flush
 
 		persistenceContext.setFlushing( true );
 		try {
-			int entityCount = flushEntities( event, persistenceContext );
-			int collectionCount = flushCollections( session, persistenceContext );
+			phaseStart = flushPhaseStart( session, FlushPhase.ENTITY_DIRTY_CHECK );
+			final int entityCount;
+			try {
+				entityCount = flushEntities( event, persistenceContext );
+			}
+			finally {
+				flushPhaseEnd( session, FlushPhase.ENTITY_DIRTY_CHECK, phaseStart );
+			}
+
+			phaseStart = flushPhaseStart( session, FlushPhase.ACTION_SORTING );
+			try {
+				session.getActionQueue().sortActions();
+			}
+			finally {
+				flushPhaseEnd( session, FlushPhase.ACTION_SORTING, phaseStart );
+			}
+
+			phaseStart = flushPhaseStart( session, FlushPhase.COLLECTION_PROCESSING );
+			final int collectionCount;
+			try {
+				collectionCount = flushCollections( session, persistenceContext );
+			}
+			finally {
+				flushPhaseEnd( session, FlushPhase.COLLECTION_PROCESSING, phaseStart );
+			}
+
+			phaseStart = flushPhaseStart( session, FlushPhase.ACTION_SORTING );
+			try {
+				session.getActionQueue().sortCollectionActions();
+			}
+			finally {
+				flushPhaseEnd( session, FlushPhase.ACTION_SORTING, phaseStart );
+			}
 
 			event.setNumberOfEntitiesProcessed( entityCount );
 			event.setNumberOfCollectionsProcessed( collectionCount );
@@ -103,6 +148,27 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		logFlushResults( event );
 	}
 
+	/**
+	 * Notify the start of a flush phase.
+	 *
+	 * @return The start time of the phase
+	 */
+	private static long flushPhaseStart(EventSource session, FlushPhase phase) {
+		session.getEventListenerManager().flushPhaseStart( phase );
+		return System.nanoTime();
+	}
+
+	/**
+	 * Notify the end of a flush phase, recording its duration in the statistics.
+	 */
+	private static void flushPhaseEnd(EventSource session, FlushPhase phase, long phaseStart) {
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.flushPhaseExecuted( phase, System.nanoTime() - phaseStart );
+		}
+		session.getEventListenerManager().flushPhaseEnd( phase );
+	}
+
 	@SuppressWarnings( value = {"unchecked"} )
 	private void logFlushResults(FlushEvent event) {
 		if ( !LOG.isDebugEnabled() ) {
@@ -140,7 +206,7 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 		final Object anything = getAnything();
 		//safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
-		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
+		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeFlushableEntityEntries() ) {
 //		for ( Map.Entry me : IdentityMap.concurrentEntries( persistenceContext.getEntityEntries() ) ) {
 			EntityEntry entry = (EntityEntry) me.getValue();
 			Status status = entry.getStatus();
@@ -216,7 +282,10 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 		// So this needs to be safe from concurrent modification problems.
 
-		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
+		// Unless incremental dirty checking is enabled, these are all the entities: the unmodified entities
+		// notifying their own dirtiness are otherwise left out.
+
+		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeFlushableEntityEntries();
 		final int count = entityEntries.length;
 
 		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
@@ -234,8 +303,6 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 			}
 		}
 
-		source.getActionQueue().sortActions();
-
 		return count;
 	}
 
@@ -312,8 +379,6 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 					}
 				}, true );
 
-		actionQueue.sortCollectionActions();
-
 		return count;
 	}
 
@@ -338,6 +403,7 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		// For more information, see HHH-2763
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final long phaseStart = flushPhaseStart( session, FlushPhase.EXECUTION );
 		try {
 			jdbcCoordinator.flushBeginning();
 			persistenceContext.setFlushing( true );
@@ -350,6 +416,7 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		finally {
 			persistenceContext.setFlushing( false );
 			jdbcCoordinator.flushEnding();
+			flushPhaseEnd( session, FlushPhase.EXECUTION, phaseStart );
 		}
 	}
 
@@ -374,6 +441,9 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		// the batch fetching queues should also be cleared - especially the collection batch fetching one
 		persistenceContext.getBatchFetchQueue().clear();
 
+		// the flushed entities need not be visited by the next flush, unless modified again
+		persistenceContext.afterFlush();
+
 		persistenceContext.forEachCollectionEntry(
 				(persistentCollection, collectionEntry) -> {
 					collectionEntry.postFlush( persistentCollection );
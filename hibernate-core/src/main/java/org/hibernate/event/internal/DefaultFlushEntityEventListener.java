@@ -505,7 +505,31 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 	 * Perform a dirty check, and attach the results to the event
 	 */
 	protected void dirtyCheck(final FlushEntityEvent event) throws HibernateException {
+		final SessionImplementor session = event.getSession();
+		final String entityName = event.getEntityEntry().getPersister().getEntityName();
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final boolean timeDirtyCheck = statistics.isStatisticsEnabled();
+		final long dirtyCheckStart = timeDirtyCheck ? System.nanoTime() : 0;
+		session.getEventListenerManager().dirtyCalculationStart( entityName );
+		boolean dirty = false;
+		try {
+			findDirtyProperties( event );
+			final int[] dirtyProperties = event.getDirtyProperties();
+			dirty = dirtyProperties != null && dirtyProperties.length > 0;
+		}
+		finally {
+			session.getEventListenerManager().dirtyCalculationEnd( entityName, dirty );
+			if ( timeDirtyCheck ) {
+				statistics.entityDirtyChecked( entityName, System.nanoTime() - dirtyCheckStart );
+			}
+		}
+	}
 
+	/**
+	 * Find the dirty properties, through the Interceptor, the bytecode enhancement, the custom dirtiness strategy or
+	 * the snapshots of the entity, and attach them to the event
+	 */
+	private void findDirtyProperties(final FlushEntityEvent event) {
 		final Object entity = event.getEntity();
 		final Object[] values = event.getPropertyValues();
 		final SessionImplementor session = event.getSession();
@@ -574,48 +598,41 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 		if ( dirtyProperties == null ) {
 			// Interceptor returned null, so do the dirtycheck ourself, if possible
-			try {
-				session.getEventListenerManager().dirtyCalculationStart();
-
-				interceptorHandledDirtyCheck = false;
-				// object loaded by update()
-				dirtyCheckPossible = loadedState != null;
-				if ( dirtyCheckPossible ) {
-					// dirty check against the usual snapshot of the entity
-					dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+			interceptorHandledDirtyCheck = false;
+			// object loaded by update()
+			dirtyCheckPossible = loadedState != null;
+			if ( dirtyCheckPossible ) {
+				// dirty check against the usual snapshot of the entity
+				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+			}
+			else if ( entry.getStatus() == Status.DELETED && !event.getEntityEntry().isModifiableEntity() ) {
+				// A non-modifiable (e.g., read-only or immutable) entity needs to be have
+				// references to transient entities set to null before being deleted. No other
+				// fields should be updated.
+				if ( values != entry.getDeletedState() ) {
+					throw new IllegalStateException(
+							"Entity has status Status.DELETED but values != entry.getDeletedState"
+					);
 				}
-				else if ( entry.getStatus() == Status.DELETED && !event.getEntityEntry().isModifiableEntity() ) {
-					// A non-modifiable (e.g., read-only or immutable) entity needs to be have
-					// references to transient entities set to null before being deleted. No other
-					// fields should be updated.
-					if ( values != entry.getDeletedState() ) {
-						throw new IllegalStateException(
-								"Entity has status Status.DELETED but values != entry.getDeletedState"
-						);
-					}
-					// Even if loadedState == null, we can dirty-check by comparing currentState and
-					// entry.getDeletedState() because the only fields to be updated are those that
-					// refer to transient entities that are being set to null.
-					// - currentState contains the entity's current property values.
-					// - entry.getDeletedState() contains the entity's current property values with
-					//   references to transient entities set to null.
-					// - dirtyProperties will only contain properties that refer to transient entities
-					final Object[] currentState = persister.getPropertyValues( event.getEntity() );
-					dirtyProperties = persister.findDirty( entry.getDeletedState(), currentState, entity, session );
+				// Even if loadedState == null, we can dirty-check by comparing currentState and
+				// entry.getDeletedState() because the only fields to be updated are those that
+				// refer to transient entities that are being set to null.
+				// - currentState contains the entity's current property values.
+				// - entry.getDeletedState() contains the entity's current property values with
+				//   references to transient entities set to null.
+				// - dirtyProperties will only contain properties that refer to transient entities
+				final Object[] currentState = persister.getPropertyValues( event.getEntity() );
+				dirtyProperties = persister.findDirty( entry.getDeletedState(), currentState, entity, session );
+				dirtyCheckPossible = true;
+			}
+			else {
+				// dirty check against the database snapshot, if possible/necessary
+				final Object[] databaseSnapshot = getDatabaseSnapshot( session, persister, id );
+				if ( databaseSnapshot != null ) {
+					dirtyProperties = persister.findModified( databaseSnapshot, values, entity, session );
 					dirtyCheckPossible = true;
+					event.setDatabaseSnapshot( databaseSnapshot );
 				}
-				else {
-					// dirty check against the database snapshot, if possible/necessary
-					final Object[] databaseSnapshot = getDatabaseSnapshot( session, persister, id );
-					if ( databaseSnapshot != null ) {
-						dirtyProperties = persister.findModified( databaseSnapshot, values, entity, session );
-						dirtyCheckPossible = true;
-						event.setDatabaseSnapshot( databaseSnapshot );
-					}
-				}
-			}
-			finally {
-				session.getEventListenerManager().dirtyCalculationEnd( dirtyProperties != null );
 			}
 		}
 		else {
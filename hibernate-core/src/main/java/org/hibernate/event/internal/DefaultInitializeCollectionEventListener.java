@@ -146,6 +146,10 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 				ce,
 				factory
 		);
+		if ( cacheEntry == null ) {
+			// the cached entry is not usable, e.g. it was written for a different mapping
+			return false;
+		}
 
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 		cacheEntry.assemble( collection, persister, persistenceContext.getCollectionOwner( id, persister ) );
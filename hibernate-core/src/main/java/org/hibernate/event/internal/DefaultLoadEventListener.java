@@ -7,6 +7,7 @@
 package org.hibernate.event.internal;
 
 import java.io.Serializable;
+import java.util.concurrent.CountDownLatch;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
@@ -14,6 +15,7 @@ import org.hibernate.NonUniqueObjectException;
 import org.hibernate.PersistentObjectException;
 import org.hibernate.TypeMismatchException;
 import org.hibernate.action.internal.DelayedPostInsertIdentifier;
+import org.hibernate.cache.spi.CacheLoadCoalescer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.EntityEntry;
@@ -453,12 +455,7 @@ public class DefaultLoadEventListener implements LoadEventListener {
 		final EntityDataAccess cache = persister.getCacheAccessStrategy();
 		final boolean canWriteToCache = persister.canWriteToCache();
 		if ( canWriteToCache ) {
-			ck = cache.generateCacheKey(
-					event.getEntityId(),
-					persister,
-					source.getFactory(),
-					source.getTenantIdentifier()
-			);
+			ck = CacheEntityLoaderHelper.INSTANCE.getCacheKey( event, persister );
 			lock = cache.lockItem( source, ck, null );
 		}
 		else {
@@ -534,7 +531,7 @@ public class DefaultLoadEventListener implements LoadEventListener {
 						MessageHelper.infoString( persister, event.getEntityId(), session.getFactory() )
 				);
 			}
-			entity = loadFromDatasource( event, persister );
+			entity = coalesceLoadFromDatasource( event, persister, keyToLoad );
 		}
 
 		if ( entity != null && persister.hasNaturalIdentifier() ) {
@@ -553,6 +550,62 @@ public class DefaultLoadEventListener implements LoadEventListener {
 		return entity;
 	}
 
+	/**
+	 * Loads the entity from the datasource, unless another session is already
+	 * loading it into the second-level cache, in which case this load waits for
+	 * the other one and then reads the entity from the cache.
+	 *
+	 * @param event The load event
+	 * @param persister The persister for the entity being requested for load
+	 * @param keyToLoad The EntityKey representing the entity to be loaded.
+	 *
+	 * @return The loaded entity, or null if not found.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_LOAD_COALESCING
+	 */
+	private Object coalesceLoadFromDatasource(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final EntityKey keyToLoad) {
+		final EventSource session = event.getSession();
+		final CacheLoadCoalescer loadCoalescer = session.getFactory().getCache().getLoadCoalescer();
+		if ( loadCoalescer == null
+				|| !persister.canReadFromCache()
+				|| !persister.canWriteToCache()
+				|| !session.getCacheMode().isGetEnabled()
+				|| !session.getCacheMode().isPutEnabled()
+				|| !event.getLockMode().lessThan( LockMode.READ )
+				|| event.getInstanceToLoad() != null ) {
+			return loadFromDatasource( event, persister );
+		}
+
+		final Object ck = CacheEntityLoaderHelper.INSTANCE.getCacheKey( event, persister );
+		final CountDownLatch inFlightLoad = loadCoalescer.startLoad( ck );
+		if ( inFlightLoad == null ) {
+			try {
+				return loadFromDatasource( event, persister );
+			}
+			finally {
+				loadCoalescer.endLoad( ck );
+			}
+		}
+
+		if ( loadCoalescer.awaitLoad( inFlightLoad ) ) {
+			final Object entity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( event, persister, keyToLoad );
+			if ( entity != null ) {
+				if ( LOG.isTraceEnabled() ) {
+					LOG.tracev(
+							"Resolved object in second-level cache after its load by another session: {0}",
+							MessageHelper.infoString( persister, event.getEntityId(), session.getFactory() )
+					);
+				}
+				return entity;
+			}
+		}
+		// the entry is not readable by this session, or the other load took too long
+		return loadFromDatasource( event, persister );
+	}
+
 	/**
 	 * Performs the process of loading an entity from the configured
 	 * underlying datasource.
@@ -341,6 +341,13 @@ public class DefaultMergeEventListener extends AbstractSaveEventListener impleme
 				throw new StaleObjectStateException( entityName, id );
 			}
 
+			// copyValues does not notify the changes before applying them,
+			// so take the snapshot of a read-mostly entity beforehand
+			final EntityEntry targetEntry = source.getPersistenceContextInternal().getEntry( target );
+			if ( targetEntry != null ) {
+				targetEntry.takeDiscardedLoadedState( target );
+			}
+
 			// cascade first, so that all unsaved objects get their
 			// copy created before we actually copy
 			cascadeOnMerge( source, persister, entity, copyCache );
@@ -47,6 +47,7 @@ public class LoadEvent extends AbstractEvent {
 	private Object result;
 	private PostLoadEvent postLoadEvent;
 	private Boolean readOnly;
+	private Object cacheKey;
 
 	public LoadEvent(Serializable entityId, Object instanceToLoad, EventSource source, Boolean readOnly) {
 		this( entityId, null, instanceToLoad, DEFAULT_LOCK_OPTIONS, false, source, readOnly );
@@ -118,6 +119,7 @@ public class LoadEvent extends AbstractEvent {
 
 	public void setEntityId(Serializable entityId) {
 		this.entityId = entityId;
+		this.cacheKey = null;
 	}
 
 	public String getEntityClassName() {
@@ -126,6 +128,7 @@ public class LoadEvent extends AbstractEvent {
 
 	public void setEntityClassName(String entityClassName) {
 		this.entityClassName = entityClassName;
+		this.cacheKey = null;
 	}
 
 	public Object getInstanceToLoad() {
@@ -202,4 +205,16 @@ public class LoadEvent extends AbstractEvent {
 	public void setReadOnly(Boolean readOnly) {
 		this.readOnly = readOnly;
 	}
+
+	/**
+	 * The second-level cache key of the entity to load, kept so that it is generated once for all the cache
+	 * operations of the load.  Reset when the entity to load changes.
+	 */
+	public Object getCacheKey() {
+		return cacheKey;
+	}
+
+	public void setCacheKey(Object cacheKey) {
+		this.cacheKey = cacheKey;
+	}
 }
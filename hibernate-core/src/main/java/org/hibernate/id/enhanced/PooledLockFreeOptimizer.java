@@ -0,0 +1,176 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledOptimizer} which does not hold a lock while handing out values.
+ * <p/>
+ * The database value is interpreted exactly as {@link PooledOptimizer} does (as the hi value of the current
+ * range), so both optimizers can be used interchangeably against the same table or sequence.  However, values
+ * within the current range are handed out with a single atomic increment; only the retrieval of the next range
+ * from the database is serialized.
+ *
+ * @see PooledOptimizer
+ * @see PooledStripedOptimizer
+ */
+public class PooledLockFreeOptimizer extends AbstractOptimizer implements InitialValueAwareOptimizer {
+	private static final CoreMessageLogger log = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			PooledLockFreeOptimizer.class.getName()
+	);
+
+	/**
+	 * A range of values, from {@link #next} up to and including {@link #hi}.  The next value is
+	 * incremented past {@link #hi} once the range is exhausted.
+	 */
+	static final class Block {
+		final long hi;
+		final AtomicLong next;
+
+		Block(long lo, long hi) {
+			this.hi = hi;
+			this.next = new AtomicLong( lo );
+		}
+	}
+
+	static final class GenerationState {
+		private volatile Block block;
+		// only written while holding the GenerationState monitor
+		private volatile IntegralDataTypeHolder lastSourceValue;
+	}
+
+	private final GenerationState noTenantState = new GenerationState();
+	private final ConcurrentMap<String, GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	private long initialValue = -1;
+
+	/**
+	 * Constructs a PooledLockFreeOptimizer
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLockFreeOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		if ( log.isTraceEnabled() ) {
+			log.tracev(
+					"Creating lock-free pooled optimizer with [incrementSize={0}; returnClass={1}]",
+					incrementSize,
+					returnClass.getName()
+			);
+		}
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+		while ( true ) {
+			final Block block = generationState.block;
+			if ( block != null ) {
+				final long value = block.next.getAndIncrement();
+				if ( value <= block.hi ) {
+					return toIdentifier( value );
+				}
+			}
+			refill( generationState, block, callback );
+		}
+	}
+
+	/**
+	 * Reserve up to {@code count} consecutive values, fetching a new range from the database if needed.
+	 * The returned block may hold less values than requested when it is cut at the end of the current range.
+	 */
+	Block reserve(GenerationState generationState, AccessCallback callback, int count) {
+		while ( true ) {
+			final Block block = generationState.block;
+			if ( block != null ) {
+				final long start = block.next.getAndAdd( count );
+				if ( start <= block.hi ) {
+					return new Block( start, Math.min( start + count - 1, block.hi ) );
+				}
+			}
+			refill( generationState, block, callback );
+		}
+	}
+
+	private void refill(GenerationState generationState, Block exhausted, AccessCallback callback) {
+		synchronized ( generationState ) {
+			// some other thread may have refilled the range while we were waiting
+			if ( generationState.block == exhausted ) {
+				generationState.block = nextBlock( generationState, callback );
+			}
+		}
+	}
+
+	private Block nextBlock(GenerationState generationState, AccessCallback callback) {
+		final IntegralDataTypeHolder sourceValue = callback.getNextValue();
+		if ( generationState.lastSourceValue == null ) {
+			// same interpretation of the initial value(s) as PooledOptimizer
+			if ( sourceValue.lt( 1 ) ) {
+				log.pooledOptimizerReportedInitialValue( sourceValue );
+			}
+			if ( ( initialValue == -1 && sourceValue.lt( incrementSize ) ) || sourceValue.eq( initialValue ) ) {
+				final IntegralDataTypeHolder hiValue = callback.getNextValue();
+				generationState.lastSourceValue = hiValue;
+				return new Block(
+						IdentifierGeneratorHelper.extractLong( sourceValue ),
+						IdentifierGeneratorHelper.extractLong( hiValue )
+				);
+			}
+		}
+		generationState.lastSourceValue = sourceValue;
+		final long hi = IdentifierGeneratorHelper.extractLong( sourceValue );
+		return new Block( hi - incrementSize + 1, hi );
+	}
+
+	GenerationState locateGenerationState(String tenantIdentifier) {
+		if ( tenantIdentifier == null ) {
+			return noTenantState;
+		}
+		return tenantSpecificState.computeIfAbsent( tenantIdentifier, k -> new GenerationState() );
+	}
+
+	Serializable toIdentifier(long value) {
+		if ( returnClass == Long.class ) {
+			return value;
+		}
+		else if ( returnClass == Integer.class ) {
+			return (int) value;
+		}
+		return IdentifierGeneratorHelper.getIntegralDataTypeHolder( returnClass ).initialize( value ).makeValue();
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		return noTenantState.lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	@Override
+	public void injectInitialValue(long initialValue) {
+		this.initialValue = initialValue;
+	}
+}
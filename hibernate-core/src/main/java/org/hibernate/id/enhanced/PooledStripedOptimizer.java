@@ -0,0 +1,97 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.hibernate.internal.util.MathHelper;
+
+/**
+ * Variation of {@link PooledLockFreeOptimizer} which spreads concurrent callers over a number of stripes
+ * (one per available processor), each stripe handing out values from its own sub-range of the current range.
+ * This avoids having all inserting threads contend on a single counter.
+ * <p/>
+ * Unlike {@link PooledLoThreadLocalOptimizer}, the number of sub-ranges is bounded by the number of stripes, so
+ * the values left unused in the stripes when the application is shut down never exceed one range, whatever the
+ * number of threads.  The generated values are unique, but not monotonically increasing across threads.
+ * <p/>
+ * Values generated for a tenant are not striped.
+ *
+ * @see PooledLockFreeOptimizer
+ */
+public class PooledStripedOptimizer extends PooledLockFreeOptimizer {
+	private final int stripeMask;
+	private final int subRangeSize;
+	private final AtomicReferenceArray<Block> stripes;
+	private final Object[] stripeLocks;
+
+	/**
+	 * Constructs a PooledStripedOptimizer
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledStripedOptimizer(Class returnClass, int incrementSize) {
+		this( returnClass, incrementSize, Runtime.getRuntime().availableProcessors() );
+	}
+
+	PooledStripedOptimizer(Class returnClass, int incrementSize, int concurrencyLevel) {
+		super( returnClass, incrementSize );
+		// no point in having more stripes than values in a range
+		final int stripeCount = MathHelper.ceilingPowerOfTwo(
+				Math.max( 1, Math.min( concurrencyLevel, incrementSize ) )
+		);
+		this.stripeMask = stripeCount - 1;
+		this.subRangeSize = Math.max( 1, incrementSize / stripeCount );
+		this.stripes = new AtomicReferenceArray<>( stripeCount );
+		this.stripeLocks = new Object[stripeCount];
+		for ( int i = 0; i < stripeCount; i++ ) {
+			stripeLocks[i] = new Object();
+		}
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		if ( callback.getTenantIdentifier() != null ) {
+			return super.generate( callback );
+		}
+
+		final int index = stripeIndex();
+		while ( true ) {
+			final Block block = stripes.get( index );
+			if ( block != null ) {
+				final long value = block.next.getAndIncrement();
+				if ( value <= block.hi ) {
+					return toIdentifier( value );
+				}
+			}
+			synchronized ( stripeLocks[index] ) {
+				if ( stripes.get( index ) == block ) {
+					stripes.set( index, reserve( locateGenerationState( null ), callback, subRangeSize ) );
+				}
+			}
+		}
+	}
+
+	private int stripeIndex() {
+		final long threadId = Thread.currentThread().getId();
+		final int hash = (int) ( threadId ^ ( threadId >>> 32 ) ) * 0x9E3779B9;
+		return ( hash ^ ( hash >>> 16 ) ) & stripeMask;
+	}
+
+	/**
+	 * The number of stripes.
+	 * <p/>
+	 * Exposure intended for testing purposes.
+	 *
+	 * @return The number of stripes
+	 */
+	public int getStripeCount() {
+		return stripes.length();
+	}
+}
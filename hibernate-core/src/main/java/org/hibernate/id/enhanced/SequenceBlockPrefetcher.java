@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Fetches the next sequence value in the background once a given number of values of the current block
+ * have been generated, so that the optimizer finds it already available when the block is exhausted.
+ * <p/>
+ * The prefetched value is obtained through a callback which uses its own connection, outside of any
+ * session (and transaction).  Should that fail, the value is obtained through the session as usual.
+ *
+ * @see SequenceStyleGenerator#PREFETCH_THRESHOLD_PARAM
+ */
+class SequenceBlockPrefetcher {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			SequenceBlockPrefetcher.class.getName()
+	);
+
+	private final AccessCallback isolatedCallback;
+	private final int threshold;
+
+	private final AtomicInteger generatedSinceFetch = new AtomicInteger();
+	private final AtomicReference<CompletableFuture<IntegralDataTypeHolder>> prefetched = new AtomicReference<>();
+
+	/**
+	 * Constructs a SequenceBlockPrefetcher
+	 *
+	 * @param isolatedCallback The callback used to fetch values in the background
+	 * @param threshold The number of values generated from a block after which the next value is prefetched
+	 */
+	SequenceBlockPrefetcher(AccessCallback isolatedCallback, int threshold) {
+		this.isolatedCallback = isolatedCallback;
+		this.threshold = Math.max( 1, threshold );
+	}
+
+	/**
+	 * Wrap the session-bound callback so that it hands out the prefetched value, if any.
+	 *
+	 * @param callback The session-bound callback
+	 *
+	 * @return The wrapped callback
+	 */
+	AccessCallback wrap(final AccessCallback callback) {
+		return new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				generatedSinceFetch.set( 0 );
+				final CompletableFuture<IntegralDataTypeHolder> pending = prefetched.getAndSet( null );
+				if ( pending != null ) {
+					try {
+						return pending.join();
+					}
+					catch (RuntimeException e) {
+						LOG.debugf( e, "Unable to prefetch sequence value; obtaining it synchronously" );
+					}
+				}
+				return callback.getNextValue();
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return callback.getTenantIdentifier();
+			}
+		};
+	}
+
+	/**
+	 * Notification that a value has been generated, triggering the prefetch of the next sequence value
+	 * when the threshold is reached.
+	 */
+	void afterGenerate() {
+		// exactly one caller per block reaches the threshold
+		if ( generatedSinceFetch.incrementAndGet() == threshold ) {
+			final CompletableFuture<IntegralDataTypeHolder> pending = new CompletableFuture<>();
+			if ( prefetched.compareAndSet( null, pending ) ) {
+				LOG.tracef( "Prefetching next sequence value after %s generated values", threshold );
+				ExecutorHolder.EXECUTOR.execute(
+						() -> {
+							try {
+								pending.complete( isolatedCallback.getNextValue() );
+							}
+							catch (Throwable t) {
+								pending.completeExceptionally( t );
+							}
+						}
+				);
+			}
+		}
+	}
+
+	/**
+	 * The shared executor, only created when prefetching is actually used.  Its single daemon thread goes away
+	 * when idle.
+	 */
+	private static class ExecutorHolder {
+		private static final ExecutorService EXECUTOR = buildExecutor();
+
+		private static ExecutorService buildExecutor() {
+			final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+					1,
+					1,
+					30,
+					TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(),
+					runnable -> {
+						final Thread thread = new Thread( runnable, "hibernate-sequence-prefetch" );
+						thread.setDaemon( true );
+						return thread;
+					}
+			);
+			executor.allowCoreThreadTimeOut( true );
+			return executor;
+		}
+	}
+}
@@ -6,9 +6,11 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -17,7 +19,9 @@ import org.hibernate.boot.model.relational.Namespace;
 import org.hibernate.boot.model.relational.QualifiedName;
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
@@ -43,7 +47,8 @@ public class SequenceStructure implements DatabaseStructure {
 
 	private String sql;
 	private boolean applyIncrementSizeToSourceValues;
-	private int accessCounter;
+	// incremented by the sessions as well as by the thread prefetching sequence values
+	private final AtomicInteger accessCounter = new AtomicInteger();
 	protected String sequenceName;
 
 	public SequenceStructure(
@@ -71,7 +76,7 @@ public class SequenceStructure implements DatabaseStructure {
 
 	@Override
 	public int getTimesAccessed() {
-		return accessCounter;
+		return accessCounter.get();
 	}
 
 	@Override
@@ -88,7 +93,7 @@ public class SequenceStructure implements DatabaseStructure {
 		return new AccessCallback() {
 			@Override
 			public IntegralDataTypeHolder getNextValue() {
-				accessCounter++;
+				accessCounter.incrementAndGet();
 				try {
 					final PreparedStatement st = session.getJdbcCoordinator().getStatementPreparer().prepareStatement( sql );
 					try {
@@ -133,6 +138,74 @@ public class SequenceStructure implements DatabaseStructure {
 		};
 	}
 
+	/**
+	 * Build an AccessCallback which obtains the next sequence value through a connection of its own,
+	 * independently of any session.
+	 *
+	 * @param jdbcServices The JdbcServices used to obtain connections, log and convert exceptions
+	 *
+	 * @return The isolated callback
+	 */
+	AccessCallback buildIsolatedCallback(final JdbcServices jdbcServices) {
+		return new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				if ( sql == null ) {
+					throw new AssertionFailure( "SequenceStyleGenerator's SequenceStructure was not properly initialized" );
+				}
+				accessCounter.incrementAndGet();
+				final JdbcConnectionAccess connectionAccess = jdbcServices.getBootstrapJdbcConnectionAccess();
+				try {
+					final Connection connection = connectionAccess.obtainConnection();
+					try {
+						jdbcServices.getSqlStatementLogger().logStatement( sql );
+						final IntegralDataTypeHolder value;
+						try ( PreparedStatement st = connection.prepareStatement( sql );
+								ResultSet rs = st.executeQuery() ) {
+							rs.next();
+							value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( numberType );
+							value.initialize( rs, 1 );
+						}
+						if ( !connection.getAutoCommit() ) {
+							connection.commit();
+						}
+						if ( LOG.isDebugEnabled() ) {
+							LOG.debugf( "Sequence value obtained: %s", value.makeValue() );
+						}
+						return value;
+					}
+					catch (SQLException | RuntimeException e) {
+						// do not hand a connection with a pending transaction back to the pool
+						try {
+							if ( !connection.isClosed() && !connection.getAutoCommit() ) {
+								connection.rollback();
+							}
+						}
+						catch (Exception ignore) {
+							LOG.unableToRollbackConnection( ignore );
+						}
+						throw e;
+					}
+					finally {
+						connectionAccess.releaseConnection( connection );
+					}
+				}
+				catch ( SQLException sqle) {
+					throw jdbcServices.getSqlExceptionHelper().convert(
+							sqle,
+							"could not get next sequence value",
+							sql
+					);
+				}
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return null;
+			}
+		};
+	}
+
 	@Override
 	public void prepare(Optimizer optimizer) {
 		applyIncrementSizeToSourceValues = optimizer.applyIncrementSizeToSourceValues();
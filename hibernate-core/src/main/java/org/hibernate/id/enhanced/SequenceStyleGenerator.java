@@ -21,6 +21,7 @@ import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.BulkInsertionCapableIdentifierGenerator;
 import org.hibernate.id.Configurable;
@@ -82,6 +83,20 @@ import org.jboss.logging.Logger;
  *   </tr>
  * </table>
  * <p/>
+ * Configuration parameters used specifically when the underlying structure is a sequence:
+ * <table>
+ * 	 <tr>
+ *     <td><b>NAME</b></td>
+ *     <td><b>DEFAULT</b></td>
+ *     <td><b>DESCRIPTION</b></td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@link #PREFETCH_THRESHOLD_PARAM}</td>
+ *     <td><i>none</i></td>
+ *     <td>The fraction of a block of values to be consumed before the next sequence value is fetched in the background</td>
+ *   </tr>
+ * </table>
+ * <p/>
  * Configuration parameters used specifically when the underlying structure is a table:
  * <table>
  * 	 <tr>
@@ -173,6 +188,20 @@ public class SequenceStyleGenerator
 	public static final String FORCE_TBL_PARAM = "force_table_use";
 
 
+	// sequence-specific parameters ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * The fraction (greater than 0, up to 1) of a block of values which must have been generated before the
+	 * next sequence value is fetched in the background, so that the block can be renewed without waiting on
+	 * the database.  The default is given by {@link AvailableSettings#SEQUENCE_PREFETCH_THRESHOLD}; when
+	 * neither is specified, the next value is only fetched once the block is exhausted.
+	 * <p/>
+	 * Only applies when the underlying structure is a sequence and an optimizer handing out blocks of values
+	 * is used.  Values are never prefetched for a tenant.
+	 */
+	public static final String PREFETCH_THRESHOLD_PARAM = "prefetch_threshold";
+
+
 	// table-specific parameters ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
@@ -192,6 +221,7 @@ public class SequenceStyleGenerator
 	private DatabaseStructure databaseStructure;
 	private Optimizer optimizer;
 	private Type identifierType;
+	private SequenceBlockPrefetcher prefetcher;
 
 	/**
 	 * Getter for property 'databaseStructure'.
@@ -298,6 +328,49 @@ public class SequenceStyleGenerator
 				ConfigurationHelper.getInt( INITIAL_PARAM, params, -1 )
 		);
 		this.databaseStructure.prepare( optimizer );
+		this.prefetcher = buildPrefetcher( params, configurationService, serviceRegistry, incrementSize );
+	}
+
+	private SequenceBlockPrefetcher buildPrefetcher(
+			Properties params,
+			ConfigurationService configurationService,
+			ServiceRegistry serviceRegistry,
+			int incrementSize) {
+		final String threshold = ConfigurationHelper.getString(
+				PREFETCH_THRESHOLD_PARAM,
+				params,
+				configurationService.getSetting( AvailableSettings.SEQUENCE_PREFETCH_THRESHOLD, StandardConverters.STRING )
+		);
+		if ( StringHelper.isEmpty( threshold ) ) {
+			return null;
+		}
+
+		final double fraction;
+		try {
+			fraction = Double.parseDouble( threshold.trim() );
+		}
+		catch (NumberFormatException e) {
+			throw new MappingException( "Invalid sequence prefetch threshold [" + threshold + "]", e );
+		}
+		if ( !( fraction > 0 && fraction <= 1 ) ) {
+			throw new MappingException(
+					"Sequence prefetch threshold must be greater than 0 and at most 1, but was [" + threshold + "]"
+			);
+		}
+
+		if ( incrementSize <= 1
+				|| optimizer instanceof NoopOptimizer
+				|| !( databaseStructure instanceof SequenceStructure ) ) {
+			LOG.debugf( "Ignoring sequence prefetch threshold, as no pooled sequence is used" );
+			return null;
+		}
+
+		return new SequenceBlockPrefetcher(
+				( (SequenceStructure) databaseStructure ).buildIsolatedCallback(
+						serviceRegistry.getService( JdbcServices.class )
+				),
+				(int) Math.ceil( incrementSize * fraction )
+		);
 	}
 
 	/**
@@ -520,7 +593,13 @@ public class SequenceStyleGenerator
 
 	@Override
 	public Serializable generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
-		return optimizer.generate( databaseStructure.buildCallback( session ) );
+		if ( prefetcher == null || session.getTenantIdentifier() != null ) {
+			return optimizer.generate( databaseStructure.buildCallback( session ) );
+		}
+
+		final Serializable value = optimizer.generate( prefetcher.wrap( databaseStructure.buildCallback( session ) ) );
+		prefetcher.afterGenerate();
+		return value;
 	}
 
 
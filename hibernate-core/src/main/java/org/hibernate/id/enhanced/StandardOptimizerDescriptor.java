@@ -43,7 +43,17 @@ public enum StandardOptimizerDescriptor {
 	 * Describes the optimizer for use with tables/sequences that store the chunk information.  Here, specifically the
 	 * lo value is stored in the database and ThreadLocal used to cache the generation state.
 	 */
-	POOLED_LOTL( "pooled-lotl", PooledLoThreadLocalOptimizer.class, true );
+	POOLED_LOTL( "pooled-lotl", PooledLoThreadLocalOptimizer.class, true ),
+	/**
+	 * Describes the optimizer for use with tables/sequences that store the chunk information.  Here, specifically the
+	 * hi value is stored in the database, and values are handed out without locking.
+	 */
+	POOLED_LOCK_FREE( "pooled-lockfree", PooledLockFreeOptimizer.class, true ),
+	/**
+	 * Describes the optimizer for use with tables/sequences that store the chunk information.  Here, specifically the
+	 * hi value is stored in the database, and values are handed out without locking from per-processor sub-ranges.
+	 */
+	POOLED_STRIPED( "pooled-striped", PooledStripedOptimizer.class, true );
 
 	private static final Logger log = Logger.getLogger( StandardOptimizerDescriptor.class );
 
@@ -104,6 +114,12 @@ public enum StandardOptimizerDescriptor {
 		else if ( POOLED_LOTL.externalName.equals( externalName ) ) {
 			return POOLED_LOTL;
 		}
+		else if ( POOLED_LOCK_FREE.externalName.equals( externalName ) ) {
+			return POOLED_LOCK_FREE;
+		}
+		else if ( POOLED_STRIPED.externalName.equals( externalName ) ) {
+			return POOLED_STRIPED;
+		}
 		else {
 			log.debugf( "Unknown optimizer key [%s]; returning null assuming Optimizer impl class name", externalName );
 			return null;
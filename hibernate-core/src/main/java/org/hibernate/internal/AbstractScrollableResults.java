@@ -12,8 +12,10 @@ import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
 
@@ -23,6 +25,7 @@ import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.hql.internal.HolderInstantiator;
 import org.hibernate.loader.Loader;
+import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.type.StandardBasicTypes;
 import org.hibernate.type.Type;
@@ -42,6 +45,7 @@ public abstract class AbstractScrollableResults implements ScrollableResultsImpl
 	private final QueryParameters queryParameters;
 	private final Type[] types;
 	private HolderInstantiator holderInstantiator;
+	private final List<AfterLoadAction> afterLoadActions = new ArrayList<>();
 	private boolean closed;
 
 	protected AbstractScrollableResults(
@@ -93,6 +97,15 @@ public abstract class AbstractScrollableResults implements ScrollableResultsImpl
 		return holderInstantiator;
 	}
 
+	protected List<AfterLoadAction> getAfterLoadActions() {
+		return afterLoadActions;
+	}
+
+	@Override
+	public void addAfterLoadAction(AfterLoadAction afterLoadAction) {
+		afterLoadActions.add( afterLoadAction );
+	}
+
 	@Override
 	public final void close() {
 		if ( this.closed ) {
@@ -72,7 +72,8 @@ public class FetchingScrollableResultsImpl extends AbstractScrollableResults {
 				getResultSet(),
 				getSession(),
 				getQueryParameters(),
-				true
+				true,
+				getAfterLoadActions()
 		);
 
 
@@ -115,7 +116,8 @@ public class FetchingScrollableResultsImpl extends AbstractScrollableResults {
 				getSession(),
 				getQueryParameters(),
 				false,
-				( maxPosition != null && currentPosition > maxPosition )
+				( maxPosition != null && currentPosition > maxPosition ),
+				getAfterLoadActions()
 		);
 
 		currentRow = new Object[] {loadResult};
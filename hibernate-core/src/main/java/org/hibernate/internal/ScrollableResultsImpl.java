@@ -197,7 +197,8 @@ public class ScrollableResultsImpl extends AbstractScrollableResults implements
 					getResultSet(),
 					getSession(),
 					getQueryParameters(),
-					true
+					true,
+					getAfterLoadActions()
 			);
 			if ( result != null && result.getClass().isArray() ) {
 				currentRow = (Object[]) result;
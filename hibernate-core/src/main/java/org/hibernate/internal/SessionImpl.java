@@ -2289,6 +2289,16 @@ public class SessionImpl
 		persistenceContext.setDefaultReadOnly( defaultReadOnly );
 	}
 
+	@Override
+	public boolean isDefaultReadMostly() {
+		return persistenceContext.isDefaultReadMostly();
+	}
+
+	@Override
+	public void setDefaultReadMostly(boolean defaultReadMostly) {
+		persistenceContext.setDefaultReadMostly( defaultReadMostly );
+	}
+
 	@Override
 	public boolean isReadOnly(Object entityOrProxy) {
 		checkOpen();
@@ -0,0 +1,430 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal;
+
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.bulk.BulkLoader;
+import org.hibernate.engine.internal.Versioning;
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.internal.ParameterBindingRecorder;
+import org.hibernate.engine.jdbc.internal.ParameterBindingRecorder.Binding;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.pretty.MessageHelper;
+import org.hibernate.sql.Insert;
+
+/**
+ * Performs {@link org.hibernate.StatelessSession#insertAll}: consecutive bulk insertable entities of the same
+ * type are gathered in chunks, which are loaded through the {@link BulkLoader} of the dialect when possible, and
+ * inserted with batched (multi-row if supported) inserts otherwise.
+ * <p/>
+ * The values of each entity are obtained by binding them, as for a regular insert, to a statement recording
+ * the bindings.  Those recorded bindings are then either handed to the bulk loader, or replayed against the
+ * actual insert statement.
+ */
+class StatelessSessionBulkInsert {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( StatelessSessionBulkInsert.class );
+
+	private static final Object UNLOADABLE = new Object();
+
+	private final StatelessSessionImpl session;
+	private final Dialect dialect;
+	private final BulkLoader bulkLoader;
+
+	private final Map<AbstractEntityPersister, InsertStatement> insertStatements = new HashMap<>();
+
+	private Chunk chunk;
+
+	StatelessSessionBulkInsert(StatelessSessionImpl session) {
+		this.session = session;
+		this.dialect = session.getJdbcServices().getDialect();
+		this.bulkLoader = dialect.getBulkLoader();
+	}
+
+	long insertAll(String entityName, Stream<?> entities) {
+		long count = 0;
+		final Iterator<?> iterator = entities.iterator();
+		while ( iterator.hasNext() ) {
+			final Object entity = iterator.next();
+			final EntityPersister persister = session.getEntityPersister( entityName, entity );
+			if ( chunk != null && chunk.persister != persister ) {
+				executeChunk();
+			}
+			if ( persister instanceof AbstractEntityPersister
+					&& ( (AbstractEntityPersister) persister ).isBulkInsertable() ) {
+				if ( chunk == null ) {
+					chunk = new Chunk( (AbstractEntityPersister) persister );
+				}
+				chunk.add( entity );
+				if ( chunk.rows.size() >= chunk.maxRows ) {
+					executeChunk();
+				}
+			}
+			else {
+				session.insert( entityName, entity );
+			}
+			count++;
+		}
+		executeChunk();
+		session.getJdbcCoordinator().executeBatch();
+		return count;
+	}
+
+	private void executeChunk() {
+		if ( chunk != null ) {
+			// rows inserted (and batched) previously may be referenced by the rows of the chunk
+			session.getJdbcCoordinator().executeBatch();
+			chunk.executeRows();
+			chunk = null;
+		}
+	}
+
+	private class Chunk {
+		private final AbstractEntityPersister persister;
+		private final String sql;
+		private final InsertStatement insertStatement;
+		private final int maxRows;
+		private final ParameterBindingRecorder recorder;
+		private final List<List<Binding>> rows = new ArrayList<>();
+
+		private Chunk(AbstractEntityPersister persister) {
+			this.persister = persister;
+			this.sql = persister.getSQLInsertStrings()[0];
+			this.insertStatement = insertStatements.computeIfAbsent( persister, InsertStatement::from );
+			this.maxRows = maxRows( insertStatement );
+			this.recorder = new ParameterBindingRecorder(
+					"Bulk insert statement [" + sql + "]",
+					() -> session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection(),
+					() -> session.getJdbcCoordinator().getStatementPreparer().prepareStatement( sql )
+			);
+		}
+
+		private void add(Object entity) {
+			final Serializable id = persister.getIdentifierGenerator().generate( session, entity );
+			final Object[] state = persister.getPropertyValues( entity );
+			if ( persister.isVersioned() ) {
+				boolean substitute = Versioning.seedVersion(
+						state,
+						persister.getVersionProperty(),
+						persister.getVersionType(),
+						session
+				);
+				if ( substitute ) {
+					persister.setPropertyValues( entity, state );
+				}
+			}
+			try {
+				persister.dehydrateBulkInsert( id, state, entity, recorder.getStatement(), session );
+			}
+			catch (SQLException e) {
+				throw session.getJdbcServices().getSqlExceptionHelper().convert(
+						e,
+						"could not insert: " + MessageHelper.infoString( persister, id, session.getFactory() ),
+						sql
+				);
+			}
+			persister.setIdentifier( entity, id, session );
+			final PreparedStatement fallbackStatement = recorder.takeFallbackStatement();
+			if ( fallbackStatement != null ) {
+				// the row may reference the rows of the chunk, which are executed first
+				executeRows();
+				insertRow( fallbackStatement, id );
+			}
+			else {
+				rows.add( recorder.extractBindings() );
+			}
+		}
+
+		private void executeRows() {
+			if ( !rows.isEmpty() ) {
+				if ( !load() ) {
+					insert();
+				}
+				rows.clear();
+			}
+		}
+
+		/**
+		 * Insert a row bound to the actual statement, as the binding of its values needed more than recording them.
+		 */
+		private void insertRow(PreparedStatement statement, Serializable id) {
+			final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+			try {
+				Expectations.BASIC.verifyOutcome(
+						jdbcCoordinator.getResultSetReturn().executeUpdate( statement ),
+						statement,
+						-1,
+						sql
+				);
+			}
+			catch (SQLException e) {
+				throw session.getJdbcServices().getSqlExceptionHelper().convert(
+						e,
+						"could not insert: " + MessageHelper.infoString( persister, id, session.getFactory() ),
+						sql
+				);
+			}
+			finally {
+				jdbcCoordinator.getResourceRegistry().release( statement );
+				jdbcCoordinator.afterStatementExecution();
+			}
+		}
+
+		/**
+		 * The number of rows of a chunk: a chunk holds at least one JDBC batch, and at least as many rows as a
+		 * single multi-row insert can bind given the {@link Dialect#getParameterCountLimit() parameter count limit}
+		 * of the database, as in {@link org.hibernate.engine.jdbc.batch.internal.MultiRowInsertBatch}.
+		 */
+		private int maxRows(InsertStatement insertStatement) {
+			final int batchSize = Math.max( 1, session.getConfiguredJdbcBatchSize() );
+			final int parameterCountLimit = dialect.getParameterCountLimit();
+			return insertStatement != null && insertStatement.parameterCount > 0 && parameterCountLimit > 0
+					? Math.max( batchSize, parameterCountLimit / insertStatement.parameterCount )
+					: batchSize;
+		}
+
+		/**
+		 * Load the rows through the bulk loader, if possible.
+		 */
+		private boolean load() {
+			if ( bulkLoader == null || insertStatement == null ) {
+				return false;
+			}
+			final List<Object[]> values = insertStatement.extractValues( rows, bulkLoader );
+			if ( values == null ) {
+				LOG.debugf( "Unable to bulk load %s rows into %s", rows.size(), insertStatement.tableName );
+				return false;
+			}
+			try {
+				final Connection connection = session.getJdbcCoordinator()
+						.getLogicalConnection()
+						.getPhysicalConnection();
+				if ( !bulkLoader.canLoad( connection ) ) {
+					return false;
+				}
+				LOG.debugf( "Bulk loading %s rows into %s", rows.size(), insertStatement.tableName );
+				final long loaded = bulkLoader.load(
+						connection,
+						insertStatement.tableName,
+						insertStatement.columnNames,
+						values
+				);
+				if ( loaded != values.size() ) {
+					throw new StaleStateException(
+							"Bulk load returned unexpected row count; actual row count: " + loaded
+									+ "; expected: " + values.size()
+					);
+				}
+				return true;
+			}
+			catch (SQLException e) {
+				throw session.getJdbcServices().getSqlExceptionHelper().convert(
+						e,
+						"could not bulk load: " + MessageHelper.infoString( persister ),
+						sql
+				);
+			}
+		}
+
+		/**
+		 * Insert the rows using a batch replaying the recorded bindings.
+		 */
+		private void insert() {
+			final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+			final BatchKey batchKey = new BasicBatchKey(
+					persister.getEntityName() + "#BULK_INSERT",
+					Expectations.BASIC,
+					dialect.supportsMultiRowInsert() ? persister::getMultiRowInsertValues : null
+			);
+			try {
+				for ( List<Binding> row : rows ) {
+					final PreparedStatement statement = jdbcCoordinator.getBatch( batchKey )
+							.getBatchStatement( sql, false );
+					for ( Binding binding : row ) {
+						binding.bind( statement, 0 );
+					}
+					jdbcCoordinator.getBatch( batchKey ).addToBatch();
+				}
+				jdbcCoordinator.executeBatch();
+			}
+			catch (SQLException e) {
+				jdbcCoordinator.abortBatch();
+				throw session.getJdbcServices().getSqlExceptionHelper().convert(
+						e,
+						"could not insert: " + MessageHelper.infoString( persister ),
+						sql
+				);
+			}
+		}
+	}
+
+	/**
+	 * The table and columns targeted by the INSERT statement of a persister, with the (1-based) parameter position or
+	 * the constant value of each column, built from the {@link AbstractEntityPersister#getBulkInsert() statement
+	 * metadata} of the persister.
+	 */
+	static class InsertStatement {
+		private final String tableName;
+		private final String[] columnNames;
+		// the constant value of each column, for columns which are not parameters
+		private final Object[] constants;
+		// the (1-based) parameter position of each column, or 0 for constants
+		private final int[] parameterPositions;
+		private final int parameterCount;
+		// whether all the values are either parameters or constants, and can be bulk loaded
+		private final boolean loadable;
+
+		private InsertStatement(
+				String tableName,
+				String[] columnNames,
+				Object[] constants,
+				int[] parameterPositions,
+				int parameterCount,
+				boolean loadable) {
+			this.tableName = tableName;
+			this.columnNames = columnNames;
+			this.constants = constants;
+			this.parameterPositions = parameterPositions;
+			this.parameterCount = parameterCount;
+			this.loadable = loadable;
+		}
+
+		/**
+		 * Describe the INSERT statement of the given persister.
+		 *
+		 * @return The statement, or {@code null} if the persister inserts using custom SQL
+		 */
+		static InsertStatement from(AbstractEntityPersister persister) {
+			final Insert insert = persister.getBulkInsert();
+			if ( insert == null ) {
+				return null;
+			}
+			final Map<String, String> columns = insert.getColumns();
+			final String[] columnNames = new String[columns.size()];
+			final Object[] constants = new Object[columns.size()];
+			final int[] parameterPositions = new int[columns.size()];
+			int position = 0;
+			boolean loadable = true;
+			int i = 0;
+			for ( Map.Entry<String, String> column : columns.entrySet() ) {
+				columnNames[i] = column.getKey();
+				if ( "?".equals( column.getValue() ) ) {
+					parameterPositions[i] = ++position;
+				}
+				else if ( isDiscriminator( persister, column.getKey(), column.getValue() ) ) {
+					constants[i] = persister.getDiscriminatorValue();
+				}
+				else {
+					// an expression (e.g. a column write transformer, or a value generated by the database),
+					// possibly binding parameters itself
+					loadable = false;
+				}
+				i++;
+			}
+			return new InsertStatement( insert.getTableName(), columnNames, constants, parameterPositions, position, loadable );
+		}
+
+		private static boolean isDiscriminator(AbstractEntityPersister persister, String columnName, String value) {
+			return columnName.equals( persister.getDiscriminatorColumnName() )
+					&& value.equals( persister.getDiscriminatorSQLValue() );
+		}
+
+		/**
+		 * Extract the values of each column from the recorded bindings.
+		 *
+		 * @return The values of the rows, or {@code null} if some value cannot be handled by the bulk loader
+		 */
+		List<Object[]> extractValues(List<List<Binding>> rows, BulkLoader bulkLoader) {
+			if ( !loadable ) {
+				return null;
+			}
+			for ( Object constant : constants ) {
+				if ( constant != null && !bulkLoader.canLoad( constant ) ) {
+					return null;
+				}
+			}
+			final List<Object[]> result = new ArrayList<>( rows.size() );
+			final Binding[] bindings = new Binding[parameterCount + 1];
+			for ( List<Binding> row : rows ) {
+				for ( Binding binding : row ) {
+					if ( binding.getPosition() >= bindings.length ) {
+						return null;
+					}
+					bindings[binding.getPosition()] = binding;
+				}
+				final Object[] values = new Object[columnNames.length];
+				for ( int i = 0; i < columnNames.length; i++ ) {
+					if ( parameterPositions[i] == 0 ) {
+						values[i] = constants[i];
+						continue;
+					}
+					final Binding binding = bindings[parameterPositions[i]];
+					if ( binding == null ) {
+						return null;
+					}
+					values[i] = toLoadedValue( binding );
+					if ( values[i] == UNLOADABLE || values[i] != null && !bulkLoader.canLoad( values[i] ) ) {
+						return null;
+					}
+					bindings[parameterPositions[i]] = null;
+				}
+				result.add( values );
+			}
+			return result;
+		}
+
+		/**
+		 * The value to load for the given binding.  Dates, times and timestamps are converted to the local date,
+		 * local time and offset date-time the JDBC driver would send for them: in the time zone of the calendar
+		 * passed along with them (which is the {@link org.hibernate.cfg.AvailableSettings#JDBC_TIME_ZONE JDBC
+		 * time zone} of the session when one is set), or else in the JVM default time zone.
+		 *
+		 * @return The value, or {@link #UNLOADABLE} if the binding is qualified by something else than a calendar
+		 */
+		private static Object toLoadedValue(Binding binding) {
+			final Calendar calendar = binding.getCalendar();
+			if ( !binding.isPlainValue() && calendar == null ) {
+				return UNLOADABLE;
+			}
+			final Object value = binding.getValue();
+			final ZoneId zone = calendar == null ? ZoneId.systemDefault() : calendar.getTimeZone().toZoneId();
+			if ( value instanceof Timestamp ) {
+				return ( (Timestamp) value ).toInstant().atZone( zone ).toOffsetDateTime();
+			}
+			else if ( value instanceof Time ) {
+				return Instant.ofEpochMilli( ( (Time) value ).getTime() ).atZone( zone ).toLocalTime();
+			}
+			else if ( value instanceof java.sql.Date ) {
+				return Instant.ofEpochMilli( ( (java.sql.Date) value ).getTime() ).atZone( zone ).toLocalDate();
+			}
+			else if ( calendar != null ) {
+				return UNLOADABLE;
+			}
+			return value;
+		}
+	}
+}
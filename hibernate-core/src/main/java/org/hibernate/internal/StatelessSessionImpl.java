@@ -11,6 +11,7 @@ import java.sql.Connection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 import javax.transaction.SystemException;
 
 import org.hibernate.CacheMode;
@@ -118,6 +119,20 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		return id;
 	}
 
+	@Override
+	public long insertAll(Stream<?> entities) {
+		checkOpen();
+		return insertAll( null, entities );
+	}
+
+	@Override
+	public long insertAll(String entityName, Stream<?> entities) {
+		checkOpen();
+		try ( Stream<?> stream = entities ) {
+			return new StatelessSessionBulkInsert( this ).insertAll( entityName, stream );
+		}
+	}
+
 
 	// deletes ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
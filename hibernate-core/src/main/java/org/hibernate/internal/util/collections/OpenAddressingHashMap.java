@@ -0,0 +1,516 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link Map} implementation using open addressing with linear probing over parallel arrays.
+ * <p/>
+ * Compared to {@link java.util.HashMap} no node object is allocated per entry: an entry costs one slot in each
+ * of the key, value and hash arrays.  The hash code of each key is cached in the hash array, so that resizing
+ * never invokes {@link Object#hashCode()} again and probing only calls {@link Object#equals(Object)} on keys
+ * having the very same hash.  This makes it a good fit for keys such as
+ * {@link org.hibernate.engine.spi.EntityKey} which are compared often but whose equality check is non trivial.
+ * <p/>
+ * Removed entries leave a tombstone behind, so that iterators are never disturbed by a removal; tombstones
+ * are purged on the next resize.
+ * <p/>
+ * This map does not support {@code null} keys, and is not thread-safe.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+public final class OpenAddressingHashMap<K, V> extends AbstractMap<K, V> {
+	private static final int MINIMUM_CAPACITY = 8;
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	private static final Object TOMBSTONE = new Object();
+
+	private Object[] keys;
+	private Object[] values;
+	private int[] hashes;
+
+	private int size;
+	// number of slots holding a key or a tombstone
+	private int usedSlots;
+	private int resizeThreshold;
+	private int modCount;
+
+	private transient Set<K> keySet;
+	private transient Collection<V> valuesView;
+	private transient Set<Map.Entry<K, V>> entrySet;
+
+	public OpenAddressingHashMap() {
+		this( MINIMUM_CAPACITY );
+	}
+
+	/**
+	 * Constructs a map able to hold the given number of entries without resizing.
+	 *
+	 * @param expectedSize The number of entries expected
+	 */
+	public OpenAddressingHashMap(int expectedSize) {
+		allocate( capacityFor( expectedSize ) );
+	}
+
+	private static int capacityFor(int expectedSize) {
+		// keep the table at most 3/4 full
+		final long required = Math.max( MINIMUM_CAPACITY, (long) expectedSize + ( expectedSize / 3 ) + 1 );
+		if ( required >= MAXIMUM_CAPACITY ) {
+			return MAXIMUM_CAPACITY;
+		}
+		return Integer.highestOneBit( (int) required - 1 ) << 1;
+	}
+
+	private void allocate(int capacity) {
+		keys = new Object[capacity];
+		values = new Object[capacity];
+		hashes = new int[capacity];
+		resizeThreshold = capacity == MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY - 1 : ( capacity >> 2 ) * 3;
+	}
+
+	private static int hash(Object key) {
+		final int h = key.hashCode();
+		// Fibonacci hashing spreads sequential identifiers across the table
+		return h * 0x9E3779B9;
+	}
+
+	private static int mix(int hash, int mask) {
+		return ( hash ^ ( hash >>> 16 ) ) & mask;
+	}
+
+	private int indexOf(Object key) {
+		if ( key == null ) {
+			return -1;
+		}
+		final int hash = hash( key );
+		final Object[] keys = this.keys;
+		final int mask = keys.length - 1;
+		int index = mix( hash, mask );
+		while ( true ) {
+			final Object candidate = keys[index];
+			if ( candidate == null ) {
+				return -1;
+			}
+			if ( candidate != TOMBSTONE && hashes[index] == hash && ( candidate == key || candidate.equals( key ) ) ) {
+				return index;
+			}
+			index = ( index + 1 ) & mask;
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return indexOf( key ) >= 0;
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		final Object[] keys = this.keys;
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( keys[i] != null && keys[i] != TOMBSTONE && Objects.equals( values[i], value ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		final int index = indexOf( key );
+		return index < 0 ? null : (V) values[index];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		if ( key == null ) {
+			throw new NullPointerException( "null keys are not supported" );
+		}
+		final int hash = hash( key );
+		final Object[] keys = this.keys;
+		final int mask = keys.length - 1;
+		int index = mix( hash, mask );
+		int firstTombstone = -1;
+		while ( true ) {
+			final Object candidate = keys[index];
+			if ( candidate == null ) {
+				break;
+			}
+			if ( candidate == TOMBSTONE ) {
+				if ( firstTombstone < 0 ) {
+					firstTombstone = index;
+				}
+			}
+			else if ( hashes[index] == hash && ( candidate == key || candidate.equals( key ) ) ) {
+				final V old = (V) values[index];
+				values[index] = value;
+				return old;
+			}
+			index = ( index + 1 ) & mask;
+		}
+
+		if ( firstTombstone >= 0 ) {
+			index = firstTombstone;
+		}
+		else {
+			usedSlots++;
+		}
+		keys[index] = key;
+		values[index] = value;
+		hashes[index] = hash;
+		size++;
+		modCount++;
+
+		if ( usedSlots > resizeThreshold ) {
+			rehash();
+		}
+		return null;
+	}
+
+	private void rehash() {
+		// grow only if the table is really filled with live entries, otherwise just purge the tombstones
+		final int capacity = size >= ( resizeThreshold >> 1 ) ? keys.length << 1 : keys.length;
+		if ( capacity > MAXIMUM_CAPACITY ) {
+			throw new IllegalStateException( "Map capacity exceeded" );
+		}
+		final Object[] oldKeys = keys;
+		final Object[] oldValues = values;
+		final int[] oldHashes = hashes;
+		allocate( capacity );
+		final int mask = capacity - 1;
+		for ( int i = 0; i < oldKeys.length; i++ ) {
+			final Object key = oldKeys[i];
+			if ( key != null && key != TOMBSTONE ) {
+				int index = mix( oldHashes[i], mask );
+				while ( keys[index] != null ) {
+					index = ( index + 1 ) & mask;
+				}
+				keys[index] = key;
+				values[index] = oldValues[i];
+				hashes[index] = oldHashes[i];
+			}
+		}
+		usedSlots = size;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		final int index = indexOf( key );
+		if ( index < 0 ) {
+			return null;
+		}
+		final V old = (V) values[index];
+		removeAt( index );
+		return old;
+	}
+
+	private void removeAt(int index) {
+		final int next = ( index + 1 ) & ( keys.length - 1 );
+		if ( keys[next] == null ) {
+			// end of a probe sequence, no need for a tombstone
+			keys[index] = null;
+			usedSlots--;
+		}
+		else {
+			keys[index] = TOMBSTONE;
+		}
+		values[index] = null;
+		size--;
+		modCount++;
+	}
+
+	@Override
+	public void clear() {
+		if ( usedSlots > 0 ) {
+			Arrays.fill( keys, null );
+			Arrays.fill( values, null );
+			size = 0;
+			usedSlots = 0;
+			modCount++;
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		final int expectedModCount = modCount;
+		final Object[] keys = this.keys;
+		for ( int i = 0; i < keys.length; i++ ) {
+			final Object key = keys[i];
+			if ( key != null && key != TOMBSTONE ) {
+				action.accept( (K) key, (V) values[i] );
+			}
+		}
+		if ( expectedModCount != modCount ) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override
+	public Set<K> keySet() {
+		if ( keySet == null ) {
+			keySet = new KeySet();
+		}
+		return keySet;
+	}
+
+	@Override
+	public Collection<V> values() {
+		if ( valuesView == null ) {
+			valuesView = new Values();
+		}
+		return valuesView;
+	}
+
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	private abstract class SlotIterator<T> implements Iterator<T> {
+		private int expectedModCount = modCount;
+		private int nextIndex = -1;
+		private int currentIndex = -1;
+
+		SlotIterator() {
+			advance();
+		}
+
+		private void advance() {
+			final Object[] keys = OpenAddressingHashMap.this.keys;
+			do {
+				nextIndex++;
+			} while ( nextIndex < keys.length && ( keys[nextIndex] == null || keys[nextIndex] == TOMBSTONE ) );
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextIndex < keys.length;
+		}
+
+		int nextIndex() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( nextIndex >= keys.length ) {
+				throw new NoSuchElementException();
+			}
+			currentIndex = nextIndex;
+			advance();
+			return currentIndex;
+		}
+
+		@Override
+		public void remove() {
+			if ( currentIndex < 0 ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			// always leave a tombstone: the iterator position must remain valid
+			keys[currentIndex] = TOMBSTONE;
+			values[currentIndex] = null;
+			size--;
+			expectedModCount = ++modCount;
+			currentIndex = -1;
+		}
+	}
+
+	private final class KeyIterator extends SlotIterator<K> {
+		@Override
+		@SuppressWarnings("unchecked")
+		public K next() {
+			return (K) keys[nextIndex()];
+		}
+	}
+
+	private final class ValueIterator extends SlotIterator<V> {
+		@Override
+		@SuppressWarnings("unchecked")
+		public V next() {
+			return (V) values[nextIndex()];
+		}
+	}
+
+	private final class EntryIterator extends SlotIterator<Map.Entry<K, V>> {
+		@Override
+		public Map.Entry<K, V> next() {
+			return new SlotEntry( nextIndex() );
+		}
+	}
+
+	private final class SlotEntry implements Map.Entry<K, V> {
+		private final K key;
+		private V value;
+
+		@SuppressWarnings("unchecked")
+		SlotEntry(int index) {
+			this.key = (K) keys[index];
+			this.value = (V) values[index];
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			return value;
+		}
+
+		@Override
+		public V setValue(V value) {
+			final V old = this.value;
+			this.value = value;
+			final int index = indexOf( key );
+			if ( index < 0 ) {
+				throw new IllegalStateException( "Entry was removed from the map" );
+			}
+			values[index] = value;
+			return old;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( !( o instanceof Map.Entry ) ) {
+				return false;
+			}
+			final Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+			return key.equals( other.getKey() ) && Objects.equals( value, other.getValue() );
+		}
+
+		@Override
+		public int hashCode() {
+			return key.hashCode() ^ Objects.hashCode( value );
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + value;
+		}
+	}
+
+	private final class KeySet extends AbstractSet<K> {
+		@Override
+		public Iterator<K> iterator() {
+			return new KeyIterator();
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return containsKey( o );
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			final int index = indexOf( o );
+			if ( index < 0 ) {
+				return false;
+			}
+			removeAt( index );
+			return true;
+		}
+
+		@Override
+		public void clear() {
+			OpenAddressingHashMap.this.clear();
+		}
+	}
+
+	private final class Values extends AbstractCollection<V> {
+		@Override
+		public Iterator<V> iterator() {
+			return new ValueIterator();
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return containsValue( o );
+		}
+
+		@Override
+		public void clear() {
+			OpenAddressingHashMap.this.clear();
+		}
+	}
+
+	private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+		@Override
+		public Iterator<Map.Entry<K, V>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if ( !( o instanceof Map.Entry ) ) {
+				return false;
+			}
+			final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+			final int index = indexOf( entry.getKey() );
+			return index >= 0 && Objects.equals( values[index], entry.getValue() );
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			if ( !contains( o ) ) {
+				return false;
+			}
+			removeAt( indexOf( ( (Map.Entry<?, ?>) o ).getKey() ) );
+			return true;
+		}
+
+		@Override
+		public void clear() {
+			OpenAddressingHashMap.this.clear();
+		}
+	}
+}
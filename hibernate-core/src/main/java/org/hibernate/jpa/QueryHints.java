@@ -21,6 +21,8 @@ import static org.hibernate.annotations.QueryHints.FOLLOW_ON_LOCKING;
 import static org.hibernate.annotations.QueryHints.NATIVE_LOCKMODE;
 import static org.hibernate.annotations.QueryHints.PASS_DISTINCT_THROUGH;
 import static org.hibernate.annotations.QueryHints.READ_ONLY;
+import static org.hibernate.annotations.QueryHints.STREAM_DETACH_WINDOW;
+import static org.hibernate.annotations.QueryHints.STREAM_PREFETCH_CHUNK_SIZE;
 import static org.hibernate.annotations.QueryHints.TIMEOUT_HIBERNATE;
 import static org.hibernate.annotations.QueryHints.TIMEOUT_JPA;
 
@@ -111,6 +113,10 @@ public class QueryHints {
 
 	public static final String HINT_PASS_DISTINCT_THROUGH = PASS_DISTINCT_THROUGH;
 
+	public static final String HINT_STREAM_DETACH_WINDOW = STREAM_DETACH_WINDOW;
+
+	public static final String HINT_STREAM_PREFETCH_CHUNK_SIZE = STREAM_PREFETCH_CHUNK_SIZE;
+
 	private static final Set<String> HINTS = buildHintsSet();
 
 	private static Set<String> buildHintsSet() {
@@ -127,6 +133,8 @@ public class QueryHints {
 		hints.add( HINT_NATIVE_LOCKMODE );
 		hints.add( HINT_FETCHGRAPH );
 		hints.add( HINT_LOADGRAPH );
+		hints.add( HINT_STREAM_DETACH_WINDOW );
+		hints.add( HINT_STREAM_PREFETCH_CHUNK_SIZE );
 		return java.util.Collections.unmodifiableSet( hints );
 	}
 
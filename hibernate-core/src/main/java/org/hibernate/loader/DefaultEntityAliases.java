@@ -8,6 +8,7 @@ package org.hibernate.loader;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.dialect.Dialect;
 import org.hibernate.internal.util.StringHelper;
@@ -31,6 +32,8 @@ public class DefaultEntityAliases implements EntityAliases {
 	private final String suffix;
 	private final String rowIdAlias;
 	private final Map userProvidedAliases;
+	// the aliases of the subclass properties, by entity name, so that the same arrays are used for each row
+	private final Map<String, String[][]> subclassSuffixedPropertyColumns = new ConcurrentHashMap<>();
 
 	/**
 	 * Calculate and cache select-clause aliases
@@ -134,6 +137,13 @@ public class DefaultEntityAliases implements EntityAliases {
 
 	@Override
 	public String[][] getSuffixedPropertyAliases(Loadable persister) {
+		return subclassSuffixedPropertyColumns.computeIfAbsent(
+				persister.getEntityName(),
+				entityName -> determineSuffixedPropertyAliases( persister )
+		);
+	}
+
+	private String[][] determineSuffixedPropertyAliases(Loadable persister) {
 		final String[] propertyNames = persister.getPropertyNames();
 		final int size = propertyNames.length;
 		final String[][] suffixedPropertyAliases;
@@ -17,6 +17,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -331,6 +332,22 @@ public abstract class Loader {
 			final boolean returnProxies,
 			final ResultTransformer forcedResultTransformer)
 			throws HibernateException, SQLException {
+		return doQueryAndInitializeNonLazyCollections(
+				session,
+				queryParameters,
+				returnProxies,
+				forcedResultTransformer,
+				null
+		);
+	}
+
+	private List doQueryAndInitializeNonLazyCollections(
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters,
+			final boolean returnProxies,
+			final ResultTransformer forcedResultTransformer,
+			final Set<Object> loadedEntities)
+			throws HibernateException, SQLException {
 		final PersistenceContext persistenceContext = session.getPersistenceContext();
 		boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
 		if ( queryParameters.isReadOnlyInitialized() ) {
@@ -347,7 +364,7 @@ public abstract class Loader {
 		List result;
 		try {
 			try {
-				result = doQuery( session, queryParameters, returnProxies, forcedResultTransformer );
+				result = doQuery( session, queryParameters, returnProxies, forcedResultTransformer, loadedEntities );
 			}
 			finally {
 				persistenceContext.afterLoad();
@@ -379,6 +396,28 @@ public abstract class Loader {
 			final SharedSessionContractImplementor session,
 			final QueryParameters queryParameters,
 			final boolean returnProxies) throws HibernateException {
+		return loadSingleRow( resultSet, session, queryParameters, returnProxies, Collections.emptyList() );
+	}
+
+	/**
+	 * Loads a single row from the result set, applying the given actions to the entities loaded from it.
+	 *
+	 * @param resultSet The result set from which to do the load.
+	 * @param session The session from which the request originated.
+	 * @param queryParameters The query parameters specified by the user.
+	 * @param returnProxies Should proxies be generated
+	 * @param afterLoadActions The actions applied to the entities loaded from the row
+	 *
+	 * @return The loaded "row".
+	 *
+	 * @throws HibernateException
+	 */
+	public Object loadSingleRow(
+			final ResultSet resultSet,
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters,
+			final boolean returnProxies,
+			final List<AfterLoadAction> afterLoadActions) throws HibernateException {
 
 		final int entitySpan = getEntityPersisters().length;
 		final List<Object> hydratedObjects = entitySpan == 0 ?
@@ -409,7 +448,8 @@ public abstract class Loader {
 				hydratedObjects,
 				resultSet,
 				session,
-				queryParameters.isReadOnly( session )
+				queryParameters.isReadOnly( session ),
+				afterLoadActions
 		);
 		session.getPersistenceContextInternal().initializeNonLazyCollections();
 		return result;
@@ -420,7 +460,8 @@ public abstract class Loader {
 			final SharedSessionContractImplementor session,
 			final QueryParameters queryParameters,
 			final boolean returnProxies,
-			final EntityKey keyToRead) throws HibernateException {
+			final EntityKey keyToRead,
+			final List<AfterLoadAction> afterLoadActions) throws HibernateException {
 
 		final int entitySpan = getEntityPersisters().length;
 		final List<Object> nullSeparatedHydratedObjects = entitySpan == 0 ?
@@ -473,7 +514,8 @@ public abstract class Loader {
 				nullSeparatedHydratedObjects,
 				resultSet,
 				session,
-				queryParameters.isReadOnly( session )
+				queryParameters.isReadOnly( session ),
+				afterLoadActions
 		);
 		session.getPersistenceContextInternal().initializeNonLazyCollections();
 		return result;
@@ -510,6 +552,29 @@ public abstract class Loader {
 			final SharedSessionContractImplementor session,
 			final QueryParameters queryParameters,
 			final boolean returnProxies) throws HibernateException {
+		return loadSequentialRowsForward( resultSet, session, queryParameters, returnProxies, Collections.emptyList() );
+	}
+
+	/**
+	 * Loads a single logical row from the result set moving forward, applying the given actions to the entities
+	 * loaded from it.
+	 *
+	 * @param resultSet The result set from which to do the load.
+	 * @param session The session from which the request originated.
+	 * @param queryParameters The query parameters specified by the user.
+	 * @param returnProxies Should proxies be generated
+	 * @param afterLoadActions The actions applied to the entities loaded from the logical row
+	 *
+	 * @return The loaded "row".
+	 *
+	 * @throws HibernateException
+	 */
+	public Object loadSequentialRowsForward(
+			final ResultSet resultSet,
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters,
+			final boolean returnProxies,
+			final List<AfterLoadAction> afterLoadActions) throws HibernateException {
 
 		// note that for sequential scrolling, we make the assumption that
 		// the first persister element is the "root entity"
@@ -538,7 +603,7 @@ public abstract class Loader {
 					session
 			);
 
-			return sequentialLoad( resultSet, session, queryParameters, returnProxies, currentKey );
+			return sequentialLoad( resultSet, session, queryParameters, returnProxies, currentKey, afterLoadActions );
 		}
 		catch (SQLException sqle) {
 			throw factory.getJdbcServices().getSqlExceptionHelper().convert(
@@ -570,6 +635,38 @@ public abstract class Loader {
 			final QueryParameters queryParameters,
 			final boolean returnProxies,
 			final boolean isLogicallyAfterLast) throws HibernateException {
+		return loadSequentialRowsReverse(
+				resultSet,
+				session,
+				queryParameters,
+				returnProxies,
+				isLogicallyAfterLast,
+				Collections.emptyList()
+		);
+	}
+
+	/**
+	 * Loads a single logical row from the result set moving backward, applying the given actions to the entities
+	 * loaded from it.
+	 *
+	 * @param resultSet The result set from which to do the load.
+	 * @param session The session from which the request originated.
+	 * @param queryParameters The query parameters specified by the user.
+	 * @param returnProxies Should proxies be generated
+	 * @param isLogicallyAfterLast Whether the cursor is logically after the last row
+	 * @param afterLoadActions The actions applied to the entities loaded from the logical row
+	 *
+	 * @return The loaded "row".
+	 *
+	 * @throws HibernateException
+	 */
+	public Object loadSequentialRowsReverse(
+			final ResultSet resultSet,
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters,
+			final boolean returnProxies,
+			final boolean isLogicallyAfterLast,
+			final List<AfterLoadAction> afterLoadActions) throws HibernateException {
 
 		// note that for sequential scrolling, we make the assumption that
 		// the first persister element is the "root entity"
@@ -665,7 +762,7 @@ public abstract class Loader {
 			resultSet.next();
 
 			// and doAfterTransactionCompletion the load
-			return sequentialLoad( resultSet, session, queryParameters, returnProxies, keyToRead );
+			return sequentialLoad( resultSet, session, queryParameters, returnProxies, keyToRead, afterLoadActions );
 		}
 		catch (SQLException sqle) {
 			throw factory.getJdbcServices().getSqlExceptionHelper().convert(
@@ -941,7 +1038,8 @@ public abstract class Loader {
 			final SharedSessionContractImplementor session,
 			final QueryParameters queryParameters,
 			final boolean returnProxies,
-			final ResultTransformer forcedResultTransformer) throws SQLException, HibernateException {
+			final ResultTransformer forcedResultTransformer,
+			final Set<Object> loadedEntities) throws SQLException, HibernateException {
 
 		final RowSelection selection = queryParameters.getRowSelection();
 		final int maxRows = LimitHelper.hasMaxRows( selection ) ?
@@ -949,6 +1047,10 @@ public abstract class Loader {
 				Integer.MAX_VALUE;
 
 		final List<AfterLoadAction> afterLoadActions = new ArrayList<AfterLoadAction>();
+		if ( loadedEntities != null ) {
+			// collects the entities hydrated from the result set, as opposed to those already in the session
+			afterLoadActions.add( (actionSession, entity, persister) -> loadedEntities.add( entity ) );
+		}
 
 		final SqlStatementWrapper wrapper = executeQueryStatement( queryParameters, false, afterLoadActions, session );
 		final ResultSet rs = wrapper.getResultSet();
@@ -2728,7 +2830,10 @@ public abstract class Loader {
 		);
 
 		if ( result == null ) {
-			result = doList( session, queryParameters, key.getResultTransformer() );
+			final Set<Object> loadedEntities = factory.getSessionFactoryOptions().isQueryCacheInlineEntitiesEnabled()
+					? Collections.newSetFromMap( new IdentityHashMap<>() )
+					: null;
+			result = doList( session, queryParameters, key.getResultTransformer(), loadedEntities );
 
 			putResultInQueryCache(
 					session,
@@ -2736,7 +2841,8 @@ public abstract class Loader {
 					resultTypes,
 					queryCache,
 					key,
-					result
+					result,
+					loadedEntities
 			);
 		}
 
@@ -2846,11 +2952,26 @@ public abstract class Loader {
 			final QueryResultsCache queryCache,
 			final QueryKey key,
 			final List result) {
+		putResultInQueryCache( session, queryParameters, resultTypes, queryCache, key, result, null );
+	}
+
+	/**
+	 * @param loadedEntities The entities hydrated by the execution of the query, or {@code null} if unknown
+	 */
+	protected void putResultInQueryCache(
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters,
+			final Type[] resultTypes,
+			final QueryResultsCache queryCache,
+			final QueryKey key,
+			final List result,
+			final Set<Object> loadedEntities) {
 		if ( session.getCacheMode().isPutEnabled() ) {
 			boolean put = queryCache.put(
 					key,
 					result,
 					key.getResultTransformer().getCachedResultTypes( resultTypes ),
+					loadedEntities,
 					session
 			);
 			final StatisticsImplementor statistics = factory.getStatistics();
@@ -2874,6 +2995,15 @@ public abstract class Loader {
 			final QueryParameters queryParameters,
 			final ResultTransformer forcedResultTransformer)
 			throws HibernateException {
+		return doList( session, queryParameters, forcedResultTransformer, null );
+	}
+
+	private List doList(
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters,
+			final ResultTransformer forcedResultTransformer,
+			final Set<Object> loadedEntities)
+			throws HibernateException {
 
 		final StatisticsImplementor statistics = getFactory().getStatistics();
 		final boolean stats = statistics.isStatisticsEnabled();
@@ -2884,7 +3014,13 @@ public abstract class Loader {
 
 		List result;
 		try {
-			result = doQueryAndInitializeNonLazyCollections( session, queryParameters, true, forcedResultTransformer );
+			result = doQueryAndInitializeNonLazyCollections(
+					session,
+					queryParameters,
+					true,
+					forcedResultTransformer,
+					loadedEntities
+			);
 		}
 		catch (SQLException sqle) {
 			throw factory.getJdbcServices().getSqlExceptionHelper().convert(
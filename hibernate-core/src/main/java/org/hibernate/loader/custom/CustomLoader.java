@@ -544,8 +544,9 @@ public class CustomLoader extends Loader {
 			final Type[] resultTypes,
 			final QueryResultsCache queryCache,
 			final QueryKey key,
-			final List result) {
-		super.putResultInQueryCache( session, queryParameters, this.resultTypes, queryCache, key, result );
+			final List result,
+			final Set<Object> loadedEntities) {
+		super.putResultInQueryCache( session, queryParameters, this.resultTypes, queryCache, key, result, loadedEntities );
 	}
 
 }
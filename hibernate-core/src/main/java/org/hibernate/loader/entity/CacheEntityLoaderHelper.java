@@ -7,6 +7,9 @@
 package org.hibernate.loader.entity;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
@@ -25,6 +28,7 @@ import org.hibernate.engine.spi.ManagedEntity;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.internal.AbstractLockUpgradeEventListener;
 import org.hibernate.event.service.spi.EventListenerRegistry;
@@ -37,6 +41,8 @@ import org.hibernate.event.spi.PostLoadEventListener;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.FastSessionServices;
+import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.proxy.HibernateProxy;
@@ -151,6 +157,91 @@ public class CacheEntityLoaderHelper extends AbstractLockUpgradeEventListener {
 		return processCachedEntry( event, persister, ce, source, entityKey );
 	}
 
+	/**
+	 * Reads the second-level cache entries of several entities at once, e.g. when multi-loading them, the
+	 * entries being then passed to {@link #loadFromSecondLevelCache(LoadEvent, EntityPersister, EntityKey, Map)}.
+	 *
+	 * @param persister The persister for the entities being requested for load
+	 * @param entityKeys The keys of the entities
+	 * @param lockMode The lock mode the entities are requested with
+	 * @param session The session
+	 *
+	 * @return The second-level cache entries found, by entity key
+	 */
+	public Map<EntityKey, Object> getFromSecondLevelCache(
+			final EntityPersister persister,
+			final Collection<EntityKey> entityKeys,
+			final LockMode lockMode,
+			final SharedSessionContractImplementor session) {
+		final boolean useCache = persister.canReadFromCache()
+				&& session.getCacheMode().isGetEnabled()
+				&& lockMode.lessThan( LockMode.READ );
+
+		if ( !useCache || entityKeys.isEmpty() ) {
+			return Collections.emptyMap();
+		}
+
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = session.getFactory();
+		final Map<Object, EntityKey> entityKeysByCacheKey = CollectionHelper.mapOfSize( entityKeys.size() );
+		for ( EntityKey entityKey : entityKeys ) {
+			final Object ck = cache.generateCacheKey(
+					entityKey.getIdentifier(),
+					persister,
+					factory,
+					session.getTenantIdentifier()
+			);
+			entityKeysByCacheKey.put( ck, entityKey );
+		}
+
+		final Map<Object, Object> cachedEntries = CacheHelper.fromSharedCache( session, entityKeysByCacheKey.keySet(), cache );
+		final StatisticsImplementor statistics = factory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			final NavigableRole rootEntityRole = StatsHelper.INSTANCE.getRootEntityRole( persister );
+			final String regionName = cache.getRegion().getName();
+			for ( Object ck : entityKeysByCacheKey.keySet() ) {
+				if ( cachedEntries.containsKey( ck ) ) {
+					statistics.entityCacheHit( rootEntityRole, regionName );
+				}
+				else {
+					statistics.entityCacheMiss( rootEntityRole, regionName );
+				}
+			}
+		}
+
+		final Map<EntityKey, Object> entries = CollectionHelper.mapOfSize( cachedEntries.size() );
+		for ( Map.Entry<Object, Object> cachedEntry : cachedEntries.entrySet() ) {
+			entries.put( entityKeysByCacheKey.get( cachedEntry.getKey() ), cachedEntry.getValue() );
+		}
+		return entries;
+	}
+
+	/**
+	 * Attempts to load the entity from second-level cache entries read beforehand with
+	 * {@link #getFromSecondLevelCache(EntityPersister, Collection, LockMode, SharedSessionContractImplementor)}.
+	 *
+	 * @param event The load event
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The key of the entity
+	 * @param cachedEntries The second-level cache entries read beforehand, by entity key
+	 *
+	 * @return The entity from the second-level cache, or null.
+	 */
+	public Object loadFromSecondLevelCache(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final EntityKey entityKey,
+			final Map<EntityKey, Object> cachedEntries) {
+		final Object ce = cachedEntries.get( entityKey );
+
+		if ( ce == null ) {
+			// nothing was found in cache
+			return null;
+		}
+
+		return processCachedEntry( event, persister, ce, event.getSession(), entityKey );
+	}
+
 
 	private Object processCachedEntry(
 			final LoadEvent event,
@@ -160,6 +251,10 @@ public class CacheEntityLoaderHelper extends AbstractLockUpgradeEventListener {
 			final EntityKey entityKey) {
 
 		CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure().destructure( ce, source.getFactory() );
+		if ( entry == null ) {
+			// the cached entry is not usable, e.g. it was written for a different mapping
+			return null;
+		}
 		if ( entry.isReferenceEntry() ) {
 			if ( event.getInstanceToLoad() != null ) {
 				throw new HibernateException(
@@ -189,18 +284,63 @@ public class CacheEntityLoaderHelper extends AbstractLockUpgradeEventListener {
 		}
 	}
 
+	/**
+	 * Initializes an entity from a cache entry read elsewhere than from the second-level cache region of the entity,
+	 * such as the entity state stored along cached query results.
+	 *
+	 * @param event The load event
+	 * @param persister The persister for the entity being loaded
+	 * @param entry The cache entry
+	 * @param entityKey The key of the entity
+	 *
+	 * @return The entity, added to the persistence context
+	 */
+	public Object loadFromCacheEntry(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final CacheEntry entry,
+			final EntityKey entityKey) {
+		final Object entity = convertCacheEntryToEntity( entry, event.getEntityId(), persister, event, entityKey );
+		if ( !persister.isInstance( entity ) ) {
+			throw new WrongClassException(
+					"loaded object was of wrong class " + entity.getClass(),
+					event.getEntityId(),
+					persister.getEntityName()
+			);
+		}
+		return entity;
+	}
+
+	/**
+	 * Gets the second-level cache key of the entity to load, generating it only once per load.
+	 *
+	 * @param event The load event
+	 * @param persister The persister for the entity being requested for load
+	 *
+	 * @return The cache key
+	 */
+	public Object getCacheKey(final LoadEvent event, final EntityPersister persister) {
+		Object ck = event.getCacheKey();
+		if ( ck == null ) {
+			final SessionImplementor source = event.getSession();
+			ck = persister.getCacheAccessStrategy().generateCacheKey(
+					event.getEntityId(),
+					persister,
+					source.getFactory(),
+					source.getTenantIdentifier()
+			);
+			event.setCacheKey( ck );
+		}
+		return ck;
+	}
+
 	private Object getFromSharedCache(
 			final LoadEvent event,
 			final EntityPersister persister,
 			SessionImplementor source) {
 		final EntityDataAccess cache = persister.getCacheAccessStrategy();
 		final SessionFactoryImplementor factory = source.getFactory();
-		final Object ck = cache.generateCacheKey(
-				event.getEntityId(),
-				persister,
-				factory,
-				source.getTenantIdentifier()
-		);
+		final Object ck = getCacheKey( event, persister );
 
 		final Object ce = CacheHelper.fromSharedCache( source, ck, persister.getCacheAccessStrategy() );
 		final StatisticsImplementor statistics = factory.getStatistics();
@@ -13,7 +13,9 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -96,6 +98,8 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 		final List<Serializable> idsInBatch = new ArrayList<>();
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
 
+		final Map<EntityKey, Object> cachedEntries = getFromSecondLevelCache( persister, ids, session, loadOptions, lockOptions );
+
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Serializable id = ids[i];
 			final EntityKey entityKey = new EntityKey( id, persister );
@@ -134,7 +138,8 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							persister,
-							entityKey
+							entityKey,
+							cachedEntries
 					);
 				}
 
@@ -181,6 +186,36 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 		return result;
 	}
 
+	/**
+	 * Reads the second-level cache entries of the entities to load which are not already
+	 * associated with the session, all at once rather than one id at a time.
+	 */
+	private Map<EntityKey, Object> getFromSecondLevelCache(
+			OuterJoinLoadable persister,
+			Serializable[] ids,
+			SharedSessionContractImplementor session,
+			MultiLoadOptions loadOptions,
+			LockOptions lockOptions) {
+		if ( !loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			return Collections.emptyMap();
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final List<EntityKey> entityKeys = new ArrayList<>( ids.length );
+		for ( Serializable id : ids ) {
+			final EntityKey entityKey = new EntityKey( id, persister );
+			if ( !loadOptions.isSessionCheckingEnabled() || persistenceContext.getEntity( entityKey ) == null ) {
+				entityKeys.add( entityKey );
+			}
+		}
+		return CacheEntityLoaderHelper.INSTANCE.getFromSecondLevelCache(
+				persister,
+				entityKeys,
+				lockOptions.getLockMode(),
+				session
+		);
+	}
+
 	private void performOrderedBatchLoad(
 			List<Serializable> idsInBatch,
 			LockOptions lockOptions,
@@ -225,6 +260,7 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			// list immediately and remove its id from the group of ids to load.
 			boolean foundAnyManagedEntities = false;
 			final List<Serializable> nonManagedIds = new ArrayList<Serializable>();
+			final Map<EntityKey, Object> cachedEntries = getFromSecondLevelCache( persister, ids, session, loadOptions, lockOptions );
 			for ( Serializable id : ids ) {
 				final EntityKey entityKey = new EntityKey( id, persister );
 
@@ -260,7 +296,8 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							persister,
-							entityKey
+							entityKey,
+							cachedEntries
 					);
 				}
 
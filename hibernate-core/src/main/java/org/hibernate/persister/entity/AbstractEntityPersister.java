@@ -47,6 +47,7 @@ import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributesMetadata;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.entry.BinaryCacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
@@ -64,6 +65,7 @@ import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.jdbc.internal.ParameterBindingRecorder;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
@@ -140,6 +142,7 @@ import org.hibernate.tuple.NonIdentifierAttribute;
 import org.hibernate.tuple.ValueGeneration;
 import org.hibernate.tuple.entity.EntityMetamodel;
 import org.hibernate.tuple.entity.EntityTuplizer;
+import org.hibernate.type.AbstractStandardBasicType;
 import org.hibernate.type.AssociationType;
 import org.hibernate.type.CollectionType;
 import org.hibernate.type.ComponentType;
@@ -148,6 +151,7 @@ import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 import org.hibernate.type.VersionType;
+import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
 
 /**
  * Basic functionality for persisting an entity via JDBC
@@ -209,6 +213,8 @@ public abstract class AbstractEntityPersister
 	private final boolean[] propertyUniqueness;
 	private final boolean[] propertySelectable;
 
+	private CompiledPropertyReader compiledPropertyReader;
+
 	private final List<Integer> lobProperties = new ArrayList<>();
 
 	//information about lazy properties of this class
@@ -265,6 +271,7 @@ public abstract class AbstractEntityPersister
 
 	private String[] sqlDeleteStrings;
 	private String[] sqlInsertStrings;
+	private String[] sqlInsertValues;
 	private String[] sqlUpdateStrings;
 	private String[] sqlLazyUpdateStrings;
 
@@ -1010,6 +1017,10 @@ public abstract class AbstractEntityPersister
 			return new ReferenceCacheEntryHelper( this );
 		}
 
+		if ( factory.getSessionFactoryOptions().isBinaryCacheEntriesEnabled() ) {
+			return new BinaryCacheEntryHelper( this );
+		}
+
 		return factory.getSessionFactoryOptions().isStructuredCacheEntriesEnabled()
 				? new StructuredCacheEntryHelper( this )
 				: new StandardCacheEntryHelper( this );
@@ -1160,13 +1171,15 @@ public abstract class AbstractEntityPersister
 			final Object ce = CacheHelper.fromSharedCache( session, cacheKey, cacheAccess );
 			if ( ce != null ) {
 				final CacheEntry cacheEntry = (CacheEntry) getCacheEntryStructure().destructure( ce, factory );
-				final Object initializedValue = initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
-				if (initializedValue != LazyPropertyInitializer.UNFETCHED_PROPERTY) {
-					// The following should be redundant, since the setter should have set this already.
-					// interceptor.attributeInitialized(fieldName);
-
-					// NOTE EARLY EXIT!!!
-					return initializedValue;
+				if ( cacheEntry != null ) {
+					final Object initializedValue = initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
+					if (initializedValue != LazyPropertyInitializer.UNFETCHED_PROPERTY) {
+						// The following should be redundant, since the setter should have set this already.
+						// interceptor.attributeInitialized(fieldName);
+
+						// NOTE EARLY EXIT!!!
+						return initializedValue;
+					}
 				}
 			}
 		}
@@ -2736,6 +2749,20 @@ public abstract class AbstractEntityPersister
 	 * Generate the SQL that inserts a row
 	 */
 	public String generateInsertString(boolean identityInsert, boolean[] includeProperty, int j) {
+		String result = generateInsert( identityInsert, includeProperty, j ).toStatementString();
+
+		// append the SQL to return the generated identifier
+		if ( j == 0 && identityInsert && useInsertSelectIdentity() ) { //TODO: suck into Insert
+			result = getFactory().getDialect().getIdentityColumnSupport().appendIdentitySelectToInsert( result );
+		}
+
+		return result;
+	}
+
+	/**
+	 * Generate the statement that inserts a row
+	 */
+	protected Insert generateInsert(boolean identityInsert, boolean[] includeProperty, int j) {
 
 		// todo : remove the identityInsert param and variations;
 		//   identity-insert strings are now generated from generateIdentityInsertString()
@@ -2813,14 +2840,7 @@ public abstract class AbstractEntityPersister
 			}
 		}
 
-		String result = insert.toStatementString();
-
-		// append the SQL to return the generated identifier
-		if ( j == 0 && identityInsert && useInsertSelectIdentity() ) { //TODO: suck into Insert
-			result = getFactory().getDialect().getIdentityColumnSupport().appendIdentitySelectToInsert( result );
-		}
-
-		return result;
+		return insert;
 	}
 
 	/**
@@ -3069,7 +3089,14 @@ public abstract class AbstractEntityPersister
 			final boolean[] laziness = getPropertyLaziness();
 			final String[] propSubclassNames = getSubclassPropertySubclassNameClosure();
 
+			// the compiled reader reads the eligible properties, unless some may be read by a sequential select
+			final boolean compiledRead = compiledPropertyReader != null && !hasDeferred
+					&& compiledPropertyReader.read( rs, suffixedPropertyColumns, values );
+
 			for ( int i = 0; i < types.length; i++ ) {
+				if ( compiledRead && compiledPropertyReader.isRead( i ) ) {
+					continue;
+				}
 				if ( !propertySelectable[i] ) {
 					values[i] = PropertyAccessStrategyBackRefImpl.UNKNOWN;
 				}
@@ -3173,6 +3200,87 @@ public abstract class AbstractEntityPersister
 
 	private BasicBatchKey inserBatchKey;
 
+	private boolean isMultiRowInsertable() {
+		if ( !getFactory().getSessionFactoryOptions().isMultiRowInsertEnabled()
+				|| !getFactory().getJdbcServices().getDialect().supportsMultiRowInsert() ) {
+			return false;
+		}
+		if ( entityMetamodel.isDynamicInsert() ) {
+			return false;
+		}
+		for ( int j = 0; j < getTableSpan(); j++ ) {
+			if ( customSQLInsert[j] != null ) {
+				return false;
+			}
+		}
+		return isInsertBoundByStandardTypes();
+	}
+
+	/**
+	 * Get the row value constructor of the given static INSERT statement of this entity, as repeated by a multi-row
+	 * insert.
+	 *
+	 * @param sql One of the statements returned by {@link #getSQLInsertStrings()}
+	 *
+	 * @return The row value constructor, or {@code null} if the statement is not a generated static INSERT
+	 * statement of this entity
+	 *
+	 * @see org.hibernate.engine.jdbc.batch.spi.BatchKey#getMultiRowInsertValues(String)
+	 */
+	public String getMultiRowInsertValues(String sql) {
+		for ( int j = 0; j < getTableSpan(); j++ ) {
+			if ( sqlInsertValues[j] != null && sqlInsertStrings[j].equals( sql ) ) {
+				return sqlInsertValues[j];
+			}
+		}
+		return null;
+	}
+
+	private Boolean insertBoundByStandardTypes;
+
+	/**
+	 * Are all the values inserted for this entity bound through the SQL type descriptors of Hibernate known to only
+	 * call the parameter setters?  Custom types may require the actual JDBC statement, for example unwrapping it to
+	 * reach driver-specific binders, whereas the multi-row and bulk inserts bind the values to statements recording
+	 * the bindings, which fall back to inserting the row on its own in that case.
+	 *
+	 * @see ParameterBindingRecorder#isRecordable
+	 */
+	private boolean isInsertBoundByStandardTypes() {
+		if ( insertBoundByStandardTypes == null ) {
+			boolean standard = isBoundByStandardType( getIdentifierType() );
+			for ( int i = 0; standard && i < entityMetamodel.getPropertySpan(); i++ ) {
+				if ( !ArrayHelper.isAllFalse( propertyColumnInsertable[i] ) ) {
+					standard = isBoundByStandardType( getPropertyTypes()[i] );
+				}
+			}
+			insertBoundByStandardTypes = standard;
+		}
+		return insertBoundByStandardTypes;
+	}
+
+	private boolean isBoundByStandardType(Type type) {
+		if ( type instanceof ComponentType ) {
+			for ( Type subtype : ( (ComponentType) type ).getSubtypes() ) {
+				if ( !isBoundByStandardType( subtype ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		else if ( type instanceof EntityType ) {
+			return isBoundByStandardType( ( (EntityType) type ).getIdentifierOrUniqueKeyType( getFactory() ) );
+		}
+		else if ( type instanceof AbstractStandardBasicType ) {
+			final SqlTypeDescriptor sqlTypeDescriptor = getFactory().getJdbcServices()
+					.getDialect()
+					.remapSqlTypeDescriptor( ( (AbstractStandardBasicType) type ).getSqlTypeDescriptor() );
+			return ParameterBindingRecorder.isRecordable( sqlTypeDescriptor );
+		}
+		// custom (user) types, any types, ...
+		return false;
+	}
+
 	/**
 	 * Perform an SQL INSERT.
 	 * <p/>
@@ -3215,7 +3323,8 @@ public abstract class AbstractEntityPersister
 		if ( useBatch && inserBatchKey == null ) {
 			inserBatchKey = new BasicBatchKey(
 					getEntityName() + "#INSERT",
-					expectation
+					expectation,
+					isMultiRowInsertable() ? this::getMultiRowInsertValues : null
 			);
 		}
 		final boolean callable = isInsertCallable( j );
@@ -3784,6 +3893,49 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	/**
+	 * Can instances of this entity be inserted in bulk?  That is, is the entity mapped to a single table, inserted
+	 * using a static, non-callable, INSERT statement, with an identifier not generated by the insert, and values
+	 * bound by the types of Hibernate itself?
+	 *
+	 * @see org.hibernate.StatelessSession#insertAll
+	 */
+	public boolean isBulkInsertable() {
+		return getTableSpan() == 1
+				&& !isInsertCallable( 0 )
+				&& !entityMetamodel.isDynamicInsert()
+				&& !( getIdentifierGenerator() instanceof PostInsertIdentifierGenerator )
+				&& isInsertBoundByStandardTypes();
+	}
+
+	/**
+	 * Get the statement returned by {@link #getSQLInsertStrings()}, describing the table, columns and values into
+	 * which entities are inserted in bulk.
+	 *
+	 * @return The statement, or {@code null} if the entity is inserted using custom SQL
+	 *
+	 * @see #isBulkInsertable()
+	 */
+	public Insert getBulkInsert() {
+		return customSQLInsert[0] == null ? generateInsert( false, getPropertyInsertability(), 0 ) : null;
+	}
+
+	/**
+	 * Bind the values of an entity to be inserted in bulk to the parameters of the INSERT statement returned by
+	 * {@link #getSQLInsertStrings()}, applying any pre-insert in-memory value generation.
+	 *
+	 * @see #isBulkInsertable()
+	 */
+	public void dehydrateBulkInsert(
+			Serializable id,
+			Object[] fields,
+			Object object,
+			PreparedStatement st,
+			SharedSessionContractImplementor session) throws SQLException {
+		preInsertInMemoryValueGeneration( fields, object, session );
+		dehydrate( id, fields, null, getPropertyInsertability(), propertyColumnInsertable, 0, st, session, 1, false );
+	}
+
 	protected void preInsertInMemoryValueGeneration(Object[] fields, Object object, SharedSessionContractImplementor session) {
 		if ( getEntityMetamodel().hasPreInsertGeneratedValues() ) {
 			final InMemoryValueGenerationStrategy[] strategies = getEntityMetamodel().getInMemoryValueGenerationStrategies();
@@ -4227,6 +4379,7 @@ public abstract class AbstractEntityPersister
 		final int joinSpan = getTableSpan();
 		sqlDeleteStrings = new String[joinSpan];
 		sqlInsertStrings = new String[joinSpan];
+		sqlInsertValues = new String[joinSpan];
 		sqlUpdateStrings = new String[joinSpan];
 		sqlLazyUpdateStrings = new String[joinSpan];
 
@@ -4238,9 +4391,14 @@ public abstract class AbstractEntityPersister
 				generateUpdateString( getNonLazyPropertyUpdateability(), 0, true );
 
 		for ( int j = 0; j < joinSpan; j++ ) {
-			sqlInsertStrings[j] = customSQLInsert[j] == null ?
-					generateInsertString( getPropertyInsertability(), j ) :
-						substituteBrackets( customSQLInsert[j]);
+			if ( customSQLInsert[j] == null ) {
+				final Insert insert = generateInsert( false, getPropertyInsertability(), j );
+				sqlInsertStrings[j] = insert.toStatementString();
+				sqlInsertValues[j] = insert.toValuesString();
+			}
+			else {
+				sqlInsertStrings[j] = substituteBrackets( customSQLInsert[j] );
+			}
 			sqlUpdateStrings[j] = customSQLUpdate[j] == null ?
 					generateUpdateString( getPropertyUpdateability(), j, false ) :
 						substituteBrackets( customSQLUpdate[j]);
@@ -4292,6 +4450,10 @@ public abstract class AbstractEntityPersister
 		createUniqueKeyLoaders();
 		createQueryLoader();
 
+		if ( factory.getSessionFactoryOptions().isCompiledRowReadersEnabled() ) {
+			compiledPropertyReader = CompiledPropertyReader.generate( this, propertySelectable, getPropertyLaziness() );
+		}
+
 		doPostInstantiate();
 	}
 
@@ -5778,6 +5940,32 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private static class BinaryCacheEntryHelper implements CacheEntryHelper {
+		private final EntityPersister persister;
+		private final BinaryCacheEntry structure;
+
+		private BinaryCacheEntryHelper(EntityPersister persister) {
+			this.persister = persister;
+			this.structure = new BinaryCacheEntry( persister );
+		}
+
+		@Override
+		public CacheEntryStructure getCacheEntryStructure() {
+			return structure;
+		}
+
+		@Override
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SharedSessionContractImplementor session) {
+			return new StandardCacheEntryImpl(
+					state,
+					persister,
+					version,
+					session,
+					entity
+			);
+		}
+	}
+
 	private static class NoopCacheEntryHelper implements CacheEntryHelper {
 		public static final NoopCacheEntryHelper INSTANCE = new NoopCacheEntryHelper();
 
@@ -0,0 +1,173 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.persister.entity;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.RowReader;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.util.collections.ConcurrentReferenceHashMap;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.BigDecimalType;
+import org.hibernate.type.BooleanType;
+import org.hibernate.type.ByteType;
+import org.hibernate.type.DoubleType;
+import org.hibernate.type.FloatType;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.LongType;
+import org.hibernate.type.ShortType;
+import org.hibernate.type.StringType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.sql.BasicExtractor;
+import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Reads the basic properties of the entities of a persister with a {@link RowReader} generated by the
+ * {@link BytecodeProvider}, rather than through the {@link Type} of each property.
+ * <p/>
+ * The result set indexes of the columns are resolved once per result set, and kept along with the result set for each
+ * array of column aliases they were resolved for: the executions reading the same entities at the same time each
+ * have their own indexes.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#USE_COMPILED_ROW_READERS
+ */
+final class CompiledPropertyReader {
+	// the extracted values are logged by the extractors
+	private static final Logger EXTRACTOR_LOG = CoreLogging.logger( BasicExtractor.class );
+
+	private static final Map<Type, RowReader.ColumnType> COLUMN_TYPES = new IdentityHashMap<>();
+
+	static {
+		COLUMN_TYPES.put( StringType.INSTANCE, RowReader.ColumnType.STRING );
+		COLUMN_TYPES.put( BigDecimalType.INSTANCE, RowReader.ColumnType.BIG_DECIMAL );
+		COLUMN_TYPES.put( BooleanType.INSTANCE, RowReader.ColumnType.BOOLEAN );
+		COLUMN_TYPES.put( ByteType.INSTANCE, RowReader.ColumnType.BYTE );
+		COLUMN_TYPES.put( ShortType.INSTANCE, RowReader.ColumnType.SHORT );
+		COLUMN_TYPES.put( IntegerType.INSTANCE, RowReader.ColumnType.INTEGER );
+		COLUMN_TYPES.put( LongType.INSTANCE, RowReader.ColumnType.LONG );
+		COLUMN_TYPES.put( FloatType.INSTANCE, RowReader.ColumnType.FLOAT );
+		COLUMN_TYPES.put( DoubleType.INSTANCE, RowReader.ColumnType.DOUBLE );
+	}
+
+	private final RowReader rowReader;
+	private final int[] propertyIndexes;
+	private final boolean[] readProperties;
+
+	// the column indexes by array of column aliases, for each result set being read
+	private final Map<ResultSet, Map<String[][], int[]>> columnIndexesByResultSet = new ConcurrentReferenceHashMap<>(
+			16,
+			.75f,
+			16,
+			ConcurrentReferenceHashMap.ReferenceType.WEAK,
+			ConcurrentReferenceHashMap.ReferenceType.STRONG,
+			EnumSet.of( ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS )
+	);
+
+	private CompiledPropertyReader(RowReader rowReader, int[] propertyIndexes, boolean[] readProperties) {
+		this.rowReader = rowReader;
+		this.propertyIndexes = propertyIndexes;
+		this.readProperties = readProperties;
+	}
+
+	/**
+	 * Generate the reader of the eligible properties of the given persister: the non-lazy selectable properties of a
+	 * standard basic type the SQL type of which is not remapped by the dialect.
+	 *
+	 * @return The reader, or {@code null} if no property is eligible, or the bytecode provider does not generate
+	 * readers.
+	 */
+	static CompiledPropertyReader generate(
+			AbstractEntityPersister persister,
+			boolean[] propertySelectable,
+			boolean[] propertyLaziness) {
+		final SessionFactoryImplementor factory = persister.getFactory();
+		final Dialect dialect = factory.getJdbcServices().getDialect();
+		final Type[] types = persister.getPropertyTypes();
+
+		final List<RowReader.ColumnType> columnTypes = new ArrayList<>();
+		final List<Integer> propertyIndexes = new ArrayList<>();
+		final boolean[] readProperties = new boolean[types.length];
+		for ( int i = 0; i < types.length; i++ ) {
+			final RowReader.ColumnType columnType = COLUMN_TYPES.get( types[i] );
+			if ( columnType != null && propertySelectable[i] && !propertyLaziness[i]
+					&& !isRemapped( ( (AbstractStandardBasicType) types[i] ).getSqlTypeDescriptor(), dialect ) ) {
+				columnTypes.add( columnType );
+				propertyIndexes.add( i );
+				readProperties[i] = true;
+			}
+		}
+		if ( columnTypes.isEmpty() ) {
+			return null;
+		}
+
+		final int[] valueIndexes = new int[propertyIndexes.size()];
+		for ( int i = 0; i < valueIndexes.length; i++ ) {
+			valueIndexes[i] = propertyIndexes.get( i );
+		}
+		final RowReader rowReader = factory.getServiceRegistry()
+				.getService( BytecodeProvider.class )
+				.getRowReader( columnTypes.toArray( new RowReader.ColumnType[0] ), valueIndexes );
+		return rowReader == null ? null : new CompiledPropertyReader( rowReader, valueIndexes, readProperties );
+	}
+
+	private static boolean isRemapped(SqlTypeDescriptor sqlTypeDescriptor, Dialect dialect) {
+		if ( !sqlTypeDescriptor.canBeRemapped() ) {
+			return false;
+		}
+		final SqlTypeDescriptor remapped = dialect.remapSqlTypeDescriptor( sqlTypeDescriptor );
+		return remapped != null && remapped != sqlTypeDescriptor;
+	}
+
+	/**
+	 * Was the given property read by {@link #read}?
+	 */
+	boolean isRead(int propertyIndex) {
+		return readProperties[propertyIndex];
+	}
+
+	/**
+	 * Read the eligible properties of the current row.
+	 *
+	 * @param rs The result set, positioned on the row to read.
+	 * @param suffixedPropertyColumns The column aliases of each property.
+	 * @param values The property values.
+	 *
+	 * @return {@code false} if the properties were not read, and are to be read through their type.
+	 */
+	boolean read(ResultSet rs, String[][] suffixedPropertyColumns, Object[] values) throws SQLException {
+		if ( EXTRACTOR_LOG.isTraceEnabled() ) {
+			return false;
+		}
+		Map<String[][], int[]> columnIndexes = columnIndexesByResultSet.get( rs );
+		if ( columnIndexes == null ) {
+			// a result set is read by a single thread at a time
+			columnIndexes = new IdentityHashMap<>( 4 );
+			columnIndexesByResultSet.put( rs, columnIndexes );
+		}
+		int[] indexes = columnIndexes.get( suffixedPropertyColumns );
+		if ( indexes == null ) {
+			indexes = new int[propertyIndexes.length];
+			for ( int i = 0; i < indexes.length; i++ ) {
+				indexes[i] = rs.findColumn( suffixedPropertyColumns[propertyIndexes[i]][0] );
+			}
+			columnIndexes.put( suffixedPropertyColumns, indexes );
+		}
+		rowReader.read( rs, indexes, values );
+		return true;
+	}
+}
@@ -86,6 +86,11 @@ public interface Query<R> extends TypedQuery<R>, org.hibernate.Query<R>, CommonQ
 	 *
 	 * You should call {@link java.util.stream.Stream#close()} after processing the stream
 	 * so that the underlying resources are deallocated right away.
+	 * <p>
+	 * The entities read by the Stream stay managed by the persistence context, unless the
+	 * {@link org.hibernate.annotations.QueryHints#STREAM_DETACH_WINDOW} hint is set.  For a
+	 * {@link org.hibernate.StatelessSession}, the rows can be read ahead on another thread by setting the
+	 * {@link org.hibernate.annotations.QueryHints#STREAM_PREFETCH_CHUNK_SIZE} hint.
 	 *
 	 * @return The results Stream
 	 *
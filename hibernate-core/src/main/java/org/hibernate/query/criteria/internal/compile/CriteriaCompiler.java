@@ -56,9 +56,14 @@ public class CriteriaCompiler implements Serializable {
 
 		final SessionFactoryImplementor sessionFactory = entityManager.getFactory();
 
-		final LiteralHandlingMode criteriaLiteralHandlingMode = sessionFactory
+		final boolean queryPlanSharingEnabled = sessionFactory
 				.getSessionFactoryOptions()
-				.getCriteriaLiteralHandlingMode();
+				.isCriteriaQueryPlanSharingEnabled();
+
+		// inlined literals would make the rendered query, and thereby its query plan, depend on their values
+		final LiteralHandlingMode criteriaLiteralHandlingMode = queryPlanSharingEnabled
+				? LiteralHandlingMode.BIND
+				: sessionFactory.getSessionFactoryOptions().getCriteriaLiteralHandlingMode();
 
 		final Dialect dialect = sessionFactory.getServiceRegistry().getService( JdbcServices.class ).getDialect();
 
@@ -160,6 +165,11 @@ public class CriteriaCompiler implements Serializable {
 			public LiteralHandlingMode getCriteriaLiteralHandlingMode() {
 				return criteriaLiteralHandlingMode;
 			}
+
+			@Override
+			public boolean isQueryPlanSharingEnabled() {
+				return queryPlanSharingEnabled;
+			}
 		};
 
 		return criteria.interpret( renderingContext ).buildCompiledQuery(
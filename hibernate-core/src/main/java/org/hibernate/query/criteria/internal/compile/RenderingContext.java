@@ -71,6 +71,18 @@ public interface RenderingContext {
 		return LiteralHandlingMode.AUTO;
 	}
 
+	/**
+	 * Should the rendered query only depend on the structure of the criteria query, whatever its literal values, so
+	 * that it shares its query plan with the criteria queries of the same structure?
+	 *
+	 * @return {@code true} if the literals are to be bound as parameters to share the query plan
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CRITERIA_QUERY_PLAN_SHARING
+	 */
+	default boolean isQueryPlanSharingEnabled() {
+		return false;
+	}
+
 	Stack<Clause> getClauseStack();
 
 	Stack<FunctionExpression> getFunctionStack();
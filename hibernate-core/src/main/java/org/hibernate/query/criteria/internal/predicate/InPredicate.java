@@ -22,6 +22,7 @@ import org.hibernate.query.criteria.internal.ValueHandlerFactory;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.expression.LiteralExpression;
 import org.hibernate.query.criteria.internal.expression.ParameterExpressionImpl;
+import org.hibernate.sql.ast.Clause;
 import org.hibernate.type.Type;
 
 /**
@@ -198,16 +199,51 @@ public class InPredicate<T>
 			}
 			else {
 				buffer.append( '(' );
-				String sep = "";
-				for ( Expression value : values) {
-					buffer.append( sep )
-							.append( ( (Renderable) value )
-									.render( renderingContext ) );
-					sep = ", ";
+				final String literalValueListParameterName = bindLiteralValueList( values, renderingContext );
+				if ( literalValueListParameterName != null ) {
+					buffer.append( ':' ).append( literalValueListParameterName );
+				}
+				else {
+					String sep = "";
+					for ( Expression value : values) {
+						buffer.append( sep )
+								.append( ( (Renderable) value )
+										.render( renderingContext ) );
+						sep = ", ";
+					}
 				}
 				buffer.append( ')' );
 			}
 		}
 		return buffer.toString();
 	}
+
+	/**
+	 * Binds the literal values as a single list-valued parameter, so that the rendered query does not depend on their
+	 * number, when the query plans are shared and all the values are literals.
+	 *
+	 * @return The parameter name, or {@code null} if the values are to be rendered one by one.
+	 */
+	private String bindLiteralValueList(List<Expression<? extends T>> values, RenderingContext renderingContext) {
+		if ( !renderingContext.isQueryPlanSharingEnabled() ) {
+			return null;
+		}
+		final Clause clause = renderingContext.getClauseStack().getCurrent();
+		if ( clause == Clause.SELECT || clause == Clause.GROUP ) {
+			// the literals of these clauses are rendered inline
+			return null;
+		}
+		final List<Object> literals = new ArrayList<>( values.size() );
+		for ( Expression value : values ) {
+			if ( !LiteralExpression.class.isInstance( value ) ) {
+				return null;
+			}
+			final Object literal = ( (LiteralExpression) value ).getLiteral();
+			if ( literal == null ) {
+				return null;
+			}
+			literals.add( literal );
+		}
+		return renderingContext.registerLiteralParameterBinding( literals, getExpression().getJavaType() );
+	}
 }
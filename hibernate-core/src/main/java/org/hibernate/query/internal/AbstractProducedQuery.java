@@ -46,6 +46,7 @@ import org.hibernate.NonUniqueResultException;
 import org.hibernate.PropertyNotFoundException;
 import org.hibernate.QueryParameterException;
 import org.hibernate.ScrollMode;
+import org.hibernate.StatelessSession;
 import org.hibernate.TypeMismatchException;
 import org.hibernate.engine.query.spi.EntityGraphQueryHint;
 import org.hibernate.engine.query.spi.HQLQueryPlan;
@@ -54,6 +55,7 @@ import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.RowSelection;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.TypedValue;
+import org.hibernate.event.spi.EventSource;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.graph.internal.RootGraphImpl;
@@ -102,6 +104,8 @@ import static org.hibernate.jpa.QueryHints.HINT_FLUSH_MODE;
 import static org.hibernate.jpa.QueryHints.HINT_FOLLOW_ON_LOCKING;
 import static org.hibernate.jpa.QueryHints.HINT_LOADGRAPH;
 import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+import static org.hibernate.jpa.QueryHints.HINT_STREAM_DETACH_WINDOW;
+import static org.hibernate.jpa.QueryHints.HINT_STREAM_PREFETCH_CHUNK_SIZE;
 import static org.hibernate.jpa.QueryHints.HINT_TIMEOUT;
 import static org.hibernate.jpa.QueryHints.SPEC_HINT_TIMEOUT;
 
@@ -137,6 +141,8 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 	private String optionalEntityName;
 
 	private Boolean passDistinctThrough;
+	private Integer streamDetachWindow;
+	private Integer streamPrefetchChunkSize;
 
 	public AbstractProducedQuery(
 			SharedSessionContractImplementor producer,
@@ -992,6 +998,14 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 			hints.put( HINT_READONLY, true );
 		}
 
+		if ( streamDetachWindow != null ) {
+			hints.put( HINT_STREAM_DETACH_WINDOW, streamDetachWindow );
+		}
+
+		if ( streamPrefetchChunkSize != null ) {
+			hints.put( HINT_STREAM_PREFETCH_CHUNK_SIZE, streamPrefetchChunkSize );
+		}
+
 		if ( entityGraphQueryHint != null ) {
 			hints.put( entityGraphQueryHint.getHintName(), entityGraphQueryHint.getOriginEntityGraph() );
 		}
@@ -1095,6 +1109,12 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 			else if ( QueryHints.HINT_PASS_DISTINCT_THROUGH.equals( hintName ) ) {
 				applied = applyPassDistinctThrough( ConfigurationHelper.getBoolean( value ) );
 			}
+			else if ( HINT_STREAM_DETACH_WINDOW.equals( hintName ) ) {
+				applied = applyStreamDetachWindowHint( ConfigurationHelper.getInteger( value ) );
+			}
+			else if ( HINT_STREAM_PREFETCH_CHUNK_SIZE.equals( hintName ) ) {
+				applied = applyStreamPrefetchChunkSizeHint( ConfigurationHelper.getInteger( value ) );
+			}
 			else {
 				MSG_LOGGER.ignoringUnrecognizedQueryHint( hintName );
 			}
@@ -1322,6 +1342,30 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		return true;
 	}
 
+	/**
+	 * Apply the stream detach window hint.
+	 *
+	 * @param streamDetachWindow the number of rows after which the entities read by {@link #stream()} are detached
+	 *
+	 * @see org.hibernate.annotations.QueryHints#STREAM_DETACH_WINDOW
+	 */
+	protected boolean applyStreamDetachWindowHint(Integer streamDetachWindow) {
+		this.streamDetachWindow = streamDetachWindow;
+		return true;
+	}
+
+	/**
+	 * Apply the stream prefetch chunk size hint.
+	 *
+	 * @param streamPrefetchChunkSize the number of rows read at once by {@link #stream()} on a dedicated thread
+	 *
+	 * @see org.hibernate.annotations.QueryHints#STREAM_PREFETCH_CHUNK_SIZE
+	 */
+	protected boolean applyStreamPrefetchChunkSizeHint(Integer streamPrefetchChunkSize) {
+		this.streamPrefetchChunkSize = streamPrefetchChunkSize;
+		return true;
+	}
+
 	/**
 	 * Is the query represented here a native (SQL) query?
 	 *
@@ -1510,7 +1554,20 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 			return StreamSupport.stream( spliterator, false );
 		}
 		final ScrollableResultsImplementor scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
-		final ScrollableResultsIterator<R> iterator = new ScrollableResultsIterator<>( scrollableResults );
+		if ( streamPrefetchChunkSize != null && streamPrefetchChunkSize > 0 ) {
+			if ( getProducer() instanceof StatelessSession ) {
+				final PrefetchingScrollableResultsSpliterator<R> spliterator = new PrefetchingScrollableResultsSpliterator<>(
+						scrollableResults,
+						streamPrefetchChunkSize
+				);
+				return new StreamDecorator( StreamSupport.stream( spliterator, false ), spliterator::close );
+			}
+			MSG_LOGGER.debugf( "Ignoring the %s hint of a query of a stateful session", HINT_STREAM_PREFETCH_CHUNK_SIZE );
+		}
+		final ScrollableResultsIterator<R> iterator = streamDetachWindow != null && streamDetachWindow > 0
+				&& getProducer() instanceof EventSource
+				? new DetachingScrollableResultsIterator<>( scrollableResults, (EventSource) getProducer(), streamDetachWindow )
+				: new ScrollableResultsIterator<>( scrollableResults );
 		final Spliterator<R> spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
 
 		final Stream<R> stream = new StreamDecorator(
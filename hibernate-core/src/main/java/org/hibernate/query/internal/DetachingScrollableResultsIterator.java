@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+
+/**
+ * A {@link ScrollableResultsIterator} evicting, every given number of rows, the entities which were loaded from the
+ * rows since the previous eviction, so that the memory used does not grow with the number of rows.  The entities are
+ * evicted before moving to the next row, so that the associations of the current row are always managed.
+ * <p/>
+ * Only the entities loaded by the query itself are evicted, not the ones which were already managed, nor the ones
+ * loaded by separate selects, such as the lazy associations initialized while iterating.  The eviction cascades as
+ * {@link org.hibernate.Session#evict(Object)} does, and skips the entities deleted while iterating.
+ *
+ * @see org.hibernate.annotations.QueryHints#STREAM_DETACH_WINDOW
+ *
+ * @since 5.5
+ */
+@Incubating
+class DetachingScrollableResultsIterator<T> extends ScrollableResultsIterator<T> {
+	private final EventSource session;
+	private final int window;
+
+	/**
+	 * The entities loaded from the rows since the previous eviction
+	 */
+	private final List<Object> loadedEntities = new ArrayList<>();
+	private int rowCount;
+
+	DetachingScrollableResultsIterator(
+			ScrollableResultsImplementor scrollableResults,
+			EventSource session,
+			int window) {
+		super( scrollableResults );
+		this.session = session;
+		this.window = window;
+		scrollableResults.addAfterLoadAction( (actionSession, entity, persister) -> loadedEntities.add( entity ) );
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( rowCount >= window ) {
+			detachEntities();
+			rowCount = 0;
+		}
+		final boolean hasNext = super.hasNext();
+		if ( hasNext ) {
+			rowCount++;
+		}
+		return hasNext;
+	}
+
+	private void detachEntities() {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		for ( Object entity : loadedEntities ) {
+			final EntityEntry entry = persistenceContext.getEntry( entity );
+			// the entity may have been evicted already, by cascade
+			if ( entry != null && ( entry.getStatus() == Status.MANAGED || entry.getStatus() == Status.READ_ONLY ) ) {
+				session.evict( entity );
+			}
+		}
+		loadedEntities.clear();
+	}
+}
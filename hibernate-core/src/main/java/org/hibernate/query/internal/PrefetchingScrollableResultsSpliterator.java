@@ -0,0 +1,342 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+
+/**
+ * A {@link Spliterator} over the rows of a {@link ScrollableResultsImplementor}, read by chunks on a dedicated thread
+ * while the previous chunks are processed.  At most {@value #MAX_BUFFERED_CHUNKS} chunks are buffered.  Splitting
+ * hands off the remainder of the current chunk, or else the next chunk, so that a parallel stream processes the
+ * chunks on several threads.  As the number of rows is unknown, a parallel stream keeps splitting: at most
+ * {@value #MAX_SPLIT_CHUNKS} chunks handed off are processed at once, a further split waits until one of them is done.
+ * <p/>
+ * As the rows are read on another thread, the session must not be used until the spliterator is
+ * {@link #close() closed}; this is only suited to the results of a {@link org.hibernate.StatelessSession}, the
+ * entities of which are detached.
+ *
+ * @see org.hibernate.annotations.QueryHints#STREAM_PREFETCH_CHUNK_SIZE
+ *
+ * @since 5.5
+ */
+@Incubating
+class PrefetchingScrollableResultsSpliterator<T> implements Spliterator<T> {
+	private static final int MAX_BUFFERED_CHUNKS = 4;
+	private static final int MAX_SPLIT_CHUNKS = 4;
+	private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.NONNULL;
+
+	private static final List<Object> END = Collections.emptyList();
+
+	private final ScrollableResultsImplementor scrollableResults;
+	private final Reader reader;
+
+	private final Semaphore splitChunks = new Semaphore( MAX_SPLIT_CHUNKS );
+	private Thread readerThread;
+	private boolean closed;
+
+	private List<Object> chunk = Collections.emptyList();
+	private int position;
+	private boolean exhausted;
+
+	PrefetchingScrollableResultsSpliterator(ScrollableResultsImplementor scrollableResults, int chunkSize) {
+		this.scrollableResults = scrollableResults;
+		this.reader = new Reader( scrollableResults, chunkSize, this );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean tryAdvance(Consumer<? super T> action) {
+		if ( position == chunk.size() && !nextChunk() ) {
+			return false;
+		}
+		action.accept( (T) chunk.get( position++ ) );
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEachRemaining(Consumer<? super T> action) {
+		do {
+			while ( position < chunk.size() ) {
+				action.accept( (T) chunk.get( position++ ) );
+			}
+		}
+		while ( nextChunk() );
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+		// refusing the split would end the splitting of the stream for good, so wait for a chunk to be processed
+		acquireSplitChunk();
+		final Object[] prefix;
+		if ( position < chunk.size() ) {
+			prefix = chunk.subList( position, chunk.size() ).toArray();
+			position = chunk.size();
+		}
+		else if ( nextChunk() ) {
+			prefix = chunk.toArray();
+			position = chunk.size();
+		}
+		else {
+			splitChunks.release();
+			return null;
+		}
+		return new SplitChunk( prefix );
+	}
+
+	@Override
+	public long estimateSize() {
+		return Long.MAX_VALUE;
+	}
+
+	@Override
+	public int characteristics() {
+		return CHARACTERISTICS;
+	}
+
+	/**
+	 * Waits for the next chunk read.
+	 *
+	 * @return {@code false} if all the rows were read
+	 */
+	private boolean nextChunk() {
+		if ( exhausted ) {
+			return false;
+		}
+		if ( readerThread == null ) {
+			readerThread = new Thread( reader, "hibernate-stream-reader" );
+			readerThread.setDaemon( true );
+			readerThread.start();
+		}
+		try {
+			chunk = reader.chunks.take();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while waiting for the next rows of the stream", e );
+		}
+		position = 0;
+		if ( chunk == END ) {
+			exhausted = true;
+			final Throwable failure = reader.failure;
+			if ( failure instanceof RuntimeException ) {
+				throw (RuntimeException) failure;
+			}
+			if ( failure instanceof Error ) {
+				throw (Error) failure;
+			}
+			if ( failure != null ) {
+				throw new HibernateException( "Could not read the next rows of the stream", failure );
+			}
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Waits for a chunk handed off to be processed, letting the {@link ForkJoinPool} of a parallel stream compensate
+	 * for the blocked worker.
+	 */
+	private void acquireSplitChunk() {
+		try {
+			ForkJoinPool.managedBlock(
+					new ForkJoinPool.ManagedBlocker() {
+						private boolean acquired;
+
+						@Override
+						public boolean block() throws InterruptedException {
+							if ( !acquired ) {
+								splitChunks.acquire();
+								acquired = true;
+							}
+							return true;
+						}
+
+						@Override
+						public boolean isReleasable() {
+							if ( !acquired ) {
+								acquired = splitChunks.tryAcquire();
+							}
+							return acquired;
+						}
+					}
+			);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while waiting for the rows of the stream to be processed", e );
+		}
+	}
+
+	/**
+	 * Stops reading the rows, and closes the underlying {@link ScrollableResultsImplementor}.
+	 */
+	void close() {
+		if ( closed ) {
+			return;
+		}
+		closed = true;
+		reader.closed = true;
+		if ( readerThread != null ) {
+			try {
+				readerThread.join();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		reader.chunks.clear();
+		scrollableResults.close();
+	}
+
+	/**
+	 * Reads the rows on the dedicated thread.  It only holds a weak reference to the spliterator, so that it stops
+	 * once a stream left without being closed is garbage collected, instead of waiting for ever to hand off the
+	 * next chunk; the {@link ScrollableResultsImplementor} is then released with the session.
+	 */
+	private static final class Reader implements Runnable {
+		private final ScrollableResultsImplementor scrollableResults;
+		private final int chunkSize;
+		private final WeakReference<PrefetchingScrollableResultsSpliterator<?>> consumer;
+
+		private final BlockingQueue<List<Object>> chunks = new ArrayBlockingQueue<>( MAX_BUFFERED_CHUNKS );
+		private volatile boolean closed;
+		private volatile Throwable failure;
+
+		private Reader(
+				ScrollableResultsImplementor scrollableResults,
+				int chunkSize,
+				PrefetchingScrollableResultsSpliterator<?> consumer) {
+			this.scrollableResults = scrollableResults;
+			this.chunkSize = chunkSize;
+			this.consumer = new WeakReference<>( consumer );
+		}
+
+		@Override
+		public void run() {
+			try {
+				final ScrollableResultsIterator<Object> iterator = new ScrollableResultsIterator<>( scrollableResults );
+				List<Object> rows = new ArrayList<>( chunkSize );
+				while ( !closed && iterator.hasNext() ) {
+					rows.add( iterator.next() );
+					if ( rows.size() == chunkSize ) {
+						publish( rows );
+						rows = new ArrayList<>( chunkSize );
+					}
+				}
+				if ( !rows.isEmpty() ) {
+					publish( rows );
+				}
+			}
+			catch (Throwable t) {
+				failure = t;
+			}
+			finally {
+				// the consumer waits for the end, whatever happened
+				publish( END );
+			}
+		}
+
+		private void publish(List<Object> rows) {
+			try {
+				while ( !closed ) {
+					if ( chunks.offer( rows, 100, TimeUnit.MILLISECONDS ) ) {
+						return;
+					}
+					if ( consumer.get() == null ) {
+						// the stream was abandoned without being closed, nobody will take the rows
+						closed = true;
+					}
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				closed = true;
+			}
+		}
+	}
+
+	/**
+	 * The rows handed off by {@link #trySplit()}, which allow another split once processed.
+	 */
+	private final class SplitChunk implements Spliterator<T> {
+		private final Object[] rows;
+		private int position;
+		private boolean released;
+
+		private SplitChunk(Object[] rows) {
+			this.rows = rows;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean tryAdvance(Consumer<? super T> action) {
+			if ( position == rows.length ) {
+				release();
+				return false;
+			}
+			try {
+				action.accept( (T) rows[position++] );
+			}
+			finally {
+				if ( position == rows.length ) {
+					release();
+				}
+			}
+			return true;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void forEachRemaining(Consumer<? super T> action) {
+			try {
+				while ( position < rows.length ) {
+					action.accept( (T) rows[position++] );
+				}
+			}
+			finally {
+				release();
+			}
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			return null;
+		}
+
+		@Override
+		public long estimateSize() {
+			return rows.length - position;
+		}
+
+		@Override
+		public int characteristics() {
+			return CHARACTERISTICS | Spliterator.SIZED | Spliterator.SUBSIZED;
+		}
+
+		private void release() {
+			if ( !released ) {
+				released = true;
+				splitChunks.release();
+			}
+		}
+	}
+}
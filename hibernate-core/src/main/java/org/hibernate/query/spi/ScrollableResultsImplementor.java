@@ -8,6 +8,7 @@ package org.hibernate.query.spi;
 
 import org.hibernate.Incubating;
 import org.hibernate.ScrollableResults;
+import org.hibernate.loader.spi.AfterLoadAction;
 
 /**
  * @author Steve Ebersole
@@ -18,4 +19,15 @@ import org.hibernate.ScrollableResults;
 public interface ScrollableResultsImplementor extends ScrollableResults {
 	boolean isClosed();
 	int getNumberOfTypes();
+
+	/**
+	 * Registers an action applied to every entity loaded into the session from the rows scrolled from now on.
+	 * By default, the action is ignored, as no entity is loaded.
+	 *
+	 * @param afterLoadAction The action applied to the loaded entities
+	 *
+	 * @since 5.5
+	 */
+	default void addAfterLoadAction(AfterLoadAction afterLoadAction) {
+	}
 }
@@ -5,6 +5,7 @@
  * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
  */
 package org.hibernate.sql;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -91,6 +92,17 @@ public class Insert {
 		return this;
 	}
 
+	public String getTableName() {
+		return tableName;
+	}
+
+	/**
+	 * The value expression of each column, in the order of the columns in the statement
+	 */
+	public Map<String,String> getColumns() {
+		return Collections.unmodifiableMap( columns );
+	}
+
 	public String toStatementString() {
 		StringBuilder buf = new StringBuilder( columns.size()*15 + tableName.length() + 10 );
 		if ( comment != null ) {
@@ -121,16 +133,35 @@ public class Insert {
 					buf.append( ", " );
 				}
 			}
-			buf.append(") values (");
-			iter = columns.values().iterator();
-			while ( iter.hasNext() ) {
-				buf.append( iter.next() );
-				if ( iter.hasNext() ) {
-					buf.append( ", " );
-				}
-			}
-			buf.append(')');
+			buf.append(") values ");
+			appendValues( buf );
 		}
 		return buf.toString();
 	}
+
+	/**
+	 * The row value constructor of the statement, e.g. {@code (?, upper(?))}, as repeated by a multi-row insert
+	 *
+	 * @return The row value constructor, or {@code null} if the statement inserts no column
+	 */
+	public String toValuesString() {
+		if ( columns.size()==0 ) {
+			return null;
+		}
+		StringBuilder buf = new StringBuilder( columns.size()*3 + 2 );
+		appendValues( buf );
+		return buf.toString();
+	}
+
+	private void appendValues(StringBuilder buf) {
+		buf.append('(');
+		Iterator<String> iter = columns.values().iterator();
+		while ( iter.hasNext() ) {
+			buf.append( iter.next() );
+			if ( iter.hasNext() ) {
+				buf.append( ", " );
+			}
+		}
+		buf.append(')');
+	}
 }
@@ -73,4 +73,46 @@ public interface CacheRegionStatistics extends Serializable {
 	 * is returned instead.
 	 */
 	long getSizeInMemory();
+
+	/**
+	 * The distribution of the latencies, in nanoseconds, of the reads from the region.
+	 *
+	 * This is an optional value contingent upon the underlying cache provider
+	 * providing extended stats support via
+	 * {@link org.hibernate.cache.spi.ExtendedStatisticsSupport}, see for example
+	 * {@link org.hibernate.cfg.AvailableSettings#CACHE_LATENCY_STATISTICS}.  If the
+	 * provider does not record it, {@code null} is returned instead.
+	 */
+	default Histogram getGetLatencyHistogram() {
+		return null;
+	}
+
+	/**
+	 * The distribution of the latencies, in nanoseconds, of the writes to the region.
+	 *
+	 * This is an optional value, see {@link #getGetLatencyHistogram()}.
+	 */
+	default Histogram getPutLatencyHistogram() {
+		return null;
+	}
+
+	/**
+	 * The distribution of the latencies, in nanoseconds, of the removals and
+	 * evictions of single entries from the region.
+	 *
+	 * This is an optional value, see {@link #getGetLatencyHistogram()}.
+	 */
+	default Histogram getRemoveLatencyHistogram() {
+		return null;
+	}
+
+	/**
+	 * The distribution of the sizes, in bytes, of the entries written to the region.
+	 *
+	 * This is an optional value, known when the entries are stored as byte arrays,
+	 * see {@link #getGetLatencyHistogram()}.
+	 */
+	default Histogram getEntrySizeHistogram() {
+		return null;
+	}
 }
@@ -50,4 +50,26 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * Number of times (since last Statistics clearing) this entity
+	 * has been dirty checked during a flush
+	 *
+	 * @since 5.5
+	 */
+	default long getDirtyCheckCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Time (since last Statistics clearing) spent dirty checking this
+	 * entity during flushes, in milliseconds
+	 *
+	 * @since 5.5
+	 */
+	default long getDirtyCheckTime() {
+		//For backward compatibility
+		return 0;
+	}
 }
@@ -0,0 +1,55 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+/**
+ * The distribution of recorded values, such as the latencies of the operations on a second-level cache region
+ * (see {@link CacheRegionStatistics#getGetLatencyHistogram()}).
+ * <p/>
+ * The values are counted in buckets whose width is at most an eighth of their lower bound, so that the percentiles
+ * and cumulative counts are precise to within 12.5%, whatever the magnitude of the values.  Monitoring systems
+ * using their own buckets can export the histogram through {@link #getCount(long)}.
+ */
+public interface Histogram extends Serializable {
+	/**
+	 * The number of recorded values.  The values are recorded as long as the histogram exists (for example as long as
+	 * the cache region exists), regardless of the Statistics clearing, so that monitoring systems see ever-increasing
+	 * counts.
+	 */
+	long getCount();
+
+	/**
+	 * The number of recorded values lower than or equal to the given value, as far as the bucket precision allows.
+	 */
+	long getCount(long value);
+
+	/**
+	 * The sum of the recorded values
+	 */
+	long getTotal();
+
+	/**
+	 * The maximum recorded value, or {@code 0} if none was recorded
+	 */
+	long getMax();
+
+	/**
+	 * The mean of the recorded values, or {@code 0} if none was recorded
+	 */
+	double getMean();
+
+	/**
+	 * An upper estimate of the value below which the given percentage of the recorded values fall.
+	 *
+	 * @param percentile The percentage, between 0 and 100, e.g. {@code 99} for the 99th percentile
+	 *
+	 * @return The value, or {@code 0} if none was recorded
+	 */
+	long getPercentile(double percentile);
+}
@@ -8,6 +8,8 @@ package org.hibernate.stat;
 
 import javax.management.MXBean;
 
+import org.hibernate.SessionEventListener.FlushPhase;
+
 /**
  * Exposes statistics for a particular {@link org.hibernate.SessionFactory}.  Beware of milliseconds metrics, they
  * are dependent of the JVM precision: you may then encounter a 10 ms approximation depending on you OS platform.
@@ -386,4 +388,50 @@ public interface Statistics {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * The number of JDBC batches executed.  Together with {@link #getJdbcBatchedStatementCount()}, this tells
+	 * the average size of the batches, which can be improved through {@value org.hibernate.cfg.AvailableSettings#ORDER_INSERTS},
+	 * {@value org.hibernate.cfg.AvailableSettings#ORDER_UPDATES} and {@value org.hibernate.cfg.AvailableSettings#ORDER_DELETES}.
+	 *
+	 * @since 5.5
+	 */
+	default long getJdbcBatchCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The number of statements (that is, sets of parameter values) executed as part of JDBC batches
+	 *
+	 * @since 5.5
+	 */
+	default long getJdbcBatchedStatementCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The size of the largest JDBC batch executed
+	 *
+	 * @since 5.5
+	 */
+	default long getJdbcBatchMaxSize() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Get the time spent in the given phase of flushes, in milliseconds.  Along with
+	 * {@link EntityStatistics#getDirtyCheckTime()}, this tells whether flushes are dominated by dirty
+	 * checking or by the execution of the SQL statements.
+	 *
+	 * @param phase The flush phase
+	 *
+	 * @since 5.5
+	 */
+	default long getFlushPhaseTime(FlushPhase phase) {
+		//For backward compatibility
+		return 0;
+	}
 }
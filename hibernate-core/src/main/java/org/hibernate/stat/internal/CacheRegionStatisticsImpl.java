@@ -12,6 +12,7 @@ import java.util.concurrent.atomic.LongAdder;
 import org.hibernate.cache.spi.ExtendedStatisticsSupport;
 import org.hibernate.cache.spi.Region;
 import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Histogram;
 import org.hibernate.stat.SecondLevelCacheStatistics;
 
 /**
@@ -74,6 +75,38 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, SecondL
 		return NO_EXTENDED_STAT_SUPPORT_RETURN;
 	}
 
+	@Override
+	public Histogram getGetLatencyHistogram() {
+		if ( region instanceof ExtendedStatisticsSupport ) {
+			return ( (ExtendedStatisticsSupport) region ).getGetLatencyHistogram();
+		}
+		return null;
+	}
+
+	@Override
+	public Histogram getPutLatencyHistogram() {
+		if ( region instanceof ExtendedStatisticsSupport ) {
+			return ( (ExtendedStatisticsSupport) region ).getPutLatencyHistogram();
+		}
+		return null;
+	}
+
+	@Override
+	public Histogram getRemoveLatencyHistogram() {
+		if ( region instanceof ExtendedStatisticsSupport ) {
+			return ( (ExtendedStatisticsSupport) region ).getRemoveLatencyHistogram();
+		}
+		return null;
+	}
+
+	@Override
+	public Histogram getEntrySizeHistogram() {
+		if ( region instanceof ExtendedStatisticsSupport ) {
+			return ( (ExtendedStatisticsSupport) region ).getEntrySizeHistogram();
+		}
+		return null;
+	}
+
 	void incrementHitCount() {
 		hitCount.increment();
 	}
@@ -129,8 +129,9 @@ public class DeprecatedNaturalIdCacheStatisticsImpl implements NaturalIdCacheSta
 				if ( processedRegions == null ) {
 					processedRegions = new HashSet<>();
 				}
-				if ( processedRegions.add( region ) ) {
-					count += ( (ExtendedStatisticsSupport) region ).getElementCountInMemory();
+				final long regionCount = ( (ExtendedStatisticsSupport) region ).getElementCountInMemory();
+				if ( processedRegions.add( region ) && regionCount != NO_EXTENDED_STAT_SUPPORT_RETURN ) {
+					count += regionCount;
 				}
 			}
 
@@ -158,8 +159,9 @@ public class DeprecatedNaturalIdCacheStatisticsImpl implements NaturalIdCacheSta
 				if ( processedRegions == null ) {
 					processedRegions = new HashSet<>();
 				}
-				if ( processedRegions.add( region ) ) {
-					count += ( (ExtendedStatisticsSupport) region ).getElementCountOnDisk();
+				final long regionCount = ( (ExtendedStatisticsSupport) region ).getElementCountOnDisk();
+				if ( processedRegions.add( region ) && regionCount != NO_EXTENDED_STAT_SUPPORT_RETURN ) {
+					count += regionCount;
 				}
 			}
 
@@ -187,8 +189,9 @@ public class DeprecatedNaturalIdCacheStatisticsImpl implements NaturalIdCacheSta
 				if ( processedRegions == null ) {
 					processedRegions = new HashSet<>();
 				}
-				if ( processedRegions.add( region ) ) {
-					count += ( (ExtendedStatisticsSupport) region ).getElementCountOnDisk();
+				final long regionCount = ( (ExtendedStatisticsSupport) region ).getElementCountOnDisk();
+				if ( processedRegions.add( region ) && regionCount != NO_EXTENDED_STAT_SUPPORT_RETURN ) {
+					count += regionCount;
 				}
 			}
 
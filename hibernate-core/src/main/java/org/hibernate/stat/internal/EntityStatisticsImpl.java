@@ -7,6 +7,7 @@
 package org.hibernate.stat.internal;
 
 import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.persister.entity.EntityPersister;
@@ -26,6 +27,8 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 	private final LongAdder deleteCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
 	private final LongAdder optimisticFailureCount = new LongAdder();
+	private final LongAdder dirtyCheckCount = new LongAdder();
+	private final LongAdder dirtyCheckNanos = new LongAdder();
 
 	EntityStatisticsImpl(EntityPersister rootEntityDescriptor) {
 		super(
@@ -60,6 +63,16 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		return optimisticFailureCount.sum();
 	}
 
+	@Override
+	public long getDirtyCheckCount() {
+		return dirtyCheckCount.sum();
+	}
+
+	@Override
+	public long getDirtyCheckTime() {
+		return TimeUnit.NANOSECONDS.toMillis( dirtyCheckNanos.sum() );
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
@@ -84,6 +97,11 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		optimisticFailureCount.increment();
 	}
 
+	void dirtyChecked(long nanoseconds) {
+		dirtyCheckCount.increment();
+		dirtyCheckNanos.add( nanoseconds );
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "EntityStatistics" )
@@ -93,7 +111,9 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 				.append( ",insertCount=" ).append( this.insertCount )
 				.append( ",deleteCount=" ).append( this.deleteCount )
 				.append( ",fetchCount=" ).append( this.fetchCount )
-				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount );
+				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount )
+				.append( ",dirtyCheckCount=" ).append( this.dirtyCheckCount )
+				.append( ",dirtyCheckTime=" ).append( getDirtyCheckTime() );
 		appendCacheStats( buffer );
 		return buffer.append( ']' ).toString();
 	}
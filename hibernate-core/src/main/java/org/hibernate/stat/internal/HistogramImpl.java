@@ -0,0 +1,126 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.Histogram;
+
+/**
+ * Lock-free {@link Histogram} of non-negative values.  The values lower than 8 get their own bucket, each power of
+ * two range above is split into 8 buckets.
+ */
+public class HistogramImpl implements Histogram {
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = SUB_BUCKET_COUNT * ( 64 - SUB_BUCKET_BITS );
+
+	private final AtomicLongArray buckets = new AtomicLongArray( BUCKET_COUNT );
+	private final LongAdder count = new LongAdder();
+	private final LongAdder total = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator( Math::max, 0 );
+
+	/**
+	 * Records a value; negative values are recorded as {@code 0}.
+	 */
+	public void record(long value) {
+		if ( value < 0 ) {
+			value = 0;
+		}
+		buckets.incrementAndGet( bucketIndex( value ) );
+		count.increment();
+		total.add( value );
+		max.accumulate( value );
+	}
+
+	private static int bucketIndex(long value) {
+		if ( value < SUB_BUCKET_COUNT ) {
+			return (int) value;
+		}
+		final int exponent = 63 - Long.numberOfLeadingZeros( value );
+		final int subBucket = (int) ( value >>> ( exponent - SUB_BUCKET_BITS ) ) & ( SUB_BUCKET_COUNT - 1 );
+		return SUB_BUCKET_COUNT * ( exponent - SUB_BUCKET_BITS + 1 ) + subBucket;
+	}
+
+	/**
+	 * The highest value counted in the given bucket
+	 */
+	private static long bucketUpperBound(int index) {
+		if ( index < SUB_BUCKET_COUNT ) {
+			return index;
+		}
+		final int shift = index / SUB_BUCKET_COUNT - 1;
+		final long nextLowerBound = (long) ( SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT + 1 ) << shift;
+		return nextLowerBound < 0 ? Long.MAX_VALUE : nextLowerBound - 1;
+	}
+
+	@Override
+	public long getCount() {
+		return count.sum();
+	}
+
+	@Override
+	public long getCount(long value) {
+		if ( value < 0 ) {
+			return 0;
+		}
+		final int lastIndex = bucketIndex( value );
+		long result = 0;
+		for ( int i = 0; i <= lastIndex; i++ ) {
+			result += buckets.get( i );
+		}
+		return result;
+	}
+
+	@Override
+	public long getTotal() {
+		return total.sum();
+	}
+
+	@Override
+	public long getMax() {
+		return max.get();
+	}
+
+	@Override
+	public double getMean() {
+		final long count = getCount();
+		return count == 0 ? 0 : (double) getTotal() / count;
+	}
+
+	@Override
+	public long getPercentile(double percentile) {
+		long bucketCount = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			bucketCount += buckets.get( i );
+		}
+		if ( bucketCount == 0 ) {
+			return 0;
+		}
+		final long rank = Math.max( 1, (long) Math.ceil( bucketCount * Math.min( percentile, 100 ) / 100 ) );
+		long cumulativeCount = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			cumulativeCount += buckets.get( i );
+			if ( cumulativeCount >= rank ) {
+				return Math.min( bucketUpperBound( i ), getMax() );
+			}
+		}
+		return getMax();
+	}
+
+	@Override
+	public String toString() {
+		return "Histogram[count=" + getCount()
+				+ ",mean=" + getMean()
+				+ ",p50=" + getPercentile( 50 )
+				+ ",p99=" + getPercentile( 99 )
+				+ ",max=" + getMax()
+				+ ']';
+	}
+}
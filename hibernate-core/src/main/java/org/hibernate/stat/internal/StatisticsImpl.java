@@ -7,9 +7,11 @@
 package org.hibernate.stat.internal;
 
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 
+import org.hibernate.SessionEventListener.FlushPhase;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.QueryResultsCache;
@@ -55,6 +57,12 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 	private final LongAdder prepareStatementCount = new LongAdder();
 	private final LongAdder closeStatementCount = new LongAdder();
 
+	private final LongAdder jdbcBatchCount = new LongAdder();
+	private final LongAdder jdbcBatchedStatementCount = new LongAdder();
+	private final AtomicLong jdbcBatchMaxSize = new AtomicLong();
+
+	private final LongAdder[] flushPhaseNanos = newFlushPhaseAdders();
+
 	private final LongAdder entityLoadCount = new LongAdder();
 	private final LongAdder entityUpdateCount = new LongAdder();
 	private final LongAdder entityInsertCount = new LongAdder();
@@ -154,6 +162,14 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		prepareStatementCount.reset();
 		closeStatementCount.reset();
 
+		jdbcBatchCount.reset();
+		jdbcBatchedStatementCount.reset();
+		jdbcBatchMaxSize.set( 0L );
+
+		for ( LongAdder adder : flushPhaseNanos ) {
+			adder.reset();
+		}
+
 		entityDeleteCount.reset();
 		entityInsertCount.reset();
 		entityUpdateCount.reset();
@@ -878,6 +894,29 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		flushCount.increment();
 	}
 
+	@Override
+	public long getFlushPhaseTime(FlushPhase phase) {
+		return TimeUnit.NANOSECONDS.toMillis( flushPhaseNanos[phase.ordinal()].sum() );
+	}
+
+	@Override
+	public void flushPhaseExecuted(FlushPhase phase, long nanoseconds) {
+		flushPhaseNanos[phase.ordinal()].add( nanoseconds );
+	}
+
+	@Override
+	public void entityDirtyChecked(String entityName, long nanoseconds) {
+		getEntityStatistics( entityName ).dirtyChecked( nanoseconds );
+	}
+
+	private static LongAdder[] newFlushPhaseAdders() {
+		final LongAdder[] adders = new LongAdder[FlushPhase.values().length];
+		for ( int i = 0; i < adders.length; i++ ) {
+			adders[i] = new LongAdder();
+		}
+		return adders;
+	}
+
 	@Override
 	public void connect() {
 		connectCount.increment();
@@ -893,6 +932,28 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		closeStatementCount.increment();
 	}
 
+	@Override
+	public long getJdbcBatchCount() {
+		return jdbcBatchCount.sum();
+	}
+
+	@Override
+	public long getJdbcBatchedStatementCount() {
+		return jdbcBatchedStatementCount.sum();
+	}
+
+	@Override
+	public long getJdbcBatchMaxSize() {
+		return jdbcBatchMaxSize.get();
+	}
+
+	@Override
+	public void jdbcBatchExecuted(int batchSize) {
+		jdbcBatchCount.increment();
+		jdbcBatchedStatementCount.add( batchSize );
+		jdbcBatchMaxSize.accumulateAndGet( batchSize, Math::max );
+	}
+
 	@Override
 	public void endTransaction(boolean success) {
 		transactionCount.increment();
@@ -958,6 +1019,9 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 				.append( ",connections obtained=" ).append( connectCount )
 				.append( ",statements prepared=" ).append( prepareStatementCount )
 				.append( ",statements closed=" ).append( closeStatementCount )
+				.append( ",JDBC batches executed=" ).append( jdbcBatchCount )
+				.append( ",JDBC batched statements=" ).append( jdbcBatchedStatementCount )
+				.append( ",JDBC max batch size=" ).append( jdbcBatchMaxSize )
 				.append( ",second level cache puts=" ).append( secondLevelCachePutCount )
 				.append( ",second level cache hits=" ).append( secondLevelCacheHitCount )
 				.append( ",second level cache misses=" ).append( secondLevelCacheMissCount )
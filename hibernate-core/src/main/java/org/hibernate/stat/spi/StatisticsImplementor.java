@@ -6,6 +6,7 @@
  */
 package org.hibernate.stat.spi;
 
+import org.hibernate.SessionEventListener.FlushPhase;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.service.Service;
 import org.hibernate.stat.Statistics;
@@ -266,4 +267,33 @@ public interface StatisticsImplementor extends Statistics, Service {
 	default void queryCompiled(String hql, long microseconds) {
 		//For backward compatibility
 	}
+
+	/**
+	 * Callback indicating the execution of a JDBC batch.
+	 *
+	 * @param batchSize The number of statements executed by the batch
+	 */
+	default void jdbcBatchExecuted(int batchSize) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the completion of a phase of a flush.
+	 *
+	 * @param phase The flush phase
+	 * @param nanoseconds The time spent in the phase
+	 */
+	default void flushPhaseExecuted(FlushPhase phase, long nanoseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the dirty check of an entity during a flush.
+	 *
+	 * @param entityName The name of the entity
+	 * @param nanoseconds The time spent dirty checking the entity
+	 */
+	default void entityDirtyChecked(String entityName, long nanoseconds) {
+		//For backward compatibility
+	}
 }
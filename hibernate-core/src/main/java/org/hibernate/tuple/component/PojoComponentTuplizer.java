@@ -8,6 +8,7 @@ package org.hibernate.tuple.component;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.Iterator;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -15,9 +16,12 @@ import org.hibernate.bytecode.spi.BasicProxyFactory;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Environment;
+import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.mapping.Component;
 import org.hibernate.mapping.Property;
 import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
@@ -36,7 +40,8 @@ import org.hibernate.tuple.PojoInstantiator;
  */
 public class PojoComponentTuplizer extends AbstractComponentTuplizer {
 	private Class componentClass;
-	private ReflectionOptimizer optimizer;
+	// the generated accessors are not serializable, a deserialized tuplizer accesses the properties by reflection
+	private transient ReflectionOptimizer optimizer;
 	private final Getter parentGetter;
 	private final Setter parentSetter;
 
@@ -46,10 +51,13 @@ public class PojoComponentTuplizer extends AbstractComponentTuplizer {
 		String[] getterNames = new String[propertySpan];
 		String[] setterNames = new String[propertySpan];
 		Class[] propTypes = new Class[propertySpan];
+		String[] propertyNames = new String[propertySpan];
+		Iterator properties = component.getPropertyIterator();
 		for ( int i = 0; i < propertySpan; i++ ) {
 			getterNames[i] = getters[i].getMethodName();
 			setterNames[i] = setters[i].getMethodName();
 			propTypes[i] = getters[i].getReturnType();
+			propertyNames[i] = ( (Property) properties.next() ).getName();
 		}
 
 		final String parentPropertyName = component.getParentProperty();
@@ -66,15 +74,24 @@ public class PojoComponentTuplizer extends AbstractComponentTuplizer {
 			parentGetter = propertyAccess.getGetter();
 		}
 
-		if ( hasCustomAccessors || !Environment.useReflectionOptimizer() ) {
-			optimizer = null;
-		}
-		else {
-			final BytecodeProvider bytecodeProvider = component.getServiceRegistry().getService( BytecodeProvider.class );
+		final BytecodeProvider bytecodeProvider = component.getServiceRegistry().getService( BytecodeProvider.class );
+		if ( !hasCustomAccessors && Environment.useReflectionOptimizer() ) {
 			optimizer = bytecodeProvider.getReflectionOptimizer(
 					componentClass, getterNames, setterNames, propTypes
 			);
 		}
+		else if ( ConfigurationHelper.getBoolean(
+				AvailableSettings.USE_GENERATED_PROPERTY_ACCESSORS,
+				component.getServiceRegistry().getService( ConfigurationService.class ).getSettings(),
+				true
+		) ) {
+			optimizer = bytecodeProvider.getReflectionOptimizer(
+					componentClass, propertyNames, getters, setters
+			);
+		}
+		else {
+			optimizer = null;
+		}
 	}
 
 	public Class getMappedClass() {
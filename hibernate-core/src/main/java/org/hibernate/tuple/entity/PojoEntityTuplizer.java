@@ -18,20 +18,24 @@ import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLaziness
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Environment;
 import org.hibernate.classic.Lifecycle;
+import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.Property;
 import org.hibernate.property.access.spi.Getter;
 import org.hibernate.property.access.spi.Setter;
 import org.hibernate.proxy.ProxyFactory;
 import org.hibernate.proxy.pojo.ProxyFactoryHelper;
+import org.hibernate.service.ServiceRegistry;
 import org.hibernate.tuple.Instantiator;
 import org.hibernate.type.CompositeType;
 
@@ -64,11 +68,9 @@ public class PojoEntityTuplizer extends AbstractEntityTuplizer {
 			propTypes[i] = getters[i].getReturnType();
 		}
 
-		if ( hasCustomAccessors || !Environment.useReflectionOptimizer() ) {
-			optimizer = null;
-		}
-		else {
-			final BytecodeProvider bytecodeProvider = entityMetamodel.getSessionFactory().getServiceRegistry().getService( BytecodeProvider.class );
+		final ServiceRegistry serviceRegistry = entityMetamodel.getSessionFactory().getServiceRegistry();
+		final BytecodeProvider bytecodeProvider = serviceRegistry.getService( BytecodeProvider.class );
+		if ( !hasCustomAccessors && Environment.useReflectionOptimizer() ) {
 			optimizer = bytecodeProvider.getReflectionOptimizer(
 					mappedClass,
 					getterNames,
@@ -76,6 +78,21 @@ public class PojoEntityTuplizer extends AbstractEntityTuplizer {
 					propTypes
 			);
 		}
+		else if ( ConfigurationHelper.getBoolean(
+				AvailableSettings.USE_GENERATED_PROPERTY_ACCESSORS,
+				serviceRegistry.getService( ConfigurationService.class ).getSettings(),
+				true
+		) ) {
+			optimizer = bytecodeProvider.getReflectionOptimizer(
+					mappedClass,
+					entityMetamodel.getPropertyNames(),
+					getters,
+					setters
+			);
+		}
+		else {
+			optimizer = null;
+		}
 	}
 
 	@Override
@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.util.Objects;
+import javax.persistence.Embeddable;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the keys created by the {@link DefaultCacheKeysFactory}.
+ */
+public class DefaultCacheKeysFactoryTest {
+	private StandardServiceRegistry serviceRegistry;
+	private SessionFactoryImplementor sessionFactory;
+
+	@Before
+	public void setUp() {
+		serviceRegistry = new StandardServiceRegistryBuilder().build();
+		sessionFactory = (SessionFactoryImplementor) new MetadataSources( serviceRegistry )
+				.addAnnotatedClass( LongIdEntity.class )
+				.addAnnotatedClass( CompositeIdEntity.class )
+				.buildMetadata()
+				.buildSessionFactory();
+	}
+
+	@After
+	public void tearDown() {
+		sessionFactory.close();
+		StandardServiceRegistryBuilder.destroy( serviceRegistry );
+	}
+
+	@Test
+	public void testBasicIdentifier() {
+		final EntityPersister persister = sessionFactory.getMetamodel().entityPersister( LongIdEntity.class );
+		final Object key = createKey( 1L, persister, null );
+		assertTrue( key instanceof BasicCacheKeyImplementation );
+
+		assertEquals( key, createKey( 1L, persister, null ) );
+		assertEquals( key.hashCode(), createKey( 1L, persister, null ).hashCode() );
+		assertNotEquals( key, createKey( 2L, persister, null ) );
+		assertNotEquals( key, createKey( 1L, persister, "tenant" ) );
+		assertEquals( 1L, DefaultCacheKeysFactory.staticGetEntityId( key ) );
+		assertEquals( key, SerializationHelper.clone( (Serializable) key ) );
+	}
+
+	@Test
+	public void testCompositeIdentifier() {
+		final EntityPersister persister = sessionFactory.getMetamodel().entityPersister( CompositeIdEntity.class );
+		final Object key = createKey( new CompositeId( 1, 2 ), persister, null );
+		assertTrue( key instanceof CacheKeyImplementation );
+
+		assertEquals( key, createKey( new CompositeId( 1, 2 ), persister, null ) );
+		assertNotEquals( key, createKey( new CompositeId( 2, 1 ), persister, null ) );
+		assertEquals( new CompositeId( 1, 2 ), DefaultCacheKeysFactory.staticGetEntityId( key ) );
+	}
+
+	private Object createKey(Object id, EntityPersister persister, String tenantIdentifier) {
+		return DefaultCacheKeysFactory.staticCreateEntityKey( id, persister, sessionFactory, tenantIdentifier );
+	}
+
+	@Entity(name = "LongIdEntity")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class LongIdEntity {
+		@Id
+		private Long id;
+	}
+
+	@Entity(name = "CompositeIdEntity")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class CompositeIdEntity {
+		@EmbeddedId
+		private CompositeId id;
+	}
+
+	@Embeddable
+	public static class CompositeId implements Serializable {
+		private Integer first;
+		private Integer second;
+
+		public CompositeId() {
+		}
+
+		public CompositeId(Integer first, Integer second) {
+			this.first = first;
+			this.second = second;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof CompositeId ) ) {
+				return false;
+			}
+			final CompositeId that = (CompositeId) o;
+			return Objects.equals( first, that.first ) && Objects.equals( second, that.second );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( first, second );
+		}
+	}
+}
@@ -6,6 +6,15 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.Ignore;
 import org.junit.Test;
 
@@ -14,6 +23,7 @@ import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.testing.junit4.BaseUnitTestCase;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * {@inheritDoc}
@@ -294,6 +304,109 @@ public class OptimizerUnitTest extends BaseUnitTestCase {
 
 	}
 
+	@Test
+	public void testBasicPooledLockFreeOptimizerUsage() {
+		Long next;
+		// same expectations as for the pooled optimizer
+		SourceMock sequence = new SourceMock( 1, 10 );
+		Optimizer optimizer = buildPooledLockFreeOptimizer( -1, 10 );
+		for ( int i = 1; i <= 11; i++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 2, sequence.getTimesCalled() ); // twice to initialize state
+		assertEquals( 11, sequence.getCurrentValue() );
+		// force a "clock over"
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 12, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 21, sequence.getCurrentValue() );
+		assertEquals( 21, optimizer.getLastSourceValue().makeValue().intValue() );
+	}
+
+	@Test
+	public void testSubsequentPooledLockFreeOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1001, 3, 5 );
+		final Optimizer optimizer = buildPooledLockFreeOptimizer( 1, 3 );
+
+		Long next = (Long) optimizer.generate( sequence );
+		assertEquals( 1001 +1 , next.intValue() );
+		assertEquals( (5+1), sequence.getTimesCalled() );
+		assertEquals( (1001+3), sequence.getCurrentValue() );
+
+		next = (Long) optimizer.generate( sequence );
+		assertEquals( (1001+2), next.intValue() );
+		next = (Long) optimizer.generate( sequence );
+		assertEquals( (1001+3), next.intValue() );
+		assertEquals( (5+1), sequence.getTimesCalled() );
+
+		// force a "clock over"
+		next = (Long) optimizer.generate( sequence );
+		assertEquals( (1001+4), next.intValue() );
+		assertEquals( (5+2), sequence.getTimesCalled() );
+		assertEquals( (1001+6), sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testPooledStripedOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 8 );
+		final PooledStripedOptimizer optimizer = new PooledStripedOptimizer( Long.class, 8, 4 );
+		optimizer.injectInitialValue( 1 );
+		assertEquals( 4, optimizer.getStripeCount() );
+
+		// a single thread always uses the same stripe, hence consecutive values
+		for ( int i = 1; i <= 9; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		}
+		assertEquals( 2, sequence.getTimesCalled() );
+		// the next sub-range requires a new range
+		assertEquals( 10, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+	}
+
+	@Test
+	public void testConcurrentPooledLockFreeOptimizerUsage() throws Exception {
+		assertUniqueValuesUnderConcurrency( buildPooledLockFreeOptimizer( -1, 50 ) );
+	}
+
+	@Test
+	public void testConcurrentPooledStripedOptimizerUsage() throws Exception {
+		assertUniqueValuesUnderConcurrency( buildOptimizer( StandardOptimizerDescriptor.POOLED_STRIPED, -1, 50 ) );
+	}
+
+	private static void assertUniqueValuesUnderConcurrency(Optimizer optimizer) throws Exception {
+		final int threads = 8;
+		final int valuesPerThread = 10_000;
+		// refills are serialized by the optimizer, so the non thread-safe mock is fine here
+		final SourceMock sequence = new SourceMock( 1, 50 );
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<List<Long>>> futures = new ArrayList<>();
+			for ( int t = 0; t < threads; t++ ) {
+				futures.add( executor.submit( (Callable<List<Long>>) () -> {
+					final List<Long> values = new ArrayList<>( valuesPerThread );
+					for ( int i = 0; i < valuesPerThread; i++ ) {
+						values.add( (Long) optimizer.generate( sequence ) );
+					}
+					return values;
+				} ) );
+			}
+			final Set<Long> allValues = new HashSet<>();
+			for ( Future<List<Long>> future : futures ) {
+				for ( Long value : future.get() ) {
+					assertTrue( "Duplicate value " + value, allValues.add( value ) );
+				}
+			}
+			assertEquals( threads * valuesPerThread, allValues.size() );
+			for ( Long value : allValues ) {
+				assertTrue( value <= sequence.getCurrentValue() );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -314,6 +427,10 @@ public class OptimizerUnitTest extends BaseUnitTestCase {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildPooledLockFreeOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOCK_FREE, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
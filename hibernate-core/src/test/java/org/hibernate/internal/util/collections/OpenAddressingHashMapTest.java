@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class OpenAddressingHashMapTest {
+
+	@Test
+	public void testBasicOperations() {
+		final OpenAddressingHashMap<String, Integer> map = new OpenAddressingHashMap<>();
+		assertTrue( map.isEmpty() );
+		assertNull( map.put( "a", 1 ) );
+		assertNull( map.put( "b", 2 ) );
+		assertEquals( Integer.valueOf( 1 ), map.put( "a", 3 ) );
+		assertEquals( 2, map.size() );
+		assertEquals( Integer.valueOf( 3 ), map.get( "a" ) );
+		assertTrue( map.containsKey( "b" ) );
+		assertTrue( map.containsValue( 2 ) );
+		assertFalse( map.containsKey( "c" ) );
+		assertNull( map.get( null ) );
+
+		assertEquals( Integer.valueOf( 2 ), map.remove( "b" ) );
+		assertNull( map.remove( "b" ) );
+		assertEquals( 1, map.size() );
+
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertNull( map.get( "a" ) );
+	}
+
+	@Test
+	public void testCollidingKeys() {
+		final OpenAddressingHashMap<CollidingKey, Integer> map = new OpenAddressingHashMap<>();
+		for ( int i = 0; i < 100; i++ ) {
+			map.put( new CollidingKey( i ), i );
+		}
+		for ( int i = 0; i < 100; i += 2 ) {
+			assertEquals( Integer.valueOf( i ), map.remove( new CollidingKey( i ) ) );
+		}
+		assertEquals( 50, map.size() );
+		for ( int i = 0; i < 100; i++ ) {
+			assertEquals( i % 2 == 0 ? null : Integer.valueOf( i ), map.get( new CollidingKey( i ) ) );
+		}
+	}
+
+	@Test
+	public void testBehavesLikeHashMap() {
+		final Map<Integer, Integer> expected = new HashMap<>();
+		final OpenAddressingHashMap<Integer, Integer> map = new OpenAddressingHashMap<>();
+		final Random random = new Random( 42 );
+		for ( int i = 0; i < 100_000; i++ ) {
+			final Integer key = random.nextInt( 5_000 );
+			if ( random.nextInt( 3 ) == 0 ) {
+				assertEquals( expected.remove( key ), map.remove( key ) );
+			}
+			else {
+				assertEquals( expected.put( key, i ), map.put( key, i ) );
+			}
+		}
+		assertEquals( expected, map );
+		assertEquals( expected.keySet(), map.keySet() );
+		assertEquals( expected.hashCode(), map.hashCode() );
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		final OpenAddressingHashMap<Integer, String> map = new OpenAddressingHashMap<>( 4 );
+		for ( int i = 0; i < 1_000; i++ ) {
+			map.put( i, String.valueOf( i ) );
+		}
+		int visited = 0;
+		for ( Iterator<Map.Entry<Integer, String>> it = map.entrySet().iterator(); it.hasNext(); ) {
+			final Map.Entry<Integer, String> entry = it.next();
+			visited++;
+			if ( entry.getKey() % 2 == 0 ) {
+				it.remove();
+			}
+			else {
+				entry.setValue( "odd" );
+			}
+		}
+		assertEquals( 1_000, visited );
+		assertEquals( 500, map.size() );
+		for ( int i = 0; i < 1_000; i++ ) {
+			assertEquals( i % 2 == 0 ? null : "odd", map.get( i ) );
+		}
+		int values = 0;
+		for ( String value : map.values() ) {
+			assertEquals( "odd", value );
+			values++;
+		}
+		assertEquals( 500, values );
+	}
+
+	private static final class CollidingKey {
+		private final int value;
+
+		private CollidingKey(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof CollidingKey && ( (CollidingKey) o ).value == value;
+		}
+
+		@Override
+		public int hashCode() {
+			return 7;
+		}
+	}
+}
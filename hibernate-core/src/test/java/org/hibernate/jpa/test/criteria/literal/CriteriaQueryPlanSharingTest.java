@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.jpa.test.criteria.literal;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.test.BaseEntityManagerFunctionalTestCase;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInJPA;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the sharing of the query plans of the criteria queries of the same structure.
+ */
+public class CriteriaQueryPlanSharingTest extends BaseEntityManagerFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] {
+			Book.class
+		};
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( AvailableSettings.CRITERIA_QUERY_PLAN_SHARING, "true" );
+		options.put( AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, "true" );
+		options.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Before
+	public void init() {
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				Book book = new Book();
+				book.id = i;
+				book.name = "Book " + i;
+				book.pages = i * 100;
+				entityManager.persist( book );
+			}
+		} );
+	}
+
+	@Test
+	public void testLiteralsShareQueryPlan() {
+		final Statistics statistics = entityManagerFactory().unwrap( SessionFactory.class ).getStatistics();
+		statistics.clear();
+
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+				final CriteriaQuery<Book> query = cb.createQuery( Book.class );
+				final Root<Book> book = query.from( Book.class );
+				query.where(
+						cb.equal( book.get( "id" ), i ),
+						cb.greaterThanOrEqualTo( book.get( "pages" ), i * 100 )
+				);
+
+				final List<Book> books = entityManager.createQuery( query ).getResultList();
+				assertEquals( 1, books.size() );
+				assertEquals( "Book " + i, books.get( 0 ).name );
+			}
+		} );
+
+		assertEquals( 1, statistics.getQueryPlanCacheMissCount() );
+	}
+
+	@Test
+	public void testInPredicateLiteralsShareQueryPlan() {
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+			final CriteriaQuery<Book> query = cb.createQuery( Book.class );
+			final Root<Book> book = query.from( Book.class );
+			query.where( book.get( "id" ).in( Arrays.asList( 1, 2 ) ) );
+			assertEquals( 2, entityManager.createQuery( query ).getResultList().size() );
+		} );
+
+		final Statistics statistics = entityManagerFactory().unwrap( SessionFactory.class ).getStatistics();
+		statistics.clear();
+
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int i = 5; i <= 8; i++ ) {
+				final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+				final CriteriaQuery<Book> query = cb.createQuery( Book.class );
+				final Root<Book> book = query.from( Book.class );
+				final CriteriaBuilder.In<Object> in = cb.in( book.get( "id" ) );
+				for ( int j = 1; j <= i; j++ ) {
+					in.value( j );
+				}
+				query.where( in );
+
+				assertEquals( i, entityManager.createQuery( query ).getResultList().size() );
+			}
+		} );
+
+		// the values are padded to 8 parameters, the unexpanded query is already known
+		assertEquals( 1, statistics.getQueryPlanCacheMissCount() );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+
+		@Id
+		private Integer id;
+
+		private String name;
+
+		private int pages;
+	}
+}
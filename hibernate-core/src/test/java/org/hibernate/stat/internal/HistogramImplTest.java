@@ -0,0 +1,64 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HistogramImplTest {
+
+	@Test
+	public void testEmpty() {
+		final HistogramImpl histogram = new HistogramImpl();
+		assertEquals( 0, histogram.getCount() );
+		assertEquals( 0, histogram.getMax() );
+		assertEquals( 0, histogram.getPercentile( 99 ) );
+		assertEquals( 0, histogram.getMean(), 0 );
+	}
+
+	@Test
+	public void testPercentiles() {
+		final HistogramImpl histogram = new HistogramImpl();
+		for ( long value = 1; value <= 1000; value++ ) {
+			histogram.record( value * 1000 );
+		}
+		assertEquals( 1000, histogram.getCount() );
+		assertEquals( 1000000, histogram.getMax() );
+		assertEquals( 500500000, histogram.getTotal() );
+		assertEquals( 500500, histogram.getMean(), 0 );
+
+		assertWithinPrecision( 500000, histogram.getPercentile( 50 ) );
+		assertWithinPrecision( 990000, histogram.getPercentile( 99 ) );
+		assertEquals( 1000000, histogram.getPercentile( 100 ) );
+		assertWithinPrecision( 1000, histogram.getPercentile( 0 ) );
+	}
+
+	@Test
+	public void testCumulativeCounts() {
+		final HistogramImpl histogram = new HistogramImpl();
+		histogram.record( 0 );
+		histogram.record( 5 );
+		histogram.record( 100 );
+		histogram.record( Long.MAX_VALUE );
+		histogram.record( -1 );
+
+		assertEquals( 5, histogram.getCount() );
+		assertEquals( 0, histogram.getCount( -1 ) );
+		assertEquals( 2, histogram.getCount( 0 ) );
+		assertEquals( 3, histogram.getCount( 5 ) );
+		assertEquals( 3, histogram.getCount( 50 ) );
+		assertEquals( 4, histogram.getCount( 1000 ) );
+		assertEquals( 5, histogram.getCount( Long.MAX_VALUE ) );
+		assertEquals( Long.MAX_VALUE, histogram.getMax() );
+	}
+
+	private static void assertWithinPrecision(long expected, long actual) {
+		assertTrue( "Expected about " + expected + " but was " + actual, actual >= expected && actual <= expected * 1.125 );
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batch;
+
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the ordering of entity deletions by entity type, for the purpose of JDBC batching.
+ */
+public class BatchOrderDeletesTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final int COUNT = 5;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Author.class, Book.class, Review.class, Tag.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		settings.put( AvailableSettings.ORDER_DELETES, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testDeletionsAreGroupedByEntityType() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Author( 0 ) );
+			for ( int i = 1; i <= COUNT; i++ ) {
+				final Author author = new Author( i );
+				final Book book = new Book( i, author );
+				session.persist( author );
+				session.persist( book );
+				session.persist( new Review( i, book ) );
+				session.persist( new Tag( i ) );
+			}
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			// an author without books first, so that authors must not be deleted in the position of their first
+			// deletion
+			session.remove( session.get( Author.class, 0 ) );
+			for ( int i = 1; i <= COUNT; i++ ) {
+				final Review review = session.get( Review.class, i );
+				session.remove( review );
+				session.remove( review.book );
+				session.remove( review.book.author );
+				session.remove( session.get( Tag.class, i ) );
+			}
+		} );
+
+		// one batch per entity type
+		assertEquals( 4, statistics.getJdbcBatchCount() );
+		assertEquals( 4 * COUNT + 1, statistics.getJdbcBatchedStatementCount() );
+		assertEquals( COUNT + 1, statistics.getJdbcBatchMaxSize() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 0L, session.createQuery( "select count(a) from Author a" ).uniqueResult() );
+			assertEquals( 0L, session.createQuery( "select count(b) from Book b" ).uniqueResult() );
+		} );
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		public Author() {
+		}
+
+		public Author(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, Author author) {
+			this.id = id;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Review")
+	public static class Review {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Book book;
+
+		public Review() {
+		}
+
+		public Review(Integer id, Book book) {
+			this.id = id;
+			this.book = book;
+		}
+	}
+
+	@Entity(name = "Tag")
+	public static class Tag {
+		@Id
+		private Integer id;
+
+		public Tag() {
+		}
+
+		public Tag(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,389 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batch;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import javax.persistence.DiscriminatorValue;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Inheritance;
+import javax.persistence.InheritanceType;
+import javax.persistence.SequenceGenerator;
+
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.annotations.ColumnTransformer;
+import org.hibernate.annotations.Type;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.usertype.UserType;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests the coalescing of batched inserts into multi-row inserts.
+ */
+@RequiresDialect(H2Dialect.class)
+public class MultiRowInsertBatchTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected void configureSessionFactoryBuilder(SessionFactoryBuilder sfb) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( sfb );
+	}
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Event.class, Vehicle.class, Car.class, Label.class, Question.class, Riddle.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		settings.put( AvailableSettings.MULTI_ROW_INSERT, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testInsertsAreCoalesced() {
+		sqlStatementInterceptor.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 25; i++ ) {
+				session.persist( new Event( "event " + i, i ) );
+			}
+		} );
+
+		final List<String> inserts = executedInserts( "insert into Event" );
+		assertEquals( 3, inserts.size() );
+		assertEquals( 10, rowCount( inserts.get( 0 ) ) );
+		assertEquals( 10, rowCount( inserts.get( 1 ) ) );
+		assertEquals( 5, rowCount( inserts.get( 2 ) ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Event> events = session.createQuery( "from Event order by amount", Event.class ).list();
+			assertEquals( 25, events.size() );
+			for ( int i = 0; i < 25; i++ ) {
+				assertEquals( "event " + i, events.get( i ).name );
+				assertEquals( i, events.get( i ).amount );
+			}
+		} );
+	}
+
+	@Test
+	public void testJoinedTablesAreInsertedInOrder() {
+		sqlStatementInterceptor.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 15; i++ ) {
+				session.persist( new Car( "car " + i, i ) );
+			}
+		} );
+
+		assertEquals( 15, executedInserts( "insert into Vehicle" ).stream().mapToInt( this::rowCount ).sum() );
+		assertEquals( 15, executedInserts( "insert into Car" ).stream().mapToInt( this::rowCount ).sum() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Car> cars = session.createQuery( "from Car order by doors", Car.class ).list();
+			assertEquals( 15, cars.size() );
+			for ( int i = 0; i < 15; i++ ) {
+				assertEquals( "car " + i, cars.get( i ).name );
+				assertEquals( i, cars.get( i ).doors );
+			}
+		} );
+	}
+
+	@Test
+	public void testValueExpressions() {
+		sqlStatementInterceptor.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				session.persist( new Riddle( i, "riddle " + i ) );
+			}
+		} );
+
+		// the discriminator literal holds a question mark, which is not a parameter
+		final List<String> inserts = executedInserts( "insert into Question" );
+		assertEquals( 1, inserts.size() );
+		assertEquals( 10, rowCount( inserts.get( 0 ) ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Question> riddles = session.createQuery( "from Question order by id", Question.class ).list();
+			assertEquals( 10, riddles.size() );
+			for ( int i = 0; i < 10; i++ ) {
+				assertEquals( Riddle.class, riddles.get( i ).getClass() );
+				assertEquals( "RIDDLE " + i, riddles.get( i ).text );
+			}
+		} );
+	}
+
+	@Test
+	public void testCustomTypesAreBatchedRegularly() {
+		sqlStatementInterceptor.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 15; i++ ) {
+				session.persist( new Label( i, "label " + i ) );
+			}
+		} );
+
+		// the user type unwraps the statement of the driver, so the rows are not coalesced
+		final List<String> inserts = executedInserts( "insert into Label" );
+		assertFalse( inserts.isEmpty() );
+		for ( String insert : inserts ) {
+			assertEquals( 1, rowCount( insert ) );
+		}
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Label> labels = session.createQuery( "from Label order by id", Label.class ).list();
+			assertEquals( 15, labels.size() );
+			for ( int i = 0; i < 15; i++ ) {
+				assertEquals( "label " + i, labels.get( i ).text );
+			}
+		} );
+	}
+
+	@Test
+	public void testUnwrappedStatementFallsBackToSingleRow() {
+		sqlStatementInterceptor.clear();
+		final String sql = "insert into Label (text, id) values (?, ?)";
+		doInHibernate( this::sessionFactory, session -> {
+			final JdbcCoordinator jdbcCoordinator = ( (SharedSessionContractImplementor) session ).getJdbcCoordinator();
+			final BatchKey batchKey = new BasicBatchKey( "Label#FALLBACK", Expectations.BASIC, insert -> "(?, ?)" );
+			try {
+				for ( int i = 0; i < 6; i++ ) {
+					PreparedStatement statement = jdbcCoordinator.getBatch( batchKey ).getBatchStatement( sql, false );
+					if ( i == 2 ) {
+						statement = (PreparedStatement) statement.unwrap(
+								Class.forName( "org.h2.jdbc.JdbcPreparedStatement" )
+						);
+					}
+					statement.setString( 1, "label " + i );
+					statement.setInt( 2, i );
+					jdbcCoordinator.getBatch( batchKey ).addToBatch();
+				}
+				jdbcCoordinator.executeBatch();
+			}
+			catch (SQLException | ClassNotFoundException e) {
+				throw new RuntimeException( e );
+			}
+		} );
+
+		// the rows bound before the unwrapped statement are executed first, then the row on its own
+		final List<String> inserts = executedInserts( "insert into Label" );
+		assertEquals( 3, inserts.size() );
+		assertEquals( 2, rowCount( inserts.get( 0 ) ) );
+		assertEquals( sql, inserts.get( 1 ) );
+		assertEquals( 3, rowCount( inserts.get( 2 ) ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Label> labels = session.createQuery( "from Label order by id", Label.class ).list();
+			assertEquals( 6, labels.size() );
+			for ( int i = 0; i < 6; i++ ) {
+				assertEquals( "label " + i, labels.get( i ).text );
+			}
+		} );
+	}
+
+	private List<String> executedInserts(String prefix) {
+		return sqlStatementInterceptor.getSqlQueries()
+				.stream()
+				.filter( sql -> sql.startsWith( prefix ) )
+				.collect( Collectors.toList() );
+	}
+
+	private int rowCount(String sql) {
+		return sql.split( "\\), \\(" ).length;
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+		@Id
+		@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_seq")
+		@SequenceGenerator(name = "event_seq", allocationSize = 50)
+		private Long id;
+
+		private String name;
+
+		private int amount;
+
+		public Event() {
+		}
+
+		public Event(String name, int amount) {
+			this.name = name;
+			this.amount = amount;
+		}
+	}
+
+	@Entity(name = "Label")
+	public static class Label {
+		@Id
+		private Integer id;
+
+		@Type(type = "org.hibernate.test.batch.MultiRowInsertBatchTest$DriverStatementStringType")
+		private String text;
+
+		public Label() {
+		}
+
+		public Label(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+
+	/**
+	 * A user type binding its values through the statement of the JDBC driver, as user types reaching
+	 * driver-specific binders do.
+	 */
+	public static class DriverStatementStringType implements UserType {
+		@Override
+		public int[] sqlTypes() {
+			return new int[] { Types.VARCHAR };
+		}
+
+		@Override
+		public Class returnedClass() {
+			return String.class;
+		}
+
+		@Override
+		public boolean equals(Object x, Object y) {
+			return Objects.equals( x, y );
+		}
+
+		@Override
+		public int hashCode(Object x) {
+			return Objects.hashCode( x );
+		}
+
+		@Override
+		public Object nullSafeGet(ResultSet rs, String[] names, SharedSessionContractImplementor session, Object owner)
+				throws SQLException {
+			return rs.getString( names[0] );
+		}
+
+		@Override
+		public void nullSafeSet(PreparedStatement st, Object value, int index, SharedSessionContractImplementor session)
+				throws SQLException {
+			final Class<?> driverStatementClass;
+			try {
+				driverStatementClass = Class.forName( "org.h2.jdbc.JdbcPreparedStatement" );
+			}
+			catch (ClassNotFoundException e) {
+				throw new SQLException( e );
+			}
+			( (PreparedStatement) st.unwrap( driverStatementClass ) ).setString( index, (String) value );
+		}
+
+		@Override
+		public Object deepCopy(Object value) {
+			return value;
+		}
+
+		@Override
+		public boolean isMutable() {
+			return false;
+		}
+
+		@Override
+		public Serializable disassemble(Object value) {
+			return (Serializable) value;
+		}
+
+		@Override
+		public Object assemble(Serializable cached, Object owner) {
+			return cached;
+		}
+
+		@Override
+		public Object replace(Object original, Object target, Object owner) {
+			return original;
+		}
+	}
+
+	@Entity(name = "Question")
+	@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+	@DiscriminatorValue("why?")
+	public static class Question {
+		@Id
+		private Integer id;
+
+		@ColumnTransformer(write = "upper(?)")
+		protected String text;
+
+		public Question() {
+		}
+
+		public Question(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+
+	@Entity(name = "Riddle")
+	@DiscriminatorValue("what?")
+	public static class Riddle extends Question {
+		public Riddle() {
+		}
+
+		public Riddle(Integer id, String text) {
+			super( id, text );
+		}
+	}
+
+	@Entity(name = "Vehicle")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Vehicle {
+		@Id
+		@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vehicle_seq")
+		@SequenceGenerator(name = "vehicle_seq", allocationSize = 50)
+		private Long id;
+
+		protected String name;
+
+		public Vehicle() {
+		}
+	}
+
+	@Entity(name = "Car")
+	public static class Car extends Vehicle {
+		private int doors;
+
+		public Car() {
+		}
+
+		public Car(String name, int doors) {
+			this.name = name;
+			this.doors = doors;
+		}
+	}
+}
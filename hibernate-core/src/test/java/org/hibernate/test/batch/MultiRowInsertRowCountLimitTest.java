@@ -0,0 +1,96 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batch;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that multi-row inserts never list more rows than the database accepts.
+ */
+@RequiresDialect(H2Dialect.class)
+public class MultiRowInsertRowCountLimitTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected void configureSessionFactoryBuilder(SessionFactoryBuilder sfb) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( sfb );
+	}
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Tag.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.DIALECT, RowCountLimitedH2Dialect.class.getName() );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		settings.put( AvailableSettings.MULTI_ROW_INSERT, "true" );
+	}
+
+	@Test
+	public void testRowCountLimit() {
+		sqlStatementInterceptor.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				session.persist( new Tag( i ) );
+			}
+		} );
+
+		// a single parameter per row is far below the parameter count limit, the row count limit applies
+		final List<Integer> rowCounts = sqlStatementInterceptor.getSqlQueries()
+				.stream()
+				.filter( sql -> sql.startsWith( "insert into Tag" ) )
+				.map( sql -> sql.split( "\\), \\(" ).length )
+				.collect( Collectors.toList() );
+		assertEquals( 3, rowCounts.size() );
+		assertEquals( 4, (int) rowCounts.get( 0 ) );
+		assertEquals( 4, (int) rowCounts.get( 1 ) );
+		assertEquals( 2, (int) rowCounts.get( 2 ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 10L, session.createQuery( "select count(t) from Tag t" ).uniqueResult() );
+		} );
+	}
+
+	public static class RowCountLimitedH2Dialect extends H2Dialect {
+		@Override
+		public int getMultiRowInsertRowCountLimit() {
+			return 4;
+		}
+	}
+
+	@Entity(name = "Tag")
+	public static class Tag {
+		@Id
+		private Integer id;
+
+		public Tag() {
+		}
+
+		public Tag(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,285 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.bytecode.enhance.spi.EnhancementContext;
+import org.hibernate.bytecode.enhance.spi.Enhancer;
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.ProxyFactoryFactory;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.bytecode.spi.RowReader;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.Setter;
+import org.hibernate.type.descriptor.sql.BasicExtractor;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the reading of the entity properties by generated row readers.
+ */
+public class CompiledRowReaderTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private final CountingBytecodeProvider bytecodeProvider = new CountingBytecodeProvider();
+
+	private final Logger extractorLogger = LogManager.getLogger( BasicExtractor.class );
+	private Level extractorLogLevel;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Account.class, SavingsAccount.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.USE_COMPILED_ROW_READERS, "true" );
+	}
+
+	@Override
+	protected void configureStandardServiceRegistryBuilder(StandardServiceRegistryBuilder ssrb) {
+		super.configureStandardServiceRegistryBuilder( ssrb );
+		ssrb.addService( BytecodeProvider.class, bytecodeProvider );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void disableExtractorTracing() {
+		// the values are read through their types while the extracted values are traced
+		extractorLogLevel = extractorLogger.getLevel();
+		extractorLogger.setLevel( Level.INFO );
+	}
+
+	@After
+	public void restoreExtractorTracing() {
+		extractorLogger.setLevel( extractorLogLevel );
+	}
+
+	@Test
+	public void testValuesAreRead() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Account account = new Account();
+			account.id = 1;
+			account.owner = "John Doe";
+			account.balance = new BigDecimal( "1234.56" );
+			account.active = true;
+			account.category = 3;
+			account.branch = 12;
+			account.number = 1234567890123L;
+			account.count = 42;
+			account.score = 1.5f;
+			account.ratio = 0.25d;
+			account.notes = "Some notes";
+			session.persist( account );
+		} );
+		bytecodeProvider.rowReads.set( 0 );
+		doInHibernate( this::sessionFactory, session -> {
+			final Account account = session.get( Account.class, 1 );
+			// the properties were read by the generated reader, not through their types
+			assertEquals( 1, bytecodeProvider.rowReads.get() );
+			assertEquals( "John Doe", account.owner );
+			assertEquals( new BigDecimal( "1234.56" ), account.balance );
+			assertTrue( account.active );
+			assertEquals( 3, (byte) account.category );
+			assertEquals( 12, (short) account.branch );
+			assertEquals( 1234567890123L, (long) account.number );
+			assertEquals( 42, account.count );
+			assertEquals( 1.5f, account.score, 0f );
+			assertEquals( 0.25d, account.ratio, 0d );
+			assertEquals( "Some notes", account.notes );
+		} );
+	}
+
+	@Test
+	public void testNullValuesAreRead() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Account account = new Account();
+			account.id = 1;
+			session.persist( account );
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			final Account account = session.get( Account.class, 1 );
+			assertNull( account.owner );
+			assertNull( account.balance );
+			assertNull( account.active );
+			assertNull( account.category );
+			assertNull( account.branch );
+			assertNull( account.number );
+			assertEquals( 0, account.count );
+			assertNull( account.notes );
+		} );
+	}
+
+	@Test
+	public void testSubclassValuesAreRead() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				final Account account = i % 2 == 0 ? new SavingsAccount() : new Account();
+				account.id = i;
+				account.owner = "Owner " + i;
+				account.count = i;
+				if ( account instanceof SavingsAccount ) {
+					( (SavingsAccount) account ).rate = i * 10L;
+				}
+				session.persist( account );
+			}
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Account> accounts = session.createQuery( "from Account a order by a.id", Account.class )
+					.getResultList();
+			assertEquals( 10, accounts.size() );
+			for ( int i = 1; i <= 10; i++ ) {
+				final Account account = accounts.get( i - 1 );
+				assertEquals( "Owner " + i, account.owner );
+				assertEquals( i, account.count );
+				if ( i % 2 == 0 ) {
+					assertEquals( i * 10L, (long) ( (SavingsAccount) account ).rate );
+				}
+			}
+		} );
+	}
+
+	@Test
+	public void testInterleavedResultSets() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				final Account account = new Account();
+				account.id = i;
+				account.owner = "Owner " + i;
+				account.count = i;
+				session.persist( account );
+			}
+		} );
+		bytecodeProvider.rowReads.set( 0 );
+		doInHibernate( this::sessionFactory, session -> {
+			// the same entities read from two result sets at once, selecting their columns in different orders
+			try ( ScrollableResults ascending = session.createQuery( "from Account a order by a.id" )
+					.scroll( ScrollMode.FORWARD_ONLY );
+					ScrollableResults descending = session.createQuery( "select a, a.id from Account a order by a.id desc" )
+							.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				for ( int i = 1; i <= 10; i++ ) {
+					session.clear();
+					assertTrue( ascending.next() );
+					assertEquals( "Owner " + i, ( (Account) ascending.get( 0 ) ).owner );
+					session.clear();
+					assertTrue( descending.next() );
+					assertEquals( 11 - i, ( (Account) descending.get( 0 ) ).count );
+				}
+			}
+		} );
+		assertEquals( 20, bytecodeProvider.rowReads.get() );
+	}
+
+	/**
+	 * Counts the rows read by the generated readers.
+	 */
+	private static class CountingBytecodeProvider implements BytecodeProvider {
+		private final BytecodeProvider delegate = new BytecodeProviderImpl();
+		private final AtomicInteger rowReads = new AtomicInteger();
+
+		@Override
+		public ProxyFactoryFactory getProxyFactoryFactory() {
+			return delegate.getProxyFactoryFactory();
+		}
+
+		@Override
+		public ReflectionOptimizer getReflectionOptimizer(
+				Class clazz,
+				String[] getterNames,
+				String[] setterNames,
+				Class[] types) {
+			return delegate.getReflectionOptimizer( clazz, getterNames, setterNames, types );
+		}
+
+		@Override
+		public ReflectionOptimizer getReflectionOptimizer(
+				Class clazz,
+				String[] propertyNames,
+				Getter[] getters,
+				Setter[] setters) {
+			return delegate.getReflectionOptimizer( clazz, propertyNames, getters, setters );
+		}
+
+		@Override
+		public Enhancer getEnhancer(EnhancementContext enhancementContext) {
+			return delegate.getEnhancer( enhancementContext );
+		}
+
+		@Override
+		public RowReader getRowReader(RowReader.ColumnType[] columnTypes, int[] valueIndexes) {
+			final RowReader rowReader = delegate.getRowReader( columnTypes, valueIndexes );
+			return rowReader == null ? null : new RowReader() {
+				@Override
+				public void read(ResultSet resultSet, int[] columnIndexes, Object[] values) throws SQLException {
+					rowReads.incrementAndGet();
+					rowReader.read( resultSet, columnIndexes, values );
+				}
+			};
+		}
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		private Integer id;
+
+		private String owner;
+
+		private BigDecimal balance;
+
+		private Boolean active;
+
+		private Byte category;
+
+		private Short branch;
+
+		private Long number;
+
+		private int count;
+
+		private float score;
+
+		private double ratio;
+
+		@Lob
+		private String notes;
+	}
+
+	@Entity(name = "SavingsAccount")
+	public static class SavingsAccount extends Account {
+		private Long rate;
+	}
+}
@@ -0,0 +1,289 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode;
+
+import java.sql.PreparedStatement;
+import javax.persistence.Access;
+import javax.persistence.AccessType;
+import javax.persistence.Embeddable;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.MappedSuperclass;
+
+import org.hibernate.PropertyAccessException;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.cfg.Environment;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBasicImpl;
+import org.hibernate.property.access.internal.PropertyAccessStrategyFieldImpl;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.Setter;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the access to the properties of the entities and embeddables through generated accessors.
+ */
+public class GeneratedPropertyAccessorTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Person.class, Employee.class, Account.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testPropertiesAreAccessed() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Employee employee = new Employee( 1, "John Doe" );
+			employee.setSalary( 1000L );
+			employee.address = new Address( "Main Street", "Springfield" );
+			employee.level = 3;
+			session.persist( employee );
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			final Employee employee = session.get( Employee.class, 1 );
+			assertEquals( "John Doe", employee.name );
+			assertEquals( 1000L, (long) employee.getSalary() );
+			assertEquals( "Main Street", employee.address.street );
+			assertEquals( "Springfield", employee.address.city );
+			assertEquals( 3, employee.level );
+
+			// the changes are detected
+			employee.name = "Jane Doe";
+			employee.address.city = "Shelbyville";
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			final Employee employee = session.get( Employee.class, 1 );
+			assertEquals( "Jane Doe", employee.name );
+			assertEquals( "Shelbyville", employee.address.city );
+		} );
+	}
+
+	@Test
+	@RequiresDialect(H2Dialect.class)
+	public void testNullAssignedToPrimitiveProperty() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Employee( 1, "John Doe" ) );
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			session.doWork( connection -> {
+				try ( PreparedStatement statement = connection.prepareStatement( "alter table Employee alter column level set null" ) ) {
+					statement.executeUpdate();
+				}
+				try ( PreparedStatement statement = connection.prepareStatement( "update Employee set level = null" ) ) {
+					statement.executeUpdate();
+				}
+			} );
+		} );
+		try {
+			doInHibernate( this::sessionFactory, session -> {
+				session.get( Employee.class, 1 );
+			} );
+			fail( "Expecting a PropertyAccessException" );
+		}
+		catch (PropertyAccessException e) {
+			assertTrue( e.getMessage().contains( "Null value was assigned to a property" ) );
+		}
+	}
+
+	@Test
+	public void testFailingAccessIsReportedOnce() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Account( 1, 100L ) );
+		} );
+		Account.failing = true;
+		try {
+			doInHibernate( this::sessionFactory, session -> {
+				session.get( Account.class, 1 );
+			} );
+			fail( "Expecting a PropertyAccessException" );
+		}
+		catch (PropertyAccessException e) {
+			assertEquals( "balance", e.getPropertyName() );
+			assertTrue( e.getMessage().contains( "setter of" ) );
+			assertTrue( e.getCause() instanceof IllegalStateException );
+		}
+		finally {
+			Account.failing = false;
+		}
+		// the setter is not called again by reflection
+		assertEquals( 1, Account.failures );
+
+		Account.failures = 0;
+		final Account account = new Account( 2, 200L );
+		Account.failing = true;
+		try {
+			sessionFactory().getMetamodel().entityPersister( Account.class ).getPropertyValues( account );
+			fail( "Expecting a PropertyAccessException" );
+		}
+		catch (PropertyAccessException e) {
+			assertEquals( "balance", e.getPropertyName() );
+			assertTrue( e.getMessage().contains( "getter of" ) );
+		}
+		finally {
+			Account.failing = false;
+		}
+		assertEquals( 1, Account.failures );
+	}
+
+	@Test
+	public void testGeneratedAccessorOfPrivateMembers() {
+		final PropertyAccess name = PropertyAccessStrategyFieldImpl.INSTANCE.buildPropertyAccess( PrivateMembers.class, "name" );
+		final PropertyAccess count = PropertyAccessStrategyFieldImpl.INSTANCE.buildPropertyAccess( PrivateMembers.class, "count" );
+		final PropertyAccess property = PropertyAccessStrategyBasicImpl.INSTANCE.buildPropertyAccess( PrivateMembers.class, "property" );
+		final ReflectionOptimizer optimizer = Environment.getBytecodeProvider().getReflectionOptimizer(
+				PrivateMembers.class,
+				new String[] { "name", "count", "property" },
+				new Getter[] { name.getGetter(), count.getGetter(), property.getGetter() },
+				new Setter[] { name.getSetter(), count.getSetter(), property.getSetter() }
+		);
+		assertNotNull( optimizer );
+		assertNull( optimizer.getInstantiationOptimizer() );
+
+		final PrivateMembers instance = new PrivateMembers();
+		optimizer.getAccessOptimizer().setPropertyValues( instance, new Object[] { "a name", 5, "a value" } );
+		assertEquals( "a name", instance.name );
+		assertEquals( 5, instance.count );
+		// inherited
+		assertEquals( "a value", instance.getProperty() );
+		assertArrayEquals(
+				new Object[] { "a name", 5, "a value" },
+				optimizer.getAccessOptimizer().getPropertyValues( instance )
+		);
+		assertArrayEquals( new String[] { "name", "count", "property" }, optimizer.getAccessOptimizer().getPropertyNames() );
+	}
+
+	@MappedSuperclass
+	public abstract static class Person {
+		@Id
+		private Integer id;
+
+		String name;
+
+		Person() {
+		}
+
+		Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee extends Person {
+		private Long salary;
+
+		@Embedded
+		private Address address;
+
+		private int level;
+
+		Employee() {
+		}
+
+		Employee(Integer id, String name) {
+			super( id, name );
+		}
+
+		@Access(AccessType.PROPERTY)
+		private Long getSalary() {
+			return salary;
+		}
+
+		private void setSalary(Long salary) {
+			this.salary = salary;
+		}
+	}
+
+	@Embeddable
+	public static class Address {
+		private String street;
+
+		private String city;
+
+		Address() {
+		}
+
+		Address(String street, String city) {
+			this.street = street;
+			this.city = city;
+		}
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		static boolean failing;
+
+		static int failures;
+
+		@Id
+		private Integer id;
+
+		private Long balance;
+
+		Account() {
+		}
+
+		Account(Integer id, Long balance) {
+			this.id = id;
+			this.balance = balance;
+		}
+
+		@Access(AccessType.PROPERTY)
+		Long getBalance() {
+			checkFailing();
+			return balance;
+		}
+
+		void setBalance(Long balance) {
+			checkFailing();
+			this.balance = balance;
+		}
+
+		private static void checkFailing() {
+			if ( failing ) {
+				failures++;
+				throw new IllegalStateException( "The balance is not accessible" );
+			}
+		}
+	}
+
+	public abstract static class AbstractHolder {
+		private String property;
+
+		public String getProperty() {
+			return property;
+		}
+
+		public void setProperty(String property) {
+			this.property = property;
+		}
+	}
+
+	public static class PrivateMembers extends AbstractHolder {
+		private String name;
+
+		private int count;
+	}
+}
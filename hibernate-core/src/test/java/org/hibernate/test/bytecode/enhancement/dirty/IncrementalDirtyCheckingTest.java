@@ -0,0 +1,223 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode.enhancement.dirty;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.Interceptor;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SelfDirtinessNotifier;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.type.Type;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that, with incremental dirty checking, flushes only visit the modified entities among those enhanced for
+ * dirty tracking.
+ */
+@RunWith(BytecodeEnhancerRunner.class)
+public class IncrementalDirtyCheckingTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final int COUNT = 20;
+
+	private static final List<String> FLUSHED_ENTITIES = new ArrayList<>();
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Item.class, Basket.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.FLUSH_INCREMENTAL_DIRTY_CHECKING, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Override
+	protected void afterSessionFactoryBuilt(SessionFactoryImplementor sessionFactory) {
+		sessionFactory.getServiceRegistry()
+				.getService( EventListenerRegistry.class )
+				.appendListeners( EventType.FLUSH_ENTITY, new RecordingFlushEntityEventListener() );
+	}
+
+	@Before
+	public void prepare() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Basket basket = new Basket( 1 );
+			session.persist( basket );
+			for ( int i = 1; i <= COUNT; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+		FLUSHED_ENTITIES.clear();
+	}
+
+	@Test
+	public void testOnlyModifiedEntitiesAreFlushed() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Item> items = session.createQuery( "from Item order by id", Item.class ).list();
+			assertTrue( items.get( 0 ) instanceof SelfDirtinessNotifier );
+			session.get( Basket.class, 1 );
+
+			items.get( 4 ).setName( "changed 5" );
+			items.get( 9 ).setName( "changed 10" );
+			session.flush();
+			// the basket is visited by every flush, as it maps a collection
+			assertEquals( "Basket#1, Item#10, Item#5", describeFlushedEntities() );
+
+			session.flush();
+			assertEquals( "Basket#1", describeFlushedEntities() );
+
+			items.get( 4 ).setName( "changed again 5" );
+			session.persist( new Item( COUNT + 1, "new" ) );
+			session.remove( items.get( 14 ) );
+		} );
+		assertEquals( "Basket#1, Item#15, Item#5", describeFlushedEntities() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "changed again 5", session.get( Item.class, 5 ).name );
+			assertEquals( "changed 10", session.get( Item.class, 10 ).name );
+			assertEquals( "new", session.get( Item.class, COUNT + 1 ).name );
+			assertNull( session.get( Item.class, 15 ) );
+		} );
+	}
+
+	@Test
+	public void testAutoFlush() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Item item = session.get( Item.class, 3 );
+			session.createQuery( "from Item", Item.class ).list();
+			FLUSHED_ENTITIES.clear();
+
+			item.setName( "changed 3" );
+			// the modified entity is still flushed after an auto flush which was not needed
+			session.createQuery( "from Basket", Basket.class ).list();
+			assertEquals(
+					1L,
+					session.createQuery( "select count(i) from Item i where i.name = 'changed 3'" ).uniqueResult()
+			);
+		} );
+	}
+
+	@Test
+	public void testClear() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Item.class, 3 ).setName( "changed 3" );
+			session.clear();
+			session.get( Item.class, 4 );
+			session.flush();
+			assertEquals( "", describeFlushedEntities() );
+		} );
+	}
+
+	@Test
+	public void testInterceptorSeesUnmodifiedEntities() {
+		final List<Object> intercepted = new ArrayList<>();
+		final Interceptor interceptor = new EmptyInterceptor() {
+			@Override
+			public int[] findDirty(
+					Object entity,
+					Serializable id,
+					Object[] currentState,
+					Object[] previousState,
+					String[] propertyNames,
+					Type[] types) {
+				intercepted.add( id );
+				return null;
+			}
+		};
+		try ( Session session = sessionFactory().withOptions().interceptor( interceptor ).openSession() ) {
+			session.getTransaction().begin();
+			session.get( Item.class, 4 );
+			session.get( Item.class, 5 ).setName( "changed 5" );
+			session.flush();
+			assertEquals( "Item#4, Item#5", describeFlushedEntities() );
+			assertEquals( 2, intercepted.size() );
+			session.getTransaction().commit();
+		}
+	}
+
+	private String describeFlushedEntities() {
+		// in the order of the identifiers
+		FLUSHED_ENTITIES.sort( null );
+		final String description = String.join( ", ", FLUSHED_ENTITIES );
+		FLUSHED_ENTITIES.clear();
+		return description;
+	}
+
+	private static class RecordingFlushEntityEventListener implements FlushEntityEventListener {
+		@Override
+		public void onFlushEntity(FlushEntityEvent event) {
+			final String entityName = event.getEntityEntry().getEntityName();
+			FLUSHED_ENTITIES.add(
+					entityName.substring( entityName.lastIndexOf( '$' ) + 1 ) + "#" + event.getEntityEntry().getId()
+			);
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Basket")
+	public static class Basket {
+		@Id
+		private Integer id;
+
+		@ElementCollection
+		private List<String> labels = new ArrayList<>();
+
+		public Basket() {
+		}
+
+		public Basket(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode.enhancement.dirty;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Version;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that, in read-mostly mode, the snapshots of the entities enhanced for dirty tracking are only taken when
+ * they are first modified.
+ */
+@RunWith(BytecodeEnhancerRunner.class)
+public class ReadMostlySessionTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Item.class, Basket.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void prepare() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Basket( 1 ) );
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testSnapshotIsTakenOnFirstChange() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.setDefaultReadMostly( true );
+			assertTrue( session.isDefaultReadMostly() );
+
+			final List<Item> items = session.createQuery( "from Item order by id", Item.class ).list();
+			for ( Item item : items ) {
+				final EntityEntry entry = getEntry( session, item );
+				assertNull( entry.getLoadedState() );
+				assertFalse( entry.isReadOnly() );
+			}
+
+			final Item item = items.get( 1 );
+			item.setName( "changed 2" );
+			item.setName( "changed again 2" );
+			final Object[] loadedState = getEntry( session, item ).getLoadedState();
+			assertNotNull( loadedState );
+			assertArrayEquals( new Object[] { "item 2", 0 }, loadedState );
+
+			session.flush();
+			assertEquals( Integer.valueOf( 1 ), item.version );
+			assertArrayEquals( new Object[] { "changed again 2", 1 }, getEntry( session, item ).getLoadedState() );
+			assertNull( getEntry( session, items.get( 0 ) ).getLoadedState() );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "item 1", session.get( Item.class, 1 ).name );
+			assertEquals( "changed again 2", session.get( Item.class, 2 ).name );
+		} );
+	}
+
+	@Test
+	public void testMergeIntoManagedEntity() {
+		final Item detached = doInHibernate( this::sessionFactory, session -> {
+			return session.get( Item.class, 4 );
+		} );
+		detached.setName( "merged 4" );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.setDefaultReadMostly( true );
+			final Item item = session.get( Item.class, 4 );
+			assertNull( getEntry( session, item ).getLoadedState() );
+
+			assertSame( item, session.merge( detached ) );
+			assertEquals( "merged 4", item.name );
+			assertArrayEquals( new Object[] { "item 4", 0 }, getEntry( session, item ).getLoadedState() );
+
+			session.flush();
+			assertEquals( Integer.valueOf( 1 ), item.version );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "merged 4", session.get( Item.class, 4 ).name );
+		} );
+	}
+
+	@Test
+	public void testDelete() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.setDefaultReadMostly( true );
+			session.remove( session.get( Item.class, 3 ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertNull( session.get( Item.class, 3 ) );
+		} );
+	}
+
+	@Test
+	public void testEntityWithCollectionKeepsSnapshot() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.setDefaultReadMostly( true );
+			assertNotNull( getEntry( session, session.get( Basket.class, 1 ) ).getLoadedState() );
+		} );
+	}
+
+	@Test
+	public void testNotReadMostlyByDefault() {
+		doInHibernate( this::sessionFactory, session -> {
+			assertFalse( session.isDefaultReadMostly() );
+			assertNotNull( getEntry( session, session.get( Item.class, 1 ) ).getLoadedState() );
+		} );
+	}
+
+	private static EntityEntry getEntry(Session session, Object entity) {
+		return ( (SessionImplementor) session ).getPersistenceContextInternal().getEntry( entity );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@Version
+		private Integer version;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Basket")
+	public static class Basket {
+		@Id
+		private Integer id;
+
+		@ElementCollection
+		private List<String> labels = new ArrayList<>();
+
+		public Basket() {
+		}
+
+		public Basket(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,252 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Cacheable;
+import javax.persistence.ElementCollection;
+import javax.persistence.Embeddable;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Version;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.BinaryCacheEntryWriter;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the binary format of the second-level cache entries.
+ */
+public class BinaryCacheEntriesTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Product.class, Vendor.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.USE_QUERY_CACHE, "true" );
+		settings.put( AvailableSettings.CACHE_REGION_FACTORY, CachingRegionFactory.class );
+		settings.put( AvailableSettings.USE_BINARY_CACHE_ENTRIES, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Before
+	public void prepare() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Vendor vendor = new Vendor( 1, "ACME" );
+			session.persist( vendor );
+			final Product product = new Product( 1L, "anvil", vendor );
+			product.price = new BigDecimal( "-1234.56" );
+			product.quantity = 300;
+			product.available = true;
+			product.released = LocalDate.of( 1949, 9, 17 );
+			product.category = Category.HARDWARE;
+			product.dimensions = new Dimensions( 0.5, 1.25 );
+			product.tags.add( "heavy" );
+			product.tags.add( "\u00e9lan" );
+			session.persist( product );
+		} );
+		sessionFactory().getCache().evictAll();
+		sessionFactory().getStatistics().clear();
+	}
+
+	@After
+	public void cleanup() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Product product = session.get( Product.class, 1L );
+			session.remove( product );
+			session.remove( product.vendor );
+		} );
+	}
+
+	@Test
+	public void testEntityAndCollectionEntries() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Product.class, 1L ).tags.size();
+		} );
+
+		final EntityPersister persister = sessionFactory().getMetamodel().entityPersister( Product.class );
+		final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+		doInHibernate( this::sessionFactory, session -> {
+			final Object cacheKey = cacheAccess.generateCacheKey( 1L, persister, sessionFactory(), null );
+			assertTrue( cacheAccess.get( (SessionImplementor) session, cacheKey ) instanceof byte[] );
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			assertProduct( session.get( Product.class, 1L ) );
+		} );
+		// the product, its vendor and its tags
+		assertEquals( 3, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 0, statistics.getSecondLevelCacheMissCount() );
+	}
+
+	@Test
+	public void testQueryResults() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		for ( int i = 0; i < 2; i++ ) {
+			doInHibernate( this::sessionFactory, session -> {
+				final List<Object[]> results = session.createQuery(
+						"select p.name, p.price, p.released, p.vendor from Product p",
+						Object[].class
+				)
+						.setCacheable( true )
+						.list();
+				assertEquals( 1, results.size() );
+				assertEquals( "anvil", results.get( 0 )[0] );
+				assertEquals( new BigDecimal( "-1234.56" ), results.get( 0 )[1] );
+				assertEquals( LocalDate.of( 1949, 9, 17 ), results.get( 0 )[2] );
+				assertEquals( "ACME", ( (Vendor) results.get( 0 )[3] ).name );
+			} );
+		}
+		assertEquals( 1, statistics.getQueryCacheMissCount() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+	}
+
+	@Test
+	public void testEntryOfOtherSchemaIsIgnored() {
+		final EntityPersister persister = sessionFactory().getMetamodel().entityPersister( Product.class );
+		final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+		final Object cacheKey = cacheAccess.generateCacheKey( 1L, persister, sessionFactory(), null );
+		final BinaryCacheEntryWriter writer = new BinaryCacheEntryWriter( 0 );
+		writer.writeString( Product.class.getName() );
+		final byte[] entry = writer.toByteArray();
+		doInHibernate( this::sessionFactory, session -> {
+			cacheAccess.putFromLoad( (SessionImplementor) session, cacheKey, entry, 0, false );
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			assertArrayEquals( entry, (byte[]) cacheAccess.get( (SessionImplementor) session, cacheKey ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertProduct( session.get( Product.class, 1L ) );
+		} );
+	}
+
+	private static void assertProduct(Product product) {
+		assertEquals( "anvil", product.name );
+		assertEquals( new BigDecimal( "-1234.56" ), product.price );
+		assertEquals( 300, product.quantity );
+		assertTrue( product.available );
+		assertEquals( LocalDate.of( 1949, 9, 17 ), product.released );
+		assertEquals( Category.HARDWARE, product.category );
+		assertEquals( 0.5, product.dimensions.width, 0.0 );
+		assertEquals( 1.25, product.dimensions.height, 0.0 );
+		assertEquals( "ACME", product.vendor.name );
+		assertEquals( 2, product.tags.size() );
+		assertTrue( product.tags.contains( "\u00e9lan" ) );
+	}
+
+	public enum Category {
+		FOOD,
+		HARDWARE
+	}
+
+	@Entity(name = "Product")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Product {
+		@Id
+		private Long id;
+
+		@Version
+		private Integer version;
+
+		private String name;
+
+		private BigDecimal price;
+
+		private int quantity;
+
+		private boolean available;
+
+		private LocalDate released;
+
+		@Enumerated(EnumType.STRING)
+		private Category category;
+
+		@Embedded
+		private Dimensions dimensions;
+
+		@ManyToOne
+		private Vendor vendor;
+
+		@ElementCollection
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		private List<String> tags = new ArrayList<>();
+
+		public Product() {
+		}
+
+		public Product(Long id, String name, Vendor vendor) {
+			this.id = id;
+			this.name = name;
+			this.vendor = vendor;
+		}
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		private double width;
+
+		private double height;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(double width, double height) {
+			this.width = width;
+			this.height = height;
+		}
+	}
+
+	@Entity(name = "Vendor")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Vendor {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Vendor() {
+		}
+
+		public Vendor(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.support.DomainDataRegionImpl;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the batch fetching and multi-loading of entities reading the second-level cache
+ * entries of several entities at once.
+ */
+public class BulkCacheReadTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final int COUNT = 10;
+
+	private static final AtomicInteger gets = new AtomicInteger();
+	private static final AtomicInteger bulkGets = new AtomicInteger();
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Book.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.CACHE_REGION_FACTORY, CountingRegionFactory.class );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void prepare() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= COUNT; i++ ) {
+				session.persist( new Book( i, "book " + i ) );
+			}
+		} );
+		sessionFactory().getCache().evictAll();
+	}
+
+	@Test
+	public void testMultiLoad() {
+		cacheBooks( 1, 2, 3, 4, 5 );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		resetCounters();
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Book> books = session.byMultipleIds( Book.class ).with( CacheMode.GET ).multiLoad( 1, 2, 3, 4, 5, 6, 7 );
+			assertEquals( 7, books.size() );
+			for ( int i = 0; i < 7; i++ ) {
+				assertEquals( "book " + ( i + 1 ), books.get( i ).title );
+			}
+		} );
+		assertEquals( 0, gets.get() );
+		assertEquals( 1, bulkGets.get() );
+		assertEquals( 5, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 2, statistics.getSecondLevelCacheMissCount() );
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+	}
+
+	@Test
+	public void testBatchFetchSkipsCachedEntities() {
+		cacheBooks( 2, 4, 6, 8, 10 );
+
+		resetCounters();
+		doInHibernate( this::sessionFactory, session -> {
+			session.setCacheMode( CacheMode.GET );
+			final List<Book> books = new ArrayList<>();
+			for ( int i = 1; i <= COUNT; i++ ) {
+				books.add( session.load( Book.class, i ) );
+			}
+			Hibernate.initialize( books.get( 0 ) );
+
+			for ( int i = 1; i <= COUNT; i++ ) {
+				// the cached books were left out of the batch, to be read from the cache when needed
+				assertEquals( i % 2 == 1, isLoaded( session, i ) );
+			}
+			Hibernate.initialize( books.get( 1 ) );
+			assertTrue( isLoaded( session, 2 ) );
+		} );
+		// the initialized book and book 2 are read one at a time, the batch candidates all at once
+		assertEquals( 2, gets.get() );
+		assertEquals( 1, bulkGets.get() );
+	}
+
+	@Test
+	public void testBatchFetchWithoutCachedEntities() {
+		resetCounters();
+		doInHibernate( this::sessionFactory, session -> {
+			session.setCacheMode( CacheMode.GET );
+			final List<Book> books = new ArrayList<>();
+			for ( int i = 1; i <= COUNT; i++ ) {
+				books.add( session.load( Book.class, i ) );
+			}
+			Hibernate.initialize( books.get( 0 ) );
+			for ( int i = 1; i <= COUNT; i++ ) {
+				assertTrue( isLoaded( session, i ) );
+			}
+		} );
+		assertEquals( 1, gets.get() );
+		assertEquals( 1, bulkGets.get() );
+	}
+
+	@Test
+	public void testIgnoredCache() {
+		cacheBooks( 1, 2 );
+
+		resetCounters();
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Book> books = session.byMultipleIds( Book.class ).with( CacheMode.IGNORE ).multiLoad( 1, 2, 3 );
+			assertEquals( 3, books.size() );
+			assertFalse( books.contains( null ) );
+		} );
+		assertEquals( 0, gets.get() );
+		assertEquals( 0, bulkGets.get() );
+	}
+
+	private void cacheBooks(Integer... ids) {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( Integer id : ids ) {
+				session.get( Book.class, id );
+			}
+		} );
+	}
+
+	private boolean isLoaded(Session session, Integer id) {
+		final EntityPersister persister = sessionFactory().getMetamodel().entityPersister( Book.class );
+		final PersistenceContext persistenceContext = session.unwrap( SessionImplementor.class ).getPersistenceContext();
+		return persistenceContext.getEntity( new EntityKey( id, persister ) ) != null;
+	}
+
+	private static void resetCounters() {
+		gets.set( 0 );
+		bulkGets.set( 0 );
+	}
+
+	public static class CountingRegionFactory extends CachingRegionFactory {
+		@Override
+		public DomainDataRegion buildDomainDataRegion(
+				DomainDataRegionConfig regionConfig,
+				DomainDataRegionBuildingContext buildingContext) {
+			return new DomainDataRegionImpl(
+					regionConfig,
+					this,
+					new CountingStorageAccess(),
+					DefaultCacheKeysFactory.INSTANCE,
+					buildingContext
+			);
+		}
+	}
+
+	private static class CountingStorageAccess extends MapStorageAccessImpl {
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			gets.incrementAndGet();
+			return super.getFromCache( key, session );
+		}
+
+		@Override
+		public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+			bulkGets.incrementAndGet();
+			final Map<Object, Object> items = new HashMap<>();
+			for ( Object key : keys ) {
+				final Object item = super.getFromCache( key, session );
+				if ( item != null ) {
+					items.put( key, item );
+				}
+			}
+			return items;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	@BatchSize(size = COUNT)
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import java.util.Map;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Histogram;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the latency histograms of the second-level cache regions.
+ */
+public class CacheLatencyStatisticsTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Country.class, Currency.class, Language.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.USE_BINARY_CACHE_ENTRIES, "true" );
+		settings.put( AvailableSettings.CACHE_LATENCY_STATISTICS + ".countries", "true" );
+		settings.put( AvailableSettings.CACHE_LATENCY_STATISTICS + ".languages", "true" );
+		settings.put( AvailableSettings.CACHE_NEAR_CACHE_MAX_ENTRIES + ".languages", "10" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testHistograms() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Country( 1, "France" ) );
+			session.persist( new Currency( 1, "EUR" ) );
+		} );
+		final CacheRegionStatistics statistics = sessionFactory().getStatistics()
+				.getDomainDataRegionStatistics( "countries" );
+		final Histogram getLatency = statistics.getGetLatencyHistogram();
+		final Histogram putLatency = statistics.getPutLatencyHistogram();
+		final Histogram removeLatency = statistics.getRemoveLatencyHistogram();
+		// the insertion already accessed the region
+		final long initialGetCount = getLatency.getCount();
+		final long initialPutCount = putLatency.getCount();
+		assertTrue( initialPutCount > 0 );
+
+		for ( int i = 0; i < 3; i++ ) {
+			doInHibernate( this::sessionFactory, session -> {
+				session.get( Country.class, 1 );
+				session.get( Currency.class, 1 );
+			} );
+		}
+		sessionFactory().getCache().evictEntityData( Country.class, 1 );
+
+		assertEquals( initialGetCount + 3, getLatency.getCount() );
+		assertTrue( getLatency.getMax() > 0 );
+		assertTrue( getLatency.getPercentile( 50 ) <= getLatency.getMax() );
+		assertEquals( initialPutCount, putLatency.getCount() );
+		assertEquals( 1, removeLatency.getCount() );
+
+		final Histogram entrySize = statistics.getEntrySizeHistogram();
+		assertEquals( initialPutCount, entrySize.getCount() );
+		assertTrue( entrySize.getMax() > 0 );
+
+		// only enabled for the countries region
+		assertNull( sessionFactory().getStatistics()
+				.getDomainDataRegionStatistics( "currencies" )
+				.getGetLatencyHistogram() );
+	}
+
+	@Test
+	public void testReadsServedByNearCacheAreNotRecorded() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Language( 1, "fr" ) );
+		} );
+		final Histogram getLatency = sessionFactory().getStatistics()
+				.getDomainDataRegionStatistics( "languages" )
+				.getGetLatencyHistogram();
+		final long initialGetCount = getLatency.getCount();
+
+		for ( int i = 0; i < 3; i++ ) {
+			doInHibernate( this::sessionFactory, session -> {
+				session.get( Language.class, 1 );
+			} );
+		}
+
+		// at most the first read reaches the storage, the next ones are served by the near cache
+		assertTrue( getLatency.getCount() <= initialGetCount + 1 );
+	}
+
+	@Entity(name = "Country")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "countries")
+	public static class Country {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Country() {
+		}
+
+		public Country(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Currency")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "currencies")
+	public static class Currency {
+		@Id
+		private Integer id;
+
+		private String code;
+
+		public Currency() {
+		}
+
+		public Currency(Integer id, String code) {
+			this.id = id;
+			this.code = code;
+		}
+	}
+
+	@Entity(name = "Language")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "languages")
+	public static class Language {
+		@Id
+		private Integer id;
+
+		private String code;
+
+		public Language() {
+		}
+
+		public Language(Integer id, String code) {
+			this.id = id;
+			this.code = code;
+		}
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.CacheLoadCoalescer;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the coalescing of the concurrent loads of an entity missing from the second-level cache.
+ */
+public class CacheLoadCoalescingTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Product.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.CACHE_LOAD_COALESCING, "true" );
+		settings.put( AvailableSettings.CACHE_LOAD_COALESCING_TIMEOUT, "10000" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void prepare() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Product( 1, "hot" ) );
+		} );
+		sessionFactory().getCache().evictAll();
+		sessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testWaitsForInFlightLoad() throws Exception {
+		final CacheLoadCoalescer loadCoalescer = sessionFactory().getCache().getLoadCoalescer();
+		final Object cacheKey = cacheKey( 1 );
+
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		final Session session = openSession();
+		try {
+			session.getTransaction().begin();
+			// this session plays the one loading the entity, the other one has to wait for it
+			assertNull( loadCoalescer.startLoad( cacheKey ) );
+			try {
+				final AtomicReference<Thread> waitingThread = new AtomicReference<>();
+				final Future<String> name = executor.submit( () -> doInHibernate( this::sessionFactory, s -> {
+					waitingThread.set( Thread.currentThread() );
+					return s.get( Product.class, 1 ).name;
+				} ) );
+				awaitWaiting( waitingThread );
+
+				session.setCacheMode( CacheMode.PUT );
+				session.get( Product.class, 1 );
+				loadCoalescer.endLoad( cacheKey );
+
+				assertEquals( "hot", name.get( 10, TimeUnit.SECONDS ) );
+			}
+			finally {
+				loadCoalescer.endLoad( cacheKey );
+			}
+			session.getTransaction().commit();
+		}
+		finally {
+			session.close();
+			executor.shutdownNow();
+		}
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		assertEquals( 1, statistics.getEntityLoadCount() );
+		assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+	}
+
+	@Test
+	public void testLoadIsCompleted() {
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "hot", session.get( Product.class, 1 ).name );
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "hot", session.get( Product.class, 1 ).name );
+		} );
+
+		final CacheLoadCoalescer loadCoalescer = sessionFactory().getCache().getLoadCoalescer();
+		assertNull( loadCoalescer.startLoad( cacheKey( 1 ) ) );
+		loadCoalescer.endLoad( cacheKey( 1 ) );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		assertEquals( 1, statistics.getEntityLoadCount() );
+		assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+	}
+
+	private Object cacheKey(Integer id) {
+		final EntityPersister persister = sessionFactory().getMetamodel().entityPersister( Product.class );
+		return persister.getCacheAccessStrategy().generateCacheKey( id, persister, sessionFactory(), null );
+	}
+
+	private static void awaitWaiting(AtomicReference<Thread> thread) throws InterruptedException {
+		final long deadline = System.currentTimeMillis() + 10000;
+		while ( thread.get() == null || thread.get().getState() != Thread.State.TIMED_WAITING ) {
+			if ( System.currentTimeMillis() > deadline ) {
+				throw new AssertionError( "The concurrent load did not wait" );
+			}
+			Thread.sleep( 10 );
+		}
+	}
+
+	@Entity(name = "Product")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Product {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,264 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.NearCacheStorageAccess;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the near cache kept in front of the second-level cache regions.
+ */
+public class NearCacheTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Country.class, City.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.CACHE_REGION_FACTORY, CachingRegionFactory.class );
+		settings.put( AvailableSettings.CACHE_NEAR_CACHE_MAX_ENTRIES, "100" );
+		settings.put( AvailableSettings.CACHE_NEAR_CACHE_MAX_ENTRIES + ".cities", "0" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void prepare() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Country( 1, "France" ) );
+			session.persist( new City( 1, "Paris" ) );
+		} );
+		sessionFactory().getCache().evictAll();
+		sessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testReadsAreServedLocally() {
+		loadCountryTwice();
+
+		// removing the entry from the remote storage only is not noticed
+		final NearCacheStorageAccess nearCache = (NearCacheStorageAccess) getStorageAccess( Country.class );
+		final EntityPersister persister = sessionFactory().getMetamodel().entityPersister( Country.class );
+		final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+		nearCache.getDelegate().evictData( cacheAccess.generateCacheKey( 1, persister, sessionFactory(), null ) );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "France", session.get( Country.class, 1 ).name );
+		} );
+		assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+	}
+
+	@Test
+	public void testUpdateInvalidatesNearCache() {
+		loadCountryTwice();
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Country.class, 1 ).name = "French Republic";
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "French Republic", session.get( Country.class, 1 ).name );
+		} );
+	}
+
+	@Test
+	public void testEvictionInvalidatesNearCache() {
+		loadCountryTwice();
+
+		sessionFactory().getCache().evictEntityData( Country.class, 1 );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "France", session.get( Country.class, 1 ).name );
+		} );
+		assertEquals( 0, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 1, statistics.getSecondLevelCacheMissCount() );
+	}
+
+	@Test
+	public void testNearCacheDisabledForRegion() {
+		assertTrue( getStorageAccess( Country.class ) instanceof NearCacheStorageAccess );
+		assertFalse( getStorageAccess( City.class ) instanceof NearCacheStorageAccess );
+	}
+
+	@Test
+	public void testReadRacingWithWriteIsNotCached() throws Exception {
+		final BlockingStorageAccess delegate = new BlockingStorageAccess();
+		final NearCacheStorageAccess nearCache = new NearCacheStorageAccess( delegate, 100, 60_000 );
+		nearCache.putIntoCache( "key", "old", null );
+
+		// the write blocks after incrementing the generation, until the read below has read the old value
+		delegate.blockNextWrite = true;
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final Future<?> write = executor.submit( () -> nearCache.putIntoCache( "key", "new", null ) );
+			assertTrue( delegate.writeStarted.await( 10, TimeUnit.SECONDS ) );
+
+			// the read blocks after reading the old value, until the write has completed
+			delegate.blockNextRead = true;
+			delegate.writeCompleted = write;
+			assertEquals( "old", nearCache.getFromCache( "key", null ) );
+			write.get( 10, TimeUnit.SECONDS );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals( "new", nearCache.getFromCache( "key", null ) );
+	}
+
+	private void loadCountryTwice() {
+		for ( int i = 0; i < 2; i++ ) {
+			doInHibernate( this::sessionFactory, session -> {
+				assertEquals( "France", session.get( Country.class, 1 ).name );
+			} );
+		}
+	}
+
+	private DomainDataStorageAccess getStorageAccess(Class<?> entityClass) {
+		final EntityPersister persister = sessionFactory().getMetamodel().entityPersister( entityClass );
+		return ( (DomainDataRegionTemplate) persister.getCacheAccessStrategy().getRegion() ).getCacheStorageAccess();
+	}
+
+	/**
+	 * A storage blocking the next write until the next read, and the next read until the write completes.
+	 */
+	private static class BlockingStorageAccess implements StorageAccess {
+		private final Map<Object, Object> values = new ConcurrentHashMap<>();
+		private final CountDownLatch writeStarted = new CountDownLatch( 1 );
+		private final CountDownLatch readDone = new CountDownLatch( 1 );
+		private volatile boolean blockNextWrite;
+		private volatile boolean blockNextRead;
+		private volatile Future<?> writeCompleted;
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			final Object value = values.get( key );
+			if ( blockNextRead ) {
+				blockNextRead = false;
+				readDone.countDown();
+				try {
+					writeCompleted.get( 10, TimeUnit.SECONDS );
+				}
+				catch (Exception e) {
+					throw new IllegalStateException( e );
+				}
+			}
+			return value;
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			if ( blockNextWrite ) {
+				blockNextWrite = false;
+				writeStarted.countDown();
+				try {
+					readDone.await( 10, TimeUnit.SECONDS );
+				}
+				catch (InterruptedException e) {
+					throw new IllegalStateException( e );
+				}
+			}
+			values.put( key, value );
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return values.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			values.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			values.remove( key );
+		}
+
+		@Override
+		public void release() {
+		}
+	}
+
+	@Entity(name = "Country")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Country {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Country() {
+		}
+
+		public Country(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "City")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "cities")
+	public static class City {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public City() {
+		}
+
+		public City(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
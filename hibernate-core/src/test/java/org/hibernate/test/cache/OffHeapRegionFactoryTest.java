@@ -0,0 +1,236 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.internal.OffHeapRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.support.DirectAccessRegionTemplate;
+import org.hibernate.cache.spi.support.OffHeapStorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.service.spi.ServiceException;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the second-level cache regions kept in off-heap memory.
+ */
+public class OffHeapRegionFactoryTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Country.class, Document.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.USE_QUERY_CACHE, "true" );
+		settings.put( AvailableSettings.CACHE_REGION_FACTORY, OffHeapRegionFactory.class.getName() );
+		settings.put( AvailableSettings.CACHE_OFF_HEAP_MAX_SIZE + ".documents", "4096" );
+		settings.put( AvailableSettings.CACHE_OFF_HEAP_BLOCK_SIZE, "128" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void prepare() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Country( 1, "France" ) );
+			session.persist( new Country( 2, "Sweden" ) );
+		} );
+		sessionFactory().getCache().evictAll();
+		sessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testEntityCache() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Country.class, 1 );
+		} );
+		assertTrue( sessionFactory().getCache().containsEntity( Country.class, 1 ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "France", session.get( Country.class, 1 ).name );
+		} );
+		final Statistics statistics = sessionFactory().getStatistics();
+		assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 1, statistics.getEntityLoadCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Country.class, 1 ).name = "République française";
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "République française", session.get( Country.class, 1 ).name );
+		} );
+		assertEquals( 3, statistics.getSecondLevelCacheHitCount() );
+
+		sessionFactory().getCache().evictEntityData( Country.class, 1 );
+		assertFalse( sessionFactory().getCache().containsEntity( Country.class, 1 ) );
+	}
+
+	@Test
+	public void testQueryCache() {
+		for ( int i = 0; i < 2; i++ ) {
+			doInHibernate( this::sessionFactory, session -> {
+				final List<Country> countries = session.createQuery( "from Country order by id", Country.class )
+						.setCacheable( true )
+						.list();
+				assertEquals( 2, countries.size() );
+				assertEquals( "Sweden", countries.get( 1 ).name );
+			} );
+		}
+		assertEquals( 1, sessionFactory().getStatistics().getQueryCacheHitCount() );
+	}
+
+	@Test
+	public void testEviction() {
+		// room for two values of 1000 bytes only
+		final OffHeapStorageAccess storage = new OffHeapStorageAccess( 3000, 128 );
+		storage.putIntoCache( 1, new byte[1000], null );
+		storage.putIntoCache( 2, new byte[1000], null );
+		// a read makes the entry the most recently used one
+		assertEquals( 1000, ( (byte[]) storage.getFromCache( 1, null ) ).length );
+		storage.putIntoCache( 3, new byte[1000], null );
+
+		assertTrue( storage.contains( 1 ) );
+		assertFalse( storage.contains( 2 ) );
+		assertTrue( storage.contains( 3 ) );
+		assertEquals( 2, storage.getElementCountInMemory() );
+
+		// too large to be cached at all
+		storage.putIntoCache( 5, new byte[5000], null );
+		assertNull( storage.getFromCache( 5, null ) );
+
+		storage.evictData();
+		assertEquals( 0, storage.getElementCountInMemory() );
+		storage.release();
+	}
+
+	@Test
+	public void testRegionMaxSize() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Document( i, new String( new char[1000] ).replace( '\0', 'x' ) ) );
+			}
+		} );
+		int cached = 0;
+		for ( int i = 1; i <= 10; i++ ) {
+			if ( sessionFactory().getCache().containsEntity( Document.class, i ) ) {
+				cached++;
+			}
+		}
+		// only the most recently cached documents fit in the 4KB of the region
+		assertTrue( cached > 0 && cached < 10 );
+		assertTrue( sessionFactory().getCache().containsEntity( Document.class, 10 ) );
+	}
+
+	@Test
+	public void testTimestampsAreNotEvicted() {
+		final DirectAccessRegionTemplate timestampsRegion = (DirectAccessRegionTemplate) sessionFactory().getCache()
+				.getTimestampsCache()
+				.getRegion();
+		assertFalse( timestampsRegion.getStorageAccess() instanceof OffHeapStorageAccess );
+
+		// more than 4KB of documents, some of which are evicted from their region
+		testRegionMaxSize();
+		assertNotNull( timestampsRegion.getFromCache( "Country", null ) );
+		assertNotNull( timestampsRegion.getFromCache( "Document", null ) );
+	}
+
+	@Test
+	public void testTimestampsRegionMaxSize() {
+		final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" )
+				.applySetting( AvailableSettings.USE_QUERY_CACHE, "true" )
+				.applySetting( AvailableSettings.CACHE_REGION_FACTORY, OffHeapRegionFactory.class.getName() )
+				.applySetting(
+						AvailableSettings.CACHE_OFF_HEAP_MAX_SIZE + '.'
+								+ RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+						"4096"
+				)
+				.build();
+		try {
+			new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( Country.class )
+					.buildMetadata()
+					.buildSessionFactory()
+					.close();
+			fail( "The size of the timestamps region should not be allowed to be bounded" );
+		}
+		catch (ServiceException expected) {
+			assertTrue( expected.getCause() instanceof CacheException );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	@Entity(name = "Country")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Country {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Country() {
+		}
+
+		public Country(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Document")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "documents")
+	public static class Document {
+		@Id
+		private Integer id;
+
+		@Lob
+		private String content;
+
+		public Document() {
+		}
+
+		public Document(Integer id, String content) {
+			this.id = id;
+			this.content = content;
+		}
+	}
+}
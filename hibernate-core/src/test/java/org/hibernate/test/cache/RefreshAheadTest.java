@@ -0,0 +1,124 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import java.sql.PreparedStatement;
+import java.util.Map;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the refresh-ahead of the second-level cache entries.
+ */
+public class RefreshAheadTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Country.class, Currency.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.CACHE_REFRESH_AHEAD_AGE + ".countries", "1" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testOldEntriesAreReloaded() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Country( 1, "France" ) );
+			session.persist( new Currency( 1, "FRF" ) );
+		} );
+		// update the rows behind the back of the cache
+		doInHibernate( this::sessionFactory, session -> {
+			session.doWork( connection -> {
+				try ( PreparedStatement statement = connection.prepareStatement( "update Country set name = 'French Republic'" ) ) {
+					statement.executeUpdate();
+				}
+				try ( PreparedStatement statement = connection.prepareStatement( "update Currency set code = 'EUR'" ) ) {
+					statement.executeUpdate();
+				}
+			} );
+		} );
+		Thread.sleep( 10 );
+
+		// the cached entries are still used, while being reloaded
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "France", session.get( Country.class, 1 ).name );
+			assertEquals( "FRF", session.get( Currency.class, 1 ).code );
+		} );
+
+		String name = null;
+		for ( int i = 0; i < 100 && !"French Republic".equals( name ); i++ ) {
+			Thread.sleep( 50 );
+			sessionFactory().getStatistics().clear();
+			name = doInHibernate( this::sessionFactory, session -> {
+				return session.get( Country.class, 1 ).name;
+			} );
+			assertEquals( 1, sessionFactory().getStatistics().getSecondLevelCacheHitCount() );
+		}
+		assertEquals( "French Republic", name );
+
+		// only enabled for the countries region
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "FRF", session.get( Currency.class, 1 ).code );
+		} );
+	}
+
+	@Entity(name = "Country")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "countries")
+	public static class Country {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Country() {
+		}
+
+		public Country(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Currency")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "currencies")
+	public static class Currency {
+		@Id
+		private Integer id;
+
+		private String code;
+
+		public Currency() {
+		}
+
+		public Currency(Integer id, String code) {
+			this.id = id;
+			this.code = code;
+		}
+	}
+}
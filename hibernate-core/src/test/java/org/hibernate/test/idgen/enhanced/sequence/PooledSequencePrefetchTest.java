@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.idgen.enhanced.sequence;
+
+import java.util.Locale;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.id.enhanced.PooledOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.id.IdentifierGeneratorHelper.BasicHolder;
+import static org.hibernate.testing.junit4.ExtraAssertions.assertClassAssignability;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the pooled optimizer with the next sequence value being prefetched in the background.
+ */
+public class PooledSequencePrefetchTest extends BaseCoreFunctionalTestCase {
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	public String[] getMappings() {
+		return new String[] { "idgen/enhanced/sequence/Pooled.hbm.xml" };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.SEQUENCE_PREFETCH_THRESHOLD, "0.5" );
+		sqlStatementInterceptor = new SQLStatementInterceptor( configuration.getProperties() );
+	}
+
+	@Test
+	public void testPrefetchedBoundaries() {
+		EntityPersister persister = sessionFactory().getEntityPersister( Entity.class.getName() );
+		assertClassAssignability( SequenceStyleGenerator.class, persister.getIdentifierGenerator().getClass() );
+		SequenceStyleGenerator generator = ( SequenceStyleGenerator ) persister.getIdentifierGenerator();
+		assertClassAssignability( PooledOptimizer.class, generator.getOptimizer().getClass() );
+		PooledOptimizer optimizer = (PooledOptimizer) generator.getOptimizer();
+
+		int increment = optimizer.getIncrementSize();
+		int threshold = increment / 2;
+		Entity[] entities = new Entity[ increment * 3 ];
+		sqlStatementInterceptor.clear();
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < entities.length; i++ ) {
+			entities[i] = new Entity( "" + ( i + 1 ) );
+			s.save( entities[i] );
+			assertEquals( i + 1, ( (BasicHolder) optimizer.getLastValue() ).getActualLongValue() );
+			if ( i + 1 == threshold - 1 ) {
+				// the initial value and the first block are fetched by the session, nothing is prefetched yet
+				assertEquals( 2, countSequenceRoundTrips() );
+				assertEquals( 2, generator.getDatabaseStructure().getTimesAccessed() );
+			}
+			else if ( i + 1 == increment + 2 ) {
+				// the first clock over used the value prefetched in the background, the next one is not due yet
+				assertEquals( 2, countSequenceRoundTrips() );
+				assertEquals( 3, generator.getDatabaseStructure().getTimesAccessed() );
+			}
+		}
+		// the clock overs use the values prefetched once half of the previous block was consumed
+		assertEquals( ( increment * 3 ) + 1, ( (BasicHolder) optimizer.getLastSourceValue() ).getActualLongValue() );
+		assertEquals( 2, countSequenceRoundTrips() );
+		assertTrue( generator.getDatabaseStructure().getTimesAccessed() >= 4 );
+		s.getTransaction().commit();
+
+		s.beginTransaction();
+		for ( int i = 0; i < entities.length; i++ ) {
+			assertEquals( i + 1, entities[i].getId().intValue() );
+			s.delete( entities[i] );
+		}
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	/**
+	 * The number of sequence values obtained through the session
+	 */
+	private long countSequenceRoundTrips() {
+		return sqlStatementInterceptor.getSqlQueries()
+				.stream()
+				.filter( sql -> sql.toUpperCase( Locale.ROOT ).contains( "ID_SEQ_POOL_SEQ" ) )
+				.count();
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.persistencecontext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.util.collections.OpenAddressingHashMap;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CompactPersistenceContextTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Parent.class, Child.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.COMPACT_PERSISTENCE_CONTEXT, "true" );
+	}
+
+	@Test
+	public void testManyEntities() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 0; i < 200; i++ ) {
+				final Parent parent = new Parent( i );
+				session.persist( parent );
+				for ( long j = 0; j < 5; j++ ) {
+					final Child child = new Child( i * 10 + j, parent );
+					parent.children.add( child );
+					session.persist( child );
+				}
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Parent> parents = session.createQuery( "from Parent p order by p.id", Parent.class ).list();
+			assertEquals( 200, parents.size() );
+
+			final PersistenceContext persistenceContext = ( (SessionImplementor) session ).getPersistenceContext();
+			assertTrue( persistenceContext.getEntitiesByKey() instanceof OpenAddressingHashMap );
+
+			for ( Parent parent : parents ) {
+				assertEquals( 5, parent.children.size() );
+				assertSame( parent, session.get( Parent.class, parent.id ) );
+			}
+			assertEquals( 1200, persistenceContext.getNumberOfManagedEntities() );
+			assertTrue( persistenceContext.getCollectionsByKey() instanceof OpenAddressingHashMap );
+			assertEquals( 200, persistenceContext.getCollectionsByKey().size() );
+
+			final Parent first = parents.get( 0 );
+			session.evict( first );
+			assertFalse( session.contains( first ) );
+			assertEquals( 1199, persistenceContext.getEntitiesByKey().size() );
+
+			session.remove( parents.get( 1 ).children.remove( 0 ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertNull( session.get( Child.class, 10L ) );
+			assertEquals( 4, session.get( Parent.class, 1L ).children.size() );
+		} );
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Long id;
+
+		@OneToMany(mappedBy = "parent")
+		private List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Long id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+}
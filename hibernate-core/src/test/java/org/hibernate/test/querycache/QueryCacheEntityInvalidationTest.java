@@ -0,0 +1,231 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.querycache;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.Session;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the invalidation of the cached query results per entity.
+ */
+public class QueryCacheEntityInvalidationTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Ticket.class, Team.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.USE_QUERY_CACHE, "true" );
+		settings.put( AvailableSettings.QUERY_CACHE_ENTITY_INVALIDATION, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void prepare() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Team team = new Team( 1, "core" );
+			session.persist( team );
+			session.persist( new Ticket( 1, "open", "first", team ) );
+			session.persist( new Ticket( 2, "open", "second", team ) );
+			session.persist( new Ticket( 3, "closed", "third", null ) );
+		} );
+		sessionFactory().getCache().evictAll();
+	}
+
+	@Test
+	public void testUpdateOnlyInvalidatesResultsContainingEntity() {
+		assertTicketTitles( "open", "first", "second" );
+		assertTicketTitles( "closed", "third" );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Ticket.class, 3 ).title = "changed";
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		assertTicketTitles( "open", "first", "second" );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+		assertTicketTitles( "closed", "changed" );
+		assertEquals( 1, statistics.getQueryCacheMissCount() );
+	}
+
+	@Test
+	public void testDeleteOnlyInvalidatesResultsContainingEntity() {
+		assertTicketTitles( "open", "first", "second" );
+		assertTicketTitles( "closed", "third" );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.remove( session.get( Ticket.class, 1 ) );
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		assertTicketTitles( "closed", "third" );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+		assertTicketTitles( "open", "second" );
+		assertEquals( 1, statistics.getQueryCacheMissCount() );
+	}
+
+	@Test
+	public void testInsertInvalidatesAllResults() {
+		assertTicketTitles( "open", "first", "second" );
+		assertTicketTitles( "closed", "third" );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Ticket( 4, "closed", "fourth", null ) );
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		assertTicketTitles( "open", "first", "second" );
+		assertTicketTitles( "closed", "third", "fourth" );
+		assertEquals( 0, statistics.getQueryCacheHitCount() );
+		assertEquals( 2, statistics.getQueryCacheMissCount() );
+	}
+
+	@Test
+	public void testBulkUpdateInvalidatesAllResults() {
+		assertTicketTitles( "open", "first", "second" );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "update Ticket set title = 'bulk' where id = 3" ).executeUpdate();
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		assertTicketTitles( "open", "first", "second" );
+		assertEquals( 0, statistics.getQueryCacheHitCount() );
+	}
+
+	@Test
+	public void testResultsInvolvingOtherTablesAreInvalidatedPerTable() {
+		for ( int i = 0; i < 2; i++ ) {
+			doInHibernate( this::sessionFactory, session -> {
+				assertEquals( 2, session.createQuery( "select t from Ticket t join t.team tm where tm.name = 'core'" )
+						.setCacheable( true )
+						.list()
+						.size() );
+				assertEquals( 3L, session.createQuery( "select count(t) from Ticket t" )
+						.setCacheable( true )
+						.uniqueResult() );
+			} );
+		}
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Ticket.class, 3 ).title = "changed";
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "select t from Ticket t join t.team tm where tm.name = 'core'" )
+					.setCacheable( true )
+					.list();
+			session.createQuery( "select count(t) from Ticket t" ).setCacheable( true ).uniqueResult();
+		} );
+		assertEquals( 0, statistics.getQueryCacheHitCount() );
+		assertEquals( 2, statistics.getQueryCacheMissCount() );
+	}
+
+	@Test
+	public void testMissingEntityTimestampInvalidatesResults() {
+		assertTicketTitles( "open", "first", "second" );
+
+		// the entity timestamps expire, an entity without one may have changed since the results were cached
+		sessionFactory().getCache().evictRegion( RegionFactory.DEFAULT_QUERY_RESULTS_INVALIDATION_REGION_UNQUALIFIED_NAME );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		assertTicketTitles( "open", "first", "second" );
+		assertEquals( 0, statistics.getQueryCacheHitCount() );
+		assertEquals( 1, statistics.getQueryCacheMissCount() );
+
+		// the results cached again track their entities again
+		statistics.clear();
+		assertTicketTitles( "open", "first", "second" );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+	}
+
+	private void assertTicketTitles(String status, String... titles) {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Ticket> tickets = findTickets( session, status );
+			assertEquals( titles.length, tickets.size() );
+			for ( int i = 0; i < titles.length; i++ ) {
+				assertEquals( titles[i], tickets.get( i ).title );
+			}
+		} );
+	}
+
+	private static List<Ticket> findTickets(Session session, String status) {
+		return session.createQuery( "from Ticket where status = :status order by id", Ticket.class )
+				.setParameter( "status", status )
+				.setCacheable( true )
+				.list();
+	}
+
+	@Entity(name = "Ticket")
+	public static class Ticket {
+		@Id
+		private Integer id;
+
+		private String status;
+
+		private String title;
+
+		@ManyToOne
+		private Team team;
+
+		public Ticket() {
+		}
+
+		public Ticket(Integer id, String status, String title, Team team) {
+			this.id = id;
+			this.status = status;
+			this.title = title;
+			this.team = team;
+		}
+	}
+
+	@Entity(name = "Team")
+	public static class Team {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Team() {
+		}
+
+		public Team(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.querycache;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Version;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the cached query results storing the state of the returned entities.
+ */
+public class QueryCacheInlineEntitiesTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final int COUNT = 10;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Product.class, Supplier.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.USE_QUERY_CACHE, "true" );
+		settings.put( AvailableSettings.QUERY_CACHE_INLINE_ENTITIES, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Before
+	public void prepare() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Supplier supplier = new Supplier( 1, "ACME" );
+			session.persist( supplier );
+			for ( int i = 1; i <= COUNT; i++ ) {
+				session.persist( new Product( i, "product " + i, supplier ) );
+			}
+		} );
+		sessionFactory().getCache().evictAll();
+		sessionFactory().getStatistics().clear();
+	}
+
+	@After
+	public void cleanup() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Product" ).executeUpdate();
+			session.createQuery( "delete from Supplier" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testCacheHitDoesNotLoadEntities() {
+		listProducts();
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Product> products = session.createQuery( "from Product order by id", Product.class )
+					.setCacheable( true )
+					.list();
+			assertEquals( COUNT, products.size() );
+			for ( int i = 0; i < COUNT; i++ ) {
+				final Product product = products.get( i );
+				assertEquals( "product " + ( i + 1 ), product.name );
+				assertEquals( Integer.valueOf( 0 ), product.version );
+				assertFalse( Hibernate.isInitialized( product.supplier ) );
+				assertTrue( session.contains( product ) );
+			}
+		} );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+		assertEquals( 0, statistics.getPrepareStatementCount() );
+	}
+
+	@Test
+	public void testTuples() {
+		for ( int i = 0; i < 2; i++ ) {
+			doInHibernate( this::sessionFactory, session -> {
+				final List<Object[]> rows = session.createQuery(
+						"select p.name, p from Product p where p.id = 3",
+						Object[].class
+				)
+						.setCacheable( true )
+						.list();
+				assertEquals( 1, rows.size() );
+				assertEquals( "product 3", rows.get( 0 )[0] );
+				assertEquals( "product 3", ( (Product) rows.get( 0 )[1] ).name );
+			} );
+		}
+		assertEquals( 1, sessionFactory().getStatistics().getQueryCacheHitCount() );
+	}
+
+	@Test
+	public void testEntityAlreadyInSession() {
+		listProducts();
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Product product = session.get( Product.class, 2 );
+			product.name = "changed";
+			final List<Product> products = session.createQuery( "from Product order by id", Product.class )
+					.setCacheable( true )
+					.setHibernateFlushMode( FlushMode.MANUAL )
+					.list();
+			assertSame( product, products.get( 1 ) );
+			assertEquals( "changed", products.get( 1 ).name );
+		} );
+	}
+
+	@Test
+	public void testUpdatedEntity() {
+		listProducts();
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Product.class, 4 ).name = "changed";
+		} );
+
+		assertEquals( "changed", listProducts().get( 3 ).name );
+	}
+
+	@Test
+	public void testEntityLoadedByEarlierTransactionIsNotStored() {
+		final Session longLivedSession = openSession();
+		try {
+			longLivedSession.get( Product.class, 5 );
+
+			doInHibernate( this::sessionFactory, session -> {
+				session.get( Product.class, 5 ).name = "changed";
+			} );
+
+			// the query results are read after the update, but the state in the session is older
+			longLivedSession.beginTransaction();
+			assertEquals(
+					"product 5",
+					longLivedSession.createQuery( "from Product order by id", Product.class )
+							.setCacheable( true )
+							.list()
+							.get( 4 ).name
+			);
+			longLivedSession.getTransaction().commit();
+		}
+		finally {
+			longLivedSession.close();
+		}
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		assertEquals( "changed", listProducts().get( 4 ).name );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+	}
+
+	private List<Product> listProducts() {
+		return doInHibernate( this::sessionFactory, session -> {
+			return session.createQuery( "from Product order by id", Product.class )
+					.setCacheable( true )
+					.list();
+		} );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+
+		@Version
+		private Integer version;
+
+		private String name;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Supplier supplier;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name, Supplier supplier) {
+			this.id = id;
+			this.name = name;
+			this.supplier = supplier;
+		}
+	}
+
+	@Entity(name = "Supplier")
+	public static class Supplier {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Supplier() {
+		}
+
+		public Supplier(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
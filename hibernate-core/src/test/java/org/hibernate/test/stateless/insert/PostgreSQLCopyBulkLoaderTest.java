@@ -0,0 +1,140 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stateless.insert;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.stream.Stream;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.dialect.bulk.PostgreSQLCopyBulkLoader;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests {@link StatelessSession#insertAll} through {@link PostgreSQLCopyBulkLoader}, comparing the rows loaded
+ * by {@code COPY} with the same rows inserted through JDBC.
+ */
+@RequiresDialect(PostgreSQL81Dialect.class)
+public class PostgreSQLCopyBulkLoaderTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final String TEXT = "tab\tnew line\ncarriage return\rback\\slash \\N 'quoted' \"double\" é";
+	private static final byte[] BYTES = { 0, 1, 0x7F, (byte) 0x80, (byte) 0xFF, '\\', '\t', '\n' };
+	private static final Timestamp TIMESTAMP = Timestamp.valueOf( LocalDateTime.of( 2019, 6, 15, 10, 30, 15, 123456000 ) );
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Record.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		// a time zone other than the JVM default one, so that timestamps are shifted if the COPY ignores it
+		settings.put(
+				AvailableSettings.JDBC_TIME_ZONE,
+				TimeZone.getTimeZone(
+						"Pacific/Kiritimati".equals( TimeZone.getDefault().getID() ) ? "Pacific/Pago_Pago" : "Pacific/Kiritimati"
+				)
+		);
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testCopy() {
+		final StatisticsImplementor statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		try ( StatelessSession session = sessionFactory().openStatelessSession() ) {
+			session.getTransaction().begin();
+			assertEquals(
+					2,
+					session.insertAll( Stream.of( new Record( 1, TEXT, BYTES, TIMESTAMP ), new Record( 2, null, null, null ) ) )
+			);
+			session.getTransaction().commit();
+		}
+		// the rows are loaded by COPY, without any prepared statement
+		assertEquals( 0, statistics.getPrepareStatementCount() );
+
+		try ( StatelessSession session = sessionFactory().openStatelessSession() ) {
+			session.getTransaction().begin();
+			session.insert( new Record( 3, TEXT, BYTES, TIMESTAMP ) );
+			session.getTransaction().commit();
+		}
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Record copied = session.get( Record.class, 1 );
+			assertEquals( TEXT, copied.content );
+			assertArrayEquals( BYTES, copied.payload );
+			assertEquals( TIMESTAMP, copied.created );
+			assertEquals( new BigDecimal( "12345.67" ), copied.amount );
+			assertTrue( copied.flag );
+
+			final Record empty = session.get( Record.class, 2 );
+			assertNull( empty.content );
+			assertNull( empty.payload );
+			assertNull( empty.created );
+
+			// the columns loaded by COPY hold the very values inserted through JDBC
+			assertEquals(
+					1,
+					( (Number) session.createNativeQuery(
+							"select count(*) from copy_record c join copy_record i on i.id = 3 " +
+									"where c.id = 1 and c.content = i.content and c.payload = i.payload " +
+									"and c.created = i.created and c.amount = i.amount"
+					).uniqueResult() ).intValue()
+			);
+		} );
+	}
+
+	@Entity(name = "Record")
+	@Table(name = "copy_record")
+	public static class Record {
+		@Id
+		private Integer id;
+
+		private String content;
+
+		private byte[] payload;
+
+		private Timestamp created;
+
+		private BigDecimal amount = new BigDecimal( "12345.67" );
+
+		private boolean flag = true;
+
+		public Record() {
+		}
+
+		public Record(Integer id, String content, byte[] payload, Timestamp created) {
+			this.id = id;
+			this.content = content;
+			this.payload = payload;
+			this.created = created;
+		}
+	}
+}
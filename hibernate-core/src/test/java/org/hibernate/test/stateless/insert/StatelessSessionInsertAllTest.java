@@ -0,0 +1,314 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stateless.insert;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import javax.persistence.DiscriminatorValue;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Inheritance;
+import javax.persistence.InheritanceType;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Version;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.bulk.BulkLoader;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Tests {@link StatelessSession#insertAll}, through a dialect bulk loader as well as through the batched
+ * multi-row insert fallback.
+ */
+@RequiresDialect(H2Dialect.class)
+public class StatelessSessionInsertAllTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final RecordingBulkLoader BULK_LOADER = new RecordingBulkLoader();
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Measurement.class, Sample.class, Animal.class, Dog.class, Cat.class, Note.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "20" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.DIALECT, BulkLoadingH2Dialect.class.getName() );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testBulkLoad() {
+		BULK_LOADER.enabled = true;
+		BULK_LOADER.loadedRows = 0;
+		try {
+			final List<Measurement> measurements = IntStream.range( 0, 50 )
+					.mapToObj( i -> new Measurement( "sensor " + i, i * 1.5 ) )
+					.collect( Collectors.toList() );
+
+			final long count = insertAll( measurements.stream() );
+			assertEquals( 50, count );
+			assertEquals( 50, BULK_LOADER.loadedRows );
+			for ( Measurement measurement : measurements ) {
+				assertNotNull( measurement.id );
+				assertEquals( Integer.valueOf( 0 ), measurement.version );
+			}
+			assertMeasurements( 50 );
+		}
+		finally {
+			BULK_LOADER.enabled = false;
+		}
+	}
+
+	@Test
+	public void testMultiRowInsertFallback() {
+		final StatisticsImplementor statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		final long count = insertAll(
+				IntStream.range( 0, 50 ).mapToObj( i -> new Sample( i, "sample " + i ) )
+		);
+		assertEquals( 50, count );
+		// 50 rows in batches of 20 rows, each executed as a single multi-row insert
+		assertEquals( 3, statistics.getPrepareStatementCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Sample> samples = session.createQuery( "from Sample order by id", Sample.class ).list();
+			assertEquals( 50, samples.size() );
+			for ( int i = 0; i < 50; i++ ) {
+				assertEquals( "sample " + i, samples.get( i ).label );
+			}
+		} );
+	}
+
+	@Test
+	public void testMixedEntities() {
+		BULK_LOADER.enabled = true;
+		BULK_LOADER.loadedRows = 0;
+		try {
+			final long count = insertAll(
+					Stream.of(
+							new Dog( "rex" ),
+							new Dog( "fido" ),
+							new Cat( "felix" ),
+							new Note( "identity generated" ),
+							new Dog( "lassie" )
+					)
+			);
+			assertEquals( 5, count );
+			// the note is inserted on its own, as its identifier is generated by the insert
+			assertEquals( 4, BULK_LOADER.loadedRows );
+		}
+		finally {
+			BULK_LOADER.enabled = false;
+		}
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals(
+					3L,
+					session.createQuery( "select count(d) from Dog d" ).uniqueResult()
+			);
+			assertEquals(
+					"felix",
+					session.createQuery( "select c.name from Cat c" ).uniqueResult()
+			);
+			assertEquals(
+					"identity generated",
+					session.createQuery( "select n.text from Note n" ).uniqueResult()
+			);
+		} );
+	}
+
+	private long insertAll(Stream<?> entities) {
+		try ( StatelessSession session = sessionFactory().openStatelessSession() ) {
+			session.getTransaction().begin();
+			try {
+				final long count = session.insertAll( entities );
+				session.getTransaction().commit();
+				return count;
+			}
+			catch (RuntimeException e) {
+				session.getTransaction().rollback();
+				throw e;
+			}
+		}
+	}
+
+	private void assertMeasurements(int expectedCount) {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Measurement> measurements = session.createQuery(
+					"from Measurement order by reading",
+					Measurement.class
+			).list();
+			assertEquals( expectedCount, measurements.size() );
+			for ( int i = 0; i < expectedCount; i++ ) {
+				assertEquals( "sensor " + i, measurements.get( i ).sensor );
+				assertEquals( i * 1.5, measurements.get( i ).reading, 0.0 );
+			}
+		} );
+	}
+
+	public static class BulkLoadingH2Dialect extends H2Dialect {
+		@Override
+		public BulkLoader getBulkLoader() {
+			return BULK_LOADER;
+		}
+	}
+
+	/**
+	 * Loads the rows with plain inserts, recording their number.
+	 */
+	private static class RecordingBulkLoader implements BulkLoader {
+		private volatile boolean enabled;
+		private volatile long loadedRows;
+
+		@Override
+		public boolean canLoad(Connection connection) {
+			return enabled;
+		}
+
+		@Override
+		public boolean canLoad(Object value) {
+			return value instanceof String || value instanceof Number;
+		}
+
+		@Override
+		public long load(Connection connection, String tableName, String[] columnNames, List<Object[]> rows)
+				throws SQLException {
+			final String sql = "insert into " + tableName + " (" + String.join( ", ", columnNames ) + ") values ("
+					+ Stream.of( columnNames ).map( column -> "?" ).collect( Collectors.joining( ", " ) ) + ")";
+			long count = 0;
+			try ( PreparedStatement statement = connection.prepareStatement( sql ) ) {
+				for ( Object[] row : rows ) {
+					for ( int i = 0; i < row.length; i++ ) {
+						statement.setObject( i + 1, row[i] );
+					}
+					count += statement.executeUpdate();
+				}
+			}
+			loadedRows += count;
+			return count;
+		}
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "measurement_seq")
+		@SequenceGenerator(name = "measurement_seq", allocationSize = 50)
+		private Long id;
+
+		@Version
+		private Integer version;
+
+		private String sensor;
+
+		private double reading;
+
+		public Measurement() {
+		}
+
+		public Measurement(String sensor, double reading) {
+			this.sensor = sensor;
+			this.reading = reading;
+		}
+	}
+
+	@Entity(name = "Sample")
+	public static class Sample {
+		@Id
+		private Integer id;
+
+		private String label;
+
+		public Sample() {
+		}
+
+		public Sample(Integer id, String label) {
+			this.id = id;
+			this.label = label;
+		}
+	}
+
+	@Entity(name = "Animal")
+	@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+	public static class Animal {
+		@Id
+		@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "animal_seq")
+		@SequenceGenerator(name = "animal_seq", allocationSize = 10)
+		private Long id;
+
+		private String name;
+
+		public Animal() {
+		}
+
+		public Animal(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Dog")
+	@DiscriminatorValue("dog")
+	public static class Dog extends Animal {
+		public Dog() {
+		}
+
+		public Dog(String name) {
+			super( name );
+		}
+	}
+
+	@Entity(name = "Cat")
+	@DiscriminatorValue("cat")
+	public static class Cat extends Animal {
+		public Cat() {
+		}
+
+		public Cat(String name) {
+			super( name );
+		}
+	}
+
+	@Entity(name = "Note")
+	public static class Note {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		private String text;
+
+		public Note() {
+		}
+
+		public Note(String text) {
+			this.text = text;
+		}
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stats;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.Session;
+import org.hibernate.SessionEventListener.FlushPhase;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.hibernate.type.Type;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the reporting of flush phases and entity dirty checks to session event listeners and statistics.
+ */
+public class FlushPhaseStatisticsTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testFlushPhases() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Item( 1, "first" ) );
+			session.persist( new Item( 2, "second" ) );
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		final RecordingListener listener = new RecordingListener();
+		doInHibernate( this::sessionFactory, session -> {
+			session.addEventListeners( listener );
+			session.get( Item.class, 1 ).name = "changed";
+			session.get( Item.class, 2 );
+			session.flush();
+		} );
+
+		final List<String> expectedFlush = Arrays.asList(
+				"start CASCADE",
+				"end CASCADE",
+				"start COLLECTION_PROCESSING",
+				"end COLLECTION_PROCESSING",
+				"start ENTITY_DIRTY_CHECK",
+				"dirty check Item",
+				"dirty check Item",
+				"end ENTITY_DIRTY_CHECK",
+				"start ACTION_SORTING",
+				"end ACTION_SORTING",
+				"start COLLECTION_PROCESSING",
+				"end COLLECTION_PROCESSING",
+				"start ACTION_SORTING",
+				"end ACTION_SORTING",
+				"start EXECUTION",
+				"end EXECUTION"
+		);
+		// the explicit flush, and the one on commit
+		assertEquals( expectedFlush, listener.events.subList( 0, expectedFlush.size() ) );
+		assertEquals( expectedFlush, listener.events.subList( expectedFlush.size(), listener.events.size() ) );
+		assertEquals( 1, listener.dirtyEntities );
+
+		final EntityStatistics entityStatistics = statistics.getEntityStatistics( Item.class.getName() );
+		assertEquals( 4, entityStatistics.getDirtyCheckCount() );
+		assertEquals( 1, entityStatistics.getUpdateCount() );
+	}
+
+	@Test
+	public void testDirtyCheckOfInterceptor() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Item( 10, "intercepted" ) );
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		final RecordingListener listener = new RecordingListener();
+		try ( Session session = sessionFactory().withOptions()
+				.interceptor( new NothingDirtyInterceptor() )
+				.eventListeners( listener )
+				.openSession() ) {
+			session.beginTransaction();
+			try {
+				session.get( Item.class, 10 ).name = "changed";
+				session.flush();
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		}
+
+		// the dirty check of the interceptor is reported as well
+		assertTrue( listener.events.contains( "dirty check Item" ) );
+		assertEquals( 0, listener.dirtyEntities );
+
+		final EntityStatistics entityStatistics = statistics.getEntityStatistics( Item.class.getName() );
+		assertEquals( 1, entityStatistics.getDirtyCheckCount() );
+		assertEquals( 0, entityStatistics.getUpdateCount() );
+	}
+
+	private static class NothingDirtyInterceptor extends EmptyInterceptor {
+		@Override
+		public int[] findDirty(
+				Object entity,
+				Serializable id,
+				Object[] currentState,
+				Object[] previousState,
+				String[] propertyNames,
+				Type[] types) {
+			return new int[0];
+		}
+	}
+
+	private static class RecordingListener extends BaseSessionEventListener {
+		private final List<String> events = new ArrayList<>();
+		private int dirtyEntities;
+
+		@Override
+		public void flushPhaseStart(FlushPhase phase) {
+			events.add( "start " + phase );
+		}
+
+		@Override
+		public void flushPhaseEnd(FlushPhase phase) {
+			events.add( "end " + phase );
+		}
+
+		@Override
+		public void dirtyCalculationEnd(String entityName, boolean dirty) {
+			events.add( "dirty check " + entityName.substring( entityName.lastIndexOf( '$' ) + 1 ) );
+			if ( dirty ) {
+				dirtyEntities++;
+			}
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.test.stream.basic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.annotations.QueryHints;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the detachment of the entities read by {@link org.hibernate.query.Query#stream()}.
+ */
+public class DetachingStreamTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Customer.class, Order.class };
+	}
+
+	@Before
+	public void prepareTestData() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				final Customer customer = new Customer( i, "Customer " + i );
+				session.persist( customer );
+				for ( int j = 0; j < 3; j++ ) {
+					final Order order = new Order( i * 10 + j, customer );
+					customer.orders.add( order );
+					session.persist( order );
+				}
+			}
+		} );
+	}
+
+	@After
+	public void cleanupTestData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Order" ).executeUpdate();
+			session.createQuery( "delete from Customer" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testEntitiesAreDetached() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Customer managed = session.get( Customer.class, 0 );
+			final AtomicInteger rowCount = new AtomicInteger();
+			try ( Stream<Order> stream = session.createQuery(
+					"from Order o join fetch o.customer order by o.id",
+					Order.class
+			)
+					.setHint( QueryHints.STREAM_DETACH_WINDOW, 2 )
+					.stream() ) {
+				stream.forEach( order -> {
+					rowCount.incrementAndGet();
+					assertTrue( session.contains( order ) );
+					assertTrue( session.contains( order.customer ) );
+					// the orders and customers of the rows read since the last detachment, the customer read before
+					// streaming
+					assertTrue( ( (SessionImplementor) session ).getPersistenceContextInternal().getNumberOfManagedEntities() <= 5 );
+				} );
+			}
+			assertEquals( 30, rowCount.get() );
+			assertTrue( session.contains( managed ) );
+		} );
+	}
+
+	@Test
+	public void testAssociationsCanBeInitialized() {
+		doInHibernate( this::sessionFactory, session -> {
+			try ( Stream<Order> stream = session.createQuery( "from Order o order by o.id", Order.class )
+					.setHint( QueryHints.STREAM_DETACH_WINDOW, 1 )
+					.stream() ) {
+				stream.forEach( order -> {
+					// the associations of the current row can be initialized
+					assertEquals( 3, order.customer.getOrders().size() );
+					assertTrue( session.contains( order ) );
+				} );
+			}
+		} );
+	}
+
+	@Test
+	public void testEntitiesAreKeptByDefault() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Order> orders = new ArrayList<>();
+			try ( Stream<Order> stream = session.createQuery( "from Order o order by o.id", Order.class ).stream() ) {
+				stream.forEach( orders::add );
+			}
+			assertEquals( 30, orders.size() );
+			for ( Order order : orders ) {
+				assertTrue( session.contains( order ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testPreviousRowsAreDetached() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Order> orders = new ArrayList<>();
+			try ( Stream<Order> stream = session.createQuery( "from Order o order by o.id", Order.class )
+					.setHint( QueryHints.STREAM_DETACH_WINDOW, 1 )
+					.stream() ) {
+				stream.forEach( order -> {
+					if ( !orders.isEmpty() ) {
+						assertFalse( session.contains( orders.get( orders.size() - 1 ) ) );
+					}
+					assertTrue( session.contains( order ) );
+					orders.add( order );
+				} );
+			}
+			assertEquals( 30, orders.size() );
+		} );
+	}
+
+	@Test
+	public void testEntitiesPersistedWhileStreaming() {
+		doInHibernate( this::sessionFactory, session -> {
+			try ( Stream<Customer> stream = session.createQuery( "from Customer c order by c.id", Customer.class )
+					.setHint( QueryHints.STREAM_DETACH_WINDOW, 1 )
+					.stream() ) {
+				stream.forEach( customer -> {
+					final Order order = new Order( 100 + customer.id, customer );
+					session.persist( order );
+					assertTrue( session.contains( order ) );
+				} );
+			}
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals(
+					Long.valueOf( 40 ),
+					session.createQuery( "select count(o) from Order o", Long.class ).uniqueResult()
+			);
+		} );
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "customer")
+		private List<Order> orders = new ArrayList<>();
+
+		public Customer() {
+		}
+
+		public Customer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public List<Order> getOrders() {
+			return orders;
+		}
+	}
+
+	@Entity(name = "Order")
+	@javax.persistence.Table(name = "orders")
+	public static class Order {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Customer customer;
+
+		public Order() {
+		}
+
+		public Order(Integer id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+}
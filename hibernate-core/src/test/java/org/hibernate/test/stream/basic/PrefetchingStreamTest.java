@@ -0,0 +1,259 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.test.stream.basic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.AttributeConverter;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.annotations.QueryHints;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the streams reading their rows ahead on a dedicated thread.
+ */
+public class PrefetchingStreamTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Item.class, Label.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void prepareTestData() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 95; i++ ) {
+				session.persist( new Item( i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testSequentialStream() {
+		inStatelessTransaction( session -> {
+			try ( Stream<Item> stream = session.createQuery( "from Item i order by i.id", Item.class )
+					.setHint( QueryHints.STREAM_PREFETCH_CHUNK_SIZE, 10 )
+					.stream() ) {
+				final List<Integer> ids = stream.map( item -> item.id ).collect( Collectors.toList() );
+				assertEquals( 95, ids.size() );
+				for ( int i = 0; i < ids.size(); i++ ) {
+					assertEquals( i + 1, (int) ids.get( i ) );
+				}
+			}
+			assertReleased( session );
+		} );
+	}
+
+	@Test
+	public void testParallelStream() {
+		inStatelessTransaction( session -> {
+			try ( Stream<Item> stream = session.createQuery( "from Item i order by i.id", Item.class )
+					.setHint( QueryHints.STREAM_PREFETCH_CHUNK_SIZE, 10 )
+					.stream() ) {
+				final List<Integer> ids = stream.parallel().map( item -> item.id ).collect( Collectors.toList() );
+				assertEquals( 95, ids.size() );
+				// the encounter order is kept
+				for ( int i = 0; i < ids.size(); i++ ) {
+					assertEquals( i + 1, (int) ids.get( i ) );
+				}
+			}
+			assertReleased( session );
+		} );
+	}
+
+	@Test
+	public void testStreamClosedBeforeTheEnd() {
+		inStatelessTransaction( session -> {
+			try ( Stream<Item> stream = session.createQuery( "from Item i order by i.id", Item.class )
+					.setHint( QueryHints.STREAM_PREFETCH_CHUNK_SIZE, 10 )
+					.stream() ) {
+				assertEquals( 1, (int) stream.findFirst().get().id );
+			}
+			assertReleased( session );
+			// the session can be used again
+			assertEquals( 95L, session.createQuery( "select count(i) from Item i" ).uniqueResult() );
+		} );
+	}
+
+	@Test
+	public void testOutstandingSplitsAreBounded() {
+		inStatelessTransaction( session -> {
+			try ( Stream<Item> stream = session.createQuery( "from Item i order by i.id", Item.class )
+					.setHint( QueryHints.STREAM_PREFETCH_CHUNK_SIZE, 10 )
+					.stream() ) {
+				final Spliterator<Item> spliterator = stream.spliterator();
+				final List<Spliterator<Item>> splits = new ArrayList<>();
+				for ( int i = 0; i < 4; i++ ) {
+					splits.add( spliterator.trySplit() );
+				}
+
+				// the rows are not all copied into splits: the next split waits for a split to be processed
+				final CompletableFuture<Spliterator<Item>> nextSplit = CompletableFuture.supplyAsync( spliterator::trySplit );
+				Thread.sleep( 200 );
+				assertFalse( nextSplit.isDone() );
+
+				splits.get( 0 ).forEachRemaining( item -> {
+				} );
+				assertNotNull( nextSplit.get( 10, TimeUnit.SECONDS ) );
+			}
+			catch (Exception e) {
+				throw new RuntimeException( e );
+			}
+			assertReleased( session );
+		} );
+	}
+
+	@Test
+	public void testLaterRowsProcessedInParallel() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 96; i <= 1000; i++ ) {
+				session.persist( new Item( i ) );
+			}
+		} );
+		inStatelessTransaction( session -> {
+			final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+			try ( Stream<Item> stream = session.createQuery( "from Item i order by i.id", Item.class )
+					.setHint( QueryHints.STREAM_PREFETCH_CHUNK_SIZE, 10 )
+					.stream() ) {
+				final long count = stream.parallel()
+						.filter( item -> item.id > 500 )
+						.peek( item -> {
+							threads.add( Thread.currentThread() );
+							busyWork();
+						} )
+						.count();
+				assertEquals( 500, count );
+			}
+			// the splitting goes on once the first chunks handed off are processed
+			assertTrue( threads.size() > 1 );
+			assertReleased( session );
+		} );
+	}
+
+	@Test(timeout = 10000)
+	public void testReadingError() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Label( 1, "valid" ) );
+			session.persist( new Label( 2, UnreadableConverter.UNREADABLE ) );
+		} );
+		inStatelessTransaction( session -> {
+			try ( Stream<Label> stream = session.createQuery( "from Label l order by l.id", Label.class )
+					.setHint( QueryHints.STREAM_PREFETCH_CHUNK_SIZE, 10 )
+					.stream() ) {
+				stream.count();
+				fail( "The error reading the rows should be thrown by the stream" );
+			}
+			catch (UnreadableError expected) {
+			}
+			assertReleased( session );
+		} );
+	}
+
+	@Test
+	public void testHintIgnoredForStatefulSessions() {
+		doInHibernate( this::sessionFactory, session -> {
+			try ( Stream<Item> stream = session.createQuery( "from Item i order by i.id", Item.class )
+					.setHint( QueryHints.STREAM_PREFETCH_CHUNK_SIZE, 10 )
+					.stream() ) {
+				assertEquals( 95, stream.count() );
+			}
+		} );
+	}
+
+	private static void busyWork() {
+		final long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( 1 );
+		while ( System.nanoTime() < end ) {
+			// keeps the worker busy, as a CPU bound processing of the rows would
+		}
+	}
+
+	private static void assertReleased(StatelessSession session) {
+		assertFalse(
+				( (SharedSessionContractImplementor) session ).getJdbcCoordinator()
+						.getLogicalConnection()
+						.getResourceRegistry()
+						.hasRegisteredResources()
+		);
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		public Item() {
+		}
+
+		public Item(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Label")
+	public static class Label {
+		@Id
+		private Integer id;
+
+		@Convert(converter = UnreadableConverter.class)
+		private String text;
+
+		public Label() {
+		}
+
+		public Label(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+
+	public static class UnreadableConverter implements AttributeConverter<String, String> {
+		static final String UNREADABLE = "unreadable";
+
+		@Override
+		public String convertToDatabaseColumn(String attribute) {
+			return attribute;
+		}
+
+		@Override
+		public String convertToEntityAttribute(String dbData) {
+			if ( UNREADABLE.equals( dbData ) ) {
+				throw new UnreadableError();
+			}
+			return dbData;
+		}
+	}
+
+	public static class UnreadableError extends Error {
+	}
+}
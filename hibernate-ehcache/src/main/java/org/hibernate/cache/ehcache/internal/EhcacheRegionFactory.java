@@ -75,7 +75,18 @@ public class EhcacheRegionFactory extends RegionFactoryTemplate {
 		return new DomainDataRegionImpl(
 				regionConfig,
 				this,
-				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				applyRefreshAhead(
+						regionConfig,
+						buildingContext,
+						cacheKeysFactory,
+						applyNearCache(
+								regionConfig.getRegionName(),
+								applyLatencyStatistics(
+										regionConfig.getRegionName(),
+										createDomainDataStorageAccess( regionConfig, buildingContext )
+								)
+						)
+				),
 				cacheKeysFactory,
 				buildingContext
 		);
@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.ehcache.internal;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
 import net.sf.ehcache.Ehcache;
 import net.sf.ehcache.Element;
 import net.sf.ehcache.constructs.nonstop.NonStopCacheException;
@@ -14,6 +18,7 @@ import net.sf.ehcache.hibernate.nonstop.HibernateNonstopCacheExceptionHandler;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
 
 import org.jboss.logging.Logger;
 
@@ -64,6 +69,30 @@ public class StorageAccessImpl implements DomainDataStorageAccess  {
 		}
 	}
 
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		try {
+			final Map<Object, Element> elements = getCache().getAll( keys );
+			final Map<Object, Object> items = CollectionHelper.mapOfSize( elements.size() );
+			for ( Map.Entry<Object, Element> element : elements.entrySet() ) {
+				if ( element.getValue() != null ) {
+					items.put( element.getKey(), element.getValue().getObjectValue() );
+				}
+			}
+			return items;
+		}
+		catch (net.sf.ehcache.CacheException e) {
+			if ( e instanceof NonStopCacheException ) {
+				HibernateNonstopCacheExceptionHandler.getInstance()
+						.handleNonstopCacheException( (NonStopCacheException) e );
+				return Collections.emptyMap();
+			}
+			else {
+				throw new CacheException( e );
+			}
+		}
+	}
+
 	@Override
 	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
 		try {
@@ -69,7 +69,18 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 		return new JCacheDomainDataRegionImpl(
 				regionConfig,
 				this,
-				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				applyRefreshAhead(
+						regionConfig,
+						buildingContext,
+						cacheKeysFactory,
+						applyNearCache(
+								regionConfig.getRegionName(),
+								applyLatencyStatistics(
+										regionConfig.getRegionName(),
+										createDomainDataStorageAccess( regionConfig, buildingContext )
+								)
+						)
+				),
 				cacheKeysFactory,
 				buildingContext
 		);
@@ -59,7 +59,15 @@ public class CachingRegionFactory extends RegionFactoryTemplate {
 		return new DomainDataRegionImpl(
 				regionConfig,
 				this,
-				new MapStorageAccessImpl(),
+				applyRefreshAhead(
+						regionConfig,
+						buildingContext,
+						cacheKeysFactory,
+						applyNearCache(
+								regionConfig.getRegionName(),
+								applyLatencyStatistics( regionConfig.getRegionName(), new MapStorageAccessImpl() )
+						)
+				),
 				cacheKeysFactory,
 				buildingContext
 		);